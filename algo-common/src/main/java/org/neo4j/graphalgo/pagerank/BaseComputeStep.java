@@ -31,6 +31,7 @@ import java.util.stream.LongStream;
 
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfDoubleArray;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfFloatArray;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfIntArray;
 
 public abstract class BaseComputeStep implements ComputeStep {
     private static final int S_INIT = 0;
@@ -66,6 +67,13 @@ public abstract class BaseComputeStep implements ComputeStep {
 
     private boolean shouldBreak;
 
+    // residual push: only nodes with a residual above the threshold are propagated,
+    // smaller residuals are accumulated until they exceed it
+    private boolean residualPush;
+    private double residualThreshold;
+    private int[] activeNodes;
+    private int activeNodeCount;
+
     BaseComputeStep(
         double dampingFactor,
         long[] sourceNodeIds,
@@ -117,6 +125,17 @@ public abstract class BaseComputeStep implements ComputeStep {
         this.lengths = lengths;
     }
 
+    @Override
+    public void enableResidualPush(double residualThreshold) {
+        this.residualPush = true;
+        this.residualThreshold = residualThreshold;
+    }
+
+    @Override
+    public int activeNodeCount() {
+        return residualPush ? activeNodeCount : partitionSize;
+    }
+
     @Override
     public void run() {
         if (state == S_CALC) {
@@ -164,13 +183,48 @@ public abstract class BaseComputeStep implements ComputeStep {
 
         this.pageRank = partitionRank;
         this.deltas = Arrays.copyOf(partitionRank, partitionSize);
+
+        if (residualPush) {
+            tracker.add(sizeOfIntArray(partitionSize));
+            this.activeNodes = new int[partitionSize];
+            this.activeNodeCount = 0;
+            for (int i = 0; i < partitionSize; i++) {
+                if (deltas[i] > 0.0) {
+                    activeNodes[activeNodeCount++] = i;
+                }
+            }
+        }
     }
 
     double initialValue() {
         return alpha;
     }
 
-    abstract void singleIteration();
+    void singleIteration() {
+        if (residualPush) {
+            for (int i = 0; i < activeNodeCount; i++) {
+                int localId = activeNodes[i];
+                long nodeId = startNode + localId;
+                propagate(nodeId, deltas[localId]);
+                deltas[localId] = 0.0;
+                progressLogger.logProgress(graph.degree(nodeId));
+            }
+            return;
+        }
+
+        for (long nodeId = startNode; nodeId < endNode; ++nodeId) {
+            double delta = deltas[(int) (nodeId - startNode)];
+            if (delta > 0.0) {
+                propagate(nodeId, delta);
+            }
+            progressLogger.logProgress(graph.degree(nodeId));
+        }
+    }
+
+    /**
+     * Pushes the positive delta of the given node to its neighbours.
+     */
+    abstract void propagate(long nodeId, double delta);
 
     @Override
     public void prepareNormalizeDeltas(double l2Norm) {
@@ -189,6 +243,7 @@ public abstract class BaseComputeStep implements ComputeStep {
         float[][] prevScores = this.prevScores;
 
         boolean shouldBreak = true;
+        activeNodeCount = 0;
 
         int length = prevScores[0].length;
         for (int i = 0; i < length; i++) {
@@ -199,11 +254,20 @@ public abstract class BaseComputeStep implements ComputeStep {
                 scores[i] = 0F;
             }
             double delta = dampingFactor * degreeFactor() * sum;
-            if (delta > tolerance) {
-                shouldBreak = false;
-            }
             pageRank[i] += delta;
-            deltas[i] = delta;
+            if (residualPush) {
+                // deltas of nodes that have not been active still hold their residual
+                deltas[i] += delta;
+                if (deltas[i] > residualThreshold) {
+                    activeNodes[activeNodeCount++] = i;
+                    shouldBreak = false;
+                }
+            } else {
+                if (delta > tolerance) {
+                    shouldBreak = false;
+                }
+                deltas[i] = delta;
+            }
         }
 
         return shouldBreak;
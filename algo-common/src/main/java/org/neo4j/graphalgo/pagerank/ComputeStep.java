@@ -29,6 +29,17 @@ public interface ComputeStep extends Runnable {
 
     void setStarts(long[] startArray, int[] lengthArray);
 
+    /**
+     * Only propagate the residual of nodes whose residual exceeds the given threshold.
+     * Must be called before the first run.
+     */
+    void enableResidualPush(double residualThreshold);
+
+    /**
+     * @return the number of nodes that propagate their delta in the next iteration.
+     */
+    int activeNodeCount();
+
     double[] deltas();
 
     void prepareNormalizeDeltas(double l2Norm);
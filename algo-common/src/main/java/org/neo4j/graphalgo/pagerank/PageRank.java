@@ -28,6 +28,8 @@ import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.BitUtil;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
+import org.neo4j.graphalgo.core.utils.metrics.Timer;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.partition.Partition;
 import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
@@ -90,6 +92,13 @@ import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
  * in order to batch partitions and keep the number of threads in use predictable/configurable.
  * </p>
  * <p>
+ * With {@link PageRankBaseConfig#residualPush()}, deltas that do not exceed the tolerance
+ * are not propagated but accumulated as the residual of a node. Only nodes with a residual
+ * above the tolerance are active in an iteration, so late iterations only traverse the
+ * relationships of the few nodes that have not converged yet.
+ * The number of active nodes per iteration is available from {@link #activeNodeCounts()}.
+ * </p>
+ * <p>
  * [1]: <a href="http://delab.csd.auth.gr/~dimitris/courses/ir_spring06/page_rank_computing/01531136.pdf">An Efficient Partition-Based Parallel PageRank Algorithm</a><br>
  * [2]: <a href="https://www.cs.purdue.edu/homes/dgleich/publications/gleich2004-parallel.pdf">Fast Parallel PageRank: A Linear System Approach</a>
  * </p>
@@ -111,6 +120,8 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
     private final Graph graph;
     private final LongStream sourceNodeIds;
     private final PageRankVariant pageRankVariant;
+    private final boolean residualPush;
+    private final LongArrayList activeNodeCounts;
 
     private ComputeSteps computeSteps;
 
@@ -143,6 +154,8 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
         this.toleranceValue = algoConfig.tolerance();
         this.sourceNodeIds = sourceNodeIds;
         this.pageRankVariant = pageRankVariant;
+        this.residualPush = algoConfig.residualPush();
+        this.activeNodeCounts = new LongArrayList();
         this.result = HugeDoubleArray.newArray(graph.nodeCount(), tracker);
         this.progressLogger = progressLogger;
     }
@@ -159,6 +172,13 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
         return dampingFactor;
     }
 
+    /**
+     * @return the number of nodes that propagated their delta, per iteration.
+     */
+    public long[] activeNodeCounts() {
+        return activeNodeCounts.toArray();
+    }
+
     /**
      * compute pageRank for n iterations
      */
@@ -241,6 +261,9 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
         int[] lengthArray = lengths.toArray();
         for (ComputeStep computeStep : computeSteps) {
             computeStep.setStarts(startArray, lengthArray);
+            if (residualPush) {
+                computeStep.enableResidualPush(toleranceValue);
+            }
         }
         return new ComputeSteps(tracker, computeSteps, concurrency, pool);
     }
@@ -260,6 +283,7 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
         private final ExecutorService pool;
         private float[][][] scores;
         private final int concurrency;
+        private final Timer partitionTimer;
 
         private ComputeSteps(
             AllocationTracker tracker,
@@ -271,6 +295,7 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
             assert !steps.isEmpty();
             this.steps = steps;
             this.pool = pool;
+            this.partitionTimer = MetricsRegistry.timer("pagerank.partition");
             int stepSize = steps.size();
             scores = new float[stepSize][stepSize][];
             if (AllocationTracker.isTracking(tracker)) {
@@ -286,27 +311,55 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
 
         private void run(int iterations) {
             didConverge = false;
-            ParallelUtil.runWithConcurrency(concurrency, steps, terminationFlag, pool);
+            runSteps();
+            var iterationTimer = MetricsRegistry.timer("pagerank.iteration");
             for (ranIterations = 0; ranIterations < iterations && !didConverge; ranIterations++) {
+                long start = System.nanoTime();
                 getProgressLogger().logMessage(formatWithLocale(":: Iteration %d :: Start", ranIterations + 1));
+                long activeNodes = activeNodeCount();
+                activeNodeCounts.add(activeNodes);
+                if (residualPush) {
+                    getProgressLogger().logMessage(formatWithLocale(
+                        ":: Iteration %d :: Active nodes %d",
+                        ranIterations + 1,
+                        activeNodes
+                    ));
+                }
                 // calculate scores
-                ParallelUtil.runWithConcurrency(concurrency, steps, terminationFlag, pool);
+                runSteps();
 
                 // sync scores
                 synchronizeScores();
-                ParallelUtil.runWithConcurrency(concurrency, steps, terminationFlag, pool);
+                runSteps();
                 didConverge = checkTolerance();
 
                 // normalize deltas
                 normalizeDeltas();
-                ParallelUtil.runWithConcurrency(concurrency, steps, terminationFlag, pool);
+                runSteps();
 
                 if ((ranIterations < iterations - 1) && !didConverge) {
                     getProgressLogger().reset(graph.relationshipCount());
                 }
 
                 getProgressLogger().logMessage(formatWithLocale(":: Iteration %d :: Finished", ranIterations + 1));
+                iterationTimer.record(System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * Runs the current phase of all steps. The degree partitioning balances the steps,
+         * stealing steps only helps if the partitioning is skewed, e.g. because of a single hub.
+         */
+        private void runSteps() {
+            ParallelUtil.runWithWorkStealing(concurrency, steps, terminationFlag, pool, partitionTimer);
+        }
+
+        private long activeNodeCount() {
+            long activeNodes = 0;
+            for (ComputeStep step : steps) {
+                activeNodes += step.activeNodeCount();
             }
+            return activeNodes;
         }
 
         private boolean checkTolerance() {
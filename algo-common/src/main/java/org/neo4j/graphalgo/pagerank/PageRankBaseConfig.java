@@ -52,6 +52,15 @@ public interface PageRankBaseConfig extends
         return 0.85;
     }
 
+    /**
+     * If set, only nodes whose accumulated residual exceeds the tolerance propagate it,
+     * so that later iterations only process a shrinking set of active nodes.
+     */
+    @Value.Default
+    default boolean residualPush() {
+        return false;
+    }
+
     @Deprecated
     @Value.Default
     default boolean cacheWeights() {
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.fastrp;
+
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.PageUtil;
+
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfFloatArray;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArray;
+
+/**
+ * Intermediate embeddings of all nodes stored row by row in paged float arrays.
+ *
+ * A row never spans two pages, so it can be read as a contiguous slice
+ * of a single array instead of following a reference per node.
+ */
+final class DenseEmbeddings {
+
+    private final float[][] pages;
+    private final int dimension;
+    private final int rowShift;
+    private final int rowMask;
+
+    static long sizeInBytes(long nodeCount, int dimension) {
+        int rowsPerPage = rowsPerPage(dimension);
+        int numPages = PageUtil.numPagesFor(nodeCount, rowsPerPage);
+        return sizeOfObjectArray(numPages) + numPages * sizeOfFloatArray(rowsPerPage * dimension);
+    }
+
+    DenseEmbeddings(long nodeCount, int dimension, AllocationTracker tracker) {
+        this.dimension = dimension;
+        int rowsPerPage = rowsPerPage(dimension);
+        this.rowShift = Integer.numberOfTrailingZeros(rowsPerPage);
+        this.rowMask = rowsPerPage - 1;
+
+        int numPages = PageUtil.numPagesFor(nodeCount, rowsPerPage);
+        this.pages = new float[numPages][];
+        for (int page = 0; page < numPages; page++) {
+            long rowsInPage = Math.min(rowsPerPage, nodeCount - ((long) page << rowShift));
+            pages[page] = new float[(int) rowsInPage * dimension];
+        }
+        tracker.add(sizeInBytes(nodeCount, dimension));
+    }
+
+    void setRow(long nodeId, float[] source, int sourceOffset) {
+        System.arraycopy(source, sourceOffset, page(nodeId), offset(nodeId), dimension);
+    }
+
+    /**
+     * Adds the row of {@code nodeId} to {@code target}, starting at {@code targetOffset}.
+     */
+    void addRowTo(long nodeId, float[] target, int targetOffset) {
+        var page = page(nodeId);
+        var offset = offset(nodeId);
+        for (int i = 0; i < dimension; i++) {
+            target[targetOffset + i] += page[offset + i];
+        }
+    }
+
+    /**
+     * Adds {@code weight} times the row of {@code nodeId} to {@code target}, starting at {@code targetOffset}.
+     */
+    void addWeightedRowTo(long nodeId, double weight, float[] target, int targetOffset) {
+        var page = page(nodeId);
+        var offset = offset(nodeId);
+        for (int i = 0; i < dimension; i++) {
+            target[targetOffset + i] = (float) Math.fma(page[offset + i], weight, target[targetOffset + i]);
+        }
+    }
+
+    private float[] page(long nodeId) {
+        return pages[(int) (nodeId >>> rowShift)];
+    }
+
+    private int offset(long nodeId) {
+        return (int) (nodeId & rowMask) * dimension;
+    }
+
+    private static int rowsPerPage(int dimension) {
+        return Math.max(1, Integer.highestOneBit(PageUtil.pageSizeFor(Float.BYTES) / Math.max(1, dimension)));
+    }
+}
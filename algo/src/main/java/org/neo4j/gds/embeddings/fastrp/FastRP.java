@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.embeddings.fastrp;
 
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.ml.features.FeatureConsumer;
 import org.neo4j.gds.ml.features.FeatureExtraction;
@@ -40,6 +41,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
@@ -49,6 +51,7 @@ public class FastRP extends Algorithm<FastRP, FastRP.FastRPResult> {
     private static final int MIN_BATCH_SIZE = 1;
     private static final int SPARSITY = 3;
     private static final double ENTRY_PROBABILITY = 1.0 / (2 * SPARSITY);
+    private static final int PROPAGATION_BLOCK_SIZE = 64;
 
     private final Graph graph;
     private final int concurrency;
@@ -57,23 +60,33 @@ public class FastRP extends Algorithm<FastRP, FastRP.FastRPResult> {
     private final int inputDimension;
     private final float[][] propertyVectors;
     private final HugeObjectArray<float[]> embeddings;
-    private final HugeObjectArray<float[]> embeddingA;
-    private final HugeObjectArray<float[]> embeddingB;
+    // only used when not in high throughput mode
+    private final @Nullable HugeObjectArray<float[]> embeddingA;
+    private final @Nullable HugeObjectArray<float[]> embeddingB;
     private final EmbeddingCombiner embeddingCombiner;
     private final Optional<Long> randomSeed;
+    private final boolean highThroughput;
+    private final AllocationTracker tracker;
 
     private final int embeddingDimension;
     private final int baseEmbeddingDimension;
     private final List<Number> iterationWeights;
 
     public static MemoryEstimation memoryEstimation(FastRPBaseConfig config) {
-        return MemoryEstimations
+        var builder = MemoryEstimations
             .builder(FastRP.class)
             .fixed(
                 "propertyVectors",
                 MemoryUsage.sizeOfFloatArray(config.featureProperties().size() * config.propertyDimension())
             )
-            .add("embeddings", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfFloatArray(config.embeddingDimension())))
+            .add("embeddings", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfFloatArray(config.embeddingDimension())));
+        if (config.highThroughput()) {
+            return builder
+                .perNode("embeddingA", nodeCount -> DenseEmbeddings.sizeInBytes(nodeCount, config.embeddingDimension()))
+                .perNode("embeddingB", nodeCount -> DenseEmbeddings.sizeInBytes(nodeCount, config.embeddingDimension()))
+                .build();
+        }
+        return builder
             .add("embeddingA", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfFloatArray(config.embeddingDimension())))
             .add("embeddingB", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfFloatArray(config.embeddingDimension())))
             .build();
@@ -102,13 +115,22 @@ public class FastRP extends Algorithm<FastRP, FastRP.FastRPResult> {
         this.inputDimension = FeatureExtraction.featureCount(featureExtractors);
         this.randomSeed = randomSeed;
         this.progressLogger = progressLogger;
+        this.highThroughput = config.highThroughput();
+        this.tracker = tracker;
 
         this.propertyVectors = new float[inputDimension][config.propertyDimension()];
         this.embeddings = HugeObjectArray.newArray(float[].class, graph.nodeCount(), tracker);
-        this.embeddingA = HugeObjectArray.newArray(float[].class, graph.nodeCount(), tracker);
-        this.embeddingB = HugeObjectArray.newArray(float[].class, graph.nodeCount(), tracker);
-        // Each of the above arrays will contain a float array of size `embeddingDimension` for each node.
-        tracker.add(3 * graph.nodeCount() * MemoryUsage.sizeOfFloatArray(config.embeddingDimension()));
+        if (highThroughput) {
+            // the intermediate embeddings are allocated as dense storage when computing
+            this.embeddingA = null;
+            this.embeddingB = null;
+            tracker.add(graph.nodeCount() * MemoryUsage.sizeOfFloatArray(config.embeddingDimension()));
+        } else {
+            this.embeddingA = HugeObjectArray.newArray(float[].class, graph.nodeCount(), tracker);
+            this.embeddingB = HugeObjectArray.newArray(float[].class, graph.nodeCount(), tracker);
+            // Each of the above arrays will contain a float array of size `embeddingDimension` for each node.
+            tracker.add(3 * graph.nodeCount() * MemoryUsage.sizeOfFloatArray(config.embeddingDimension()));
+        }
 
         this.embeddingDimension = config.embeddingDimension();
         this.baseEmbeddingDimension = config.embeddingDimension() - config.propertyDimension();
@@ -125,8 +147,12 @@ public class FastRP extends Algorithm<FastRP, FastRP.FastRPResult> {
     public FastRPResult compute() {
         progressLogger.logStart();
         initPropertyVectors();
-        initRandomVectors();
-        propagateEmbeddings();
+        if (highThroughput) {
+            propagateDenseEmbeddings();
+        } else {
+            initRandomVectors();
+            propagateEmbeddings();
+        }
         progressLogger.logFinish();
         return new FastRPResult(embeddings);
     }
@@ -138,8 +164,10 @@ public class FastRP extends Algorithm<FastRP, FastRP.FastRPResult> {
 
     @Override
     public void release() {
-        this.embeddingA.release();
-        this.embeddingB.release();
+        if (embeddingA != null) {
+            embeddingA.release();
+            embeddingB.release();
+        }
     }
 
     void initPropertyVectors() {
@@ -199,6 +227,71 @@ public class FastRP extends Algorithm<FastRP, FastRP.FastRPResult> {
         }
     }
 
+    /**
+     * Runs the same propagation as {@link #initRandomVectors()} and {@link #propagateEmbeddings()},
+     * but keeps the intermediate embeddings in dense row-major storage and accumulates the new embeddings
+     * of a block of consecutive nodes in one reusable buffer.
+     * The neighbour rows are still read in adjacency order, so those reads are as random as in the default mode.
+     * The initial random vectors are derived from a hash of the seed, the node and the position,
+     * so they do not depend on how the nodes are partitioned.
+     */
+    void propagateDenseEmbeddings() {
+        long batchSize = ParallelUtil.adjustedBatchSize(graph.nodeCount(), concurrency, MIN_BATCH_SIZE);
+        List<Partition> partitions = PartitionUtils.rangePartition(concurrency, graph.nodeCount(), batchSize);
+        long seed = randomSeed.orElseGet(() -> ThreadLocalRandom.current().nextLong());
+
+        var previous = new DenseEmbeddings(graph.nodeCount(), embeddingDimension, tracker);
+        var current = new DenseEmbeddings(graph.nodeCount(), embeddingDimension, tracker);
+
+        progressLogger.logMessage("Initialising Random Vectors :: Start");
+        ParallelUtil.runWithConcurrency(
+            concurrency,
+            partitions.stream()
+                .map(partition -> (Runnable) () -> initDenseRandomVectors(partition, previous, seed))
+                .collect(Collectors.toList()),
+            Pools.DEFAULT
+        );
+        progressLogger.logMessage("Initialising Random Vectors :: Finished");
+
+        for (int i = 0; i < iterationWeights.size(); i++) {
+            progressLogger.reset(graph.relationshipCount());
+            progressLogger.logMessage(formatWithLocale("Iteration %s :: Start", i + 1));
+
+            var localCurrent = i % 2 == 0 ? current : previous;
+            var localPrevious = i % 2 == 0 ? previous : current;
+            double iterationWeight = iterationWeights.get(i).doubleValue();
+
+            List<Runnable> tasks = partitions
+                .stream()
+                .map(partition -> new PropagateBlocksTask(partition, localCurrent, localPrevious, iterationWeight))
+                .collect(Collectors.toList());
+            ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.DEFAULT);
+
+            progressLogger.logMessage(formatWithLocale("Iteration %s :: Finished", i + 1));
+        }
+    }
+
+    private void initDenseRandomVectors(Partition partition, DenseEmbeddings target, long seed) {
+        float sqrtSparsity = (float) Math.sqrt(SPARSITY);
+        float sqrtEmbeddingDimension = (float) Math.sqrt(baseEmbeddingDimension);
+        float[] randomVector = new float[embeddingDimension];
+        long endNode = partition.startNode() + partition.nodeCount();
+        for (long nodeId = partition.startNode(); nodeId < endNode; nodeId++) {
+            int degree = graph.degree(nodeId);
+            float scaling = degree == 0
+                ? 1.0f
+                : (float) Math.pow(degree, normalizationStrength);
+
+            float entryValue = scaling * sqrtSparsity / sqrtEmbeddingDimension;
+            for (int i = 0; i < embeddingDimension; i++) {
+                randomVector[i] = hashedRandomEntry(seed, nodeId, i, entryValue);
+            }
+            addPropertyVectors(nodeId, randomVector);
+            target.setRow(nodeId, randomVector, 0);
+        }
+        progressLogger.logProgress(partition.nodeCount());
+    }
+
     @TestOnly
     HugeObjectArray<float[]> currentEmbedding(int iteration) {
         return iteration % 2 == 0
@@ -247,6 +340,25 @@ public class FastRP extends Algorithm<FastRP, FastRP.FastRPResult> {
         }
     }
 
+    /**
+     * Same distribution as {@link #computeRandomEntry(Random, float)}, but a pure function of its arguments.
+     */
+    static float hashedRandomEntry(long seed, long nodeId, int index, float entryValue) {
+        long hash = seed + nodeId * 0x9E3779B97F4A7C15L + index;
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        hash = hash ^ (hash >>> 31);
+        double randomValue = (hash >>> 11) * 0x1.0p-53;
+
+        if (randomValue < ENTRY_PROBABILITY) {
+            return entryValue;
+        } else if (randomValue < ENTRY_PROBABILITY * 2.0) {
+            return -entryValue;
+        } else {
+            return 0.0f;
+        }
+    }
+
     private static float computeRandomEntry(Random random, float entryValue) {
         double randomValue = random.nextDouble();
 
@@ -336,38 +448,41 @@ public class FastRP extends Algorithm<FastRP, FastRP.FastRPResult> {
             for (int i = 0; i < embeddingDimension; i++) {
                 randomVector[i] = computeRandomEntry(random, entryValue);
             }
+            addPropertyVectors(nodeId, randomVector);
+            return randomVector;
+        }
+    }
 
-            float[] features = features(nodeId);
+    private void addPropertyVectors(long nodeId, float[] randomVector) {
+        float[] features = features(nodeId);
 
-            for (int j = 0; j < features.length; j++) {
-                double featureValue = features[j];
-                if (featureValue != 0.0D) {
-                    for (int i = baseEmbeddingDimension; i < embeddingDimension; i++) {
-                        randomVector[i] += featureValue * propertyVectors[j][i - baseEmbeddingDimension];
-                    }
+        for (int j = 0; j < features.length; j++) {
+            double featureValue = features[j];
+            if (featureValue != 0.0D) {
+                for (int i = baseEmbeddingDimension; i < embeddingDimension; i++) {
+                    randomVector[i] += featureValue * propertyVectors[j][i - baseEmbeddingDimension];
                 }
             }
-            return randomVector;
         }
+    }
 
-        float[] features(long nodeId) {
-            var features = new float[inputDimension];
-            FeatureConsumer featureConsumer = new FeatureConsumer() {
-                @Override
-                public void acceptScalar(long ignored, int offset, double value) {
-                    features[offset] = (float)value;
-                }
+    private float[] features(long nodeId) {
+        var features = new float[inputDimension];
+        FeatureConsumer featureConsumer = new FeatureConsumer() {
+            @Override
+            public void acceptScalar(long ignored, int offset, double value) {
+                features[offset] = (float)value;
+            }
 
-                @Override
-                public void acceptArray(long ignored, int offset, double[] values) {
-                    for (int i = 0; i < values.length; i++) {
-                        features[offset + i] = (float)values[i];
-                    }
+            @Override
+            public void acceptArray(long ignored, int offset, double[] values) {
+                for (int i = 0; i < values.length; i++) {
+                    features[offset + i] = (float)values[i];
                 }
-            };
-            FeatureExtraction.extract(nodeId, -1, featureExtractors, featureConsumer);
-            return features;
-        }
+            }
+        };
+        FeatureExtraction.extract(nodeId, -1, featureExtractors, featureConsumer);
+        return features;
     }
 
     private final class PropagateEmbeddingsTask implements Runnable {
@@ -420,6 +535,93 @@ public class FastRP extends Algorithm<FastRP, FastRP.FastRPResult> {
         }
     }
 
+    private final class PropagateBlocksTask implements Runnable {
+
+        private final Partition partition;
+        private final DenseEmbeddings localCurrent;
+        private final DenseEmbeddings localPrevious;
+        private final double iterationWeight;
+        private final Graph concurrentGraph;
+        private final boolean weighted;
+        // the new embeddings of one block of nodes, row by row
+        private final float[] block;
+
+        private PropagateBlocksTask(
+            Partition partition,
+            DenseEmbeddings localCurrent,
+            DenseEmbeddings localPrevious,
+            double iterationWeight
+        ) {
+            this.partition = partition;
+            this.localCurrent = localCurrent;
+            this.localPrevious = localPrevious;
+            this.iterationWeight = iterationWeight;
+            this.concurrentGraph = graph.concurrentCopy();
+            this.weighted = graph.hasRelationshipProperty();
+            this.block = new float[PROPAGATION_BLOCK_SIZE * embeddingDimension];
+        }
+
+        @Override
+        public void run() {
+            long degrees = 0;
+            long endNode = partition.startNode() + partition.nodeCount();
+            for (long blockStart = partition.startNode(); blockStart < endNode; blockStart += PROPAGATION_BLOCK_SIZE) {
+                int blockSize = (int) Math.min(PROPAGATION_BLOCK_SIZE, endNode - blockStart);
+                Arrays.fill(block, 0, blockSize * embeddingDimension, 0.0f);
+
+                // Sum the neighbour embeddings of every node of the block into its row of the buffer
+                for (int i = 0; i < blockSize; i++) {
+                    int offset = i * embeddingDimension;
+                    if (weighted) {
+                        concurrentGraph.forEachRelationship(blockStart + i, 1.0, (source, target, weight) -> {
+                            localPrevious.addWeightedRowTo(target, weight, block, offset);
+                            return true;
+                        });
+                    } else {
+                        concurrentGraph.forEachRelationship(blockStart + i, (source, target) -> {
+                            localPrevious.addRowTo(target, block, offset);
+                            return true;
+                        });
+                    }
+                }
+
+                for (int i = 0; i < blockSize; i++) {
+                    long nodeId = blockStart + i;
+                    int offset = i * embeddingDimension;
+
+                    // Normalize neighbour embeddings
+                    var degree = graph.degree(nodeId);
+                    int adjustedDegree = degree == 0 ? 1 : degree;
+                    double degreeScale = 1.0f / adjustedDegree;
+                    scaleAndL2Normalize(block, offset, embeddingDimension, degreeScale);
+
+                    // Update the intermediate and the result embedding
+                    localCurrent.setRow(nodeId, block, offset);
+                    float[] embedding = embeddings.get(nodeId);
+                    for (int d = 0; d < embeddingDimension; d++) {
+                        embedding[d] += iterationWeight * block[offset + d];
+                    }
+                    degrees += degree;
+                }
+            }
+            progressLogger.logProgress(degrees);
+        }
+    }
+
+    private static void scaleAndL2Normalize(float[] values, int offset, int length, double scalar) {
+        double sum = 0.0;
+        for (int i = offset; i < offset + length; i++) {
+            values[i] *= scalar;
+            double value = values[i];
+            sum += value * value;
+        }
+        double sqrtSum = sum == 0 ? 1 : Math.sqrt(sum);
+        double scaling = 1 / sqrtSum;
+        for (int i = offset; i < offset + length; i++) {
+            values[i] *= scaling;
+        }
+    }
+
     public static class FastRPResult {
         private final HugeObjectArray<float[]> embeddings;
 
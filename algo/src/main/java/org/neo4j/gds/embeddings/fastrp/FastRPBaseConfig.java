@@ -57,6 +57,11 @@ public interface FastRPBaseConfig extends AlgoBaseConfig, EmbeddingDimensionConf
         return 0.0f;
     }
 
+    @Value.Default
+    default boolean highThroughput() {
+        return false;
+    }
+
     static void validateCommon(List<? extends Number> iterationWeights) {
         if (iterationWeights.isEmpty()) {
             throw new IllegalArgumentException(formatWithLocale(
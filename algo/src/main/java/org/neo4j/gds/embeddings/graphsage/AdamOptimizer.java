@@ -20,7 +20,6 @@
 package org.neo4j.gds.embeddings.graphsage;
 
 import org.neo4j.gds.embeddings.graphsage.ddl4j.ComputationContext;
-import org.neo4j.gds.embeddings.graphsage.ddl4j.Variable;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.Weights;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Matrix;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Scalar;
@@ -68,17 +67,23 @@ public class AdamOptimizer {
 
     // TODO: probably doesnt have to be synchronized
     public synchronized void update(ComputationContext otherCtx) {
+        update(variables.stream().map(otherCtx::gradient).collect(Collectors.toList()));
+    }
+
+    /**
+     * @param gradients the gradients of the variables, in the order of the variables
+     */
+    public synchronized void update(List<? extends Tensor<?>> gradients) {
         iteration += 1;
-        variables.forEach(variable -> otherCtx.gradient(variable).mapInPlace(this::clip));
+        gradients.forEach(gradient -> gradient.mapInPlace(this::clip));
 
         // m_t = beta_1*m_t + (1-beta_1)*g_t	#updates the moving averages of the gradient
         momentumTerms = IntStream.range(0, variables.size())
             .mapToObj(i -> {
-                Variable<?> variable = variables.get(i);
                 Tensor<?> momentumTerm = momentumTerms.get(i);
                 return castAndAdd(
                     momentumTerm.scalarMultiply(beta_1),
-                    otherCtx.gradient(variable).scalarMultiply(1 - beta_1)
+                    gradients.get(i).scalarMultiply(1 - beta_1)
                 );
             })
             .collect(Collectors.toList());
@@ -86,9 +91,8 @@ public class AdamOptimizer {
         // v_t = beta_2*v_t + (1-beta_2)*(g_t*g_t)	#updates the moving averages of the squared gradient
         velocityTerms = IntStream.range(0, variables.size())
             .mapToObj(i -> {
-                Variable<?> variable = variables.get(i);
                 Tensor<?> velocityTerm = velocityTerms.get(i);
-                Tensor<?> gradient = otherCtx.gradient(variable);
+                Tensor<?> gradient = gradients.get(i);
                 Tensor<?> squaredGradient = gradient.elementwiseProduct(gradient);
                 return castAndAdd(
                     velocityTerm.scalarMultiply(beta_2),
@@ -21,13 +21,18 @@ package org.neo4j.gds.embeddings.graphsage;
 
 import org.neo4j.gds.embeddings.graphsage.ddl4j.ComputationContext;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.Variable;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.MatrixConstant;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.NormalizeRows;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Matrix;
+import org.neo4j.gds.embeddings.graphsage.subgraph.SubGraph;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static org.neo4j.gds.embeddings.graphsage.GraphSageHelper.embeddings;
 import static org.neo4j.graphalgo.core.concurrency.ParallelUtil.parallelStreamConsume;
@@ -87,17 +92,7 @@ public class GraphSageEmbeddingsGenerator {
             batches -> batches.forEach(batch -> {
                 ComputationContext ctx = new ComputationContext();
                 Variable<Matrix> embeddingVariable = embeddings(graph, isWeighted, batch, features, layers, featureFunction);
-                int cols = embeddingVariable.dimension(1);
-                double[] embeddings = ctx.forward(embeddingVariable).data();
-
-                for (int nodeIndex = 0; nodeIndex < batch.length; nodeIndex++) {
-                    double[] nodeEmbedding = Arrays.copyOfRange(
-                        embeddings,
-                        nodeIndex * cols,
-                        (nodeIndex + 1) * cols
-                    );
-                    result.set(batch[nodeIndex], nodeEmbedding);
-                }
+                writeRows(batch, ctx.forward(embeddingVariable), result);
                 progressLogger.logProgress();
             })
         );
@@ -105,4 +100,98 @@ public class GraphSageEmbeddingsGenerator {
 
         return result;
     }
+
+    /**
+     * Computes the same embeddings as {@link #makeEmbeddings(Graph, HugeObjectArray)}, but one layer at a time:
+     * the representations of all nodes for a layer are computed before the next layer is applied.
+     *
+     * In contrast to the batch-wise computation, the representation of a node for an inner layer is computed
+     * once instead of once for every batch the node is sampled in. This relies on the neighborhood samplers
+     * being deterministic for a node, which they are for a given random state.
+     * The representations of inner layers are stored row by row in a single paged array,
+     * only the embeddings of the last layer are stored as one array per node.
+     *
+     * @param embeddingDimension the output dimension of every layer
+     */
+    public HugeObjectArray<double[]> makeEmbeddingsLayerwise(
+        Graph graph,
+        HugeObjectArray<double[]> features,
+        int embeddingDimension
+    ) {
+        progressLogger.logStart();
+        HugeDoubleArray previousLayer = null;
+        HugeObjectArray<double[]> embeddings = null;
+        for (int layerIndex = 0; layerIndex < layers.length; layerIndex++) {
+            Layer layer = layers[layerIndex];
+            boolean isFirstLayer = layerIndex == 0;
+            boolean isLastLayer = layerIndex == layers.length - 1;
+            HugeDoubleArray layerInput = previousLayer;
+            HugeDoubleArray layerOutput = isLastLayer
+                ? null
+                : HugeDoubleArray.newArray(graph.nodeCount() * embeddingDimension, tracker);
+            HugeObjectArray<double[]> result = isLastLayer
+                ? HugeObjectArray.newArray(double[].class, graph.nodeCount(), tracker)
+                : null;
+
+            parallelStreamConsume(
+                batchProvider.stream(graph),
+                concurrency,
+                batches -> batches.forEach(batch -> {
+                    SubGraph subGraph = SubGraph
+                        .buildSubGraphs(batch, List.of(layer::neighborhoodFunction), graph, isWeighted)
+                        .get(0);
+                    // only the input layer reads the (possibly label specific) node features
+                    Variable<Matrix> input = isFirstLayer
+                        ? featureFunction.apply(graph, subGraph.nextNodes, features)
+                        : readRows(layerInput, subGraph.nextNodes, embeddingDimension);
+                    Variable<Matrix> representations = layer.aggregator().aggregate(input, subGraph);
+                    if (isLastLayer) {
+                        writeRows(batch, new ComputationContext().forward(new NormalizeRows(representations)), result);
+                        progressLogger.logProgress();
+                    } else {
+                        writeRows(batch, new ComputationContext().forward(representations), layerOutput);
+                    }
+                })
+            );
+
+            if (previousLayer != null) {
+                previousLayer.release();
+            }
+            previousLayer = layerOutput;
+            embeddings = result;
+        }
+        progressLogger.logFinish();
+
+        return embeddings;
+    }
+
+    private static Variable<Matrix> readRows(HugeDoubleArray source, long[] nodeIds, int dimension) {
+        double[] data = new double[Math.multiplyExact(nodeIds.length, dimension)];
+        for (int nodeIndex = 0; nodeIndex < nodeIds.length; nodeIndex++) {
+            long offset = nodeIds[nodeIndex] * dimension;
+            for (int col = 0; col < dimension; col++) {
+                data[nodeIndex * dimension + col] = source.get(offset + col);
+            }
+        }
+        return new MatrixConstant(data, nodeIds.length, dimension);
+    }
+
+    private static void writeRows(long[] batch, Matrix rows, HugeDoubleArray target) {
+        double[] data = rows.data();
+        int cols = rows.cols();
+        for (int nodeIndex = 0; nodeIndex < batch.length; nodeIndex++) {
+            long offset = batch[nodeIndex] * cols;
+            for (int col = 0; col < cols; col++) {
+                target.set(offset + col, data[nodeIndex * cols + col]);
+            }
+        }
+    }
+
+    private static void writeRows(long[] batch, Matrix rows, HugeObjectArray<double[]> target) {
+        double[] data = rows.data();
+        int cols = rows.cols();
+        for (int nodeIndex = 0; nodeIndex < batch.length; nodeIndex++) {
+            target.set(batch[nodeIndex], Arrays.copyOfRange(data, nodeIndex * cols, (nodeIndex + 1) * cols));
+        }
+    }
 }
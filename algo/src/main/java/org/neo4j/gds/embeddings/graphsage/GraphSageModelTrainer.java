@@ -21,6 +21,7 @@ package org.neo4j.gds.embeddings.graphsage;
 
 import org.neo4j.gds.embeddings.graphsage.algo.GraphSageTrainConfig;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.ComputationContext;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.ExecutionPlan;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.Variable;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.PassthroughVariable;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.Weights;
@@ -29,6 +30,8 @@ import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Scalar;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Tensor;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
@@ -42,9 +45,11 @@ import java.util.OptionalLong;
 import java.util.Random;
 import java.util.TreeMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -65,6 +70,7 @@ public class GraphSageModelTrainer {
     private final int epochs;
     private final int maxIterations;
     private final int maxSearchDepth;
+    private final boolean dataParallel;
     private final List<LayerConfig> layerConfigs;
     private final FeatureFunction featureFunction;
     private final Collection<Weights<? extends Tensor<?>>> labelProjectionWeights;
@@ -90,6 +96,7 @@ public class GraphSageModelTrainer {
         this.epochs = config.epochs();
         this.maxIterations = config.maxIterations();
         this.maxSearchDepth = config.searchDepth();
+        this.dataParallel = config.dataParallel();
         this.featureFunction = featureFunction;
         this.labelProjectionWeights = labelProjectionWeights;
         this.progressLogger = progressLogger;
@@ -138,21 +145,126 @@ public class GraphSageModelTrainer {
 
         AdamOptimizer updater = new AdamOptimizer(weights, learningRate);
 
+        long start = System.nanoTime();
+        LongAdder trainedNodes = new LongAdder();
         AtomicInteger batchCounter = new AtomicInteger(0);
-        parallelStreamConsume(
-            batchProvider.stream(graph),
-            concurrency,
-            batches -> batches.forEach(batch -> trainOnBatch(
-                batch,
-                graph,
-                features,
-                updater,
-                epoch,
-                batchCounter.incrementAndGet()
-            ))
+        if (dataParallel) {
+            var batches = batchProvider.stream(graph).iterator();
+            var round = new ArrayList<long[]>(concurrency);
+            while (batches.hasNext()) {
+                round.add(batches.next());
+                if (round.size() == concurrency || !batches.hasNext()) {
+                    trainOnBatchesInParallel(round, graph, features, weights, updater, epoch, batchCounter.incrementAndGet());
+                    round.forEach(batch -> trainedNodes.add(batch.length));
+                    round.clear();
+                }
+            }
+        } else {
+            parallelStreamConsume(
+                batchProvider.stream(graph),
+                concurrency,
+                batches -> batches.forEach(batch -> {
+                    trainOnBatch(
+                        batch,
+                        graph,
+                        features,
+                        updater,
+                        epoch,
+                        batchCounter.incrementAndGet()
+                    );
+                    trainedNodes.add(batch.length);
+                })
+            );
+        }
+
+        long tookNanos = System.nanoTime() - start;
+        progressLogger.getLog().debug(
+            "Epoch %d\tTrained %d nodes in %d ms (%.0f nodes/s)",
+            epoch,
+            trainedNodes.sum(),
+            TimeUnit.NANOSECONDS.toMillis(tookNanos),
+            tookNanos == 0 ? 0.0 : trainedNodes.sum() * 1e9 / tookNanos
+        );
+    }
+
+    /**
+     * Trains on several batches at once: the workers compute the gradients of their batch
+     * concurrently against the same weights, and the averaged gradients are applied in a single step.
+     */
+    private void trainOnBatchesInParallel(
+        List<long[]> batches,
+        Graph graph,
+        HugeObjectArray<double[]> features,
+        List<Weights<? extends Tensor<?>>> weights,
+        AdamOptimizer updater,
+        int epoch,
+        int roundIndex
+    ) {
+        for (Layer layer : layers) {
+            layer.generateNewRandomState();
+        }
+
+        var workers = batches
+            .stream()
+            .map(batch -> new BatchWorker(batch, graph, features))
+            .collect(Collectors.toList());
+
+        double newLoss = Double.MAX_VALUE;
+        double oldLoss;
+
+        int iteration = 0;
+        while (iteration < maxIterations) {
+            progressLogger.logStart(":: Iteration " + (iteration + 1));
+            oldLoss = newLoss;
+
+            ParallelUtil.runWithConcurrency(concurrency, workers, Pools.DEFAULT);
+            newLoss = workers.stream().mapToDouble(worker -> worker.loss).average().orElse(0D);
+            double lossDiff = Math.abs((oldLoss - newLoss) / oldLoss);
+
+            if (lossDiff < tolerance) {
+                progressLogger.logFinish(":: Iteration " + (iteration + 1));
+                break;
+            }
+            updater.update(averageGradients(
+                workers.stream().map(worker -> worker.ctx).collect(Collectors.toList()),
+                weights
+            ));
+
+            progressLogger.logFinish(":: Iteration " + (iteration + 1));
+            iteration++;
+        }
+
+        progressLogger.getLog().debug(
+            "Epoch %d\tRound %d LOSS: %.10f at iteration %d",
+            epoch,
+            roundIndex,
+            newLoss,
+            iteration
         );
     }
 
+    /**
+     * @return per weight, the average of its gradients in the given contexts, where a missing gradient counts as zero
+     */
+    static List<Tensor<?>> averageGradients(
+        List<ComputationContext> contexts,
+        List<Weights<? extends Tensor<?>>> weights
+    ) {
+        List<Tensor<?>> averages = new ArrayList<>(weights.size());
+        for (Weights<? extends Tensor<?>> weight : weights) {
+            Tensor<?> average = weight.data().zeros();
+            for (ComputationContext ctx : contexts) {
+                Tensor<?> gradient = ctx.gradient(weight);
+                if (gradient != null) {
+                    average.addInPlace(gradient);
+                }
+            }
+            average.mapInPlace(value -> value / contexts.size());
+            averages.add(average);
+        }
+        return averages;
+    }
+
     private void trainOnBatch(
         long[] batch,
         Graph graph,
@@ -166,6 +278,8 @@ public class GraphSageModelTrainer {
         }
 
         Variable<Scalar> lossFunction = lossFunction(batch, graph, features);
+        // the graph is the same in every iteration, only the weights change
+        ComputationContext localCtx = new ComputationContext(ExecutionPlan.compile(lossFunction));
 
         double newLoss = Double.MAX_VALUE;
         double oldLoss;
@@ -179,7 +293,7 @@ public class GraphSageModelTrainer {
             progressLogger.logStart(":: Iteration " + (iteration + 1));
             oldLoss = newLoss;
 
-            ComputationContext localCtx = new ComputationContext();
+            localCtx.reset();
 
             newLoss = localCtx.forward(lossFunction).dataAt(0);
             double lossDiff = Math.abs((oldLoss - newLoss) / oldLoss);
@@ -205,6 +319,34 @@ public class GraphSageModelTrainer {
         );
     }
 
+    private final class BatchWorker implements Runnable {
+        private final long[] batch;
+        private final Graph graph;
+        private final HugeObjectArray<double[]> features;
+
+        private Variable<Scalar> lossFunction;
+        private ComputationContext ctx;
+        private double loss;
+
+        BatchWorker(long[] batch, Graph graph, HugeObjectArray<double[]> features) {
+            this.batch = batch;
+            this.graph = graph;
+            this.features = features;
+        }
+
+        @Override
+        public void run() {
+            if (lossFunction == null) {
+                // the loss function samples neighbours, so it is built concurrently as well
+                lossFunction = lossFunction(batch, graph, features);
+                ctx = new ComputationContext(ExecutionPlan.compile(lossFunction));
+            }
+            ctx.reset();
+            loss = ctx.forward(lossFunction).dataAt(0);
+            ctx.backward(lossFunction);
+        }
+    }
+
     private double evaluateLoss(
         Graph graph,
         HugeObjectArray<double[]> features,
@@ -38,4 +38,19 @@ public interface NeighborhoodSampler {
     }
 
     void generateNewRandomState();
+
+    /**
+     * Returns the same value as {@code new Random(seed).nextDouble()} without any shared state,
+     * so that the samples only depend on the random state and the relationship, also when sampling concurrently.
+     */
+    static double randomDouble(long seed) {
+        long multiplier = 0x5DEECE66DL;
+        long mask = (1L << 48) - 1;
+        long state = (seed ^ multiplier) & mask;
+        state = (state * multiplier + 0xBL) & mask;
+        long high = state >>> (48 - 26);
+        state = (state * multiplier + 0xBL) & mask;
+        long low = state >>> (48 - 27);
+        return ((high << 27) + low) * 0x1.0p-53;
+    }
 }
@@ -23,16 +23,13 @@ import org.neo4j.graphalgo.api.Graph;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class UniformNeighborhoodSampler implements NeighborhoodSampler {
-    private final Random random;
     private long randomSeed;
 
     public UniformNeighborhoodSampler(long randomSeed) {
-        this.random = new Random(randomSeed);
         this.randomSeed = randomSeed;
     }
 
@@ -58,8 +55,7 @@ public class UniformNeighborhoodSampler implements NeighborhoodSampler {
     }
 
     private double randomDouble(long source, long target, long nodeCount) {
-        random.setSeed(randomSeed + source + nodeCount * target);
-        return random.nextDouble();
+        return NeighborhoodSampler.randomDouble(randomSeed + source + nodeCount * target);
     }
 
     @Override
@@ -26,18 +26,15 @@ import org.neo4j.graphalgo.core.utils.queue.BoundedLongPriorityQueue;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class WeightedNeighborhoodSampler implements NeighborhoodSampler {
     private final double beta = 1D;
-    private final Random random;
     private long randomSeed;
 
     public WeightedNeighborhoodSampler(long randomSeed) {
         this.randomSeed = randomSeed;
-        this.random = new Random(randomSeed);
     }
 
     public List<Long> sample(Graph graph, long nodeId, long numberOfSamples) {
@@ -73,8 +70,7 @@ public class WeightedNeighborhoodSampler implements NeighborhoodSampler {
     }
 
     private double randomDouble(long source, long target, long nodeCount) {
-        random.setSeed(this.randomSeed + source + nodeCount * target);
-        return random.nextDouble();
+        return NeighborhoodSampler.randomDouble(randomSeed + source + nodeCount * target);
     }
 
     @Override
@@ -69,10 +69,10 @@ public class GraphSage extends Algorithm<GraphSage, GraphSage.GraphSageResult> {
         );
 
         GraphSageTrainConfig trainConfig = model.trainConfig();
-        HugeObjectArray<double[]> embeddings = embeddingsGenerator.makeEmbeddings(
-            graph,
-            initializeFeatures(graph, trainConfig, tracker)
-        );
+        HugeObjectArray<double[]> features = initializeFeatures(graph, trainConfig, tracker);
+        HugeObjectArray<double[]> embeddings = config.layerwiseInference()
+            ? embeddingsGenerator.makeEmbeddingsLayerwise(graph, features, trainConfig.embeddingDimension())
+            : embeddingsGenerator.makeEmbeddings(graph, features);
         return GraphSageResult.of(embeddings);
     }
 
@@ -31,6 +31,7 @@ import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
 import static org.neo4j.graphalgo.core.utils.mem.MemoryEstimations.RESIDENT_MEMORY;
@@ -84,12 +85,18 @@ public class GraphSageAlgorithmFactory<CONFIG extends GraphSageBaseConfig> exten
             graphDimensions -> withNodeCount(
                 trainConfig,
                 graphDimensions.nodeCount(),
-                config instanceof MutateConfig
+                config instanceof MutateConfig,
+                config.layerwiseInference()
             )
         );
     }
 
-    private MemoryEstimation withNodeCount(GraphSageTrainConfig config, long nodeCount, boolean mutate) {
+    private MemoryEstimation withNodeCount(
+        GraphSageTrainConfig config,
+        long nodeCount,
+        boolean mutate,
+        boolean layerwise
+    ) {
         var gsBuilder = MemoryEstimations.builder("GraphSage");
 
         if (mutate) {
@@ -113,6 +120,20 @@ public class GraphSageAlgorithmFactory<CONFIG extends GraphSageBaseConfig> exten
                     GraphSageHelper.embeddingsEstimation(config, config.batchSize(), nodeCount, 0, false)
                 ).build()
             );
+        if (layerwise) {
+            var layerConfigs = config.layerConfigs();
+            // the output of an inner layer is stored while the output of the previous layer is still held,
+            // the output of the last layer is the result
+            long heldDimensions = 0;
+            for (int layer = 0; layer < layerConfigs.size() - 1; layer++) {
+                long previousDimension = layer > 0 ? layerConfigs.get(layer - 1).rows() : 0;
+                heldDimensions = Math.max(heldDimensions, previousDimension + layerConfigs.get(layer).rows());
+            }
+            builder = builder.fixed(
+                "layerRepresentations",
+                HugeDoubleArray.memoryEstimation(nodeCount * heldDimensions)
+            );
+        }
         if (!mutate) {
             builder = builder.add(
                 "resultFeatures",
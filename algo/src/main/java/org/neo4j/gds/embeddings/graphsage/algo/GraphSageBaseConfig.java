@@ -19,10 +19,16 @@
  */
 package org.neo4j.gds.embeddings.graphsage.algo;
 
+import org.immutables.value.Value;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.BatchSizeConfig;
 import org.neo4j.graphalgo.config.ModelConfig;
 
 public interface GraphSageBaseConfig extends AlgoBaseConfig, BatchSizeConfig, ModelConfig {
     long serialVersionUID = 0x42L;
+
+    @Value.Default
+    default boolean layerwiseInference() {
+        return false;
+    }
 }
@@ -121,6 +121,15 @@ public interface GraphSageTrainConfig extends
         return false;
     }
 
+    /**
+     * If set, `concurrency` workers compute the gradients of their batches concurrently
+     * and the averaged gradients are applied in a single optimizer step.
+     */
+    @Value.Default
+    default boolean dataParallel() {
+        return false;
+    }
+
     Optional<Integer> projectedFeatureDimension();
 
     @Override
@@ -19,51 +19,142 @@
  */
 package org.neo4j.gds.embeddings.graphsage.ddl4j;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.PassthroughVariable;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Matrix;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Scalar;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Tensor;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.TensorFactory;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Holds the results and gradients of one evaluation of a computation graph.
+ *
+ * A context created for an {@link ExecutionPlan} stores the tensors of the variables
+ * of the plan by slot and can be {@link #reset() reset} to evaluate the same graph again,
+ * e.g. after the weights have been updated. Tensors of a previous evaluation are then
+ * reused as buffers: gradients are accumulated into the buffers of the previous pass and
+ * functions may write their result into {@link #reusableData(Variable) their previous result}.
+ */
 public class ComputationContext {
     private final Map<Variable<?>, Tensor<?>> data;
     private final Map<Variable<?>, Tensor<?>> gradients;
 
+    private final @Nullable ExecutionPlan plan;
+    private final Tensor<?>[] slotData;
+    private final Tensor<?>[] slotGradients;
+    private final Tensor<?>[] previousSlotData;
+    private final boolean[] gradientInitialized;
+
+    private final Map<Long, ArrayDeque<Matrix>> matrixPool;
+    private final List<Matrix> borrowedMatrices;
+
     public ComputationContext() {
+        this(null);
+    }
+
+    public ComputationContext(@Nullable ExecutionPlan plan) {
         this.data = new ConcurrentHashMap<>();
         this.gradients = new ConcurrentHashMap<>();
+        this.plan = plan;
+        int slots = plan == null ? 0 : plan.size();
+        this.slotData = new Tensor<?>[slots];
+        this.slotGradients = new Tensor<?>[slots];
+        this.previousSlotData = new Tensor<?>[slots];
+        this.gradientInitialized = new boolean[slots];
+        this.matrixPool = new HashMap<>();
+        this.borrowedMatrices = new ArrayList<>();
+    }
+
+    /**
+     * Discards all results and gradients, keeping their tensors as buffers for the next evaluation.
+     */
+    public void reset() {
+        data.clear();
+        gradients.clear();
+        System.arraycopy(slotData, 0, previousSlotData, 0, slotData.length);
+        Arrays.fill(slotData, null);
+        Arrays.fill(gradientInitialized, false);
     }
 
     public <T extends Tensor<T>> T forward(Variable<T> variable) {
-        var cachedData = (T) data.get(variable);
+        var cachedData = data(variable);
         if (cachedData != null) {
             return cachedData;
         }
+        if (plan != null && variable == plan.root()) {
+            for (int slot = 0; slot < plan.size(); slot++) {
+                if (slotData[slot] == null) {
+                    slotData[slot] = plan.variable(slot).apply(this);
+                }
+            }
+            return data(variable);
+        }
         for (Variable<?> parent : variable.parents()) {
             forward(parent);
         }
         T variableResult = variable.apply(this);
-        data.put(variable, variableResult);
+        setData(variable, variableResult);
         return variableResult;
     }
 
     public <T extends Tensor<T>> T data(Variable<T> variable) {
-        return (T) data.get(variable);
+        int slot = slot(variable);
+        return (T) (slot >= 0 ? slotData[slot] : data.get(variable));
     }
 
     public <T extends Tensor<T>> T gradient(Variable<T> variable) {
+        int slot = slot(variable);
+        if (slot >= 0) {
+            return gradientInitialized[slot] ? (T) slotGradients[slot] : null;
+        }
         return (T) gradients.get(variable);
     }
 
+    /**
+     * @return the result of the variable from the evaluation before the last {@link #reset()},
+     *     which the variable may overwrite with its new result, or {@code null} if there is none.
+     */
+    public @Nullable <T extends Tensor<T>> T reusableData(Variable<T> variable) {
+        int slot = slot(variable);
+        if (slot < 0) {
+            return null;
+        }
+        var previous = (T) previousSlotData[slot];
+        previousSlotData[slot] = null;
+        return previous;
+    }
+
+    /**
+     * Borrows an uninitialized matrix to return a gradient in.
+     * The matrix is returned to the pool as soon as the gradient has been accumulated.
+     */
+    public Matrix borrowMatrix(int rows, int cols) {
+        var pooled = matrixPool.get(poolKey(rows, cols));
+        var matrix = pooled == null || pooled.isEmpty() ? new Matrix(rows, cols) : pooled.pop();
+        borrowedMatrices.add(matrix);
+        return matrix;
+    }
+
     public void backward(Variable<?> function) {
         assert (function.dimensions().length == 1 && data(function).totalSize() == 1) : "Root variable must be scalar.";
         assert function.requireGradient() : "Root variable must have requireGradient==true";
 
+        if (plan != null && function == plan.root()) {
+            backwardWithPlan(plan);
+            return;
+        }
+
         gradients.clear();
         Queue<BackPropTask> executionQueue = new LinkedBlockingQueue<>();
         PassthroughVariable<?> dummy = new PassthroughVariable<>(function);
@@ -73,6 +164,19 @@ public class ComputationContext {
         backward(executionQueue, upstreamCounters);
     }
 
+    private void backwardWithPlan(ExecutionPlan plan) {
+        Arrays.fill(gradientInitialized, false);
+        int rootSlot = plan.rootSlot();
+        updateGradient(plan.variable(rootSlot), new Scalar(1D));
+        // children have larger slots, so all gradients of a variable are known when it is reached
+        for (int slot = rootSlot - 1; slot >= 0; slot--) {
+            var variable = plan.variable(slot);
+            for (int childSlot : plan.gradientChildren(slot)) {
+                updateGradient(variable, plan.variable(childSlot).gradient(variable, this));
+            }
+        }
+    }
+
     private void backward(Queue<BackPropTask> executionQueue, Map<Variable<?>, AtomicInteger> upstreamCounters) {
         while (!executionQueue.isEmpty()) {
             BackPropTask task = executionQueue.poll();
@@ -105,8 +209,48 @@ public class ComputationContext {
     }
 
     private void updateGradient(Variable<?> variable, Tensor<?> gradient) {
-        gradients.putIfAbsent(variable, TensorFactory.constant(0D, variable.dimensions()));
-        gradients.get(variable).addInPlace(gradient);
+        int slot = slot(variable);
+        if (slot >= 0) {
+            if (!gradientInitialized[slot]) {
+                var buffer = slotGradients[slot];
+                if (buffer == null) {
+                    buffer = TensorFactory.constant(0D, variable.dimensions());
+                    slotGradients[slot] = buffer;
+                } else {
+                    Arrays.fill(buffer.data(), 0D);
+                }
+                gradientInitialized[slot] = true;
+            }
+            slotGradients[slot].addInPlace(gradient);
+        } else {
+            gradients.putIfAbsent(variable, TensorFactory.constant(0D, variable.dimensions()));
+            gradients.get(variable).addInPlace(gradient);
+        }
+        releaseBorrowedMatrices();
+    }
+
+    private void releaseBorrowedMatrices() {
+        for (Matrix matrix : borrowedMatrices) {
+            matrixPool.computeIfAbsent(poolKey(matrix.rows(), matrix.cols()), ignore -> new ArrayDeque<>()).push(matrix);
+        }
+        borrowedMatrices.clear();
+    }
+
+    private void setData(Variable<?> variable, Tensor<?> result) {
+        int slot = slot(variable);
+        if (slot >= 0) {
+            slotData[slot] = result;
+        } else {
+            data.put(variable, result);
+        }
+    }
+
+    private static long poolKey(int rows, int cols) {
+        return ((long) rows << 32) | cols;
+    }
+
+    private int slot(Variable<?> variable) {
+        return plan == null ? -1 : plan.slot(variable);
     }
 
     static class BackPropTask {
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.graphsage.ddl4j;
+
+import com.carrotsearch.hppc.IntArrayList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The computation graph of a root variable, compiled once and shared by all
+ * {@link ComputationContext}s evaluating that root.
+ *
+ * Every variable of the graph is assigned a slot, the slots are ordered topologically,
+ * so that all parents of a variable have a smaller slot than the variable itself.
+ * A context created with a plan stores its tensors in arrays indexed by slot and
+ * evaluates the graph by iterating the slots, instead of recursing into the parents
+ * and looking up each result in a map.
+ */
+public final class ExecutionPlan {
+
+    private final Variable<?> root;
+    private final Variable<?>[] variables;
+    private final Map<Variable<?>, Integer> slots;
+    // for every slot, the slots of its children that propagate a gradient to it, once per occurrence
+    private final int[][] gradientChildren;
+
+    public static ExecutionPlan compile(Variable<?> root) {
+        return new ExecutionPlan(root);
+    }
+
+    private ExecutionPlan(Variable<?> root) {
+        this.root = root;
+        this.slots = new IdentityHashMap<>();
+        List<Variable<?>> order = topologicalOrder(root, slots);
+        this.variables = order.toArray(new Variable<?>[0]);
+
+        var children = new IntArrayList[variables.length];
+        for (int slot = 0; slot < variables.length; slot++) {
+            var variable = variables[slot];
+            if (!variable.requireGradient()) {
+                continue;
+            }
+            for (Variable<?> parent : variable.parents()) {
+                if (parent.requireGradient()) {
+                    int parentSlot = slots.get(parent);
+                    if (children[parentSlot] == null) {
+                        children[parentSlot] = new IntArrayList();
+                    }
+                    children[parentSlot].add(slot);
+                }
+            }
+        }
+        this.gradientChildren = new int[variables.length][];
+        for (int slot = 0; slot < variables.length; slot++) {
+            gradientChildren[slot] = children[slot] == null ? new int[0] : children[slot].toArray();
+        }
+    }
+
+    public Variable<?> root() {
+        return root;
+    }
+
+    public int size() {
+        return variables.length;
+    }
+
+    Variable<?> variable(int slot) {
+        return variables[slot];
+    }
+
+    /**
+     * @return the slot of the variable or {@code -1} if the variable is not part of this plan.
+     */
+    int slot(Variable<?> variable) {
+        Integer slot = slots.get(variable);
+        return slot == null ? -1 : slot;
+    }
+
+    int rootSlot() {
+        return variables.length - 1;
+    }
+
+    int[] gradientChildren(int slot) {
+        return gradientChildren[slot];
+    }
+
+    private static List<Variable<?>> topologicalOrder(Variable<?> root, Map<Variable<?>, Integer> slots) {
+        // iterative post-order DFS, as the graphs of deep models can exceed the stack depth
+        List<Variable<?>> order = new ArrayList<>();
+        var visited = new IdentityHashMap<Variable<?>, Boolean>();
+        var stack = new ArrayDeque<Frame>();
+        stack.push(new Frame(root));
+        visited.put(root, Boolean.TRUE);
+        while (!stack.isEmpty()) {
+            var frame = stack.peek();
+            if (frame.parents.hasNext()) {
+                Variable<?> parent = frame.parents.next();
+                if (visited.put(parent, Boolean.TRUE) == null) {
+                    stack.push(new Frame(parent));
+                }
+            } else {
+                stack.pop();
+                slots.put(frame.variable, order.size());
+                order.add(frame.variable);
+            }
+        }
+        return order;
+    }
+
+    private static final class Frame {
+        final Variable<?> variable;
+        final Iterator<? extends Variable<?>> parents;
+
+        Frame(Variable<?> variable) {
+            this.variable = variable;
+            this.parents = variable.parents().iterator();
+        }
+    }
+}
@@ -54,41 +54,39 @@ public class MatrixMultiplyWithTransposedSecondOperand extends AbstractVariable<
     public Matrix apply(ComputationContext ctx) {
         Tensor<?> t1 = ctx.data(A);
         Tensor<?> t2 = ctx.data(B);
-        return multiplyTransB(t1, t2);
+        Matrix result = ctx.reusableData(this);
+        if (result == null) {
+            result = new Matrix(t1.dimension(ROWS_INDEX), t2.dimension(ROWS_INDEX));
+        }
+        MatrixMatrixMult_DDRM.multTransB(wrap(t1), wrap(t2), wrap(result));
+        return result;
+    }
+
+    /**
+     * Computes {@code a * b^T} into {@code result} without building a computation graph.
+     */
+    public static void multiplyTransposed(Matrix a, Matrix b, Matrix result) {
+        MatrixMatrixMult_DDRM.multTransB(wrap(a), wrap(b), wrap(result));
     }
 
     @Override
     public Matrix gradient(Variable<?> parent, ComputationContext ctx) {
         Tensor<?> gradient = ctx.gradient(this);
         if (parent == A) {
-            return multiply(gradient, ctx.data(B));
+            Tensor<?> b = ctx.data(B);
+            Matrix result = ctx.borrowMatrix(gradient.dimension(ROWS_INDEX), b.dimension(COLUMNS_INDEX));
+            MatrixMatrixMult_DDRM.mult_reorder(wrap(gradient), wrap(b), wrap(result));
+            return result;
         } else {
-            return multiplyTransA(gradient, ctx.data(A));
+            Tensor<?> a = ctx.data(A);
+            Matrix result = ctx.borrowMatrix(gradient.dimension(COLUMNS_INDEX), a.dimension(COLUMNS_INDEX));
+            MatrixMatrixMult_DDRM.multTransA_reorder(wrap(gradient), wrap(a), wrap(result));
+            return result;
         }
     }
 
-    private Matrix multiply(Tensor<?> t1, Tensor<?> t2) {
-        DMatrixRMaj m1 = DMatrixRMaj.wrap(t1.dimension(ROWS_INDEX), t1.dimension(COLUMNS_INDEX), t1.data());
-        DMatrixRMaj m2 = DMatrixRMaj.wrap(t2.dimension(ROWS_INDEX), t2.dimension(COLUMNS_INDEX), t2.data());
-        DMatrixRMaj prod = new DMatrixRMaj(m1.numRows, m2.numCols);
-        MatrixMatrixMult_DDRM.mult_reorder(m1, m2, prod);
-        return new Matrix(prod.getData(), prod.numRows, prod.numCols);
-    }
-
-    private Matrix multiplyTransB(Tensor<?> t1, Tensor<?> t2) {
-        DMatrixRMaj m1 = DMatrixRMaj.wrap(t1.dimension(ROWS_INDEX), t1.dimension(COLUMNS_INDEX), t1.data());
-        DMatrixRMaj m2 = DMatrixRMaj.wrap(t2.dimension(ROWS_INDEX), t2.dimension(COLUMNS_INDEX), t2.data());
-        DMatrixRMaj prod = new DMatrixRMaj(m1.numRows, m2.numRows);
-        MatrixMatrixMult_DDRM.multTransB(m1, m2, prod);
-        return new Matrix(prod.getData(), prod.numRows, prod.numCols);
-    }
-
-    private Matrix multiplyTransA(Tensor<?> t1, Tensor<?> t2) {
-        DMatrixRMaj m1 = DMatrixRMaj.wrap(t1.dimension(ROWS_INDEX), t1.dimension(COLUMNS_INDEX), t1.data());
-        DMatrixRMaj m2 = DMatrixRMaj.wrap(t2.dimension(ROWS_INDEX), t2.dimension(COLUMNS_INDEX), t2.data());
-        DMatrixRMaj prod = new DMatrixRMaj(m1.numCols, m2.numCols);
-        MatrixMatrixMult_DDRM.multTransA_reorder(m1, m2, prod);
-        return new Matrix(prod.getData(), prod.numRows, prod.numCols);
+    private static DMatrixRMaj wrap(Tensor<?> tensor) {
+        return DMatrixRMaj.wrap(tensor.dimension(ROWS_INDEX), tensor.dimension(COLUMNS_INDEX), tensor.data());
     }
 
     public static MatrixMultiplyWithTransposedSecondOperand of(Variable<Matrix> A, Variable<Matrix> B) {
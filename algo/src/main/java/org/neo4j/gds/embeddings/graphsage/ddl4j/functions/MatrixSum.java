@@ -39,7 +39,12 @@ public class MatrixSum extends AbstractVariable<Matrix> {
 
     @Override
     public Matrix apply(ComputationContext ctx) {
-        Matrix sum = Matrix.fill(0D, dimension(ROWS_INDEX), dimension(COLUMNS_INDEX));
+        Matrix sum = ctx.reusableData(this);
+        if (sum == null) {
+            sum = new Matrix(dimension(ROWS_INDEX), dimension(COLUMNS_INDEX));
+        } else {
+            Arrays.fill(sum.data(), 0D);
+        }
         for (Variable<?> parent : parents()) {
             sum.addInPlace(ctx.data(parent));
         }
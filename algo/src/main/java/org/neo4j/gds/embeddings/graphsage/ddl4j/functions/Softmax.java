@@ -42,17 +42,25 @@ public class Softmax extends SingleParentVariable<Matrix> {
     public Matrix apply(ComputationContext ctx) {
         var data = (Matrix) ctx.data(parent());
         var result = data.zeros();
+        softmax(data.data(), result.data(), rows, cols);
+        return result;
+    }
+
+    /**
+     * Computes the row-wise softmax of {@code input} into {@code result}, which may be the same array.
+     */
+    public static void softmax(double[] input, double[] result, int rows, int cols) {
         boolean rescale = false;
         for (int row = 0; row < rows; row++) {
             double rowSum = 1e-15;
             for (int col = 0; col < cols; col++) {
                 var index = row * cols + col;
-                var exp = Math.exp(data.dataAt(index));
+                var exp = Math.exp(input[index]);
                 if (Double.isInfinite(exp)) {
                     rescale = true;
                     exp = Double.MAX_VALUE;
                 }
-                result.setDataAt(index, exp);
+                result[index] = exp;
                 rowSum += exp;
                 if (Double.isInfinite(rowSum)) {
                     rescale = true;
@@ -61,30 +69,24 @@ public class Softmax extends SingleParentVariable<Matrix> {
             }
             for (int col = 0; col < cols; col++) {
                 var index = row * cols + col;
-                var current = result.dataAt(index);
-                result.setDataAt(index, current / rowSum);
+                result[index] = result[index] / rowSum;
             }
         }
 
         if (rescale) {
-            rescale(result);
+            rescale(result, rows, cols);
         }
-
-        return result;
     }
 
-    private void rescale(Matrix result) {
+    private static void rescale(double[] result, int rows, int cols) {
         for (int row = 0; row < rows; row++) {
             double rowSum = 1e-15;
             for (int col = 0; col < cols; col++) {
-                var index = row * cols + col;
-                var current = result.dataAt(index);
-                rowSum += current;
+                rowSum += result[row * cols + col];
             }
             for (int col = 0; col < cols; col++) {
                 var index = row * cols + col;
-                var current = result.dataAt(index);
-                result.setDataAt(index, current / rowSum);
+                result[index] = result[index] / rowSum;
             }
         }
     }
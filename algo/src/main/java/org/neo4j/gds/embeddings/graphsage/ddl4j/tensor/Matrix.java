@@ -42,7 +42,7 @@ public class Matrix extends Tensor<Matrix> {
 
     @Override
     public Matrix zeros() {
-        return fill(0D, rows(), cols());
+        return new Matrix(rows(), cols());
     }
 
     @Override
@@ -61,12 +61,12 @@ public class Matrix extends Tensor<Matrix> {
                 b.cols()
             ));
         }
-        var sum = zeros();
         double[] localData = this.data;
+        double[] sum = new double[localData.length];
         for (int i = 0; i < localData.length; ++i) {
-            sum.data[i] = localData[i] + b.data[i];
+            sum[i] = localData[i] + b.data[i];
         }
-        return sum;
+        return new Matrix(sum, rows(), cols());
     }
 
     public int rows() {
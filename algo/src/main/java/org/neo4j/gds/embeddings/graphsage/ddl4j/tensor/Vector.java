@@ -37,7 +37,7 @@ public class Vector extends Tensor<Vector> {
 
     @Override
     public Vector zeros() {
-        return fill(0D, length());
+        return new Vector(new double[length()]);
     }
 
     @Override
@@ -54,11 +54,11 @@ public class Vector extends Tensor<Vector> {
                 b.length()
             ));
         }
-        Vector sum = zeros();
-        for (int i = 0; i < length(); ++i) {
-            sum.data[i] = data[i] + b.data[i];
+        double[] sum = new double[length()];
+        for (int i = 0; i < sum.length; ++i) {
+            sum[i] = data[i] + b.data[i];
         }
-        return sum;
+        return new Vector(sum);
     }
 
     private int length() {
@@ -21,6 +21,7 @@ package org.neo4j.gds.ml.features;
 
 import org.neo4j.gds.embeddings.EmbeddingUtils;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.MatrixConstant;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Matrix;
 import org.neo4j.gds.ml.batch.Batch;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.nodeproperties.ValueType;
@@ -61,6 +62,14 @@ public final class FeatureExtraction {
     }
 
     public static MatrixConstant extract(Batch batch, List<FeatureExtractor> extractors) {
+        var features = extractMatrix(batch, extractors);
+        return new MatrixConstant(features.data(), features.rows(), features.cols());
+    }
+
+    /**
+     * Gathers the features of all nodes of the batch into one row-major matrix.
+     */
+    public static Matrix extractMatrix(Batch batch, List<FeatureExtractor> extractors) {
         int rows = batch.size();
         int cols = featureCount(extractors);
         double[] features = new double[rows * cols];
@@ -80,7 +89,7 @@ public final class FeatureExtraction {
             extract(nodeId, nodeOffset, extractors, featureConsumer);
             nodeOffset++;
         }
-        return new MatrixConstant(features, rows, cols);
+        return new Matrix(features, rows, cols);
     }
 
     public static HugeObjectArray<double[]> extract(
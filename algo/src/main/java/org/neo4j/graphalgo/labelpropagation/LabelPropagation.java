@@ -26,19 +26,19 @@ import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.loading.NullPropertyMap.DoubleNullPropertyMap;
 import org.neo4j.graphalgo.core.loading.NullPropertyMap.LongNullPropertyMap;
-import org.neo4j.graphalgo.core.utils.LazyBatchCollection;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongCollections;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
-import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 import static org.neo4j.kernel.api.StatementConstants.NO_SUCH_LABEL;
 
@@ -138,7 +138,7 @@ public class LabelPropagation extends Algorithm<LabelPropagation, LabelPropagati
 
         while (ranIterations < config.maxIterations()) {
             getProgressLogger().logMessage(formatWithLocale(":: Iteration %d :: Start", ranIterations + 1));
-            ParallelUtil.runWithConcurrency(config.concurrency(), stepRunners, 1L, MICROSECONDS, terminationFlag, executor);
+            runSteps(stepRunners);
             ++ranIterations;
             didConverge = stepRunners.stream().allMatch(StepRunner::didConverge);
             if (didConverge) {
@@ -157,21 +157,24 @@ public class LabelPropagation extends Algorithm<LabelPropagation, LabelPropagati
     private List<StepRunner> stepRunners() {
         long nodeCount = graph.nodeCount();
         long batchSize = ParallelUtil.adjustedBatchSize(nodeCount, this.batchSize);
-
-        Collection<PrimitiveLongIterable> nodeBatches = LazyBatchCollection.of(
-            nodeCount,
-            batchSize,
-            (start, length) -> () -> PrimitiveLongCollections.range(start, start + length - 1L)
+        // several partitions per thread with a similar number of relationships, so that threads
+        // can steal partitions containing hubs from each other, but not fewer than batchSize nodes on average
+        int partitionCount = (int) Math.min(
+            (long) config.concurrency() * PartitionUtils.PARTITIONS_PER_THREAD,
+            ParallelUtil.threadCount(batchSize, nodeCount)
         );
+        List<Partition> partitions = PartitionUtils.degreePartition(graph, partitionCount);
 
-        int threads = nodeBatches.size();
-        List<StepRunner> tasks = new ArrayList<>(threads);
-        for (PrimitiveLongIterable iter : nodeBatches) {
+        List<StepRunner> tasks = new ArrayList<>(partitions.size());
+        for (Partition partition : partitions) {
+            long start = partition.startNode();
+            long end = start + partition.nodeCount();
+            PrimitiveLongIterable nodes = () -> PrimitiveLongCollections.range(start, end - 1L);
             InitStep initStep = new InitStep(
                 graph,
                 nodeProperties,
                 nodeWeights,
-                iter,
+                nodes,
                 labels,
                 getProgressLogger(),
                 maxLabelId
@@ -180,12 +183,22 @@ public class LabelPropagation extends Algorithm<LabelPropagation, LabelPropagati
             tasks.add(task);
         }
         progressLogger.logMessage(":: Initialization :: Start");
-        ParallelUtil.runWithConcurrency(config.concurrency(), tasks, 1, MICROSECONDS, terminationFlag, executor);
+        runSteps(tasks);
         progressLogger.logMessage(":: Initialization :: Finished");
         progressLogger.reset(graph.relationshipCount());
         return tasks;
     }
 
+    private void runSteps(List<StepRunner> stepRunners) {
+        ParallelUtil.runWithWorkStealing(
+            config.concurrency(),
+            stepRunners,
+            terminationFlag,
+            executor,
+            MetricsRegistry.timer("labelpropagation.partition")
+        );
+    }
+
     void withBatchSize(int batchSize) {
         this.batchSize = batchSize;
     }
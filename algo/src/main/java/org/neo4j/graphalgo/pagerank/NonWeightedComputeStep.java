@@ -53,17 +53,11 @@ public class NonWeightedComputeStep extends BaseComputeStep implements Relations
     }
 
     @Override
-    void singleIteration() {
-        for (long nodeId = startNode; nodeId < endNode; ++nodeId) {
-            double delta = deltas[(int) (nodeId - startNode)];
-            if (delta > 0.0) {
-                int degree = degrees.degree(nodeId);
-                if (degree > 0) {
-                    srcRankDelta = (float) (delta / degree);
-                    relationshipIterator.forEachRelationship(nodeId, this);
-                }
-            }
-            progressLogger.logProgress(graph.degree(nodeId));
+    void propagate(long nodeId, double delta) {
+        int degree = degrees.degree(nodeId);
+        if (degree > 0) {
+            srcRankDelta = (float) (delta / degree);
+            relationshipIterator.forEachRelationship(nodeId, this);
         }
     }
 
@@ -76,14 +76,17 @@ public class PageRankFactory<CONFIG extends PageRankBaseConfig> implements Algor
                     ? ceilDiv(nodeCount, nodesPerPartition)
                     : 0;
 
-                return MemoryEstimations
+                var builder = MemoryEstimations
                     .builder(PageRank.ComputeSteps.class)
                     .fixed("scores[] wrapper", MemoryUsage.sizeOfObjectArray(partitionCount))
                     .fixed("starts[]", MemoryUsage.sizeOfLongArray(partitionCount))
                     .fixed("lengths[]", MemoryUsage.sizeOfLongArray(partitionCount))
                     .fixed("list of computeSteps", MemoryUsage.sizeOfObjectArray(partitionCount))
-                    .add("ComputeStep", algorithmType(config).memoryEstimation(partitionCount, nodesPerPartition))
-                    .build();
+                    .add("ComputeStep", algorithmType(config).memoryEstimation(partitionCount, nodesPerPartition));
+                if (config.residualPush()) {
+                    builder.fixed("activeNodes[]", MemoryUsage.sizeOfIntArray(nodesPerPartition) * partitionCount);
+                }
+                return builder.build();
             }))
             .build();
     }
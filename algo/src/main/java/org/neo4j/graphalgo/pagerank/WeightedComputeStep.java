@@ -56,17 +56,12 @@ public class WeightedComputeStep extends BaseComputeStep implements Relationship
     }
 
     @Override
-    void singleIteration() {
-        for (long nodeId = startNode; nodeId < endNode; ++nodeId) {
-            delta = deltas[(int) (nodeId - startNode)];
-            if (delta > 0.0) {
-                int degree = degrees.degree(nodeId);
-                if (degree > 0) {
-                    sumOfWeights = aggregatedDegrees.get(nodeId);
-                    relationshipIterator.forEachRelationship(nodeId, DEFAULT_WEIGHT, this);
-                }
-            }
-            progressLogger.logProgress(graph.degree(nodeId));
+    void propagate(long nodeId, double delta) {
+        int degree = degrees.degree(nodeId);
+        if (degree > 0) {
+            this.delta = delta;
+            sumOfWeights = aggregatedDegrees.get(nodeId);
+            relationshipIterator.forEachRelationship(nodeId, DEFAULT_WEIGHT, this);
         }
     }
 
@@ -28,6 +28,8 @@ import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
 import org.neo4j.graphalgo.core.utils.BiLongConsumer;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
 import org.neo4j.graphalgo.core.utils.paged.HugeCursor;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 import org.neo4j.graphalgo.similarity.SimilarityResult;
@@ -40,6 +42,8 @@ import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfLongArray;
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
 public class Knn extends Algorithm<Knn, Knn.Result> {
@@ -107,9 +111,13 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             long updateCount;
             int iteration = 0;
             boolean didConverge = false;
+            var iterationTimer = MetricsRegistry.timer("knn.iteration");
             for (; iteration < maxIterations; iteration++) {
                 int currentIteration = iteration;
-                try (var ignored3 = ProgressTimer.start(took -> logIterationTime(currentIteration, took))) {
+                try (
+                    var ignored3 = ProgressTimer.start(took -> logIterationTime(currentIteration, took));
+                    var ignored4 = iterationTimer.start()
+                ) {
                     progressLogger.logMessage("KNN-Graph starting iteration " + iteration + "/" + maxIterations);
                     updateCount = this.iteration(neighbors);
                     progressLogger.logMessage("KNN-Graph ending iteration " + iteration + ": updated " + updateCount + "/" + maxUpdates + " nodes");
@@ -137,7 +145,8 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             return null;
         }
 
-        var neighbors = HugeObjectArray.newArray(NeighborList.class, nodeCount, this.context.tracker());
+        var tracker = this.context.tracker();
+        var neighbors = HugeObjectArray.newArray(NeighborList.class, nodeCount, tracker);
 
         ParallelUtil.readParallel(
             this.config.concurrency(),
@@ -153,6 +162,11 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             )
         );
 
+        // the neighbor lists keep their size for all iterations
+        if (AllocationTracker.isTracking(tracker)) {
+            tracker.add("NeighborList", neighbors.sizeOfElements(NeighborList::sizeOf));
+        }
+
         return neighbors;
     }
 
@@ -189,6 +203,16 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
 
         reverseOldAndNewNeighbors(n, allOldNeighbors, allNewNeighbors, reverseOldNeighbors, reverseNewNeighbors);
 
+        // the sampled lists only live for this iteration
+        long sampledListBytes = 0L;
+        if (AllocationTracker.isTracking(tracker)) {
+            sampledListBytes = allOldNeighbors.sizeOfElements(Knn::sizeOfLongArrayList)
+                               + allNewNeighbors.sizeOfElements(Knn::sizeOfLongArrayList)
+                               + reverseOldNeighbors.sizeOfElements(Knn::sizeOfLongArrayList)
+                               + reverseNewNeighbors.sizeOfElements(Knn::sizeOfLongArrayList);
+            tracker.add("LongArrayList", sampledListBytes);
+        }
+
         var neighborsJoiner = new JoinNeighbors(
             this.random,
             this.computer,
@@ -205,9 +229,15 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
 
         ParallelUtil.readParallel(concurrency, n, executor, neighborsJoiner);
 
+        tracker.remove("LongArrayList", sampledListBytes);
+
         return neighborsJoiner.updateCount.sum();
     }
 
+    private static long sizeOfLongArrayList(LongArrayList list) {
+        return sizeOfInstance(LongArrayList.class) + sizeOfLongArray(list.buffer.length);
+    }
+
     private static void reverseOldAndNewNeighbors(
         long nodeCount,
         HugeObjectArray<LongArrayList> allOldNeighbors,
@@ -23,14 +23,14 @@ import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
-import org.neo4j.graphalgo.config.WriteRelationshipConfig;
+import org.neo4j.graphalgo.config.WriteRelationshipToDatabaseConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 
 import java.util.Optional;
 
 @ValueClass
 @Configuration
-public interface KnnWriteConfig extends KnnBaseConfig, WritePropertyConfig, WriteRelationshipConfig {
+public interface KnnWriteConfig extends KnnBaseConfig, WritePropertyConfig, WriteRelationshipToDatabaseConfig {
 
     static KnnWriteConfig of(
         String username,
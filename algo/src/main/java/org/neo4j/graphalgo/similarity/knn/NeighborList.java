@@ -28,6 +28,7 @@ import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfInstance;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfLongArray;
 
 class NeighborList {
@@ -99,6 +100,10 @@ class NeighborList {
         this.elements = new long[bound * 2];
     }
 
+    long sizeOf() {
+        return sizeOfInstance(NeighborList.class) + sizeOfLongArray(elements.length);
+    }
+
     public LongStream elements() {
         return IntStream.range(0, elementCount).mapToLong(index -> elements[index * 2 + 1]);
     }
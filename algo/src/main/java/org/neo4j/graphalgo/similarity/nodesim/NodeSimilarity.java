@@ -29,12 +29,16 @@ import org.neo4j.graphalgo.core.utils.Intersections;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.SetBitsIterable;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 import org.neo4j.graphalgo.similarity.SimilarityGraphBuilder;
 import org.neo4j.graphalgo.similarity.SimilarityGraphResult;
 import org.neo4j.graphalgo.similarity.SimilarityResult;
 
 import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -266,29 +270,49 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
 
         Comparator<SimilarityResult> comparator = config.normalizedK() > 0 ? SimilarityResult.DESCENDING : SimilarityResult.ASCENDING;
         TopKMap topKMap = new TopKMap(vectors.size(), nodeFilter, Math.abs(config.normalizedK()), comparator, tracker);
-        ParallelUtil.parallelStreamConsume(
-            loggableAndTerminatableNodeStream(),
+        // The cost of comparing a node with all others grows with its degree.
+        // The nodes are split into ranges with a similar number of relationships,
+        // which threads steal from each other when they run out of work.
+        List<Partition> partitions = PartitionUtils.degreePartition(
+            graph,
+            config.concurrency() * PartitionUtils.PARTITIONS_PER_THREAD
+        );
+        ParallelUtil.runWithWorkStealing(
             config.concurrency(),
-            stream -> stream
-                .forEach(node1 -> {
+            partitions,
+            () -> partition -> {
+                long end = partition.startNode() + partition.nodeCount();
+                for (
+                    long node1 = nodeFilter.nextSetBit(partition.startNode());
+                    node1 != -1 && node1 < end;
+                    node1 = nodeFilter.nextSetBit(node1 + 1)
+                ) {
+                    if ((node1 & BatchingProgressLogger.MAXIMUM_LOG_INTERVAL) == 0) {
+                        assertRunning();
+                    }
                     long[] vector1 = vectors.get(node1);
                     // We deliberately compute the full matrix (except the diagonal).
-                    // The parallel workload is partitioned based on the outer stream.
                     // The TopKMap stores a priority queue for each node. Writing
                     // into these queues is not considered to be thread-safe.
-                    // Hence, we need to ensure that down the stream, exactly one queue
-                    // within the TopKMap processes all pairs for a single node.
+                    // Hence, we need to ensure that exactly one queue within the
+                    // TopKMap processes all pairs for a single node, which holds
+                    // as every node belongs to exactly one partition.
+                    long currentNode1 = node1;
                     nodeStream()
-                        .filter(node2 -> node1 != node2)
+                        .filter(node2 -> currentNode1 != node2)
                         .forEach(node2 -> {
                             double similarity = weighted
-                                ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
+                                ? weightedJaccard(vector1, vectors.get(node2), weights.get(currentNode1), weights.get(node2))
                                 : jaccard(vector1, vectors.get(node2));
                             if (!Double.isNaN(similarity)) {
-                                topKMap.put(node1, node2, similarity);
+                                topKMap.put(currentNode1, node2, similarity);
                             }
                         });
-                })
+                }
+            },
+            terminationFlag,
+            executorService,
+            MetricsRegistry.timer("nodesimilarity.partition")
         );
 
         progressLogger.logMessage("Finish :: NodeSimilarity#computeTopKMapParallel");
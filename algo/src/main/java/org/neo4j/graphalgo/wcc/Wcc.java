@@ -19,6 +19,8 @@
  */
 package org.neo4j.graphalgo.wcc;
 
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongIntHashMap;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.NodeProperties;
@@ -30,31 +32,52 @@ import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
 import org.neo4j.graphalgo.core.utils.paged.dss.DisjointSetStruct;
 import org.neo4j.graphalgo.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.graphalgo.core.utils.paged.dss.SparseSeededDisjointSetStruct;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 import java.util.concurrent.ExecutorService;
-
-import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+import java.util.function.Consumer;
 
 /**
  * Parallel Union-Find Algorithm based on the
  * "Wait-free Parallel Algorithms for the Union-Find Problem" paper.
  *
+ * If {@link WccBaseConfig#deltaOnly()} is set, the relationships of the graph are considered
+ * to be new relationships that are unioned into the seeded components of a previous run.
+ * The union work and the memory used are then proportional to the number of new relationships.
+ *
+ * If {@link WccBaseConfig#sampling()} is set, the Afforest approach is used: every node is first
+ * linked to its first {@value #NEIGHBOR_ROUNDS} neighbours, the largest intermediate component is
+ * determined from a sample of {@value #SAMPLE_SIZE} nodes, and only then the remaining relationships
+ * are processed. On undirected graphs, nodes of the largest component can be skipped entirely in
+ * the last step, as their relationships are also visited from the other side.
+ *
  * @see HugeAtomicDisjointSetStruct
+ * @see SparseSeededDisjointSetStruct
  * @see <a href="http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.56.8354&rep=rep1&type=pdf">the paper</a>
+ * @see <a href="https://arxiv.org/abs/1811.04146">Afforest</a>
  */
 public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
 
+    static final int NEIGHBOR_ROUNDS = 2;
+    static final int SAMPLE_SIZE = 1024;
+
     private final WccBaseConfig config;
     private final NodeProperties initialComponents;
     private final ExecutorService executor;
     private final AllocationTracker tracker;
     private final long nodeCount;
-    private final long batchSize;
-    private final int threadSize;
+    private final int partitionCount;
 
     private Graph graph;
 
@@ -65,6 +88,20 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
             .build();
     }
 
+    public static MemoryEstimation deltaMemoryEstimation() {
+        return MemoryEstimations
+            .builder(Wcc.class)
+            .add("dss", SparseSeededDisjointSetStruct.memoryEstimation())
+            .perGraphDimension(
+                "delta relationships",
+                (dimensions, concurrency) -> MemoryRange.of(
+                    MemoryUsage.sizeOfLongArray(0),
+                    MemoryUsage.sizeOfLongArray(2 * dimensions.maxRelCount())
+                )
+            )
+            .build();
+    }
+
     public Wcc(
         Graph graph,
         ExecutorService executor,
@@ -81,24 +118,13 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
         this.executor = executor;
         this.tracker = tracker;
         this.nodeCount = graph.nodeCount();
-        this.batchSize = ParallelUtil.adjustedBatchSize(
-            nodeCount,
-            config.concurrency(),
-            minBatchSize,
-            Integer.MAX_VALUE
+        // several partitions per thread, so that threads can steal partitions containing hubs from each other,
+        // but not fewer than minBatchSize nodes per partition on average
+        this.partitionCount = (int) Math.min(
+            (long) config.concurrency() * PartitionUtils.PARTITIONS_PER_THREAD,
+            ParallelUtil.threadCount((long) minBatchSize, nodeCount)
         );
 
-        long threadSize = ParallelUtil.threadCount(batchSize, nodeCount);
-        if (threadSize > Integer.MAX_VALUE) {
-            throw new IllegalArgumentException(formatWithLocale(
-                "Too many nodes (%d) to run union find with the given concurrency (%d) and batchSize (%d)",
-                nodeCount,
-                config.concurrency(),
-                batchSize
-            ));
-        }
-        this.threadSize = (int) threadSize;
-
         this.progressLogger = progressLogger;
     }
 
@@ -106,25 +132,118 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
     public DisjointSetStruct compute() {
         progressLogger.logMessage(":: Start");
 
+        if (config.deltaOnly()) {
+            DisjointSetStruct dss = computeDelta();
+            progressLogger.logMessage(":: Finished");
+            return dss;
+        }
+
         long nodeCount = graph.nodeCount();
 
         DisjointSetStruct dss = config.isIncremental()
             ? new HugeAtomicDisjointSetStruct(nodeCount, initialComponents, tracker, config.concurrency())
             : new HugeAtomicDisjointSetStruct(nodeCount, tracker, config.concurrency());
 
-        final Collection<Runnable> tasks = new ArrayList<>(threadSize);
-        for (long i = 0L; i < this.nodeCount; i += batchSize) {
-            WCCTask wccTask = Double.isNaN(threshold()) || threshold() == 0
-                ? new WCCTask(dss, i)
-                : new WCCWithThresholdTask(threshold(), dss, i);
-            tasks.add(wccTask);
+        List<Partition> partitions = PartitionUtils.degreePartition(graph, partitionCount);
+        if (config.sampling()) {
+            computeSampled(dss, partitions);
+            progressLogger.logMessage(":: Finished");
+            return dss;
         }
-        ParallelUtil.run(tasks, executor);
+
+        ParallelUtil.runWithWorkStealing(
+            config.concurrency(),
+            partitions,
+            () -> Double.isNaN(threshold()) || threshold() == 0
+                ? new WCCTask(dss)
+                : new WCCWithThresholdTask(threshold(), dss),
+            terminationFlag,
+            executor,
+            MetricsRegistry.timer("wcc.partition")
+        );
 
         progressLogger.logMessage(":: Finished");
         return dss;
     }
 
+    private void computeSampled(DisjointSetStruct dss, List<Partition> partitions) {
+        ParallelUtil.runWithWorkStealing(
+            config.concurrency(),
+            partitions,
+            () -> new SampledNeighborsTask(dss, true, -1L),
+            terminationFlag,
+            executor,
+            MetricsRegistry.timer("wcc.sampled_partition")
+        );
+
+        // on directed graphs, relationships pointing out of the largest component
+        // are not seen from their target, so no node can be skipped
+        long largestComponent = graph.isUndirected() ? sampleLargestComponent(dss) : -1L;
+        progressLogger.getLog().debug("WCC skips nodes of sampled component %d", largestComponent);
+
+        ParallelUtil.runWithWorkStealing(
+            config.concurrency(),
+            partitions,
+            () -> new SampledNeighborsTask(dss, false, largestComponent),
+            terminationFlag,
+            executor,
+            MetricsRegistry.timer("wcc.partition")
+        );
+    }
+
+    private long sampleLargestComponent(DisjointSetStruct dss) {
+        var random = new Random(42L);
+        var componentSizes = new LongIntHashMap();
+        int sampleSize = (int) Math.min(SAMPLE_SIZE, nodeCount);
+        for (int i = 0; i < sampleSize; i++) {
+            long node = (long) (random.nextDouble() * nodeCount);
+            componentSizes.addTo(dss.setIdOf(node), 1);
+        }
+
+        long largestComponent = -1L;
+        int largestSize = 0;
+        for (var cursor : componentSizes) {
+            if (cursor.value > largestSize) {
+                largestSize = cursor.value;
+                largestComponent = cursor.key;
+            }
+        }
+        return largestComponent;
+    }
+
+    /**
+     * Unions the relationships of the graph into the seeded components.
+     * The relationships are collected in parallel and then unioned by a single thread,
+     * as the sparse disjoint set struct does not support concurrent unions.
+     */
+    private DisjointSetStruct computeDelta() {
+        List<DeltaTask> tasks = Collections.synchronizedList(new ArrayList<>());
+        ParallelUtil.runWithWorkStealing(
+            config.concurrency(),
+            PartitionUtils.rangePartition(partitionCount, nodeCount),
+            () -> {
+                var task = new DeltaTask();
+                tasks.add(task);
+                return task;
+            },
+            terminationFlag,
+            executor,
+            MetricsRegistry.timer("wcc.delta_partition")
+        );
+
+        SparseSeededDisjointSetStruct dss = new SparseSeededDisjointSetStruct(nodeCount, initialComponents);
+        for (DeltaTask task : tasks) {
+            var relationships = task.relationships;
+            for (int i = 0; i < relationships.size(); i += 2) {
+                dss.union(relationships.get(i), relationships.get(i + 1));
+            }
+            assertRunning();
+        }
+
+        progressLogger.getLog().debug("WCC merged %d seeded components", dss.mergedComponents());
+        return dss;
+    }
+
     @Override
     public Wcc me() {
         return this;
@@ -143,23 +262,20 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
         return threshold + 1;
     }
 
-    private class WCCTask implements Runnable, RelationshipConsumer {
+    private class WCCTask implements Consumer<Partition>, RelationshipConsumer {
 
         final DisjointSetStruct struct;
         final RelationshipIterator rels;
-        private final long offset;
-        private final long end;
 
-        WCCTask(DisjointSetStruct struct, long offset) {
+        WCCTask(DisjointSetStruct struct) {
             this.struct = struct;
             this.rels = graph.concurrentCopy();
-            this.offset = offset;
-            this.end = Math.min(offset + batchSize, nodeCount);
         }
 
         @Override
-        public void run() {
-            for (long node = offset; node < end; node++) {
+        public void accept(Partition partition) {
+            long end = partition.startNode() + partition.nodeCount();
+            for (long node = partition.startNode(); node < end; node++) {
                 compute(node);
                 if (node % RUN_CHECK_NODE_COUNT == 0) {
                     assertRunning();
@@ -180,12 +296,106 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
         }
     }
 
+    /**
+     * Depending on {@code sampledNeighbors}, either unions every node with its first
+     * {@value #NEIGHBOR_ROUNDS} neighbours or with all remaining neighbours.
+     */
+    private final class SampledNeighborsTask implements Consumer<Partition>, RelationshipWithPropertyConsumer {
+
+        private final DisjointSetStruct struct;
+        private final RelationshipIterator rels;
+        private final boolean sampledNeighbors;
+        private final long skipComponent;
+        private final boolean weighted;
+        private final double threshold;
+        private int position;
+
+        SampledNeighborsTask(DisjointSetStruct struct, boolean sampledNeighbors, long skipComponent) {
+            this.struct = struct;
+            this.rels = graph.concurrentCopy();
+            this.sampledNeighbors = sampledNeighbors;
+            this.skipComponent = skipComponent;
+            this.threshold = threshold();
+            this.weighted = !Double.isNaN(threshold) && threshold != 0;
+        }
+
+        @Override
+        public void accept(Partition partition) {
+            long end = partition.startNode() + partition.nodeCount();
+            for (long node = partition.startNode(); node < end; node++) {
+                if (node % RUN_CHECK_NODE_COUNT == 0) {
+                    assertRunning();
+                }
+                if (sampledNeighbors) {
+                    position = 0;
+                    rels.forEachRelationship(node, Wcc.defaultWeight(threshold), this);
+                    continue;
+                }
+                if (skipComponent == -1L || struct.setIdOf(node) != skipComponent) {
+                    position = 0;
+                    rels.forEachRelationship(node, Wcc.defaultWeight(threshold), this);
+                }
+                getProgressLogger().logProgress(graph.degree(node));
+            }
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId, double property) {
+            boolean isSampled = position++ < NEIGHBOR_ROUNDS;
+            if (isSampled == sampledNeighbors && (!weighted || property > threshold)) {
+                struct.union(sourceNodeId, targetNodeId);
+            }
+            return !sampledNeighbors || position < NEIGHBOR_ROUNDS;
+        }
+    }
+
+    /**
+     * Collects the relationships of a partition as source and target pairs, skipping relationships below the threshold.
+     */
+    private final class DeltaTask implements Consumer<Partition>, RelationshipWithPropertyConsumer {
+
+        private final RelationshipIterator rels;
+        private final LongArrayList relationships;
+        private final boolean weighted;
+        private final double threshold;
+
+        DeltaTask() {
+            this.rels = graph.concurrentCopy();
+            this.relationships = new LongArrayList();
+            this.threshold = threshold();
+            this.weighted = !Double.isNaN(threshold) && threshold != 0;
+        }
+
+        @Override
+        public void accept(Partition partition) {
+            long end = partition.startNode() + partition.nodeCount();
+            for (long node = partition.startNode(); node < end; node++) {
+                if (node % RUN_CHECK_NODE_COUNT == 0) {
+                    assertRunning();
+                }
+                int degree = graph.degree(node);
+                if (degree > 0) {
+                    rels.forEachRelationship(node, Wcc.defaultWeight(threshold), this);
+                    getProgressLogger().logProgress(degree);
+                }
+            }
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId, double property) {
+            if (!weighted || property > threshold) {
+                relationships.add(sourceNodeId, targetNodeId);
+            }
+            return true;
+        }
+    }
+
     private class WCCWithThresholdTask extends WCCTask implements RelationshipWithPropertyConsumer {
 
         private final double threshold;
 
-        WCCWithThresholdTask(double threshold, DisjointSetStruct struct, long offset) {
-            super(struct, offset);
+        WCCWithThresholdTask(double threshold, DisjointSetStruct struct) {
+            super(struct);
             this.threshold = threshold;
         }
 
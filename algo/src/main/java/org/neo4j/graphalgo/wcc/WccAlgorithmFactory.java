@@ -65,7 +65,9 @@ public final class WccAlgorithmFactory<CONFIG extends WccBaseConfig> extends Abs
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG config) {
-        return Wcc.memoryEstimation(config.isIncremental());
+        return config.deltaOnly()
+            ? Wcc.deltaMemoryEstimation()
+            : Wcc.memoryEstimation(config.isIncremental());
     }
 
     @TestOnly
@@ -32,12 +32,39 @@ public interface WccBaseConfig extends AlgoBaseConfig, SeedConfig, ConsecutiveId
         return 0D;
     }
 
+    /**
+     * If set, the relationships of the graph are treated as new relationships only
+     * and are unioned into the components given by the seed property,
+     * without materializing a component for every node.
+     */
+    @Value.Default
+    default boolean deltaOnly() {
+        return false;
+    }
+
+    /**
+     * If set, components are first built from a sample of the neighbours of every node
+     * and nodes of the largest sampled component are skipped afterwards.
+     */
+    @Value.Default
+    default boolean sampling() {
+        return false;
+    }
+
     @Value.Check
     default void validate() {
         if (threshold() > 0 && relationshipWeightProperty() == null) {
             throw new IllegalArgumentException("Specifying a threshold requires `relationshipWeightProperty` to be set.");
         }
 
+        if (deltaOnly() && !isIncremental()) {
+            throw new IllegalArgumentException("The `deltaOnly` option requires `seedProperty` to be set.");
+        }
+
+        if (deltaOnly() && sampling()) {
+            throw new IllegalArgumentException("The `deltaOnly` and `sampling` options cannot be used at the same time.");
+        }
+
         if (isIncremental() && consecutiveIds()) {
            throw new IllegalArgumentException("Seeding and the `consecutiveIds` option cannot be used at the same time.");
         }
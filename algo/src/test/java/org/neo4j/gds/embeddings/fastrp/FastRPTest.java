@@ -44,6 +44,7 @@ import org.neo4j.graphalgo.extension.IdFunction;
 import org.neo4j.graphalgo.extension.Inject;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -333,6 +334,75 @@ class FastRPTest extends AlgoTestBase {
         );
     }
 
+    @Test
+    void shouldPropagateHashedRandomVectorsInHighThroughputMode() {
+        GraphLoader graphLoader = new StoreLoaderBuilder()
+            .api(db)
+            .addNodeLabel("Node1")
+            .build();
+
+        Graph graph = graphLoader.graph();
+
+        var config = FastRPBaseConfig.builder()
+            .embeddingDimension(DEFAULT_EMBEDDING_DIMENSION)
+            .addIterationWeight(1.0D)
+            .highThroughput(true)
+            .build();
+        long seed = 42L;
+
+        var embeddings = new FastRP(
+            graph,
+            config,
+            List.of(),
+            progressLogger,
+            AllocationTracker.empty(),
+            Optional.of(seed)
+        ).compute().embeddings();
+
+        float entryValue = (float) Math.sqrt(3) / (float) Math.sqrt(DEFAULT_EMBEDDING_DIMENSION);
+        float[] expected = new float[DEFAULT_EMBEDDING_DIMENSION];
+        for (int i = 0; i < DEFAULT_EMBEDDING_DIMENSION; i++) {
+            expected[i] = FastRP.hashedRandomEntry(seed, 1, i, entryValue);
+        }
+        l2Normalize(expected);
+        assertArrayEquals(expected, embeddings.get(0));
+    }
+
+    @Test
+    void shouldComputeTheSameEmbeddingsInHighThroughputModeRegardlessOfConcurrency() {
+        var graph = RandomGraphGenerator
+            .builder()
+            .nodeCount(1000)
+            .averageDegree(5)
+            .orientation(Orientation.UNDIRECTED)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(7L)
+            .build()
+            .generate();
+
+        var sequential = highThroughputEmbeddings(graph, 1);
+        var concurrent = highThroughputEmbeddings(graph, 4);
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertArrayEquals(sequential.get(nodeId), concurrent.get(nodeId));
+        }
+    }
+
+    private HugeObjectArray<float[]> highThroughputEmbeddings(Graph graph, int concurrency) {
+        var config = ImmutableFastRPBaseConfig
+            .builder()
+            .embeddingDimension(64)
+            .iterationWeights(List.of(0.0D, 1.0D, 2.0D))
+            .normalizationStrength(-0.5f)
+            .concurrency(concurrency)
+            .highThroughput(true)
+            .build();
+
+        return new FastRP(graph, config, List.of(), progressLogger, AllocationTracker.empty(), Optional.of(1337L))
+            .compute()
+            .embeddings();
+    }
+
     private List<FeatureExtractor> defaultFeatureExtractors(Graph graph) {
         return FeatureExtraction.propertyExtractors(graph, DEFAULT_CONFIG.featureProperties());
     }
@@ -36,6 +36,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.LongStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -120,4 +121,39 @@ class GraphSageEmbeddingsGeneratorTest {
 
         LongStream.range(0, graph.nodeCount()).forEach(n -> assertEquals(EMBEDDING_DIMENSION, embeddings.get(n).length));
     }
+
+    @ParameterizedTest
+    @EnumSource(Aggregator.AggregatorType.class)
+    void layerwiseEmbeddingsMatchBatchEmbeddings(Aggregator.AggregatorType aggregatorType) {
+        var config = ImmutableGraphSageTrainConfig.builder()
+            .aggregator(aggregatorType)
+            .embeddingDimension(EMBEDDING_DIMENSION)
+            .featureProperties(Collections.nCopies(FEATURES_COUNT, "dummyProp"))
+            .modelName(MODEL_NAME)
+            .batchSize(3)
+            .concurrency(4)
+            .build();
+        var features = GraphSageHelper.initializeFeatures(graph, config, AllocationTracker.empty());
+
+        var result = new GraphSageModelTrainer(config, ProgressLogger.NULL_LOGGER).train(graph, features);
+
+        var embeddingsGenerator = new GraphSageEmbeddingsGenerator(
+            result.layers(),
+            config.batchSize(),
+            config.concurrency(),
+            config.isWeighted(),
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        );
+
+        var batchEmbeddings = embeddingsGenerator.makeEmbeddings(graph, features);
+        var layerwiseEmbeddings = embeddingsGenerator.makeEmbeddingsLayerwise(graph, features, EMBEDDING_DIMENSION);
+        var repeatedLayerwiseEmbeddings = embeddingsGenerator.makeEmbeddingsLayerwise(graph, features, EMBEDDING_DIMENSION);
+
+        assertEquals(graph.nodeCount(), layerwiseEmbeddings.size());
+        LongStream.range(0, graph.nodeCount()).forEach(n -> {
+            assertArrayEquals(batchEmbeddings.get(n), layerwiseEmbeddings.get(n), 1e-10);
+            assertArrayEquals(layerwiseEmbeddings.get(n), repeatedLayerwiseEmbeddings.get(n));
+        });
+    }
 }
@@ -26,7 +26,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.embeddings.graphsage.algo.GraphSageTrainAlgorithmFactory;
 import org.neo4j.gds.embeddings.graphsage.algo.ImmutableGraphSageTrainConfig;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.ComputationContext;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.ConstantScale;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.ElementSum;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.Weights;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Matrix;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Tensor;
 import org.neo4j.graphalgo.TestProgressLogger;
 import org.neo4j.graphalgo.api.Graph;
@@ -155,6 +159,50 @@ class GraphSageModelTrainerTest {
         assertArrayEquals(new int[]{EMBEDDING_DIMENSION}, secondLayerBias);
     }
 
+    @Test
+    void trainsDataParallel() {
+        var config = configBuilder
+            .aggregator(Aggregator.AggregatorType.MEAN)
+            .modelName(MODEL_NAME)
+            .dataParallel(true)
+            .concurrency(4)
+            .batchSize(2)
+            .epochs(2)
+            .build();
+
+        var trainModel = new GraphSageModelTrainer(config, ProgressLogger.NULL_LOGGER);
+
+        GraphSageModelTrainer.ModelTrainResult result = trainModel.train(graph, features);
+
+        assertEquals(2, result.layers().length);
+        assertThat(result.epochLosses().values()).allSatisfy(loss -> assertThat(loss).isFinite());
+    }
+
+    @Test
+    void averagesGradientsOverBatches() {
+        var weights = new Weights<>(new Matrix(new double[]{1, 2, 3, 4}, 2, 2));
+        var unusedWeights = new Weights<>(new Matrix(new double[]{1, 2}, 1, 2));
+
+        var contexts = List.of(
+            gradientsOfScaledSum(weights, 2),
+            gradientsOfScaledSum(weights, 4)
+        );
+
+        var averages = GraphSageModelTrainer.averageGradients(contexts, List.of(weights, unusedWeights));
+
+        assertEquals(2, averages.size());
+        assertArrayEquals(new double[]{3, 3, 3, 3}, averages.get(0).data());
+        assertArrayEquals(new double[]{0, 0}, averages.get(1).data());
+    }
+
+    private static ComputationContext gradientsOfScaledSum(Weights<Matrix> weights, double scale) {
+        var ctx = new ComputationContext();
+        var loss = new ElementSum(List.of(new ConstantScale<>(weights, scale)));
+        ctx.forward(loss);
+        ctx.backward(loss);
+        return ctx;
+    }
+
     @Test
     void testLogging() {
         var config = ImmutableGraphSageTrainConfig.builder()
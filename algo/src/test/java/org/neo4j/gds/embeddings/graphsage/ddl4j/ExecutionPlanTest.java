@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.graphsage.ddl4j;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.MatrixMultiplyWithTransposedSecondOperand;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.MatrixSum;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.Weights;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.helper.L2Norm;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Matrix;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutionPlanTest {
+
+    @Test
+    void shouldOrderParentsBeforeChildren() {
+        var a = new Weights<>(new Matrix(new double[]{1, 2, 3, 4, 5, 6}, 2, 3));
+        var product = MatrixMultiplyWithTransposedSecondOperand.of(a, a);
+        var sum = new MatrixSum(List.of(product, product));
+        var loss = new L2Norm(sum);
+
+        var plan = ExecutionPlan.compile(loss);
+
+        assertEquals(4, plan.size());
+        assertEquals(loss, plan.root());
+        assertTrue(plan.slot(a) < plan.slot(product));
+        assertTrue(plan.slot(product) < plan.slot(sum));
+        assertTrue(plan.slot(sum) < plan.slot(loss));
+        // the product is used twice by the sum
+        assertArrayEquals(new int[]{plan.slot(sum), plan.slot(sum)}, plan.gradientChildren(plan.slot(product)));
+    }
+
+    @Test
+    void shouldComputeSameGradientsAsWithoutPlanAcrossResets() {
+        var a = new Weights<>(new Matrix(new double[]{1, 2, 3, 4, 5, 6}, 2, 3));
+        var b = new Weights<>(new Matrix(new double[]{1, 4, 6, 2.1, 5, -1}, 2, 3));
+        var product = MatrixMultiplyWithTransposedSecondOperand.of(a, b);
+        var loss = new L2Norm(new MatrixSum(List.of(product, product)));
+
+        var planCtx = new ComputationContext(ExecutionPlan.compile(loss));
+        for (int iteration = 0; iteration < 3; iteration++) {
+            planCtx.reset();
+            assertNull(planCtx.gradient(a));
+
+            var expectedCtx = new ComputationContext();
+            assertEquals(expectedCtx.forward(loss).dataAt(0), planCtx.forward(loss).dataAt(0), 1e-9);
+            expectedCtx.backward(loss);
+            planCtx.backward(loss);
+
+            assertArrayEquals(expectedCtx.gradient(a).data(), planCtx.gradient(a).data(), 1e-9);
+            assertArrayEquals(expectedCtx.gradient(b).data(), planCtx.gradient(b).data(), 1e-9);
+            assertArrayEquals(expectedCtx.data(product).data(), planCtx.data(product).data(), 1e-9);
+
+            a.data().mapInPlace(value -> value * 0.5);
+        }
+    }
+}
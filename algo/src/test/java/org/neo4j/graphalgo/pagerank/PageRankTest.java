@@ -121,6 +121,29 @@ final class PageRankTest {
         assertResult(reverseGraph, PageRankAlgorithmType.NON_WEIGHTED, expected);
     }
 
+    @Test
+    void shouldReachSameScoresWithResidualPush() {
+        var pullConfig = defaultConfigBuilder().build();
+        var pushConfig = defaultConfigBuilder().residualPush(true).build();
+
+        var expected = PageRankAlgorithmType.NON_WEIGHTED
+            .create(naturalGraph, pullConfig, LongStream.empty(), ProgressLogger.NULL_LOGGER, AllocationTracker.empty())
+            .compute();
+        var actual = PageRankAlgorithmType.NON_WEIGHTED
+            .create(naturalGraph, pushConfig, LongStream.empty(), ProgressLogger.NULL_LOGGER, AllocationTracker.empty())
+            .compute();
+
+        for (long nodeId = 0; nodeId < naturalGraph.nodeCount(); nodeId++) {
+            assertEquals(expected.result().score(nodeId), actual.result().score(nodeId), 1e-5, "Node#" + nodeId);
+        }
+
+        long[] activeNodeCounts = actual.activeNodeCounts();
+        assertEquals(actual.iterations(), activeNodeCounts.length);
+        assertEquals(naturalGraph.nodeCount(), activeNodeCounts[0]);
+        // nodes without incoming relationships never become active again
+        assertTrue(activeNodeCounts[activeNodeCounts.length - 1] < naturalGraph.nodeCount());
+    }
+
     @Test
     void correctPartitionBoundariesForAllNodes() {
         assertThatCode(() -> {
@@ -28,12 +28,14 @@ import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.graphalgo.extension.TestGraph;
 
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.neo4j.graphalgo.TestSupport.fromGdl;
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
@@ -123,6 +125,65 @@ class IncrementalWccTest {
             .forEach(node -> assertEquals(42, result.setIdOf(node)));
     }
 
+    @Test
+    void shouldUnionOnlyNewRelationshipsIntoSeededComponents() {
+        // the graph only contains the new relationships,
+        // previous components are given by the seed property
+        TestGraph graph = fromGdl(
+            "  (a {seed: 1})" +
+            ", (b {seed: 1})" +
+            ", (c {seed: 2})" +
+            ", (d {seed: 2})" +
+            ", (e {seed: 3})" +
+            ", (f)" +
+            ", (g {seed: 4})" +
+            ", (b)-->(c)" +
+            ", (e)-->(f)"
+        );
+
+        WccStreamConfig config = ImmutableWccStreamConfig.builder()
+            .seedProperty("seed")
+            .deltaOnly(true)
+            .build();
+
+        DisjointSetStruct result = run(graph, config);
+
+        assertEquals(1, result.setIdOf(graph.toMappedNodeId("a")));
+        assertEquals(1, result.setIdOf(graph.toMappedNodeId("b")));
+        assertEquals(1, result.setIdOf(graph.toMappedNodeId("c")));
+        assertEquals(1, result.setIdOf(graph.toMappedNodeId("d")));
+        assertEquals(3, result.setIdOf(graph.toMappedNodeId("e")));
+        assertEquals(3, result.setIdOf(graph.toMappedNodeId("f")));
+        assertEquals(4, result.setIdOf(graph.toMappedNodeId("g")));
+    }
+
+    @Test
+    void shouldProduceSameComponentsWithDeltaOnly() {
+        Graph graph = createGraph();
+
+        DisjointSetStruct full = run(graph, ImmutableWccStreamConfig.builder()
+            .seedProperty(SEED_PROPERTY)
+            .build());
+        DisjointSetStruct delta = run(graph, ImmutableWccStreamConfig.builder()
+            .seedProperty(SEED_PROPERTY)
+            .deltaOnly(true)
+            .build());
+
+        graph.forEachNode(nodeId -> {
+            assertEquals(full.setIdOf(nodeId), delta.setIdOf(nodeId), "Node " + nodeId);
+            return true;
+        });
+    }
+
+    @Test
+    void shouldRequireSeedPropertyForDeltaOnly() {
+        var exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> ImmutableWccStreamConfig.builder().deltaOnly(true).build()
+        );
+        assertEquals("The `deltaOnly` option requires `seedProperty` to be set.", exception.getMessage());
+    }
+
     private DisjointSetStruct run(Graph graph, WccBaseConfig config) {
         return new Wcc(
             graph,
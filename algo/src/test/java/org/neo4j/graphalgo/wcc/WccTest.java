@@ -103,6 +103,22 @@ class WccTest {
         });
     }
 
+    @ParameterizedTest(name = "orientation = {0}")
+    @EnumSource(Orientation.class)
+    void shouldComputeSameComponentsWithSampling(Orientation orientation) {
+        // one large component that the sampling should pick up, next to the small ones
+        var graph = fromGdl(createLine(20 * SET_SIZE) + createTestGdl(), orientation);
+
+        DisjointSetStruct expected = run(graph);
+        DisjointSetStruct sampled = run(graph, ImmutableWccStreamConfig.builder().sampling(true).build());
+
+        assertEquals(SETS_COUNT + 1, getSetCount(sampled));
+        graph.forEachNode(nodeId -> {
+            assertEquals(expected.setIdOf(nodeId), sampled.setIdOf(nodeId), "Node " + nodeId);
+            return true;
+        });
+    }
+
     @Test
     void shouldLogProgress() {
         var graph = createTestGraph(Orientation.NATURAL);
@@ -220,6 +236,10 @@ class WccTest {
     }
 
     private static Graph createTestGraph(Orientation orientation) {
+        return fromGdl(createTestGdl(), orientation);
+    }
+
+    private static String createTestGdl() {
         int[] setSizes = new int[SETS_COUNT];
         Arrays.fill(setSizes, SET_SIZE);
 
@@ -229,7 +249,7 @@ class WccTest {
             gdl.append(createLine(setSize));
         }
 
-        return fromGdl(gdl.toString(), orientation);
+        return gdl.toString();
     }
 
     static String createLine(int setSize) {
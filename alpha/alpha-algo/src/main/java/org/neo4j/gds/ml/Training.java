@@ -19,13 +19,21 @@
  */
 package org.neo4j.gds.ml;
 
+import org.neo4j.gds.embeddings.graphsage.AdamOptimizer;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.ComputationContext;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.Variable;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.Weights;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Scalar;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Tensor;
 import org.neo4j.gds.ml.batch.Batch;
 import org.neo4j.gds.ml.batch.BatchQueue;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.logging.Log;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.DoubleAdder;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -44,18 +52,70 @@ public class Training {
     }
 
     public void train(Objective<?> objective, Supplier<BatchQueue> queueSupplier, int concurrency) {
+        train(objective, queueSupplier, queueSupplier, trainSize, concurrency);
+    }
+
+    /**
+     * Trains on the batches of {@code queueSupplier}, but decides when to stop based on the loss
+     * over the batches of {@code stoppingQueueSupplier}, for example the batches of a validation set.
+     */
+    public void train(
+        Objective<?> objective,
+        Supplier<BatchQueue> queueSupplier,
+        Supplier<BatchQueue> stoppingQueueSupplier,
+        long stoppingSize,
+        int concurrency
+    ) {
         Updater[] updaters = new Updater[concurrency];
         updaters[0] = Updater.defaultUpdater(objective.weights());
         for (int i = 1; i < concurrency; i++) {
             updaters[i] = config.sharedUpdater() ? updaters[0] : Updater.defaultUpdater(objective.weights());
         }
+        train(
+            objective,
+            () -> trainEpoch(objective, queueSupplier.get(), concurrency, updaters),
+            stoppingQueueSupplier,
+            stoppingSize,
+            concurrency
+        );
+    }
+
+    /**
+     * Like {@link #train(Objective, Supplier, Supplier, long, int)}, but the weights are updated deterministically:
+     * in each step, up to {@code concurrency} batches are evaluated in parallel and a single update is applied
+     * with their averaged gradients. For a fixed concurrency the trained weights are therefore reproducible.
+     */
+    public void trainDataParallel(
+        Objective<?> objective,
+        Supplier<BatchQueue> queueSupplier,
+        Supplier<BatchQueue> stoppingQueueSupplier,
+        long stoppingSize,
+        int concurrency
+    ) {
+        AdamOptimizer updater = new AdamOptimizer(objective.weights());
+        train(
+            objective,
+            () -> trainEpochDataParallel(objective, queueSupplier.get(), concurrency, updater),
+            stoppingQueueSupplier,
+            stoppingSize,
+            concurrency
+        );
+    }
+
+    private void train(
+        Objective<?> objective,
+        Runnable trainEpoch,
+        Supplier<BatchQueue> stoppingQueueSupplier,
+        long stoppingSize,
+        int concurrency
+    ) {
         int epoch = 0;
         TrainingStopper stopper = TrainingStopper.defaultStopper(config);
-        double initialLoss = evaluateLoss(objective, queueSupplier.get(), concurrency);
+        double initialLoss = evaluateLoss(objective, stoppingQueueSupplier.get(), stoppingSize, concurrency);
         double lastLoss = initialLoss;
         while (!stopper.terminated()) {
-            trainEpoch(objective, queueSupplier.get(), concurrency, updaters);
-            lastLoss = evaluateLoss(objective, queueSupplier.get(), concurrency);
+            trainEpoch.run();
+            lastLoss = evaluateLoss(objective, stoppingQueueSupplier.get(), stoppingSize, concurrency);
             stopper.registerLoss(lastLoss);
             epoch++;
             log.debug(formatWithLocale("Loss: %s, After Epoch: %d", lastLoss, epoch));
@@ -70,14 +130,14 @@ public class Training {
         ));
     }
 
-    private double evaluateLoss(Objective<?> objective, BatchQueue batches, int concurrency) {
+    private double evaluateLoss(Objective<?> objective, BatchQueue batches, long size, int concurrency) {
         DoubleAdder totalLoss = new DoubleAdder();
 
         batches.parallelConsume(
             new LossEvalConsumer(
                 objective,
                 totalLoss,
-                trainSize
+                size
             ),
             concurrency
         );
@@ -102,6 +162,63 @@ public class Training {
         );
     }
 
+    private void trainEpochDataParallel(
+        Objective<?> objective,
+        BatchQueue batches,
+        int concurrency,
+        AdamOptimizer updater
+    ) {
+        List<Weights<? extends Tensor<?>>> weights = objective.weights();
+        List<Batch> round = new ArrayList<>(concurrency);
+        while (true) {
+            round.clear();
+            Optional<Batch> batch;
+            while (round.size() < concurrency && (batch = batches.pop()).isPresent()) {
+                round.add(batch.get());
+            }
+            if (round.isEmpty()) {
+                return;
+            }
+
+            ComputationContext[] contexts = new ComputationContext[round.size()];
+            List<Runnable> tasks = new ArrayList<>(round.size());
+            for (int i = 0; i < round.size(); i++) {
+                int index = i;
+                Batch roundBatch = round.get(i);
+                tasks.add(() -> {
+                    Variable<Scalar> loss = objective.loss(roundBatch, trainSize);
+                    ComputationContext ctx = new ComputationContext();
+                    ctx.forward(loss);
+                    ctx.backward(loss);
+                    contexts[index] = ctx;
+                });
+            }
+            ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.DEFAULT);
+
+            updater.update(averageGradients(contexts, weights));
+        }
+    }
+
+    static List<Tensor<?>> averageGradients(
+        ComputationContext[] contexts,
+        List<Weights<? extends Tensor<?>>> weights
+    ) {
+        List<Tensor<?>> averages = new ArrayList<>(weights.size());
+        for (Weights<? extends Tensor<?>> weight : weights) {
+            Tensor<?> average = weight.data().zeros();
+            // summing in batch order keeps the floating point result independent of thread scheduling
+            for (ComputationContext ctx : contexts) {
+                Tensor<?> gradient = ctx.gradient(weight);
+                if (gradient != null) {
+                    average.addInPlace(gradient);
+                }
+            }
+            average.mapInPlace(value -> value / contexts.length);
+            averages.add(average);
+        }
+        return averages;
+    }
+
     static class ObjectiveUpdateConsumer implements Consumer<Batch> {
         private final Objective<?> objective;
         private final Updater updater;
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.linkmodels;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Which node pairs are scored when predicting links.
+ */
+public enum CandidateGeneration {
+    /**
+     * Every pair of not yet connected nodes is scored.
+     */
+    ALL_PAIRS,
+    /**
+     * Only pairs of not yet connected nodes that share at least one neighbor are scored.
+     */
+    TWO_HOP;
+
+    public static CandidateGeneration parse(Object object) {
+        if (object == null) {
+            return null;
+        }
+        if (object instanceof String) {
+            var name = ((String) object).toUpperCase(Locale.ENGLISH);
+            return Arrays.stream(values())
+                .filter(candidateGeneration -> candidateGeneration.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(formatWithLocale(
+                    "Candidate generation `%s` is not supported. Must be one of: %s.",
+                    object,
+                    Arrays.toString(values())
+                )));
+        }
+        if (object instanceof CandidateGeneration) {
+            return (CandidateGeneration) object;
+        }
+        return null;
+    }
+
+    public static String toString(CandidateGeneration candidateGeneration) {
+        return candidateGeneration.name();
+    }
+}
@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.ml.linkmodels;
 
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.cursors.LongCursor;
 import org.neo4j.gds.ml.batch.Batch;
 import org.neo4j.gds.ml.batch.BatchQueue;
 import org.neo4j.gds.ml.linkmodels.logisticregression.LinkLogisticRegressionPredictor;
@@ -27,9 +29,10 @@ import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Consumer;
-import java.util.stream.LongStream;
 
 public class LinkPredictionPredict extends Algorithm<LinkPredictionPredict, LinkPredictionResult> {
 
@@ -39,6 +42,7 @@ public class LinkPredictionPredict extends Algorithm<LinkPredictionPredict, Link
     private final int concurrency;
     private final int topN;
     private final double threshold;
+    private final CandidateGeneration candidateGeneration;
     private final AllocationTracker tracker;
 
     LinkPredictionPredict(
@@ -50,6 +54,30 @@ public class LinkPredictionPredict extends Algorithm<LinkPredictionPredict, Link
         AllocationTracker tracker,
         ProgressLogger progressLogger,
         double threshold
+    ) {
+        this(
+            predictor,
+            graph,
+            batchSize,
+            concurrency,
+            topN,
+            tracker,
+            progressLogger,
+            threshold,
+            CandidateGeneration.ALL_PAIRS
+        );
+    }
+
+    LinkPredictionPredict(
+        LinkLogisticRegressionPredictor predictor,
+        Graph graph,
+        int batchSize,
+        int concurrency,
+        int topN,
+        AllocationTracker tracker,
+        ProgressLogger progressLogger,
+        double threshold,
+        CandidateGeneration candidateGeneration
     ) {
         this.predictor = predictor;
         this.graph = graph;
@@ -58,6 +86,7 @@ public class LinkPredictionPredict extends Algorithm<LinkPredictionPredict, Link
         this.topN = topN;
         this.tracker = tracker;
         this.threshold = threshold;
+        this.candidateGeneration = candidateGeneration;
         this.progressLogger = progressLogger;
     }
 
@@ -65,14 +94,21 @@ public class LinkPredictionPredict extends Algorithm<LinkPredictionPredict, Link
     public LinkPredictionResult compute() {
         progressLogger.reset(graph.nodeCount());
         progressLogger.logStart();
-        var result = new LinkPredictionResult(topN);
+        var consumers = Collections.synchronizedList(new ArrayList<LinkPredictionScoreByIdsConsumer>());
         var batchQueue = new BatchQueue(graph.nodeCount(), batchSize);
-        batchQueue.parallelConsume(concurrency, ignore -> new LinkPredictionScoreByIdsConsumer(
-            graph.concurrentCopy(),
-            predictor,
-            result,
-            progressLogger
-        ));
+        batchQueue.parallelConsume(concurrency, ignore -> {
+            var consumer = new LinkPredictionScoreByIdsConsumer(
+                graph.concurrentCopy(),
+                predictor,
+                new LinkPredictionResult(topN),
+                progressLogger
+            );
+            consumers.add(consumer);
+            return consumer;
+        });
+        // every consumer keeps its own top-N, the overall top-N is among their union
+        var result = new LinkPredictionResult(topN);
+        consumers.forEach(consumer -> result.addAll(consumer.predictedLinks));
         progressLogger.logFinish();
         return result;
     }
@@ -92,6 +128,8 @@ public class LinkPredictionPredict extends Algorithm<LinkPredictionPredict, Link
         private final LinkLogisticRegressionPredictor predictor;
         private final LinkPredictionResult predictedLinks;
         private final ProgressLogger progressLogger;
+        private final LongHashSet neighbors;
+        private final LongHashSet candidates;
 
         private LinkPredictionScoreByIdsConsumer(
             Graph graph,
@@ -103,34 +141,54 @@ public class LinkPredictionPredict extends Algorithm<LinkPredictionPredict, Link
             this.predictor = predictor;
             this.predictedLinks = predictedLinks;
             this.progressLogger = progressLogger;
+            this.neighbors = new LongHashSet();
+            this.candidates = new LongHashSet();
         }
 
         @Override
         public void accept(Batch batch) {
             for (long sourceId : batch.nodeIds()) {
-                var neighbors = neighborSet(sourceId);
-                // since graph is undirected, only process pairs where sourceId < targetId
-                var smallestTarget = sourceId + 1;
-                LongStream.range(smallestTarget, graph.nodeCount()).forEach(targetId -> {
-                        if (neighbors.contains(targetId)) return;
-                        var probability = predictor.predictedProbability(graph, sourceId, targetId);
-                        if (probability < threshold) return;
-                        predictedLinks.add(sourceId, targetId, probability);
+                fillNeighbors(sourceId);
+                if (candidateGeneration == CandidateGeneration.TWO_HOP) {
+                    scoreTwoHopCandidates(sourceId);
+                } else {
+                    // since graph is undirected, only process pairs where sourceId < targetId
+                    for (long targetId = sourceId + 1; targetId < graph.nodeCount(); targetId++) {
+                        score(sourceId, targetId);
                     }
-                );
+                }
             }
             progressLogger.logProgress(batch.size());
         }
 
-        private HashSet<Long> neighborSet(long sourceId) {
-            var neighbors = new HashSet<Long>();
+        private void scoreTwoHopCandidates(long sourceId) {
+            candidates.clear();
+            for (LongCursor neighbor : neighbors) {
+                graph.forEachRelationship(neighbor.value, (ignore, targetId) -> {
+                    // since graph is undirected, only process pairs where sourceId < targetId
+                    if (targetId > sourceId && candidates.add(targetId)) {
+                        score(sourceId, targetId);
+                    }
+                    return true;
+                });
+            }
+        }
+
+        private void score(long sourceId, long targetId) {
+            if (neighbors.contains(targetId)) return;
+            var probability = predictor.predictedProbability(graph, sourceId, targetId);
+            if (probability < threshold) return;
+            predictedLinks.add(sourceId, targetId, probability);
+        }
+
+        private void fillNeighbors(long sourceId) {
+            neighbors.clear();
             graph.forEachRelationship(
                 sourceId, (src, trg) -> {
                     neighbors.add(trg);
                     return true;
                 }
             );
-            return neighbors;
         }
     }
 }
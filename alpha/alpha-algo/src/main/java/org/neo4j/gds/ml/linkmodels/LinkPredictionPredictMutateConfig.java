@@ -52,6 +52,13 @@ public interface LinkPredictionPredictMutateConfig extends AlgoBaseConfig, Mutat
         return 100;
     }
 
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.gds.ml.linkmodels.CandidateGeneration#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.ml.linkmodels.CandidateGeneration#toString")
+    default CandidateGeneration candidateGeneration() {
+        return CandidateGeneration.ALL_PAIRS;
+    }
+
     static LinkPredictionPredictMutateConfig of(
         String username,
         Optional<String> graphName,
@@ -48,6 +48,13 @@ public class LinkPredictionResult {
         queue.offer(node1, node2, probability);
     }
 
+    /**
+     * Adds all links of another result, keeping only the overall most probable ones.
+     */
+    public synchronized void addAll(LinkPredictionResult other) {
+        other.queue.foreach(queue::offer);
+    }
+
     public Stream<PredictedLink> stream() {
         Iterable<PredictedLink> iterable = () -> new Iterator<>() {
 
@@ -35,6 +35,8 @@ import org.neo4j.gds.ml.util.ShuffleUtil;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.model.Model;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
@@ -45,9 +47,11 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.neo4j.gds.ml.nodemodels.ModelStats.COMPARE_AVERAGE;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
 public class NodeClassificationTrain
     extends Algorithm<NodeClassificationTrain, Model<MultiClassNLRData, NodeClassificationTrainConfig>> {
@@ -151,25 +155,58 @@ public class NodeClassificationTrain
         var trainStats = initStatsMap();
         var validationStats = initStatsMap();
 
-        config.params().forEach(modelParams -> {
+        // 3. + 4. train and evaluate every pair of model candidate and split,
+        //         sharing the concurrency between concurrently trained candidates
+        var candidates = config.params();
+        var evaluations = new CandidateEvaluation[candidates.size()][splits.size()];
+        var innerConcurrency = innerConcurrency(candidates.size() * splits.size());
+        var tasks = new ArrayList<Runnable>();
+        for (int candidate = 0; candidate < candidates.size(); candidate++) {
+            for (int fold = 0; fold < splits.size(); fold++) {
+                var candidateIndex = candidate;
+                var foldIndex = fold;
+                tasks.add(() -> evaluations[candidateIndex][foldIndex] = evaluateCandidate(
+                    candidates.get(candidateIndex),
+                    splits.get(foldIndex),
+                    globalTargets,
+                    innerConcurrency
+                ));
+            }
+        }
+        // the tasks wait for the training and evaluation work they submit to the default pool,
+        // so they must not occupy its threads themselves
+        var outerConcurrency = Math.min(config.concurrency(), tasks.size());
+        var coordinatorPool = Pools.createCoordinatorPool(outerConcurrency);
+        try {
+            ParallelUtil.runWithConcurrency(outerConcurrency, tasks, coordinatorPool);
+        } finally {
+            coordinatorPool.shutdown();
+        }
+
+        for (int candidate = 0; candidate < candidates.size(); candidate++) {
+            var modelParams = candidates.get(candidate);
             var validationStatsBuilder = new ModelStatsBuilder(modelParams, splits.size());
             var trainStatsBuilder = new ModelStatsBuilder(modelParams, splits.size());
-            for (NodeSplit split : splits) {
-                // 3. train each model candidate on the train sets
-                var trainSet = split.trainSet();
-                var validationSet = split.testSet();
-                var modelData = trainModel(trainSet, modelParams);
-
-                // 4. evaluate each model candidate on the train and validation sets
-                computeMetrics(globalTargets, validationSet, modelData).forEach(validationStatsBuilder::update);
-                computeMetrics(globalTargets, trainSet, modelData).forEach(trainStatsBuilder::update);
+            long trainNanos = 0;
+            for (CandidateEvaluation evaluation : evaluations[candidate]) {
+                evaluation.validationMetrics().forEach(validationStatsBuilder::update);
+                evaluation.trainMetrics().forEach(trainStatsBuilder::update);
+                trainNanos += evaluation.trainNanos();
             }
+            log.info(formatWithLocale(
+                "Model candidate %d of %d %s trained on %d folds in %d ms",
+                candidate + 1,
+                candidates.size(),
+                modelParams,
+                splits.size(),
+                TimeUnit.NANOSECONDS.toMillis(trainNanos)
+            ));
             // insert the candidates metrics into trainStats and validationStats
             config.metrics().forEach(metric -> {
                 validationStats.get(metric).add(validationStatsBuilder.modelStats(metric));
                 trainStats.get(metric).add(trainStatsBuilder.modelStats(metric));
             });
-        });
+        }
 
         // 5. pick the best-scoring model candidate, according to the main metric
         var mainMetric = config.metrics().get(0);
@@ -180,6 +217,36 @@ public class NodeClassificationTrain
         return ModelSelectResult.of(bestConfig, trainStats, validationStats);
     }
 
+    private CandidateEvaluation evaluateCandidate(
+        Map<String, Object> modelParams,
+        NodeSplit split,
+        HugeLongArray globalTargets,
+        int concurrency
+    ) {
+        var trainSet = split.trainSet();
+        var validationSet = split.testSet();
+
+        long start = System.nanoTime();
+        var modelData = config.validationEarlyStopping()
+            ? trainModel(trainSet, modelParams, concurrency, validationSet)
+            : trainModel(trainSet, modelParams, concurrency, trainSet);
+        long trainNanos = System.nanoTime() - start;
+
+        return ImmutableCandidateEvaluation.of(
+            computeMetrics(globalTargets, validationSet, modelData, concurrency),
+            computeMetrics(globalTargets, trainSet, modelData, concurrency),
+            trainNanos
+        );
+    }
+
+    /**
+     * The threads that are left for each model candidate when all candidates of the model selection
+     * are trained concurrently, such that the total does not exceed the configured concurrency.
+     */
+    private int innerConcurrency(int concurrentCandidates) {
+        return Math.max(1, config.concurrency() / Math.max(1, Math.min(config.concurrency(), concurrentCandidates)));
+    }
+
     private Map<Metric, List<ModelStats>> initStatsMap() {
         var statsMap = new HashMap<Metric, List<ModelStats>>();
         config.metrics().forEach(metric -> statsMap.put(metric, new ArrayList<>()));
@@ -190,6 +257,15 @@ public class NodeClassificationTrain
         HugeLongArray globalTargets,
         HugeLongArray evaluationSet,
         MultiClassNLRData modelData
+    ) {
+        return computeMetrics(globalTargets, evaluationSet, modelData, config.concurrency());
+    }
+
+    private Map<Metric, Double> computeMetrics(
+        HugeLongArray globalTargets,
+        HugeLongArray evaluationSet,
+        MultiClassNLRData modelData,
+        int concurrency
     ) {
         var localTargets = makeLocalTargets(evaluationSet);
 
@@ -207,7 +283,7 @@ public class NodeClassificationTrain
         );
 
         var queue = new BatchQueue(evaluationSet.size());
-        queue.parallelConsume(consumer, config.concurrency());
+        queue.parallelConsume(consumer, concurrency);
 
         return config.metrics().stream().collect(Collectors.toMap(
             metric -> metric,
@@ -222,14 +298,23 @@ public class NodeClassificationTrain
     private MultiClassNLRData trainModel(
         HugeLongArray trainSet,
         Map<String, Object> modelParams
+    ) {
+        return trainModel(trainSet, modelParams, config.concurrency(), trainSet);
+    }
+
+    private MultiClassNLRData trainModel(
+        HugeLongArray trainSet,
+        Map<String, Object> modelParams,
+        int concurrency,
+        HugeLongArray stoppingSet
     ) {
         var nlrConfig = MultiClassNLRTrainConfig.of(
             config.featureProperties(),
             config.targetProperty(),
             modelParams
         );
-        var train = new MultiClassNLRTrain(graph, trainSet, nlrConfig, log);
-        return train.compute();
+        var train = new MultiClassNLRTrain(graph, trainSet, nlrConfig, concurrency, log);
+        return stoppingSet == trainSet ? train.compute() : train.compute(stoppingSet);
     }
 
     private HugeLongArray makeGlobalTargets() {
@@ -277,6 +362,15 @@ public class NodeClassificationTrain
 
     }
 
+    @ValueClass
+    interface CandidateEvaluation {
+        Map<Metric, Double> validationMetrics();
+
+        Map<Metric, Double> trainMetrics();
+
+        long trainNanos();
+    }
+
     private class ModelStatsBuilder {
         private final Map<Metric, Double> min;
         private final Map<Metric, Double> max;
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.ml.nodemodels.logisticregression;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.ml.nodemodels.metrics.Metric;
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
@@ -55,6 +56,11 @@ public interface NodeClassificationTrainConfig extends AlgoBaseConfig, FeaturePr
 
     List<Map<String, Object>> params();
 
+    @Value.Default
+    default boolean validationEarlyStopping() {
+        return false;
+    }
+
     static NodeClassificationTrainConfig of(
         Optional<String> graphName,
         Optional<GraphCreateConfig> maybeImplicitCreate,
@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.ml.nodemodels.multiclasslogisticregression;
 
-import org.neo4j.gds.embeddings.graphsage.ddl4j.ComputationContext;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.Variable;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.MatrixConstant;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.MatrixMultiplyWithTransposedSecondOperand;
@@ -52,10 +51,19 @@ public class MultiClassNLRPredictor implements Predictor<Matrix, MultiClassNLRDa
         return modelData;
     }
 
+    /**
+     * Gathers the features of the batch into one matrix, multiplies it with the weights and applies
+     * the softmax in place. Computes the same as {@link #predictionsVariable(Graph, Batch)}, but without
+     * building a computation graph, as no gradients are needed for prediction.
+     */
     @Override
     public Matrix predict(Graph graph, Batch batch) {
-        ComputationContext ctx = new ComputationContext();
-        return ctx.forward(predictionsVariable(graph, batch));
+        var features = FeatureExtraction.extractMatrix(batch, featureExtractors(graph));
+        var weights = modelData.weights().data();
+        var predictions = new Matrix(features.rows(), weights.rows());
+        MatrixMultiplyWithTransposedSecondOperand.multiplyTransposed(features, weights, predictions);
+        Softmax.softmax(predictions.data(), predictions.data(), predictions.rows(), predictions.cols());
+        return predictions;
     }
 
     Variable<Matrix> predictionsVariable(Graph graph, Batch batch) {
@@ -34,6 +34,7 @@ public class MultiClassNLRTrain {
     private final Graph graph;
     private final HugeLongArray trainSet;
     private final MultiClassNLRTrainConfig config;
+    private final int concurrency;
     private final Log log;
 
     public MultiClassNLRTrain(
@@ -41,14 +42,36 @@ public class MultiClassNLRTrain {
         HugeLongArray trainSet,
         MultiClassNLRTrainConfig config,
         Log log
+    ) {
+        this(graph, trainSet, config, 1, log);
+    }
+
+    public MultiClassNLRTrain(
+        Graph graph,
+        HugeLongArray trainSet,
+        MultiClassNLRTrainConfig config,
+        int concurrency,
+        Log log
     ) {
         this.graph = graph;
         this.trainSet = trainSet;
         this.config = config;
+        this.concurrency = concurrency;
         this.log = log;
     }
 
     public MultiClassNLRData compute() {
+        return compute(() -> new HugeBatchQueue(trainSet, config.batchSize()), graph.nodeCount());
+    }
+
+    /**
+     * Trains on the train set, but stops once the loss on the given validation set no longer improves.
+     */
+    public MultiClassNLRData compute(HugeLongArray validationSet) {
+        return compute(() -> new HugeBatchQueue(validationSet, config.batchSize()), validationSet.size());
+    }
+
+    private MultiClassNLRData compute(Supplier<BatchQueue> stoppingQueueSupplier, long stoppingSize) {
         var modelData = MultiClassNLRData.from(
             graph,
             config.featureProperties(),
@@ -62,9 +85,8 @@ public class MultiClassNLRTrain {
             config.penalty()
         );
         var training = new Training(config, log, graph.nodeCount());
-        // TODO: concurrency?
         Supplier<BatchQueue> queueSupplier = () -> new HugeBatchQueue(trainSet, config.batchSize());
-        training.train(objective, queueSupplier, 1);
+        training.trainDataParallel(objective, queueSupplier, stoppingQueueSupplier, stoppingSize, concurrency);
 
         return objective.modelData();
     }
@@ -85,15 +85,12 @@ public class NodeClassificationPredict extends Algorithm<NodeClassificationPredi
 
     private @Nullable HugeObjectArray<double[]> initProbabilities() {
         if (produceProbabilities) {
-            var data = (MultiClassNLRData) predictor.modelData();
-            var numberOfClasses = data.classIdMap().originalIds().length;
-            var predictions = HugeObjectArray.newArray(
+            // every node is visited by exactly one batch, which sets its probabilities
+            return HugeObjectArray.newArray(
                 double[].class,
                 graph.nodeCount(),
                 tracker
             );
-            predictions.setAll(i -> new double[numberOfClasses]);
-            return predictions;
         } else {
             return null;
         }
@@ -51,6 +51,14 @@ public interface EigenvectorCentralityConfig extends PageRankBaseConfig, WritePr
         return "NONE";
     }
 
+    @Value.Check
+    default void validateResidualPush() {
+        // deltas are normalized in every iteration, so residuals cannot be accumulated
+        if (residualPush()) {
+            throw new IllegalArgumentException("The `residualPush` option is not supported for Eigenvector Centrality.");
+        }
+    }
+
     static EigenvectorCentralityConfig of(
         String username,
         Optional<String> graphName,
@@ -19,49 +19,40 @@
  */
 package org.neo4j.graphalgo.impl.walking;
 
-import org.apache.commons.lang3.mutable.MutableInt;
-import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.graphalgo.Algorithm;
-import org.neo4j.graphalgo.api.Degrees;
 import org.neo4j.graphalgo.api.Graph;
-import org.neo4j.graphalgo.api.IntBinaryPredicate;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.queue.QueueBasedSpliterator;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.PrimitiveIterator;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import static org.neo4j.graphalgo.core.heavyweight.Converters.longToIntConsumer;
-import static org.neo4j.graphalgo.impl.walking.RandomWalk.NextNodeStrategy.NO_NEXT_NODE;
-
 public class RandomWalk extends Algorithm<RandomWalk, Stream<long[]>> {
 
     private final Graph graph;
     private final int steps;
-    private final NextNodeStrategy strategy;
+    private final RandomWalkSampler.Factory samplerFactory;
     private final int concurrency;
-    private final int limit;
-    private final PrimitiveIterator.OfInt idStream;
+    private final long limit;
+    private final PrimitiveIterator.OfLong idStream;
 
     public RandomWalk(
         Graph graph,
         int steps,
-        NextNodeStrategy strategy,
+        RandomWalkSampler.Factory samplerFactory,
         int concurrency,
-        int limit,
-        PrimitiveIterator.OfInt idStream
+        long limit,
+        PrimitiveIterator.OfLong idStream
     ) {
         this.graph = graph;
         this.steps = steps;
-        this.strategy = strategy;
+        this.samplerFactory = samplerFactory;
         this.concurrency = concurrency;
         this.limit = limit;
         this.idStream = idStream;
@@ -72,22 +63,23 @@ public class RandomWalk extends Algorithm<RandomWalk, Stream<long[]>> {
         int timeout = 100;
         int queueSize = 1000;
 
-        int batchSize = ParallelUtil.adjustedBatchSize(limit, concurrency, 100);
-        Collection<Runnable> tasks = new ArrayList<>((limit / batchSize) + 1);
+        int batchSize = (int) ParallelUtil.adjustedBatchSize(limit, concurrency, 100, Integer.MAX_VALUE - 8);
+        Collection<Runnable> tasks = new ArrayList<>();
 
         ArrayBlockingQueue<long[]> queue = new ArrayBlockingQueue<>(queueSize);
         long[] TOMB = new long[0];
 
         while (idStream.hasNext()) {
-            int[] ids = new int[batchSize];
+            long[] ids = new long[batchSize];
             int i = 0;
             while (i < batchSize && idStream.hasNext()) {
-                ids[i++] = idStream.nextInt();
+                ids[i++] = idStream.nextLong();
             }
             int size = i;
             tasks.add(() -> {
-                for (int j = 0; j < size; j++) {
-                    put(queue, doWalk(ids[j]));
+                RandomWalkSampler sampler = samplerFactory.create();
+                for (int j = 0; j < size && running(); j++) {
+                    put(queue, toOriginalNodeIds(sampler.walk(ids[j], steps)));
                 }
             });
         }
@@ -108,28 +100,11 @@ public class RandomWalk extends Algorithm<RandomWalk, Stream<long[]>> {
     @Override
     public void release() { }
 
-    private long[] doWalk(int startNodeId) {
-        long[] nodeIds = new long[steps + 1];
-        int currentNodeId = startNodeId;
-        int previousNodeId = currentNodeId;
-        nodeIds[0] = toOriginalNodeId(currentNodeId);
-        for (int i = 1; i <= steps; i++) {
-            int nextNodeId = Math.toIntExact(strategy.getNextNode(currentNodeId, previousNodeId));
-            previousNodeId = currentNodeId;
-            currentNodeId = nextNodeId;
-
-            if (currentNodeId == NO_NEXT_NODE || !running()) {
-                // End walk when there is no way out and return partial result
-                return Arrays.copyOf(nodeIds, i);
-            }
-            nodeIds[i] = toOriginalNodeId(currentNodeId);
+    private long[] toOriginalNodeIds(long[] walk) {
+        for (int i = 0; i < walk.length; i++) {
+            walk[i] = graph.toOriginalNodeId(walk[i]);
         }
-
-        return nodeIds;
-    }
-
-    private long toOriginalNodeId(int currentNodeId) {
-        return currentNodeId == NO_NEXT_NODE ? NO_NEXT_NODE : graph.toOriginalNodeId(currentNodeId);
+        return walk;
     }
 
     private static <T> void put(BlockingQueue<T> queue, T items) {
@@ -137,145 +112,4 @@ public class RandomWalk extends Algorithm<RandomWalk, Stream<long[]>> {
             queue.put(items);
         } catch (InterruptedException e) {}
     }
-
-    public abstract static class NextNodeStrategy {
-        public static final long NO_NEXT_NODE = -1L;
-
-        protected Graph graph;
-        protected Degrees degrees;
-
-        public NextNodeStrategy(Graph graph, Degrees degrees) {
-            this.graph = graph;
-            this.degrees = degrees;
-        }
-
-        public abstract long getNextNode(long currentNodeId, long previousNodeId);
-    }
-
-    public static class RandomNextNodeStrategy extends NextNodeStrategy {
-
-        public RandomNextNodeStrategy(Graph graph, Degrees degrees) {
-            super(graph, degrees);
-        }
-
-        @Override
-        public long getNextNode(long currentNodeId, long previousNodeId) {
-            int degree = degrees.degree(currentNodeId);
-            if (degree == 0) {
-                return NO_NEXT_NODE;
-            }
-            int randomEdgeIndex = ThreadLocalRandom.current().nextInt(degree);
-
-            MutableLong targetNodeId = new MutableLong(NO_NEXT_NODE);
-            MutableInt counter = new MutableInt(0);
-            graph.concurrentCopy().forEachRelationship(currentNodeId, (s, t) -> {
-                if (counter.getAndIncrement() == randomEdgeIndex) {
-                    targetNodeId.setValue(t);
-                    return false;
-                }
-                return true;
-            });
-
-            return targetNodeId.getValue();
-        }
-
-    }
-
-    public static class Node2VecStrategy extends NextNodeStrategy {
-        private final double returnParam;
-        private final double inOutParam;
-
-
-        public Node2VecStrategy(Graph graph, Degrees degrees, double returnParam, double inOutParam) {
-            super(graph, degrees);
-            this.returnParam = returnParam;
-            this.inOutParam = inOutParam;
-        }
-
-        public long getNextNode(long currentNode, long previousNode) {
-            int currentNodeId = Math.toIntExact(currentNode);
-            int previousNodeId = Math.toIntExact(previousNode);
-
-            int degree = degrees.degree(currentNodeId);
-            if (degree == 0) {
-                return NO_NEXT_NODE;
-            }
-
-            double[] distribution = buildProbabilityDistribution(currentNodeId, previousNodeId, returnParam, inOutParam, degree);
-            int neighbourIndex = pickIndexFromDistribution(distribution, ThreadLocalRandom.current().nextDouble());
-
-            return graph.getTarget(currentNodeId, neighbourIndex);
-        }
-
-        private double[] buildProbabilityDistribution(int currentNodeId, int previousNodeId,
-                                                      double returnParam, double inOutParam, int degree) {
-            ProbabilityDistributionComputer consumer = new ProbabilityDistributionComputer(degree, currentNodeId, previousNodeId, returnParam, inOutParam);
-            graph.concurrentCopy().forEachRelationship(currentNodeId, longToIntConsumer(consumer));
-            return consumer.probabilities();
-        }
-
-        private static double[] normalizeDistribution(double[] array, double sum) {
-            for (int i = 0; i < array.length; i++) {
-                array[i] /= sum;
-            }
-            return array;
-        }
-
-        private static int pickIndexFromDistribution(double[] distribution, double probability) {
-            double cumulativeProbability = 0.0;
-            for (int i = 0; i < distribution.length; i++) {
-                cumulativeProbability += distribution[i];
-                if (probability <= cumulativeProbability) {
-                    return i;
-                }
-            }
-            return distribution.length - 1;
-        }
-
-        private class ProbabilityDistributionComputer implements IntBinaryPredicate {
-            final double[] probabilities;
-            private final int currentNodeId;
-            private final int previousNodeId;
-            private final double returnParam;
-            private final double inOutParam;
-            double probSum;
-            int index;
-
-            public ProbabilityDistributionComputer(int degree, int currentNodeId, int previousNodeId, double returnParam, double inOutParam) {
-                this.currentNodeId = currentNodeId;
-                this.previousNodeId = previousNodeId;
-                this.returnParam = returnParam;
-                this.inOutParam = inOutParam;
-                probabilities = new double[degree];
-                probSum = 0;
-                index = 0;
-            }
-
-            @Override
-            public boolean test(int start, int end) {
-                int neighbourId = start == currentNodeId ? end : start;
-
-                double probability;
-
-                if (neighbourId == previousNodeId) {
-                    // node is previous node
-                    probability = 1D / returnParam;
-                } else if (graph.exists(previousNodeId, neighbourId)) {
-                    // node is also adjacent to previous node --> distance to previous node is 1
-                    probability = 1D;
-                } else {
-                    // node is not adjacent to previous node --> distance to previous node is 2
-                    probability = 1D / inOutParam;
-                }
-                probabilities[index] = probability;
-                probSum += probability;
-                index++;
-                return true;
-            }
-
-            private double[] probabilities() {
-                return normalizeDistribution(probabilities, probSum);
-            }
-        }
-    }
 }
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.walking;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipConsumer;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Samples random walks on a graph, either uniformly or with the second order bias of node2vec.
+ *
+ * A sampler is not thread-safe and is meant to be created once per task by a {@link Factory}.
+ * It owns a copy of the graph. A uniform step draws a neighbour index and stops decoding the
+ * adjacency list of the current node at that neighbour.
+ * Second order walks need the neighbours of the previous node as well, so they decode the full
+ * adjacency list of the current node into one of two reusable buffers and do not allocate.
+ *
+ * The node2vec bias is applied by rejection sampling: a neighbour is drawn uniformly and
+ * accepted with a probability proportional to its bias, {@code 1 / returnParam} for the previous
+ * node, {@code 1} for neighbours of the previous node and {@code 1 / inOutParam} otherwise.
+ * Neighbours of the previous node are found by binary search in its buffered, sorted adjacency list.
+ */
+public final class RandomWalkSampler {
+
+    public static final long NO_NEXT_NODE = -1L;
+
+    private static final int INITIAL_BUFFER_SIZE = 64;
+
+    @FunctionalInterface
+    public interface Factory {
+        /**
+         * Called from the thread that will use the sampler.
+         */
+        RandomWalkSampler create();
+    }
+
+    public static Factory uniform(Graph graph) {
+        return () -> new RandomWalkSampler(graph.concurrentCopy(), false, 1.0, 1.0, ThreadLocalRandom.current());
+    }
+
+    public static Factory node2vec(Graph graph, double returnParam, double inOutParam) {
+        return node2vec(graph, returnParam, inOutParam, ThreadLocalRandom::current);
+    }
+
+    /**
+     * @param randomSupplier called once per sampler, must return a {@link Random} that supports
+     *                       {@link Random#setSeed(long)} in order to use {@link #walk(long, int, long)}.
+     */
+    public static Factory node2vec(
+        Graph graph,
+        double returnParam,
+        double inOutParam,
+        Supplier<Random> randomSupplier
+    ) {
+        return () -> new RandomWalkSampler(
+            graph.concurrentCopy(),
+            true,
+            returnParam,
+            inOutParam,
+            randomSupplier.get()
+        );
+    }
+
+    private final Graph graph;
+    private final boolean secondOrder;
+    private final double returnBias;
+    private final double inOutBias;
+    private final double maxBias;
+    private final Random random;
+    private final RelationshipConsumer collectNeighbour;
+    private final RelationshipConsumer pickNeighbour;
+
+    private long[] currentNeighbours;
+    private int currentDegree;
+    private long[] previousNeighbours;
+    private int previousDegree;
+    private int fillIndex;
+    private int pickIndex;
+    private long pickedNode;
+
+    RandomWalkSampler(Graph graph, boolean secondOrder, double returnParam, double inOutParam, Random random) {
+        this.graph = graph;
+        this.secondOrder = secondOrder;
+        this.returnBias = 1D / returnParam;
+        this.inOutBias = 1D / inOutParam;
+        this.maxBias = Math.max(1D, Math.max(returnBias, inOutBias));
+        this.random = random;
+        if (secondOrder) {
+            this.currentNeighbours = new long[INITIAL_BUFFER_SIZE];
+            this.previousNeighbours = new long[INITIAL_BUFFER_SIZE];
+        }
+        this.collectNeighbour = (source, target) -> {
+            currentNeighbours[fillIndex++] = target;
+            return true;
+        };
+        this.pickNeighbour = (source, target) -> {
+            if (fillIndex++ == pickIndex) {
+                pickedNode = target;
+                return false;
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Samples a walk of at most {@code steps} steps in the mapped id space.
+     * If the walk reaches a node without relationships, the partial walk is returned.
+     *
+     * @return the visited nodes, starting with {@code startNode}
+     */
+    public long[] walk(long startNode, int steps) {
+        long[] nodeIds = new long[steps + 1];
+        nodeIds[0] = startNode;
+
+        if (!secondOrder) {
+            long currentNode = startNode;
+            for (int i = 1; i <= steps; i++) {
+                currentNode = uniformNeighbour(currentNode);
+                if (currentNode == NO_NEXT_NODE) {
+                    return Arrays.copyOf(nodeIds, i);
+                }
+                nodeIds[i] = currentNode;
+            }
+            return nodeIds;
+        }
+
+        long previousNode = NO_NEXT_NODE;
+        long currentNode = startNode;
+        loadNeighbours(currentNode);
+
+        for (int i = 1; i <= steps; i++) {
+            long nextNode = nextNode(previousNode);
+            if (nextNode == NO_NEXT_NODE) {
+                return Arrays.copyOf(nodeIds, i);
+            }
+            nodeIds[i] = nextNode;
+            previousNode = currentNode;
+            currentNode = nextNode;
+            if (i < steps) {
+                swapBuffers();
+                loadNeighbours(currentNode);
+            }
+        }
+        return nodeIds;
+    }
+
+    /**
+     * Samples a walk like {@link #walk(long, int)}, but the same seed always results in the same walk.
+     */
+    public long[] walk(long startNode, int steps, long seed) {
+        random.setSeed(seed);
+        return walk(startNode, steps);
+    }
+
+    private long nextNode(long previousNode) {
+        if (currentDegree == 0) {
+            return NO_NEXT_NODE;
+        }
+        if (previousNode == NO_NEXT_NODE) {
+            return currentNeighbours[random.nextInt(currentDegree)];
+        }
+        while (true) {
+            long candidate = currentNeighbours[random.nextInt(currentDegree)];
+            double bias;
+            if (candidate == previousNode) {
+                bias = returnBias;
+            } else if (Arrays.binarySearch(previousNeighbours, 0, previousDegree, candidate) >= 0) {
+                bias = 1D;
+            } else {
+                bias = inOutBias;
+            }
+            if (random.nextDouble() * maxBias < bias) {
+                return candidate;
+            }
+        }
+    }
+
+    private long uniformNeighbour(long nodeId) {
+        int degree = graph.degree(nodeId);
+        if (degree == 0) {
+            return NO_NEXT_NODE;
+        }
+        pickIndex = random.nextInt(degree);
+        pickedNode = NO_NEXT_NODE;
+        fillIndex = 0;
+        graph.forEachRelationship(nodeId, pickNeighbour);
+        return pickedNode;
+    }
+
+    private void loadNeighbours(long nodeId) {
+        int degree = graph.degree(nodeId);
+        if (currentNeighbours.length < degree) {
+            currentNeighbours = new long[degree];
+        }
+        fillIndex = 0;
+        graph.forEachRelationship(nodeId, collectNeighbour);
+        currentDegree = fillIndex;
+        if (!isSorted(currentNeighbours, currentDegree)) {
+            // adjacency lists are usually sorted, but the lookup must not depend on it
+            Arrays.sort(currentNeighbours, 0, currentDegree);
+        }
+    }
+
+    private void swapBuffers() {
+        long[] tmp = previousNeighbours;
+        previousNeighbours = currentNeighbours;
+        previousDegree = currentDegree;
+        currentNeighbours = tmp;
+    }
+
+    private static boolean isSorted(long[] values, int length) {
+        for (int i = 1; i < length; i++) {
+            if (values[i - 1] > values[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
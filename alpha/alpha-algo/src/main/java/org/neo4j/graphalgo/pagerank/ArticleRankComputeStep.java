@@ -53,17 +53,11 @@ final class ArticleRankComputeStep extends BaseComputeStep implements Relationsh
     }
 
     @Override
-    void singleIteration() {
-        for (long nodeId = startNode; nodeId < endNode; ++nodeId) {
-            double delta = deltas[(int) (nodeId - startNode)];
-            if (delta > 0) {
-                int degree = degrees.degree(nodeId);
-                if (degree > 0) {
-                    srcRankDelta = (float) (delta / (degree + averageDegree));
-                    this.relationshipIterator.forEachRelationship(nodeId, this);
-                }
-            }
-            progressLogger.logProgress(graph.degree(nodeId));
+    void propagate(long nodeId, double delta) {
+        int degree = degrees.degree(nodeId);
+        if (degree > 0) {
+            srcRankDelta = (float) (delta / (degree + averageDegree));
+            this.relationshipIterator.forEachRelationship(nodeId, this);
         }
     }
 
@@ -58,20 +58,20 @@ final class EigenvectorCentralityComputeStep extends BaseComputeStep implements
     }
 
     @Override
-    void singleIteration() {
-        for (long nodeId = startNode; nodeId < endNode; ++nodeId) {
-            double delta = deltas[(int) (nodeId - startNode)];
-            if (delta > 0.0) {
-                int degree = degrees.degree(nodeId);
-                if (degree > 0) {
-                    srcRankDelta = (float) delta;
-                    relationshipIterator.forEachRelationship(nodeId, this);
-                }
-            }
-            progressLogger.logProgress(graph.degree(nodeId));
+    void propagate(long nodeId, double delta) {
+        int degree = degrees.degree(nodeId);
+        if (degree > 0) {
+            srcRankDelta = (float) delta;
+            relationshipIterator.forEachRelationship(nodeId, this);
         }
     }
 
+    @Override
+    public void enableResidualPush(double residualThreshold) {
+        // also rejected by EigenvectorCentralityConfig, this guards direct use of the algorithm
+        throw new IllegalArgumentException("The `residualPush` option is not supported for Eigenvector Centrality.");
+    }
+
     @Override
     public boolean accept(long sourceNodeId, long targetNodeId) {
         if (srcRankDelta != 0F) {
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.ml.linkmodels;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.Weights;
@@ -38,6 +39,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @GdlExtension
 class LinkPredictionPredictTest {
@@ -86,5 +88,46 @@ class LinkPredictionPredictTest {
         assertThat(firstLink.targetId()).isEqualTo(4);
     }
 
+    @Test
+    void shouldPredictTheSameLinksConcurrently() {
+        var sequential = predict(1, 1, CandidateGeneration.ALL_PAIRS);
+        var concurrent = predict(1, 4, CandidateGeneration.ALL_PAIRS);
+
+        assertThat(concurrent).containsExactlyInAnyOrderElementsOf(sequential);
+    }
+
+    @Test
+    void shouldOnlyScoreTwoHopCandidates() {
+        var predictedLinks = predict(2, 2, CandidateGeneration.TWO_HOP);
+
+        assertThat(predictedLinks)
+            .extracting(PredictedLink::sourceId, PredictedLink::targetId)
+            .containsExactlyInAnyOrder(tuple(1L, 4L), tuple(2L, 3L));
+    }
+
+    private List<PredictedLink> predict(int batchSize, int concurrency, CandidateGeneration candidateGeneration) {
+        var numberOfFeatures = 3;
+        var modelData = LinkLogisticRegressionData.builder()
+            .weights(new Weights<>(new Matrix(new double[]{
+                -2.0, -1.0, 3.0,
+            }, 1, numberOfFeatures)))
+            .linkFeatureCombiner(LinkFeatureCombiner.L2)
+            .numberOfFeatures(numberOfFeatures)
+            .featureProperties(List.of("a", "b"))
+            .build();
+
+        return new LinkPredictionPredict(
+            new LinkLogisticRegressionPredictor(modelData),
+            graph,
+            batchSize,
+            concurrency,
+            50,
+            AllocationTracker.empty(),
+            TestProgressLogger.NULL_LOGGER,
+            0.0,
+            candidateGeneration
+        ).compute().stream().collect(Collectors.toList());
+    }
+
 
 }
@@ -97,4 +97,47 @@ class NodeClassificationTrainTest {
         double model2Score = validationScores.get(1).avg();
         assertThat(model1Score).isNotCloseTo(model2Score, Percentage.withPercentage(0.2));
     }
+
+    @Test
+    void selectsTheBestModelConcurrentlyWithValidationEarlyStopping() {
+        // 2 candidates on 2 folds with concurrency 8 leave 2 threads for training each candidate
+        Map<String, Object> model1 = Map.of("penalty", 0.0625, "maxIterations", 100, "batchSize", 1);
+        Map<String, Object> model2 = Map.of("penalty", 4, "maxIterations", 100, "batchSize", 1);
+
+        var log = new TestLog();
+        var firstRun = trainConcurrently(List.of(model1, model2), log);
+        var secondRun = trainConcurrently(List.of(model1, model2), new TestLog());
+
+        var firstScores = firstRun.metrics().get(F1_MACRO).validation();
+        var secondScores = secondRun.metrics().get(F1_MACRO).validation();
+        assertThat(firstScores).hasSize(2);
+        for (int i = 0; i < firstScores.size(); i++) {
+            assertThat(secondScores.get(i).avg()).isEqualTo(firstScores.get(i).avg());
+        }
+        assertThat(secondRun.bestParameters()).isEqualTo(firstRun.bestParameters());
+        assertThat(log.getMessages(TestLog.INFO))
+            .anyMatch(message -> message.startsWith("Model candidate 1 of 2"))
+            .anyMatch(message -> message.startsWith("Model candidate 2 of 2"));
+    }
+
+    private NodeClassificationModelInfo trainConcurrently(List<Map<String, Object>> params, TestLog log) {
+        var ncTrain = new NodeClassificationTrain(
+            graph,
+            ImmutableNodeClassificationTrainConfig.builder()
+                .modelName("model")
+                .featureProperties(List.of("a", "b"))
+                .holdoutFraction(0.33)
+                .validationFolds(2)
+                .concurrency(8)
+                .randomSeed(1L)
+                .targetProperty("t")
+                .metrics(List.of(F1_MACRO))
+                .params(params)
+                .validationEarlyStopping(true)
+                .build(),
+            log
+        );
+
+        return (NodeClassificationModelInfo) ncTrain.compute().customInfo();
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.nodemodels.multiclasslogisticregression;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.ComputationContext;
+import org.neo4j.gds.ml.batch.LazyBatch;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.Inject;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class MultiClassNLRPredictorTest {
+
+    @GdlGraph
+    private static final String DB_QUERY =
+        "CREATE " +
+        "  (n1:N {a: 2.0, b: 1.2, t: 1})" +
+        ", (n2:N {a: 1.3, b: 0.5, t: 0})" +
+        ", (n3:N {a: 0.0, b: 2.8, t: 2})" +
+        ", (n4:N {a: 1.0, b: 0.9, t: 1})";
+
+    @Inject
+    private Graph graph;
+
+    @Test
+    void shouldPredictTheSameAsTheComputationGraph() {
+        var featureProps = List.of("a", "b");
+        var modelData = MultiClassNLRData.from(graph, featureProps, "t");
+        var weights = modelData.weights().data();
+        for (int i = 0; i < weights.totalSize(); i++) {
+            weights.setDataAt(i, 0.5 - 0.3 * i);
+        }
+        var predictor = new MultiClassNLRPredictor(modelData, featureProps);
+        var batch = new LazyBatch(1, 3, graph.nodeCount());
+
+        var predictions = predictor.predict(graph, batch);
+        var expected = new ComputationContext().forward(predictor.predictionsVariable(graph, batch));
+
+        assertThat(predictions.rows()).isEqualTo(3);
+        assertThat(predictions.cols()).isEqualTo(3);
+        assertThat(predictions.data()).containsExactly(expected.data());
+    }
+}
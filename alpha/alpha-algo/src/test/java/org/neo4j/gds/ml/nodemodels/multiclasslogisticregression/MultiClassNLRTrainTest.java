@@ -21,7 +21,10 @@ package org.neo4j.gds.ml.nodemodels.multiclasslogisticregression;
 
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.ComputationContext;
+import org.neo4j.gds.ml.batch.HugeBatchQueue;
 import org.neo4j.gds.ml.nodemodels.logisticregression.ImmutableMultiClassNLRTrainConfig;
+import org.neo4j.gds.ml.nodemodels.logisticregression.MultiClassNLRTrainConfig;
 import org.neo4j.graphalgo.TestLog;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
@@ -31,6 +34,7 @@ import org.neo4j.graphalgo.extension.GdlGraph;
 import org.neo4j.graphalgo.extension.Inject;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.neo4j.gds.embeddings.graphsage.ddl4j.Dimensions.COLUMNS_INDEX;
@@ -117,4 +121,62 @@ class MultiClassNLRTrainTest {
             assertThat(classes[i]).isLessThan(classes[i+1]);
         }
     }
+
+    @Test
+    void shouldTrainDeterministicallyInParallel() {
+        var config = ImmutableMultiClassNLRTrainConfig.builder()
+            .featureProperties(List.of("a", "b"))
+            .targetProperty("t")
+            .penalty(NO_PENALTY)
+            .batchSize(1)
+            .maxIterations(100)
+            .build();
+
+        var nodeIds = HugeLongArray.newArray(graph.nodeCount(), AllocationTracker.empty());
+        nodeIds.setAll(i -> i);
+
+        var first = new MultiClassNLRTrain(graph, nodeIds, config, 4, new TestLog()).compute();
+        var second = new MultiClassNLRTrain(graph, nodeIds, config, 4, new TestLog()).compute();
+
+        assertThat(second.weights().data().data()).containsExactly(first.weights().data().data());
+    }
+
+    @Test
+    void shouldStopOnValidationLoss() {
+        var config = ImmutableMultiClassNLRTrainConfig.builder()
+            .featureProperties(List.of("a", "b"))
+            .targetProperty("t")
+            .penalty(NO_PENALTY)
+            .maxIterations(10)
+            .build();
+
+        var trainSet = HugeLongArray.of(0, 1);
+        var validationSet = HugeLongArray.of(2, 3);
+        var log = new TestLog();
+
+        var result = new MultiClassNLRTrain(graph, trainSet, config, log).compute(validationSet);
+
+        var lossMessages = log.getMessages(TestLog.DEBUG).stream()
+            .filter(message -> message.startsWith("Loss: "))
+            .collect(Collectors.toList());
+        assertThat(lossMessages).isNotEmpty();
+        var lastLoss = Double.parseDouble(lossMessages
+            .get(lossMessages.size() - 1)
+            .substring("Loss: ".length(), lossMessages.get(lossMessages.size() - 1).indexOf(',')));
+
+        assertThat(lastLoss)
+            .isEqualTo(loss(result, config, validationSet))
+            .isNotEqualTo(loss(result, config, trainSet));
+    }
+
+    private double loss(MultiClassNLRData modelData, MultiClassNLRTrainConfig config, HugeLongArray nodeIds) {
+        var objective = new MultiClassNLRObjective(
+            graph,
+            new MultiClassNLRPredictor(modelData, config.featureProperties()),
+            config.targetProperty(),
+            config.penalty()
+        );
+        var batch = new HugeBatchQueue(nodeIds, config.batchSize()).pop().orElseThrow();
+        return new ComputationContext().forward(objective.loss(batch, nodeIds.size())).value();
+    }
 }
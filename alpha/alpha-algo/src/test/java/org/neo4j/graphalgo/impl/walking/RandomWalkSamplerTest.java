@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.walking;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.Inject;
+import org.neo4j.graphalgo.extension.TestGraph;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@GdlExtension
+class RandomWalkSamplerTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String GRAPH =
+        "CREATE" +
+        "  (a)" +
+        ", (b)" +
+        ", (c)" +
+        ", (d)" +
+        ", (e)" +
+        ", (isolated)" +
+        ", (a)-[:REL]->(b)" +
+        ", (a)-[:REL]->(c)" +
+        ", (b)-[:REL]->(c)" +
+        ", (c)-[:REL]->(d)" +
+        ", (d)-[:REL]->(e)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void shouldOnlyFollowRelationships() {
+        var sampler = new RandomWalkSampler(graph, false, 1.0, 1.0, new Random(42));
+
+        for (int i = 0; i < 100; i++) {
+            long[] walk = sampler.walk(graph.toMappedNodeId("a"), 10);
+            assertThat(walk).hasSize(11);
+            for (int step = 1; step < walk.length; step++) {
+                assertTrue(graph.exists(walk[step - 1], walk[step]), "no relationship for step " + step);
+            }
+        }
+    }
+
+    @Test
+    void shouldStopAtNodesWithoutRelationships() {
+        var sampler = new RandomWalkSampler(graph, true, 1.0, 1.0, new Random(42));
+
+        long isolated = graph.toMappedNodeId("isolated");
+        assertArrayEquals(new long[]{isolated}, sampler.walk(isolated, 10));
+    }
+
+    @Test
+    void shouldPickNeighboursUniformly() {
+        var sampler = new RandomWalkSampler(graph, false, 1.0, 1.0, new Random(42));
+
+        long c = graph.toMappedNodeId("c");
+        long isolated = graph.toMappedNodeId("isolated");
+        var counts = new HashMap<Long, Integer>();
+        int walks = 3000;
+        for (int i = 0; i < walks; i++) {
+            long[] walk = sampler.walk(c, 1);
+            counts.merge(walk[1], 1, Integer::sum);
+        }
+        // c has the three neighbours a, b and d
+        assertThat(counts).containsOnlyKeys(
+            graph.toMappedNodeId("a"),
+            graph.toMappedNodeId("b"),
+            graph.toMappedNodeId("d")
+        );
+        counts.values().forEach(count -> assertThat(count).isBetween(800, 1200));
+        assertArrayEquals(new long[]{isolated}, sampler.walk(isolated, 10));
+    }
+
+    @Test
+    void shouldPreferReturningWithSmallReturnParam() {
+        var sampler = new RandomWalkSampler(graph, true, 0.001, 1.0, new Random(42));
+
+        long c = graph.toMappedNodeId("c");
+        long d = graph.toMappedNodeId("d");
+        int returned = 0;
+        int walks = 1000;
+        for (int i = 0; i < walks; i++) {
+            long[] walk = sampler.walk(d, 2);
+            if (walk[1] == c && walk[2] == d) {
+                returned++;
+            }
+        }
+        // with return bias 1000, almost all walks from d over c go back to d
+        long walksOverC = walks / 2;
+        assertThat(returned).isGreaterThan((int) (walksOverC * 0.8));
+    }
+
+    @Test
+    void shouldPreferStayingCloseWithLargeInOutParam() {
+        var sampler = new RandomWalkSampler(graph, true, 1000.0, 1000.0, new Random(42));
+
+        long a = graph.toMappedNodeId("a");
+        long b = graph.toMappedNodeId("b");
+        long c = graph.toMappedNodeId("c");
+        int toB = 0;
+        int walks = 0;
+        for (int i = 0; i < 1000; i++) {
+            long[] walk = sampler.walk(a, 2);
+            if (walk[1] == c) {
+                walks++;
+                // b is the only neighbour of c that is also adjacent to a
+                if (walk[2] == b) {
+                    toB++;
+                }
+            }
+        }
+        assertThat(toB).isGreaterThan((int) (walks * 0.9));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.node2vec;
+
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+
+import java.util.Arrays;
+
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfByteArray;
+
+/**
+ * Materialized walks, each stored as a variable-length encoded byte array.
+ *
+ * A walk is encoded as its length followed by the first node id and the zig-zag encoded
+ * differences between consecutive node ids, each written with 7 bits per byte.
+ * Walks are added by a single thread and can be read concurrently once all of them have been added.
+ */
+final class CompressedWalks implements WalkCorpus {
+
+    private final HugeObjectArray<byte[]> walks;
+    private long size;
+    private long sizeInBytes;
+    private byte[] buffer;
+
+    CompressedWalks(long capacity, AllocationTracker tracker) {
+        this.walks = HugeObjectArray.newArray(byte[].class, capacity, tracker);
+        this.buffer = new byte[0];
+    }
+
+    void add(long[] walk) {
+        int maxLength = (walk.length + 1) * 10;
+        if (buffer.length < maxLength) {
+            buffer = new byte[maxLength];
+        }
+        int position = writeVLong(walk.length, buffer, 0);
+        long previous = 0;
+        for (long nodeId : walk) {
+            long delta = nodeId - previous;
+            position = writeVLong((delta << 1) ^ (delta >> 63), buffer, position);
+            previous = nodeId;
+        }
+        var compressed = Arrays.copyOf(buffer, position);
+        walks.set(size++, compressed);
+        sizeInBytes += sizeOfByteArray(compressed.length);
+    }
+
+    /**
+     * @return the size of all encoded walks, not including the array holding them.
+     */
+    long sizeInBytes() {
+        return sizeInBytes;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public Cursor cursor() {
+        return walkIndex -> decode(walks.get(walkIndex));
+    }
+
+    private static long[] decode(byte[] compressed) {
+        var position = new int[1];
+        var walk = new long[(int) readVLong(compressed, position)];
+        long previous = 0;
+        for (int i = 0; i < walk.length; i++) {
+            long zigZag = readVLong(compressed, position);
+            previous += (zigZag >>> 1) ^ -(zigZag & 1);
+            walk[i] = previous;
+        }
+        return walk;
+    }
+
+    private static int writeVLong(long value, byte[] out, int position) {
+        while ((value & ~0x7FL) != 0) {
+            out[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[position++] = (byte) value;
+        return position;
+    }
+
+    private static long readVLong(byte[] in, int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in[position[0]++];
+            value |= (b & 0x7FL) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.node2vec;
+
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.core.utils.paged.PageUtil;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfFloatArray;
+
+/**
+ * Embeddings of all nodes stored row by row in paged float arrays.
+ *
+ * Rows are read and updated without any synchronization, concurrent updates
+ * to the same row may overwrite each other (Hogwild). As updates are sparse,
+ * this does not harm convergence in practice.
+ */
+final class EmbeddingMatrix {
+
+    private static final String TRACKED_COMPONENT = "embeddings";
+
+    private final float[][] pages;
+    private final int dimension;
+    private final int rowShift;
+    private final int rowMask;
+
+    EmbeddingMatrix(long nodeCount, int dimension, AllocationTracker tracker) {
+        this.dimension = dimension;
+        int rowsPerPage = Math.max(1, Integer.highestOneBit(PageUtil.pageSizeFor(Float.BYTES) / dimension));
+        this.rowShift = Integer.numberOfTrailingZeros(rowsPerPage);
+        this.rowMask = rowsPerPage - 1;
+
+        int numPages = PageUtil.numPagesFor(nodeCount, rowsPerPage);
+        this.pages = new float[numPages][];
+        for (int page = 0; page < numPages; page++) {
+            long rowsInPage = Math.min(rowsPerPage, nodeCount - ((long) page << rowShift));
+            pages[page] = new float[(int) rowsInPage * dimension];
+            tracker.add(TRACKED_COMPONENT, sizeOfFloatArray(pages[page].length));
+        }
+    }
+
+    void randomize(Random random) {
+        for (float[] page : pages) {
+            for (int i = 0; i < page.length; i++) {
+                page[i] = random.nextFloat() * 2 - 1;
+            }
+        }
+    }
+
+    float[] row(long nodeId) {
+        var row = new float[dimension];
+        System.arraycopy(page(nodeId), offset(nodeId), row, 0, dimension);
+        return row;
+    }
+
+    /**
+     * Copies the rows into one vector per node and releases every page as soon as its rows have been copied,
+     * so that the matrix and the vectors are held in memory at the same time for at most one page.
+     * The matrix must not be used afterwards.
+     */
+    HugeObjectArray<Vector> drainToVectors(long nodeCount, AllocationTracker tracker) {
+        var vectors = HugeObjectArray.newArray(Vector.class, nodeCount, tracker);
+        for (int pageIndex = 0; pageIndex < pages.length; pageIndex++) {
+            float[] page = pages[pageIndex];
+            long firstRow = (long) pageIndex << rowShift;
+            for (int offset = 0; offset < page.length; offset += dimension) {
+                vectors.set(firstRow + offset / dimension, new Vector(Arrays.copyOfRange(page, offset, offset + dimension)));
+            }
+            release(pageIndex, tracker);
+        }
+        return vectors;
+    }
+
+    /**
+     * Releases all pages. The matrix must not be used afterwards.
+     */
+    void release(AllocationTracker tracker) {
+        for (int pageIndex = 0; pageIndex < pages.length; pageIndex++) {
+            release(pageIndex, tracker);
+        }
+    }
+
+    private void release(int pageIndex, AllocationTracker tracker) {
+        if (pages[pageIndex] != null) {
+            tracker.remove(TRACKED_COMPONENT, sizeOfFloatArray(pages[pageIndex].length));
+            pages[pageIndex] = null;
+        }
+    }
+
+    /**
+     * @return the inner product of the row of {@code nodeId} and the row of {@code otherId} in {@code other}
+     */
+    float dot(long nodeId, EmbeddingMatrix other, long otherId) {
+        return dot(page(nodeId), offset(nodeId), other.page(otherId), other.offset(otherId), dimension);
+    }
+
+    /**
+     * Adds {@code scalar} times the row of {@code nodeId} to {@code target}.
+     */
+    void addScaledRowTo(long nodeId, float scalar, float[] target) {
+        axpy(scalar, page(nodeId), offset(nodeId), target, 0, dimension);
+    }
+
+    /**
+     * Adds {@code scalar} times the row of {@code otherId} in {@code other} to the row of {@code nodeId}.
+     */
+    void addScaled(long nodeId, float scalar, EmbeddingMatrix other, long otherId) {
+        axpy(scalar, other.page(otherId), other.offset(otherId), page(nodeId), offset(nodeId), dimension);
+    }
+
+    void add(long nodeId, float[] values) {
+        axpy(1.0f, values, 0, page(nodeId), offset(nodeId), dimension);
+    }
+
+    private float[] page(long nodeId) {
+        return pages[PageUtil.pageIndex(nodeId, rowShift)];
+    }
+
+    private int offset(long nodeId) {
+        return PageUtil.indexInPage(nodeId, rowMask) * dimension;
+    }
+
+    // the kernels are unrolled by four, so that the JIT can vectorize them
+
+    static float dot(float[] left, int leftOffset, float[] right, int rightOffset, int length) {
+        float sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int i = 0;
+        for (; i + 3 < length; i += 4) {
+            sum0 += left[leftOffset + i] * right[rightOffset + i];
+            sum1 += left[leftOffset + i + 1] * right[rightOffset + i + 1];
+            sum2 += left[leftOffset + i + 2] * right[rightOffset + i + 2];
+            sum3 += left[leftOffset + i + 3] * right[rightOffset + i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += left[leftOffset + i] * right[rightOffset + i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    static void axpy(float scalar, float[] x, int xOffset, float[] y, int yOffset, int length) {
+        int i = 0;
+        for (; i + 3 < length; i += 4) {
+            y[yOffset + i] += scalar * x[xOffset + i];
+            y[yOffset + i + 1] += scalar * x[xOffset + i + 1];
+            y[yOffset + i + 2] += scalar * x[xOffset + i + 2];
+            y[yOffset + i + 3] += scalar * x[xOffset + i + 3];
+        }
+        for (; i < length; i++) {
+            y[yOffset + i] += scalar * x[xOffset + i];
+        }
+    }
+}
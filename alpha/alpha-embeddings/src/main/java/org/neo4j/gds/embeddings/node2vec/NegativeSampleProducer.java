@@ -19,29 +19,87 @@
  */
 package org.neo4j.gds.embeddings.node2vec;
 
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArrayStack;
 
 import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Samples context nodes from the context node distribution in constant time
+ * using an alias table (Vose's method).
+ * If all weights are zero, the nodes are sampled uniformly.
+ */
 public class NegativeSampleProducer {
 
-    private final HugeLongArray contextNodeDistribution;
-    private final long cumulativeProbability;
+    private final HugeDoubleArray probabilities;
+    private final HugeLongArray aliases;
+    private final long nodeCount;
 
-    public NegativeSampleProducer(
-        HugeLongArray contextNodeDistribution
-    ) {
-        this.contextNodeDistribution = contextNodeDistribution;
-        this.cumulativeProbability = contextNodeDistribution.get(contextNodeDistribution.size() - 1);
+    public NegativeSampleProducer(HugeLongArray contextNodeDistribution) {
+        this(contextNodeDistribution, AllocationTracker.empty());
     }
 
-    public long nextSample() {
-        long index = contextNodeDistribution.binarySearch(ThreadLocalRandom.current().nextLong(cumulativeProbability));
+    /**
+     * @param contextNodeDistribution cumulative weights of the nodes
+     */
+    NegativeSampleProducer(HugeLongArray contextNodeDistribution, AllocationTracker tracker) {
+        this.nodeCount = contextNodeDistribution.size();
+        this.probabilities = HugeDoubleArray.newArray(nodeCount, tracker);
+        this.aliases = HugeLongArray.newArray(nodeCount, tracker);
+
+        long totalWeight = nodeCount == 0 ? 0 : contextNodeDistribution.get(nodeCount - 1);
+        if (totalWeight == 0) {
+            // every node samples itself
+            probabilities.fill(1.0);
+            aliases.setAll(nodeId -> nodeId);
+            return;
+        }
+
+        double averageWeight = (double) totalWeight / nodeCount;
+        var small = HugeLongArrayStack.newStack(nodeCount, tracker);
+        var large = HugeLongArrayStack.newStack(nodeCount, tracker);
+        long previous = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long cumulative = contextNodeDistribution.get(nodeId);
+            double scaledWeight = (cumulative - previous) / averageWeight;
+            previous = cumulative;
+            probabilities.set(nodeId, scaledWeight);
+            aliases.set(nodeId, nodeId);
+            if (scaledWeight < 1.0) {
+                small.push(nodeId);
+            } else {
+                large.push(nodeId);
+            }
+        }
 
-        if (index < contextNodeDistribution.size() - 1) {
-            index++;
+        while (!small.isEmpty() && !large.isEmpty()) {
+            long less = small.pop();
+            long more = large.pop();
+            aliases.set(less, more);
+            double remaining = probabilities.get(more) + probabilities.get(less) - 1.0;
+            probabilities.set(more, remaining);
+            if (remaining < 1.0) {
+                small.push(more);
+            } else {
+                large.push(more);
+            }
+        }
+        // left overs are only due to rounding errors and are always sampled themselves
+        while (!large.isEmpty()) {
+            probabilities.set(large.pop(), 1.0);
+        }
+        while (!small.isEmpty()) {
+            probabilities.set(small.pop(), 1.0);
         }
+    }
 
-        return index;
+    public long nextSample() {
+        var random = ThreadLocalRandom.current();
+        long nodeId = random.nextLong(nodeCount);
+        return random.nextDouble() < probabilities.get(nodeId)
+            ? nodeId
+            : aliases.get(nodeId);
     }
 }
@@ -19,12 +19,14 @@
  */
 package org.neo4j.gds.embeddings.node2vec;
 
-import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.impl.walking.RandomWalkSampler;
+
+import java.util.concurrent.ThreadLocalRandom;
 
 public class Node2Vec extends Algorithm<Node2Vec, HugeObjectArray<Vector>> {
 
@@ -41,27 +43,13 @@ public class Node2Vec extends Algorithm<Node2Vec, HugeObjectArray<Vector>> {
 
     @Override
     public HugeObjectArray<Vector> compute() {
-        RandomWalk randomWalk = new RandomWalk(
-            graph,
-            config.walkLength(),
-            new RandomWalk.NextNodeStrategy(graph, config.returnFactor(), config.inOutFactor()),
-            config.concurrency(),
-            config.walksPerNode(),
-            config.walkBufferSize()
-        );
-
-        HugeObjectArray<long[]> walks = HugeObjectArray.newArray(
-            long[].class,
-            graph.nodeCount() * config.walksPerNode(),
-            tracker
-        );
-        MutableLong counter = new MutableLong(0);
-        randomWalk
-            .compute()
-            .forEach(walk -> {
-                walks.set(counter.longValue(), walk);
-                counter.increment();
-            });
+        WalkCorpus walks = config.walkStorage() == WalkStorage.REGENERATE
+            ? new RegeneratedWalks(
+                graph,
+                config,
+                config.randomSeed().orElseGet(() -> ThreadLocalRandom.current().nextLong())
+            )
+            : sampleCompressedWalks();
 
         var probabilityComputer = new ProbabilityComputer(
             walks,
@@ -86,6 +74,24 @@ public class Node2Vec extends Algorithm<Node2Vec, HugeObjectArray<Vector>> {
         return node2VecModel.getEmbeddings();
     }
 
+    private CompressedWalks sampleCompressedWalks() {
+        RandomWalk randomWalk = new RandomWalk(
+            graph,
+            config.walkLength(),
+            RandomWalkSampler.node2vec(graph, config.returnFactor(), config.inOutFactor()),
+            config.concurrency(),
+            config.walksPerNode(),
+            config.walkBufferSize()
+        );
+
+        var walks = new CompressedWalks(graph.nodeCount() * config.walksPerNode(), tracker);
+        randomWalk.compute().forEach(walks::add);
+        if (AllocationTracker.isTracking(tracker)) {
+            tracker.add("walks", walks.sizeInBytes());
+        }
+        return walks;
+    }
+
     @Override
     public Node2Vec me() {
         return this;
@@ -24,6 +24,8 @@ import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.EmbeddingDimensionConfig;
 
+import java.util.Optional;
+
 public interface Node2VecBaseConfig extends AlgoBaseConfig, EmbeddingDimensionConfig {
 
     @Value.Default
@@ -104,4 +106,16 @@ public interface Node2VecBaseConfig extends AlgoBaseConfig, EmbeddingDimensionCo
         return 1;
     }
 
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.gds.embeddings.node2vec.WalkStorage#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.embeddings.node2vec.WalkStorage#toString")
+    default WalkStorage walkStorage() {
+        return WalkStorage.COMPRESSED;
+    }
+
+    /**
+     * Seed for sampling the walks when they are regenerated.
+     */
+    Optional<Long> randomSeed();
+
 }
@@ -26,41 +26,58 @@ import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
 public class Node2VecModel {
 
+    // sigmoid(x) is looked up for x in [-MAX_EXP, MAX_EXP] and saturates outside
+    private static final int MAX_EXP = 6;
+    private static final int SIGMOID_TABLE_SIZE = 1000;
+    private static final float[] SIGMOID_TABLE = sigmoidTable();
+
     private final NegativeSampleProducer negativeSamples;
 
-    private final HugeObjectArray<Vector> centerEmbeddings;
-    private final HugeObjectArray<Vector> contextEmbeddings;
+    private final long nodeCount;
+    private final EmbeddingMatrix centerEmbeddings;
+    private final EmbeddingMatrix contextEmbeddings;
     private final Node2VecBaseConfig config;
-    private final HugeObjectArray<long[]> walks;
+    private final WalkCorpus walks;
     private final ProbabilityComputer probabilityComputer;
     private final ProgressLogger progressLogger;
     private final AllocationTracker tracker;
     private final long batchSize;
+    private final LongAdder trainedSamples;
+
+    private HugeObjectArray<Vector> embeddings;
 
     Node2VecModel(
         long nodeCount,
         Node2VecBaseConfig config,
-        HugeObjectArray<long[]> walks,
+        WalkCorpus walks,
         ProbabilityComputer probabilityComputer,
         ProgressLogger progressLogger,
         AllocationTracker tracker
     ) {
+        this.nodeCount = nodeCount;
         this.config = config;
         this.walks = walks;
         this.probabilityComputer = probabilityComputer;
         this.progressLogger = progressLogger;
-        this.negativeSamples = new NegativeSampleProducer(probabilityComputer.getContextNodeDistribution());
         this.tracker = tracker;
+        this.negativeSamples = new NegativeSampleProducer(probabilityComputer.getContextNodeDistribution(), tracker);
+        this.trainedSamples = new LongAdder();
 
         // TODO research how the weights are initialized
-        centerEmbeddings = initializeEmbeddings(nodeCount, config.embeddingDimension());
-        contextEmbeddings = initializeEmbeddings(nodeCount, config.embeddingDimension());
+        var random = new Random();
+        centerEmbeddings = new EmbeddingMatrix(nodeCount, config.embeddingDimension(), tracker);
+        centerEmbeddings.randomize(random);
+        contextEmbeddings = new EmbeddingMatrix(nodeCount, config.embeddingDimension(), tracker);
+        contextEmbeddings.randomize(random);
 
         this.batchSize = ParallelUtil.adjustedBatchSize(
             walks.size(),
@@ -74,39 +91,59 @@ public class Node2VecModel {
         for (int iteration = 0; iteration < config.iterations(); iteration++) {
             progressLogger.reset(walks.size());
             progressLogger.logMessage(formatWithLocale(":: Iteration %d :: Start", iteration + 1));
+            trainedSamples.reset();
+            long start = System.nanoTime();
             var tasks = new ArrayList<TrainingTask>();
             for (long sampleIndex = 0; sampleIndex < walks.size(); sampleIndex += batchSize) {
                 tasks.add(new TrainingTask(sampleIndex, Math.min(walks.size(), sampleIndex + batchSize) - 1));
             }
             ParallelUtil.runWithConcurrency(config.concurrency(), tasks, Pools.DEFAULT);
-            progressLogger.logMessage(formatWithLocale(":: Iteration %d :: Finished", iteration + 1));
+            long tookNanos = System.nanoTime() - start;
+            progressLogger.logMessage(formatWithLocale(
+                ":: Iteration %d :: Finished, trained %d samples in %d ms (%.0f samples/s)",
+                iteration + 1,
+                trainedSamples.sum(),
+                TimeUnit.NANOSECONDS.toMillis(tookNanos),
+                tookNanos == 0 ? 0.0 : trainedSamples.sum() * 1e9 / tookNanos
+            ));
         }
         progressLogger.logMessage(":: Training :: Finished");
     }
 
+    /**
+     * Returns the trained center embeddings. On the first call, the embedding matrices are released
+     * while the vectors are built, so the model cannot be trained any further afterwards.
+     */
     public HugeObjectArray<Vector> getEmbeddings() {
-        return centerEmbeddings;
+        if (embeddings == null) {
+            contextEmbeddings.release(tracker);
+            embeddings = centerEmbeddings.drainToVectors(nodeCount, tracker);
+        }
+        return embeddings;
     }
 
-    private HugeObjectArray<Vector> initializeEmbeddings(long nodeCount, int embeddingDimensions) {
-        HugeObjectArray<Vector> embeddings = HugeObjectArray.newArray(
-            Vector.class,
-            nodeCount,
-            tracker
-        );
-        for (var i = 0L; i < nodeCount; i++) {
-            var data = new Random()
-                .doubles(embeddingDimensions, -1, 1)
-                .collect(() -> new FloatConsumer(embeddingDimensions), FloatConsumer::add, FloatConsumer::addAll).values;
-            embeddings.set(i, new Vector(data));
+    private static float[] sigmoidTable() {
+        var table = new float[SIGMOID_TABLE_SIZE + 1];
+        for (int i = 0; i <= SIGMOID_TABLE_SIZE; i++) {
+            double x = (2.0 * i / SIGMOID_TABLE_SIZE - 1) * MAX_EXP;
+            table[i] = (float) (1 / (1 + Math.exp(-x)));
         }
-        return embeddings;
+        return table;
+    }
+
+    static float sigmoid(float x) {
+        if (x >= MAX_EXP) {
+            return 1.0f;
+        }
+        if (x <= -MAX_EXP) {
+            return 0.0f;
+        }
+        return SIGMOID_TABLE[(int) ((x + MAX_EXP) * SIGMOID_TABLE_SIZE / (2 * MAX_EXP))];
     }
 
     private class TrainingTask implements Runnable {
         private final PositiveSampleProducer positiveSamples;
-        private final Vector centerGradientBuffer;
-        private final Vector contextGradientBuffer;
+        private final float[] centerGradient;
         private final float initialLearningRate;
         private final float learningRateModifier;
         private final long startIndex;
@@ -123,8 +160,7 @@ public class Node2VecModel {
                 config.windowSize(),
                 progressLogger
             );
-            this.centerGradientBuffer = new Vector(config.embeddingDimension());
-            this.contextGradientBuffer = new Vector(config.embeddingDimension());
+            this.centerGradient = new float[config.embeddingDimension()];
 
             this.initialLearningRate = (float) config.initialLearningRate();
             this.learningRateModifier = (float) ((initialLearningRate - config.minLearningRate()) / (endIndex - startIndex));
@@ -134,54 +170,32 @@ public class Node2VecModel {
         @Override
         public void run() {
             var buffer = new long[2];
+            long samples = 0;
             while (positiveSamples.hasNext()) {
                 positiveSamples.next(buffer);
-                trainSample(buffer[0], buffer[1], true);
+                long center = buffer[0];
 
+                // the gradient of the center embedding is accumulated over the positive and negative samples
+                // and applied once, as in the original word2vec implementation
+                Arrays.fill(centerGradient, 0);
+                trainSample(center, buffer[1], 1.0f);
                 for (var i = 0; i < config.negativeSamplingRate(); i++) {
-                    trainSample(buffer[0], negativeSamples.nextSample(), false);
+                    trainSample(center, negativeSamples.nextSample(), 0.0f);
                 }
+                centerEmbeddings.add(center, centerGradient);
+                samples += 1 + config.negativeSamplingRate();
 
                 learningRate = initialLearningRate - (learningRateModifier * (positiveSamples.currentWalkIndex() - startIndex));
             }
+            trainedSamples.add(samples);
         }
 
-        private void trainSample(long center, long context, boolean positive) {
-            var centerEmbedding = centerEmbeddings.get(center);
-            var contextEmbedding = contextEmbeddings.get(context);
-
-            float affinity = positive
-                ? centerEmbedding.innerProduct(contextEmbedding)
-                : -centerEmbedding.innerProduct(contextEmbedding);
-
-
-            float scalar = (float) (positive
-                            ? 1 / (Math.exp(affinity) + 1)
-                            : -1 / (Math.exp(affinity) + 1));
-
-            centerGradientBuffer.scalarMultiply(contextEmbedding, scalar * learningRate);
-            contextGradientBuffer.scalarMultiply(centerEmbedding, scalar * learningRate);
-
-            centerEmbedding.addMutable(centerGradientBuffer);
-            contextEmbedding.addMutable(contextGradientBuffer);
-        }
-    }
-
-    static class FloatConsumer {
-        float[] values;
-        int index;
-
-        FloatConsumer(int length) {
-            this.values = new float[length];
-        }
-
-        void add(double value) {
-            values[index++] = (float) value;
-        }
+        private void trainSample(long center, long context, float label) {
+            float affinity = centerEmbeddings.dot(center, contextEmbeddings, context);
+            float gradient = (label - sigmoid(affinity)) * learningRate;
 
-        void addAll(FloatConsumer other) {
-            System.arraycopy(other.values, 0, values, index, other.index);
-            index += other.index;
+            contextEmbeddings.addScaledRowTo(context, gradient, centerGradient);
+            contextEmbeddings.addScaled(context, gradient, centerEmbeddings, center);
         }
     }
 }
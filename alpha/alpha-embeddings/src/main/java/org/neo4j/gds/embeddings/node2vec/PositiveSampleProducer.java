@@ -21,7 +21,6 @@ package org.neo4j.gds.embeddings.node2vec;
 
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
 import java.util.Arrays;
 import java.util.concurrent.ThreadLocalRandom;
@@ -30,7 +29,8 @@ import static org.neo4j.graphalgo.core.utils.BitUtil.ceilDiv;
 
 public class PositiveSampleProducer {
 
-    private final HugeObjectArray<long[]> walks;
+    private final WalkCorpus.Cursor walks;
+    private final long walkCount;
     private final HugeDoubleArray centerNodeProbabilities;
     private final long batchEnd;
     private final int prefixWindowSize;
@@ -43,14 +43,15 @@ public class PositiveSampleProducer {
     private int contextWordIndex;
 
     public PositiveSampleProducer(
-        HugeObjectArray<long[]> walks,
+        WalkCorpus walks,
         HugeDoubleArray centerNodeProbabilities,
         long batchStart,
         long batchEnd,
         int windowSize,
         ProgressLogger progressLogger
     ) {
-        this.walks = walks;
+        this.walks = walks.cursor();
+        this.walkCount = walks.size();
         this.batchEnd = batchEnd;
         this.progressLogger = progressLogger;
         this.centerNodeProbabilities = centerNodeProbabilities;
@@ -82,15 +83,15 @@ public class PositiveSampleProducer {
     private void nextWalk() {
         walkIndex++;
 
-        if (walkIndex >= walks.size()) {
+        if (walkIndex >= walkCount) {
             return;
         }
-        long[] walk = filter(walks.get(walkIndex));
+        long[] walk = filter(walks.walk(walkIndex));
 
         while (walkIndex <= batchEnd && walk.length < 2) {
             walkIndex++;
-            if (walkIndex < walks.size()) {
-                walk = filter(walks.get(walkIndex));
+            if (walkIndex < walkCount) {
+                walk = filter(walks.walk(walkIndex));
             }
             progressLogger.logProgress();
         }
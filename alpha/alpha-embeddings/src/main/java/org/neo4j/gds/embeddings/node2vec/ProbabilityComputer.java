@@ -20,19 +20,20 @@
 package org.neo4j.gds.embeddings.node2vec;
 
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
+import java.util.ArrayList;
 import java.util.stream.LongStream;
 
 import static java.lang.Math.addExact;
 
 public class ProbabilityComputer {
 
-    private final HugeObjectArray<long[]> walks;
+    private final WalkCorpus walks;
     private final long nodeCount;
     private final int concurrency;
     private final AllocationTracker tracker;
@@ -44,7 +45,7 @@ public class ProbabilityComputer {
     private HugeLongArray contextDistribution;
 
     public ProbabilityComputer(
-        HugeObjectArray<long[]> walks,
+        WalkCorpus walks,
         long nodeCount,
         double centerSamplingFactor,
         double contextSamplingExponent,
@@ -73,16 +74,22 @@ public class ProbabilityComputer {
 
     private void computeFrequencies() {
         nodeFrequencies = HugeAtomicLongArray.newArray(nodeCount, tracker);
-        ParallelUtil.parallelStreamConsume(
-            LongStream.range(0, walks.size()),
-            concurrency,
-            walkIdStream -> walkIdStream.forEach(walkId -> {
-                var walk = walks.get(walkId);
-                for (long node : walk) {
-                    nodeFrequencies.update(node, count -> addExact(count, 1));
+        long walkCount = walks.size();
+        long batchSize = ParallelUtil.adjustedBatchSize(walkCount, concurrency, 1000);
+        var tasks = new ArrayList<Runnable>();
+        for (long batchStart = 0; batchStart < walkCount; batchStart += batchSize) {
+            long start = batchStart;
+            long end = Math.min(walkCount, batchStart + batchSize);
+            tasks.add(() -> {
+                var cursor = walks.cursor();
+                for (long walkId = start; walkId < end; walkId++) {
+                    for (long node : cursor.walk(walkId)) {
+                        nodeFrequencies.update(node, count -> addExact(count, 1));
+                    }
                 }
-            })
-        );
+            });
+        }
+        ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.DEFAULT);
     }
 
     private void computeCenterProbabilities() {
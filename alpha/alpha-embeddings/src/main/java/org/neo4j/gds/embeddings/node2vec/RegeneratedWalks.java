@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.node2vec;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.impl.walking.RandomWalkSampler;
+
+import java.util.Random;
+
+/**
+ * Walks that are not stored, but sampled again whenever they are read.
+ *
+ * Every walk is sampled with a seed derived from the base seed and its index,
+ * so reading the same walk in every training iteration results in the same walk.
+ * Walk {@code i} starts at node {@code i / walksPerNode}.
+ */
+final class RegeneratedWalks implements WalkCorpus {
+
+    private final RandomWalkSampler.Factory samplerFactory;
+    private final long nodeCount;
+    private final int walksPerNode;
+    private final int walkLength;
+    private final long seed;
+
+    RegeneratedWalks(Graph graph, Node2VecBaseConfig config, long seed) {
+        this.samplerFactory = RandomWalkSampler.node2vec(
+            graph,
+            config.returnFactor(),
+            config.inOutFactor(),
+            Random::new
+        );
+        this.nodeCount = graph.nodeCount();
+        this.walksPerNode = config.walksPerNode();
+        this.walkLength = config.walkLength();
+        this.seed = seed;
+    }
+
+    @Override
+    public long size() {
+        return nodeCount * walksPerNode;
+    }
+
+    @Override
+    public Cursor cursor() {
+        var sampler = samplerFactory.create();
+        return walkIndex -> sampler.walk(walkIndex / walksPerNode, walkLength, walkSeed(walkIndex));
+    }
+
+    private long walkSeed(long walkIndex) {
+        // SplitMix64 finalizer, so that neighbouring walks get unrelated seeds
+        long z = seed + walkIndex * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
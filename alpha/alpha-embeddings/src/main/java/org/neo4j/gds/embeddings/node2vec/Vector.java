@@ -22,10 +22,6 @@ package org.neo4j.gds.embeddings.node2vec;
 public class Vector {
     private final float[] data;
 
-    Vector(int size) {
-        this(new float[size]);
-    }
-
     Vector(float[] data) {
         this.data = data;
     }
@@ -33,24 +29,4 @@ public class Vector {
     public float[] data() {
         return data;
     }
-
-    void addMutable(Vector other) {
-        for (int pos = 0; pos < data.length; pos++) {
-            data[pos] += other.data[pos];
-        }
-    }
-
-    void scalarMultiply(Vector other, float scalar) {
-        for (int pos = 0; pos < data.length; pos++) {
-            data[pos] = other.data[pos] * scalar;
-        }
-    }
-
-    float innerProduct(Vector other) {
-        float result = 0;
-        for (int i = 0; i < data.length; i++) {
-            result += data[i] * other.data[i];
-        }
-        return result;
-    }
 }
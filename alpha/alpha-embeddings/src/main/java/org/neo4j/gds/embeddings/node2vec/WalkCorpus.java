@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.node2vec;
+
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+
+/**
+ * The random walks that Node2Vec is trained on, addressed by their index.
+ */
+public interface WalkCorpus {
+
+    long size();
+
+    /**
+     * A cursor is not thread-safe, every thread reading walks needs its own.
+     */
+    Cursor cursor();
+
+    interface Cursor {
+        long[] walk(long walkIndex);
+    }
+
+    static WalkCorpus of(HugeObjectArray<long[]> walks) {
+        return new WalkCorpus() {
+            @Override
+            public long size() {
+                return walks.size();
+            }
+
+            @Override
+            public Cursor cursor() {
+                return walks::get;
+            }
+        };
+    }
+}
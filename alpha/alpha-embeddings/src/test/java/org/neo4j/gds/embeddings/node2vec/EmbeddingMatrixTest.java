@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.node2vec;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmbeddingMatrixTest {
+
+    @Test
+    void shouldComputeOnRowsAcrossPages() {
+        // 7 floats per row do not divide the page size, so rows must not straddle pages
+        int dimension = 7;
+        long nodeCount = 10_000;
+        var left = new EmbeddingMatrix(nodeCount, dimension, AllocationTracker.empty());
+        var right = new EmbeddingMatrix(nodeCount, dimension, AllocationTracker.empty());
+        left.randomize(new Random(42));
+        right.randomize(new Random(1337));
+
+        for (long nodeId = 0; nodeId < nodeCount; nodeId += 997) {
+            long otherId = nodeCount - 1 - nodeId;
+            float[] leftRow = left.row(nodeId);
+            float[] rightRow = right.row(otherId);
+
+            float expectedDot = 0;
+            for (int i = 0; i < dimension; i++) {
+                expectedDot += leftRow[i] * rightRow[i];
+            }
+            assertEquals(expectedDot, left.dot(nodeId, right, otherId), 1e-5);
+
+            left.addScaled(nodeId, 0.5f, right, otherId);
+            float[] updated = left.row(nodeId);
+            for (int i = 0; i < dimension; i++) {
+                assertEquals(leftRow[i] + 0.5f * rightRow[i], updated[i], 1e-6);
+            }
+
+            var target = new float[dimension];
+            right.addScaledRowTo(otherId, 2.0f, target);
+            for (int i = 0; i < dimension; i++) {
+                assertEquals(2.0f * rightRow[i], target[i], 1e-6);
+            }
+        }
+    }
+
+    @Test
+    void shouldAddToRow() {
+        var matrix = new EmbeddingMatrix(3, 5, AllocationTracker.empty());
+        matrix.add(1, new float[]{1, 2, 3, 4, 5});
+        matrix.add(1, new float[]{1, 1, 1, 1, 1});
+
+        assertArrayEquals(new float[5], matrix.row(0));
+        assertArrayEquals(new float[]{2, 3, 4, 5, 6}, matrix.row(1));
+        assertArrayEquals(new float[5], matrix.row(2));
+    }
+
+    @Test
+    void shouldDrainRowsIntoVectors() {
+        int dimension = 7;
+        long nodeCount = 10_000;
+        var tracker = AllocationTracker.create();
+        var matrix = new EmbeddingMatrix(nodeCount, dimension, tracker);
+        matrix.randomize(new Random(42));
+        var expected = new float[(int) nodeCount][];
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            expected[nodeId] = matrix.row(nodeId);
+        }
+
+        var vectors = matrix.drainToVectors(nodeCount, AllocationTracker.empty());
+
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertArrayEquals(expected[nodeId], vectors.get(nodeId).data());
+        }
+        assertEquals(0, tracker.trackedBytes());
+    }
+
+    @Test
+    void shouldApproximateSigmoid() {
+        for (float x = -8; x <= 8; x += 0.01f) {
+            assertEquals(1 / (1 + Math.exp(-x)), Node2VecModel.sigmoid(x), 0.01);
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.neo4j.gds.embeddings.node2vec;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
 import java.util.Map;
@@ -39,7 +40,7 @@ class NegativeSampleProducerTest {
             new long[]{1}
         );
 
-        var probabilityComputer = new ProbabilityComputer(walks, 2, 0.001, 0.75, 4, AllocationTracker.empty());
+        var probabilityComputer = new ProbabilityComputer(WalkCorpus.of(walks), 2, 0.001, 0.75, 4, AllocationTracker.empty());
 
         var sampler = new NegativeSampleProducer(probabilityComputer.getContextNodeDistribution());
 
@@ -55,4 +56,43 @@ class NegativeSampleProducerTest {
         // We samples nodes with a probability of their number of occurrences^0.75 (16^0.75=12, 1^0.75=1)
         assertEquals(1.0 / 12, distribution.get(1L).doubleValue() / distribution.get(0L), 0.1);
     }
+
+    @Test
+    void shouldSampleAccordingToWeights() {
+        long[] weights = {1, 2, 3, 4, 0, 10};
+        long[] cumulativeWeights = new long[weights.length];
+        long totalWeight = 0;
+        for (int i = 0; i < weights.length; i++) {
+            totalWeight += weights[i];
+            cumulativeWeights[i] = totalWeight;
+        }
+
+        var sampler = new NegativeSampleProducer(HugeLongArray.of(cumulativeWeights), AllocationTracker.empty());
+
+        int sampleCount = 200_000;
+        long[] counts = new long[weights.length];
+        for (int i = 0; i < sampleCount; i++) {
+            counts[(int) sampler.nextSample()]++;
+        }
+
+        for (int nodeId = 0; nodeId < weights.length; nodeId++) {
+            assertEquals((double) weights[nodeId] / totalWeight, (double) counts[nodeId] / sampleCount, 0.01);
+        }
+        assertEquals(0, counts[4]);
+    }
+
+    @Test
+    void shouldSampleUniformlyWithoutWeights() {
+        var sampler = new NegativeSampleProducer(HugeLongArray.of(0, 0, 0, 0), AllocationTracker.empty());
+
+        int sampleCount = 100_000;
+        long[] counts = new long[4];
+        for (int i = 0; i < sampleCount; i++) {
+            counts[(int) sampler.nextSample()]++;
+        }
+
+        for (long count : counts) {
+            assertEquals(0.25, (double) count / sampleCount, 0.01);
+        }
+    }
 }
@@ -74,8 +74,8 @@ class Node2VecModelTest {
         Node2VecModel word2Vec = new Node2VecModel(
             nodeCount,
             config,
-            walks,
-            new ProbabilityComputer(walks, nodeCount, 0.001, 0.75, 4, AllocationTracker.empty()),
+            WalkCorpus.of(walks),
+            new ProbabilityComputer(WalkCorpus.of(walks), nodeCount, 0.001, 0.75, 4, AllocationTracker.empty()),
             TestProgressLogger.NULL_LOGGER,
             AllocationTracker.empty()
         );
@@ -64,7 +64,7 @@ class PositiveSampleProducerTest {
         // our sample producer is supposed to work within the first 3 walks
         // it prefetches in the constructor
         var sampleProducer = new PositiveSampleProducer(
-            walks,
+            WalkCorpus.of(walks),
             HugeDoubleArray.of(LongStream.range(0, nbrOfWalks).mapToDouble((l) -> 1.0).toArray()),
             0,
             3,
@@ -97,7 +97,7 @@ class PositiveSampleProducerTest {
         // it prefetches in the constructor
         HugeDoubleArray probabilities = HugeDoubleArray.of(LongStream.range(0, nbrOfWalks).mapToDouble((l) -> 0).toArray());
         var sampleProducer = new PositiveSampleProducer(
-            walks,
+            WalkCorpus.of(walks),
             probabilities,
             0,
             nbrOfWalks - 1,
@@ -126,7 +126,7 @@ class PositiveSampleProducerTest {
         );
 
         var sampleProducer = new PositiveSampleProducer(
-            walks,
+            WalkCorpus.of(walks),
             HugeDoubleArray.of(LongStream.range(0, nbrOfWalks).mapToDouble((l) -> 1.0).toArray()),
             0,
             nbrOfWalks / 2 - 1,
@@ -154,7 +154,7 @@ class PositiveSampleProducerTest {
         Collection<Pair<Long, Long>> actualPairs = new ArrayList<>();
 
         PositiveSampleProducer producer = new PositiveSampleProducer(
-            walks,
+            WalkCorpus.of(walks),
             centerNodeProbabilities,
             0,
             walks.size() - 1L,
@@ -180,7 +180,7 @@ class PositiveSampleProducerTest {
 
         Collection<Pair<Long, Long>> actualPairs = new ArrayList<>();
         PositiveSampleProducer producer = new PositiveSampleProducer(
-            walks,
+            WalkCorpus.of(walks),
             centerNodeProbabilities,
             0,
             1,
@@ -229,7 +229,7 @@ class PositiveSampleProducerTest {
 
         Collection<Pair<Long, Long>> actualPairs = new ArrayList<>();
         PositiveSampleProducer producer = new PositiveSampleProducer(
-            walks,
+            WalkCorpus.of(walks),
             centerNodeProbabilities,
             0,
             3,
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.node2vec;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.Inject;
+import org.neo4j.graphalgo.extension.TestGraph;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@GdlExtension
+class WalkCorpusTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String GRAPH =
+        "CREATE" +
+        "  (a)" +
+        ", (b)" +
+        ", (c)" +
+        ", (d)" +
+        ", (a)-[:REL]->(b)" +
+        ", (a)-[:REL]->(c)" +
+        ", (b)-[:REL]->(c)" +
+        ", (c)-[:REL]->(d)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void shouldDecodeCompressedWalks() {
+        long[][] expected = {
+            {0, 1, 2, 3},
+            {42L, 1L << 40, 7, 7, 0},
+            {},
+            {Long.MAX_VALUE, 0, Long.MAX_VALUE}
+        };
+
+        var walks = new CompressedWalks(expected.length, AllocationTracker.empty());
+        for (long[] walk : expected) {
+            walks.add(walk);
+        }
+
+        assertEquals(expected.length, walks.size());
+        var cursor = walks.cursor();
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(expected[i], cursor.walk(i));
+        }
+    }
+
+    @Test
+    void shouldRegenerateTheSameWalks() {
+        var config = ImmutableNode2VecStreamConfig.builder()
+            .walkLength(10)
+            .walksPerNode(3)
+            .returnFactor(0.5)
+            .inOutFactor(2.0)
+            .build();
+        var walks = new RegeneratedWalks(graph, config, 42L);
+
+        assertEquals(graph.nodeCount() * 3, walks.size());
+        var cursor = walks.cursor();
+        var otherCursor = walks.cursor();
+        for (long walkIndex = walks.size() - 1; walkIndex >= 0; walkIndex--) {
+            long[] walk = cursor.walk(walkIndex);
+            assertEquals(11, walk.length);
+            assertEquals(walkIndex / 3, walk[0]);
+            assertArrayEquals(walk, cursor.walk(walkIndex));
+            assertArrayEquals(walk, otherCursor.walk(walkIndex));
+        }
+    }
+}
@@ -122,7 +122,8 @@ public class LinkPredictionPredictMutateProc extends MutateProc<LinkPredictionPr
                     configuration.topN(),
                     tracker,
                     progressLogger,
-                    configuration.threshold()
+                    configuration.threshold(),
+                    configuration.candidateGeneration()
                 );
             }
 
@@ -94,7 +94,7 @@ public final class ArticleRankProc extends AlgoBaseProc<PageRank, PageRank, Arti
             NodePropertyExporter exporter = NodePropertyExporter
                 .builder(api, graph, algo.getTerminationFlag())
                 .withLog(log)
-                .parallel(Pools.DEFAULT, config.writeConcurrency())
+                .parallel(config.writeExecutor().executor(), config.writeConcurrency())
                 .build();
             algo.result().export(config.writeProperty(), exporter);
         }
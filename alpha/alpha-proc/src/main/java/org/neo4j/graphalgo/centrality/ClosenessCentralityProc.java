@@ -104,7 +104,7 @@ public class ClosenessCentralityProc extends AlgoBaseProc<MSClosenessCentrality,
         try(ProgressTimer ignore = ProgressTimer.start(builder::withWriteMillis)) {
             NodePropertyExporter exporter = NodePropertyExporter.builder(api, graph, algorithm.getTerminationFlag())
                 .withLog(log)
-                .parallel(Pools.DEFAULT, computationResult.config().writeConcurrency())
+                .parallel(computationResult.config().writeExecutor().executor(), computationResult.config().writeConcurrency())
                 .build();
             algorithm.export(config.writeProperty(), exporter);
         }
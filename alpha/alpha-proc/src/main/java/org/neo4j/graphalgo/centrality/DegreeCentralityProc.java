@@ -104,7 +104,7 @@ public class DegreeCentralityProc extends AlgoBaseProc<DegreeCentrality, DegreeC
             NodePropertyExporter exporter = NodePropertyExporter
                 .builder(api, computeResult.graph(), algorithm.getTerminationFlag())
                 .withLog(log)
-                .parallel(Pools.DEFAULT, config.writeConcurrency())
+                .parallel(config.writeExecutor().executor(), config.writeConcurrency())
                 .build();
             algorithm.result().export(propertyName, exporter);
         }
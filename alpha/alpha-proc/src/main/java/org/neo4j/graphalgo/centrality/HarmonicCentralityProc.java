@@ -101,7 +101,7 @@ public class HarmonicCentralityProc extends AlgoBaseProc<HarmonicCentrality, Har
         try (ProgressTimer ignore = ProgressTimer.start(builder::withWriteMillis)) {
             NodePropertyExporter exporter = NodePropertyExporter.builder(api, graph, algorithm.getTerminationFlag())
                 .withLog(log)
-                .parallel(Pools.DEFAULT, computationResult.config().writeConcurrency())
+                .parallel(computationResult.config().writeExecutor().executor(), computationResult.config().writeConcurrency())
                 .build();
 
             exporter.write(
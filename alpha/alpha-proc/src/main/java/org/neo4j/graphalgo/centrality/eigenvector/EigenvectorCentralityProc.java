@@ -24,7 +24,6 @@ import org.neo4j.graphalgo.AlgorithmFactory;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
-import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
 import org.neo4j.graphalgo.core.write.NodePropertyExporter;
 import org.neo4j.graphalgo.impl.utils.NormalizationFunction;
@@ -89,7 +88,7 @@ public final class EigenvectorCentralityProc extends AlgoBaseProc<PageRank, Page
             NodePropertyExporter exporter = NodePropertyExporter
                 .builder(api, computationResult.graph(), algorithm.getTerminationFlag())
                 .withLog(log)
-                .parallel(Pools.DEFAULT, config.writeConcurrency())
+                .parallel(config.writeExecutor().executor(), config.writeConcurrency())
                 .build();
             normalizedResults.export(config.writeProperty(), exporter);
         }
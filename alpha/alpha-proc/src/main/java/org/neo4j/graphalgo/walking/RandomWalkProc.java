@@ -29,6 +29,7 @@ import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphalgo.impl.walking.RandomWalk;
 import org.neo4j.graphalgo.impl.walking.RandomWalkConfig;
+import org.neo4j.graphalgo.impl.walking.RandomWalkSampler;
 import org.neo4j.graphalgo.impl.walking.WalkPath;
 import org.neo4j.graphalgo.impl.walking.WalkResult;
 import org.neo4j.internal.kernel.api.NodeLabelIndexCursor;
@@ -41,7 +42,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.PrimitiveIterator;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -91,19 +91,19 @@ public class RandomWalkProc extends AlgoBaseProc<RandomWalk, Stream<long[]>, Ran
             Number returnParam = configuration.returnKey();
             Number inOut = configuration.inOut();
 
-            RandomWalk.NextNodeStrategy strategy = configuration.mode().equalsIgnoreCase("random") ?
-                new RandomWalk.RandomNextNodeStrategy(graph, graph) :
-                new RandomWalk.Node2VecStrategy(graph, graph, returnParam.doubleValue(), inOut.doubleValue());
+            RandomWalkSampler.Factory samplerFactory = configuration.mode().equalsIgnoreCase("random") ?
+                RandomWalkSampler.uniform(graph) :
+                RandomWalkSampler.node2vec(graph, returnParam.doubleValue(), inOut.doubleValue());
 
-            int limit = (configuration.walks() == -1)
-                ? Math.toIntExact(graph.nodeCount())
-                : Math.toIntExact(configuration.walks());
+            long limit = (configuration.walks() == -1)
+                ? graph.nodeCount()
+                : configuration.walks();
 
-            PrimitiveIterator.OfInt idStream = parallelStream(
-                IntStream.range(0, limit).unordered(),
+            PrimitiveIterator.OfLong idStream = parallelStream(
+                LongStream.range(0, limit).unordered(),
                 configuration.concurrency(),
                 stream -> stream
-                    .flatMap((s) -> idStream(configuration.start(), graph, limit))
+                    .flatMapToLong((s) -> idStream(configuration.start(), graph, limit))
                     .limit(limit)
                     .iterator()
             );
@@ -111,7 +111,7 @@ public class RandomWalkProc extends AlgoBaseProc<RandomWalk, Stream<long[]>, Ran
             return new RandomWalk(
                 graph,
                 (int) configuration.steps(),
-                strategy,
+                samplerFactory,
                 configuration.concurrency(),
                 limit,
                 idStream
@@ -120,12 +120,12 @@ public class RandomWalkProc extends AlgoBaseProc<RandomWalk, Stream<long[]>, Ran
         };
     }
 
-    private IntStream idStream(Object start, Graph graph, int limit) {
-        int nodeCount = Math.toIntExact(graph.nodeCount());
+    private LongStream idStream(Object start, Graph graph, long limit) {
+        long nodeCount = graph.nodeCount();
         if (start instanceof String) {
             String label = start.toString();
             int labelId = transaction.tokenRead().nodeLabel(label);
-            int countWithLabel = Math.toIntExact(transaction.dataRead().countsForNodeWithoutTxState(labelId));
+            long countWithLabel = transaction.dataRead().countsForNodeWithoutTxState(labelId);
             NodeLabelIndexCursor cursor = Neo4jProxy.allocateNodeLabelIndexCursor(transaction.cursors(), transaction.pageCursorTracer());
 
             Neo4jProxy.nodeLabelScan(transaction.dataRead(), labelId, cursor);
@@ -134,27 +134,26 @@ public class RandomWalkProc extends AlgoBaseProc<RandomWalk, Stream<long[]>, Ran
             if (limit == -1) {
                 ids = LongStream.range(0, countWithLabel).map(i -> cursor.next() ? cursor.nodeReference() : -1L);
             } else {
-                int[] indexes = ThreadLocalRandom.current().ints(limit + 1, 0, countWithLabel).sorted().toArray();
-                IntStream deltas = IntStream.range(0, limit).map(i -> indexes[i + 1] - indexes[i]);
-                ids = deltas.mapToLong(delta -> {
+                long[] indexes = ThreadLocalRandom.current().longs(limit + 1, 0, countWithLabel).sorted().toArray();
+                LongStream deltas = LongStream.range(0, limit).map(i -> indexes[(int) i + 1] - indexes[(int) i]);
+                ids = deltas.map(delta -> {
                     while (delta > 0 && cursor.next()) delta--;
                     return cursor.nodeReference();
                 });
             }
-            return ids.map(graph::toMappedNodeId).mapToInt(Math::toIntExact).onClose(cursor::close);
+            return ids.map(graph::toMappedNodeId).onClose(cursor::close);
         } else if (start instanceof Collection) {
             return ((Collection<?>) start)
                 .stream()
                 .mapToLong(e -> ((Number) e).longValue())
-                .map(graph::toMappedNodeId)
-                .mapToInt(Math::toIntExact);
+                .map(graph::toMappedNodeId);
         } else if (start instanceof Number) {
-            return LongStream.of(((Number) start).longValue()).map(graph::toMappedNodeId).mapToInt(Math::toIntExact);
+            return LongStream.of(((Number) start).longValue()).map(graph::toMappedNodeId);
         } else {
             if (nodeCount < limit) {
-                return IntStream.range(0, nodeCount).limit(limit);
+                return LongStream.range(0, nodeCount).limit(limit);
             } else {
-                return IntStream.generate(() -> ThreadLocalRandom.current().nextInt(nodeCount)).limit(limit);
+                return LongStream.generate(() -> ThreadLocalRandom.current().nextLong(nodeCount)).limit(limit);
             }
         }
     }
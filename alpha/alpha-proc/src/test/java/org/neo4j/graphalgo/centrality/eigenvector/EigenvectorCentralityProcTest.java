@@ -21,6 +21,7 @@ package org.neo4j.graphalgo.centrality.eigenvector;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -162,6 +163,18 @@ class EigenvectorCentralityProcTest extends BaseProcTest {
         super.assertMapEqualsWithTolerance(expected, actual, 0.1);
     }
 
+    @Test
+    void shouldFailOnResidualPush() {
+        String query = GdsCypher.call()
+            .explicitCreation(EXPLICIT_GRAPH_NAME)
+            .algo("gds", "alpha", "eigenvector")
+            .streamMode()
+            .addParameter("residualPush", true)
+            .yields("nodeId", "score");
+
+        assertError(query, "The `residualPush` option is not supported for Eigenvector Centrality.");
+    }
+
     @ParameterizedTest(name = "Normalization: {0}")
     @MethodSource("normalizations")
     void eigenvectorCentralityOnExplicitGraph(String normalizationType, Map<Long, Double> expected) {
@@ -202,4 +202,13 @@ public enum ValueType {
                 throw new IllegalArgumentException("Unexpected value: " + nt + " (sad java 😞)");
         }
     }
+
+    public static ValueType fromCsvName(String csvName) {
+        for (ValueType type : values()) {
+            if (type != UNKNOWN && type.csvName().equals(csvName)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unexpected CSV value type: " + csvName);
+    }
 }
@@ -28,6 +28,7 @@ import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.graphalgo.core.utils.partition.Partition;
 import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
@@ -128,8 +129,10 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
         var computeSteps = createComputeSteps(voteBits);
 
+        var iterationTimer = MetricsRegistry.timer("pregel.iteration");
         int iterations;
         for (iterations = 0; iterations < config.maxIterations(); iterations++) {
+            long start = System.nanoTime();
             // Init compute steps with the updated state
             for (var computeStep : computeSteps) {
                 computeStep.init(iterations);
@@ -141,7 +144,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
             // Run the computation
             runComputeSteps(computeSteps);
             runMasterComputeStep(iterations);
-
+            iterationTimer.record(System.nanoTime() - start);
 
             var lastIterationSendMessages = computeSteps
                 .stream()
@@ -113,6 +113,8 @@ public interface GraphCreateConfig extends BaseConfig {
         R cypher(GraphCreateFromCypherConfig cypherConfig);
 
         R random(RandomGraphGeneratorConfig randomGraphConfig);
+
+        R file(GraphCreateFromFileConfig fileConfig);
     }
 
     interface Visitor extends Cases<Void> {
@@ -135,11 +137,19 @@ public interface GraphCreateConfig extends BaseConfig {
             return null;
         }
 
+        @Override
+        default Void file(GraphCreateFromFileConfig fileConfig) {
+            visit(fileConfig);
+            return null;
+        }
+
         default void visit(GraphCreateFromStoreConfig storeConfig) {}
 
         default void visit(GraphCreateFromCypherConfig cypherConfig) {}
 
         default void visit(RandomGraphGeneratorConfig randomGraphConfig) {}
+
+        default void visit(GraphCreateFromFileConfig fileConfig) {}
     }
 
     interface Rewriter extends Cases<GraphCreateConfig> {
@@ -159,6 +169,11 @@ public interface GraphCreateConfig extends BaseConfig {
             return randomGraphConfig;
         }
 
+        @Override
+        default GraphCreateConfig file(GraphCreateFromFileConfig fileConfig) {
+            return fileConfig;
+        }
+
         default GraphCreateConfig apply(GraphCreateConfig config) {
             return config.accept(this);
         }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.config;
+
+import org.immutables.value.Value;
+import org.neo4j.graphalgo.annotation.Configuration;
+import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.api.GraphStoreFactory;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.utils.export.file.FileFormat;
+
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface GraphCreateFromFileConfig extends GraphCreateConfig {
+
+    String IMPORT_NAME_KEY = "importName";
+    String FORMAT_KEY = "format";
+
+    @Configuration.Key(IMPORT_NAME_KEY)
+    String importName();
+
+    @Value.Default
+    @Configuration.Key(FORMAT_KEY)
+    @Configuration.ConvertWith("org.neo4j.graphalgo.core.utils.export.file.FileFormat#parse")
+    default FileFormat format() {
+        return FileFormat.CSV;
+    }
+
+    @Configuration.Ignore
+    @Override
+    default GraphStoreFactory.Supplier graphStoreFactory() {
+        throw new UnsupportedOperationException("GraphCreateFromFileConfig requires an explicit import location.");
+    }
+
+    @Override
+    @Configuration.Ignore
+    default <R> R accept(Cases<R> visitor) {
+        return visitor.file(this);
+    }
+
+    static GraphCreateFromFileConfig of(String username, String graphName, CypherMapWrapper config) {
+        return new GraphCreateFromFileConfigImpl(graphName, username, config);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.config;
+
+import org.immutables.value.Value;
+import org.neo4j.graphalgo.annotation.Configuration;
+import org.neo4j.graphalgo.core.concurrency.ExecutorType;
+
+public interface WriteExecutorConfig {
+
+    String WRITE_EXECUTOR_KEY = "writeExecutor";
+
+    /**
+     * Writing mostly waits for transactions or files, so it runs on the I/O pool by default
+     * and does not occupy the threads available to algorithms.
+     */
+    @Value.Default
+    @Configuration.Key(WRITE_EXECUTOR_KEY)
+    @Configuration.ConvertWith("org.neo4j.graphalgo.core.concurrency.ExecutorType#parse")
+    @Configuration.ToMapValue("org.neo4j.graphalgo.core.concurrency.ExecutorType#toString")
+    default ExecutorType writeExecutor() {
+        return ExecutorType.IO;
+    }
+}
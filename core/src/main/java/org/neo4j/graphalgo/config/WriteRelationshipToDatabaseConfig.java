@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.config;
+
+import org.immutables.value.Value;
+import org.neo4j.configuration.helpers.DatabaseNameValidator;
+import org.neo4j.configuration.helpers.NormalizedDatabaseName;
+import org.neo4j.graphalgo.annotation.Configuration;
+
+import java.util.Optional;
+
+public interface WriteRelationshipToDatabaseConfig extends WriteRelationshipConfig {
+
+    String WRITE_TO_DATABASE_KEY = "writeToDatabase";
+
+    /**
+     * If set, result relationships are not written transactionally into the
+     * current database, but batch imported into a new offline database of that name.
+     */
+    @Configuration.Key(WRITE_TO_DATABASE_KEY)
+    Optional<String> writeToDatabase();
+
+    @Value.Check
+    default void validateWriteToDatabase() {
+        writeToDatabase().ifPresent(dbName ->
+            DatabaseNameValidator.validateExternalDatabaseName(new NormalizedDatabaseName(dbName))
+        );
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.concurrency;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.mem.GcListenerExtension;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.humanReadable;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Coordinates concurrently running algorithms.
+ *
+ * Before an algorithm runs, it {@link #admit admits} a job that reserves its estimated memory
+ * and its concurrency. If enabled, a job is only started when the reserved memory of all running jobs
+ * plus its own estimate fits into the free heap and when the sum of the concurrency of all running jobs
+ * stays within the concurrency budget. Jobs that do not fit wait in a first-in-first-out queue.
+ * A job is always started if no other job is running, as its memory has been validated before.
+ *
+ * Memory that running jobs have already allocated is no longer part of the free heap but still reserved,
+ * so it is counted twice. This errs on the side of queueing jobs rather than running out of memory.
+ *
+ * If disabled, jobs are started immediately but are still listed.
+ */
+public final class AdmissionControl {
+
+    private static final long WAIT_INTERVAL_MILLIS = 100;
+
+    private static volatile AdmissionControl instance = disabled();
+
+    private final boolean enabled;
+    private final int concurrencyBudget;
+    private final Duration queueTimeout;
+    private final LongSupplier freeMemory;
+
+    private final ReentrantLock lock;
+    private final Condition jobsChanged;
+    private final Deque<Job> queued;
+    private final Set<Job> running;
+    private long reservedBytes;
+    private int reservedConcurrency;
+
+    public static AdmissionControl instance() {
+        return instance;
+    }
+
+    public static void configure(boolean enabled, int concurrencyBudget, Duration queueTimeout) {
+        instance = new AdmissionControl(enabled, concurrencyBudget, queueTimeout, GcListenerExtension::freeMemory);
+    }
+
+    public static void reset() {
+        instance = disabled();
+    }
+
+    private static AdmissionControl disabled() {
+        return new AdmissionControl(false, Integer.MAX_VALUE, Duration.ZERO, GcListenerExtension::freeMemory);
+    }
+
+    @TestOnly
+    AdmissionControl(boolean enabled, int concurrencyBudget, Duration queueTimeout, LongSupplier freeMemory) {
+        if (concurrencyBudget < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The concurrency budget must be at least 1, but got %d.",
+                concurrencyBudget
+            ));
+        }
+        this.enabled = enabled;
+        this.concurrencyBudget = concurrencyBudget;
+        this.queueTimeout = queueTimeout;
+        this.freeMemory = freeMemory;
+        this.lock = new ReentrantLock(true);
+        this.jobsChanged = lock.newCondition();
+        this.queued = new ArrayDeque<>();
+        this.running = new LinkedHashSet<>();
+    }
+
+    /**
+     * Waits until the job can be started and reserves its resources.
+     * The resources are released when the returned job is closed.
+     *
+     * @throws IllegalStateException if the job could not be started within the queue timeout
+     */
+    public Job admit(
+        String username,
+        String jobName,
+        long estimatedBytes,
+        int concurrency,
+        TerminationFlag terminationFlag
+    ) {
+        var job = new Job(username, jobName, Math.max(0, estimatedBytes), Math.min(concurrency, concurrencyBudget));
+        lock.lock();
+        try {
+            if (enabled) {
+                waitForTurn(job, terminationFlag);
+            }
+            start(job);
+            return job;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int concurrencyBudget() {
+        return concurrencyBudget;
+    }
+
+    public Status status() {
+        lock.lock();
+        try {
+            return ImmutableStatus.of(
+                enabled,
+                running.size(),
+                queued.size(),
+                reservedBytes,
+                reservedConcurrency,
+                concurrencyBudget
+            );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the running jobs followed by the queued jobs in queue order.
+     */
+    public List<JobInfo> jobs() {
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            var jobs = new ArrayList<JobInfo>(running.size() + queued.size());
+            running.forEach(job -> jobs.add(job.info(State.RUNNING, -1, now)));
+            int position = 0;
+            for (Job job : queued) {
+                jobs.add(job.info(State.QUEUED, position++, now));
+            }
+            return jobs;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void waitForTurn(Job job, TerminationFlag terminationFlag) {
+        queued.addLast(job);
+        boolean admitted = false;
+        try {
+            long deadline = System.nanoTime() + queueTimeout.toNanos();
+            while (!canStart(job)) {
+                terminationFlag.assertRunning();
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new IllegalStateException(formatWithLocale(
+                        "Procedure was blocked since it could not be started within %d seconds: " +
+                        "%d jobs with an estimated memory of %s and a concurrency of %d are running.",
+                        queueTimeout.toSeconds(),
+                        running.size(),
+                        humanReadable(reservedBytes),
+                        reservedConcurrency
+                    ));
+                }
+                // wake up regularly to check whether the job has been terminated
+                jobsChanged.await(
+                    Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(WAIT_INTERVAL_MILLIS)),
+                    TimeUnit.NANOSECONDS
+                );
+            }
+            admitted = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for resources", e);
+        } finally {
+            queued.remove(job);
+            if (!admitted) {
+                // the next job might fit now
+                jobsChanged.signalAll();
+            }
+        }
+    }
+
+    private boolean canStart(Job job) {
+        if (queued.peekFirst() != job) {
+            return false;
+        }
+        if (running.isEmpty()) {
+            return true;
+        }
+        return reservedConcurrency + job.concurrency <= concurrencyBudget
+               && reservedBytes + job.estimatedBytes <= freeMemory.getAsLong();
+    }
+
+    private void start(Job job) {
+        job.startTimeMillis = System.currentTimeMillis();
+        running.add(job);
+        reservedBytes += job.estimatedBytes;
+        reservedConcurrency += job.concurrency;
+        // the next job in the queue might fit as well
+        jobsChanged.signalAll();
+    }
+
+    private void finish(Job job) {
+        lock.lock();
+        try {
+            if (running.remove(job)) {
+                reservedBytes -= job.estimatedBytes;
+                reservedConcurrency -= job.concurrency;
+                jobsChanged.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public enum State {
+        QUEUED,
+        RUNNING
+    }
+
+    public final class Job implements AutoCloseable {
+        private final String username;
+        private final String jobName;
+        private final long estimatedBytes;
+        private final int concurrency;
+        private final long submitTimeMillis;
+        private long startTimeMillis;
+
+        private Job(String username, String jobName, long estimatedBytes, int concurrency) {
+            this.username = username;
+            this.jobName = jobName;
+            this.estimatedBytes = estimatedBytes;
+            this.concurrency = concurrency;
+            this.submitTimeMillis = System.currentTimeMillis();
+        }
+
+        private JobInfo info(State state, int queuePosition, long now) {
+            long since = state == State.RUNNING ? startTimeMillis : submitTimeMillis;
+            return ImmutableJobInfo.of(
+                username,
+                jobName,
+                state,
+                queuePosition,
+                estimatedBytes,
+                concurrency,
+                Math.max(0, now - since)
+            );
+        }
+
+        @Override
+        public void close() {
+            finish(this);
+        }
+    }
+
+    @ValueClass
+    public interface JobInfo {
+        String username();
+
+        String jobName();
+
+        State state();
+
+        /**
+         * Position in the queue, starting with 0, or -1 for running jobs.
+         */
+        int queuePosition();
+
+        long estimatedBytes();
+
+        int concurrency();
+
+        /**
+         * Time spent in the current state.
+         */
+        long elapsedMillis();
+    }
+
+    @ValueClass
+    public interface Status {
+        boolean enabled();
+
+        int runningJobs();
+
+        int queuedJobs();
+
+        long reservedBytes();
+
+        int reservedConcurrency();
+
+        int concurrencyBudget();
+    }
+}
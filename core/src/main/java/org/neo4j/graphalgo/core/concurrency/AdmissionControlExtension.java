@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.concurrency;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Config;
+import org.neo4j.kernel.extension.ExtensionFactory;
+import org.neo4j.kernel.extension.context.ExtensionContext;
+import org.neo4j.kernel.lifecycle.Lifecycle;
+import org.neo4j.kernel.lifecycle.LifecycleAdapter;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@ServiceProvider
+public final class AdmissionControlExtension extends ExtensionFactory<AdmissionControlExtension.Dependencies> {
+
+    public AdmissionControlExtension() {
+        super("gds.admission_control");
+    }
+
+    @Override
+    public Lifecycle newInstance(ExtensionContext context, Dependencies dependencies) {
+        var config = dependencies.config();
+        return new LifecycleAdapter() {
+            @Override
+            public void start() {
+                int maxConcurrency = config.get(AdmissionControlSettings.admission_control_max_concurrency);
+                AdmissionControl.configure(
+                    config.get(AdmissionControlSettings.admission_control_enabled),
+                    maxConcurrency > 0 ? maxConcurrency : ((ThreadPoolExecutor) Pools.DEFAULT).getCorePoolSize(),
+                    config.get(AdmissionControlSettings.admission_control_queue_timeout)
+                );
+            }
+
+            @Override
+            public void shutdown() {
+                AdmissionControl.reset();
+            }
+        };
+    }
+
+    interface Dependencies {
+        Config config();
+    }
+}
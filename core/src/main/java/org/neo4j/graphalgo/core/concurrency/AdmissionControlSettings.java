@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.concurrency;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Description;
+import org.neo4j.configuration.DocumentedDefaultValue;
+import org.neo4j.configuration.SettingsDeclaration;
+import org.neo4j.graphdb.config.Setting;
+
+import java.time.Duration;
+
+import static org.neo4j.configuration.SettingImpl.newBuilder;
+import static org.neo4j.configuration.SettingValueParsers.BOOL;
+import static org.neo4j.configuration.SettingValueParsers.DURATION;
+import static org.neo4j.configuration.SettingValueParsers.INT;
+
+@ServiceProvider
+public final class AdmissionControlSettings implements SettingsDeclaration {
+
+    @Description("Queue algorithm runs until their estimated memory and their concurrency are available.")
+    @DocumentedDefaultValue("false")
+    public static final Setting<Boolean> admission_control_enabled = newBuilder(
+        "gds.admission_control.enabled",
+        BOOL,
+        false
+    ).build();
+
+    @Description("Maximum time an algorithm run waits in the queue before it fails.")
+    @DocumentedDefaultValue("10m")
+    public static final Setting<Duration> admission_control_queue_timeout = newBuilder(
+        "gds.admission_control.queue_timeout",
+        DURATION,
+        Duration.ofMinutes(10)
+    ).build();
+
+    @Description("Sum of the concurrency of all running algorithms. " +
+                 "Values of 0 or less use the number of core threads of the GDS thread pool.")
+    @DocumentedDefaultValue("0")
+    public static final Setting<Integer> admission_control_max_concurrency = newBuilder(
+        "gds.admission_control.max_concurrency",
+        INT,
+        0
+    ).build();
+}
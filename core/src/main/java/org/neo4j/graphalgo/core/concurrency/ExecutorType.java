@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.concurrency;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The pools that tasks can be run on, depending on whether they are bound by the CPU or by I/O.
+ */
+public enum ExecutorType {
+    /**
+     * Algorithms and other CPU-bound work, limited to the number of processors.
+     */
+    COMPUTE {
+        @Override
+        public ExecutorService executor() {
+            return Pools.DEFAULT;
+        }
+    },
+    /**
+     * Transaction- and file-bound work, e.g. writing results back to the database or exporting to files.
+     */
+    IO {
+        @Override
+        public ExecutorService executor() {
+            return Pools.IO;
+        }
+    };
+
+    public abstract ExecutorService executor();
+
+    public static ExecutorType parse(Object object) {
+        if (object == null) {
+            return null;
+        }
+        if (object instanceof String) {
+            var name = ((String) object).toUpperCase(Locale.ENGLISH);
+            return Arrays.stream(values())
+                .filter(type -> type.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(formatWithLocale(
+                    "Executor type `%s` is not supported. Must be one of: %s.",
+                    object,
+                    Arrays.toString(values())
+                )));
+        }
+        if (object instanceof ExecutorType) {
+            return (ExecutorType) object;
+        }
+        return null;
+    }
+
+    public static String toString(ExecutorType executorType) {
+        return executorType.name();
+    }
+}
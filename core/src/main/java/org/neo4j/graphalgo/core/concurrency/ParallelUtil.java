@@ -28,12 +28,14 @@ import org.neo4j.graphalgo.core.utils.BitUtil;
 import org.neo4j.graphalgo.core.utils.LazyMappingCollection;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.graphalgo.core.utils.metrics.Timer;
 import org.neo4j.graphalgo.utils.ExceptionUtil;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
@@ -881,6 +883,53 @@ public final class ParallelUtil {
         }
     }
 
+    /**
+     * Runs the given tasks with {@code concurrency} workers that steal tasks from each other.
+     * <p>
+     * Unlike {@link #runWithConcurrency}, which submits every task to the executor, only one runnable
+     * per worker is submitted. The tasks are split into contiguous ranges, one per worker, and a worker
+     * that finished its range takes over half of the remaining range of another worker.
+     * This balances the load if the cost of the tasks is skewed, and it preserves locality
+     * if the tasks are ordered, e.g. by node id.
+     *
+     * @param taskTimer if present, the duration of every task is recorded, which reports the tail latency of the tasks
+     */
+    public static void runWithWorkStealing(
+        final int concurrency,
+        final List<? extends Runnable> tasks,
+        final TerminationFlag terminationFlag,
+        final ExecutorService executor,
+        final @Nullable Timer taskTimer
+    ) {
+        Supplier<Consumer<Runnable>> newWorker = () -> Runnable::run;
+        runWithWorkStealing(concurrency, tasks, newWorker, terminationFlag, executor, taskTimer);
+    }
+
+    /**
+     * Runs {@code concurrency} workers that process the given tasks, stealing tasks from each other.
+     * Every worker is created once using {@code newWorker}, which allows workers to keep
+     * thread-local state, e.g. a {@link org.neo4j.graphalgo.api.RelationshipIterator#concurrentCopy()}.
+     *
+     * @see #runWithWorkStealing(int, List, TerminationFlag, ExecutorService, Timer)
+     */
+    public static <T> void runWithWorkStealing(
+        final int concurrency,
+        final List<T> tasks,
+        final Supplier<? extends Consumer<? super T>> newWorker,
+        final TerminationFlag terminationFlag,
+        final ExecutorService executor,
+        final @Nullable Timer taskTimer
+    ) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        int workerCount = canRunInParallel(executor)
+            ? Math.max(1, Math.min(concurrency, tasks.size()))
+            : 1;
+        var scheduler = new WorkStealingScheduler<>(tasks, workerCount, terminationFlag, taskTimer);
+        run(scheduler.workers(newWorker), executor);
+    }
+
     public static void awaitTermination(final Collection<Future<?>> futures) {
         boolean done = false;
         Throwable error = null;
@@ -28,6 +28,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -39,8 +40,17 @@ public final class Pools {
 
     public static final ExecutorService DEFAULT = createDefaultPool();
     public static final ExecutorService DEFAULT_SINGLE_THREAD_POOL = createDefaultSingleThreadPool();
+    /**
+     * Pool for tasks that mostly wait for transactions or files, e.g. writing results back to the database.
+     * Threads are started on demand and stop after being idle, so that blocked writers do not occupy
+     * the threads of {@link #DEFAULT}, which is sized for CPU-bound algorithms.
+     */
+    public static final ExecutorService IO = createIoPool();
 
     static final String THREAD_NAME_PREFIX = "gds";
+    static final String IO_THREAD_NAME_PREFIX = "gds-io";
+    static final String COORDINATOR_THREAD_NAME_PREFIX = "gds-coordinator";
+    static final int IO_THREADS_PER_PROCESSOR = 4;
 
     private Pools() {
         throw new UnsupportedOperationException();
@@ -66,10 +76,38 @@ public final class Pools {
         );
     }
 
+    static ExecutorService createIoPool() {
+        int poolSize = GdsEdition.instance().isOnEnterpriseEdition()
+            ? Runtime.getRuntime().availableProcessors() * IO_THREADS_PER_PROCESSOR
+            : CONCURRENCY_LIMITATION;
+
+        // core and maximum size are equal so that the pool grows before queueing,
+        // idle core threads time out so that the pool shrinks again
+        var pool = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            30L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            NamedThreadFactory.daemon(IO_THREAD_NAME_PREFIX)
+        );
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
     public static ExecutorService createDefaultSingleThreadPool() {
         return Executors.newSingleThreadExecutor(NamedThreadFactory.daemon("algo"));
     }
 
+    /**
+     * Creates a pool for tasks that submit work to {@link #DEFAULT} and wait for it to finish.
+     * Running such tasks on {@link #DEFAULT} itself can occupy all of its threads with waiting tasks,
+     * so that the work they wait for never runs. The caller is responsible for shutting the pool down.
+     */
+    public static ExecutorService createCoordinatorPool(int threads) {
+        return Executors.newFixedThreadPool(threads, NamedThreadFactory.daemon(COORDINATOR_THREAD_NAME_PREFIX));
+    }
+
     static class CallerBlocksPolicy implements RejectedExecutionHandler {
         @Override
         public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
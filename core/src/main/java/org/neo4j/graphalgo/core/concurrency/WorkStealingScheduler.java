@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.concurrency;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.metrics.Timer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Distributes a list of tasks over a fixed number of workers.
+ *
+ * Every worker owns a contiguous range of task indices and processes it from the front.
+ * A worker that runs out of tasks steals the back half of the remaining range of another worker,
+ * so that workers that drew expensive tasks, e.g. node ranges containing hubs, are relieved
+ * by the others instead of determining the runtime of the whole run.
+ *
+ * The range of a worker is packed into a single long, {@code next} in the upper and {@code end}
+ * in the lower 32 bits, so that taking from the front and stealing from the back are both a single CAS.
+ */
+final class WorkStealingScheduler<T> {
+
+    private final List<T> tasks;
+    private final AtomicLongArray ranges;
+    private final TerminationFlag terminationFlag;
+    private final @Nullable Timer taskTimer;
+
+    WorkStealingScheduler(
+        List<T> tasks,
+        int workerCount,
+        TerminationFlag terminationFlag,
+        @Nullable Timer taskTimer
+    ) {
+        this.tasks = tasks;
+        this.ranges = new AtomicLongArray(workerCount);
+        this.terminationFlag = terminationFlag;
+        this.taskTimer = taskTimer;
+
+        int taskCount = tasks.size();
+        for (int worker = 0; worker < workerCount; worker++) {
+            int start = (int) ((long) taskCount * worker / workerCount);
+            int end = (int) ((long) taskCount * (worker + 1) / workerCount);
+            ranges.set(worker, pack(start, end));
+        }
+    }
+
+    Collection<Runnable> workers(Supplier<? extends Consumer<? super T>> newWorker) {
+        int workerCount = ranges.length();
+        Collection<Runnable> workers = new ArrayList<>(workerCount);
+        for (int worker = 0; worker < workerCount; worker++) {
+            int workerId = worker;
+            workers.add(() -> work(workerId, newWorker.get()));
+        }
+        return workers;
+    }
+
+    private void work(int worker, Consumer<? super T> consumer) {
+        int task;
+        while ((task = next(worker)) != -1) {
+            terminationFlag.assertRunning();
+            if (taskTimer != null) {
+                long start = System.nanoTime();
+                consumer.accept(tasks.get(task));
+                taskTimer.record(System.nanoTime() - start);
+            } else {
+                consumer.accept(tasks.get(task));
+            }
+        }
+    }
+
+    private int next(int worker) {
+        int task = takeFirst(worker);
+        return task != -1 ? task : steal(worker);
+    }
+
+    private int takeFirst(int worker) {
+        while (true) {
+            long range = ranges.get(worker);
+            int next = nextOf(range);
+            int end = endOf(range);
+            if (next >= end) {
+                return -1;
+            }
+            if (ranges.compareAndSet(worker, range, pack(next + 1, end))) {
+                return next;
+            }
+        }
+    }
+
+    private int steal(int thief) {
+        int workerCount = ranges.length();
+        for (int offset = 1; offset < workerCount; offset++) {
+            int victim = (thief + offset) % workerCount;
+            while (true) {
+                long range = ranges.get(victim);
+                int next = nextOf(range);
+                int end = endOf(range);
+                int remaining = end - next;
+                if (remaining <= 0) {
+                    break;
+                }
+                int stolen = (remaining + 1) / 2;
+                int stolenStart = end - stolen;
+                if (ranges.compareAndSet(victim, range, pack(next, stolenStart))) {
+                    // our own range is empty, nobody else modifies it until we publish the stolen tasks
+                    ranges.set(thief, pack(stolenStart + 1, end));
+                    return stolenStart;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static long pack(int next, int end) {
+        return ((long) next << 32) | (end & 0xFFFF_FFFFL);
+    }
+
+    private static int nextOf(long range) {
+        return (int) (range >>> 32);
+    }
+
+    private static int endOf(long range) {
+        return (int) range;
+    }
+}
@@ -26,6 +26,7 @@ import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.utils.AscendingLongComparator;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -39,6 +40,8 @@ import static org.neo4j.kernel.api.StatementConstants.NO_SUCH_PROPERTY_KEY;
 
 public final class AdjacencyBuilder {
 
+    private static final String TRACKED_COMPONENT = AdjacencyBuilder.class.getSimpleName();
+
     public static final long IGNORE_VALUE = Long.MIN_VALUE;
 
     public static AdjacencyBuilder compressing(
@@ -52,7 +55,7 @@ public final class AdjacencyBuilder {
         Aggregation[] aggregations,
         boolean preAggregate
     ) {
-        tracker.add(sizeOfObjectArray(numPages) << 2);
+        tracker.add(TRACKED_COMPONENT, sizeOfObjectArray(numPages) << 2);
         ThreadLocalRelationshipsBuilder[] localBuilders = new ThreadLocalRelationshipsBuilder[numPages];
         final CompressedLongArray[][] compressedAdjacencyLists = new CompressedLongArray[numPages][];
         LongsRef[] buffers = new LongsRef[numPages];
@@ -214,8 +217,10 @@ public final class AdjacencyBuilder {
     }
 
     Collection<Runnable> flushTasks() {
+        var compressionTimer = MetricsRegistry.timer("loading.adjacency.compress");
         Runnable[] runnables = new Runnable[localBuilders.length];
         Arrays.setAll(runnables, index -> () -> {
+            long start = System.nanoTime();
             ThreadLocalRelationshipsBuilder builder = localBuilders[index];
             CompressedLongArray[] allTargets = compressedAdjacencyLists[index];
             LongsRef buffer = buffers[index];
@@ -234,6 +239,7 @@ public final class AdjacencyBuilder {
             }
             builder.release();
             relationshipCounter.add(importedRelationships);
+            compressionTimer.record(System.nanoTime() - start);
         });
         var tasks = new ArrayList<>(Arrays.asList(runnables));
         // Final task to make sure that all property builders are flushed as well.
@@ -262,9 +268,9 @@ public final class AdjacencyBuilder {
     }
 
     private void addAdjacencyImporter(AllocationTracker tracker, int pageIndex) {
-        tracker.add(sizeOfObjectPage);
-        tracker.add(sizeOfObjectPage);
-        tracker.add(sizeOfLongPage);
+        tracker.add(TRACKED_COMPONENT, sizeOfObjectPage);
+        tracker.add(TRACKED_COMPONENT, sizeOfObjectPage);
+        tracker.add(TRACKED_COMPONENT, sizeOfLongPage);
         compressedAdjacencyLists[pageIndex] = new CompressedLongArray[pageSize];
         buffers[pageIndex] = new LongsRef();
         long[] localAdjacencyOffsets = globalAdjacencyOffsets[pageIndex] = new long[pageSize];
@@ -35,6 +35,8 @@ import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
 public final class CompressedLongArray {
 
+    private static final String TRACKED_COMPONENT = CompressedLongArray.class.getSimpleName();
+
     private static final byte[] EMPTY_BYTES = new byte[0];
 
     private final AllocationTracker tracker;
@@ -130,8 +132,8 @@ public final class CompressedLongArray {
             ));
         } else if (storage.length <= targetLength) {
             int newLength = ArrayUtil.oversize(targetLength, Byte.BYTES);
-            tracker.remove(sizeOfByteArray(storage.length));
-            tracker.add(sizeOfByteArray(newLength));
+            tracker.remove(TRACKED_COMPONENT, sizeOfByteArray(storage.length));
+            tracker.add(TRACKED_COMPONENT, sizeOfByteArray(newLength));
             this.storage = Arrays.copyOf(storage, newLength);
         }
     }
@@ -146,8 +148,8 @@ public final class CompressedLongArray {
             ));
         } else if (weights[weightIndex].length <= pos + required) {
             int newLength = ArrayUtil.oversize(pos + required, Long.BYTES);
-            tracker.remove(sizeOfDoubleArray(weights[weightIndex].length));
-            tracker.add(sizeOfDoubleArray(newLength));
+            tracker.remove(TRACKED_COMPONENT, sizeOfDoubleArray(weights[weightIndex].length));
+            tracker.add(TRACKED_COMPONENT, sizeOfDoubleArray(newLength));
             weights[weightIndex] = Arrays.copyOf(weights[weightIndex], newLength);
         }
     }
@@ -175,8 +177,8 @@ public final class CompressedLongArray {
 
     public void release() {
         if (storage.length > 0) {
-            tracker.remove(sizeOfByteArray(storage.length));
-            tracker.remove(sizeOfDoubleArray(weights.length));
+            tracker.remove(TRACKED_COMPONENT, sizeOfByteArray(storage.length));
+            tracker.remove(TRACKED_COMPONENT, sizeOfDoubleArray(weights.length));
         }
         storage = null;
         weights = null;
@@ -39,6 +39,7 @@ import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.huge.TransientAdjacencyOffsets;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphdb.Result;
 import org.neo4j.graphdb.Transaction;
@@ -195,7 +196,14 @@ class CypherRelationshipLoader extends CypherRecordLoader<CypherRelationshipLoad
             .flatMap(SingleTypeRelationshipImporter.Builder.WithImporter::flushTasks)
             .collect(Collectors.toList());
 
-        ParallelUtil.run(flushTasks, loadingContext.executor());
+        // pages containing hubs take longer to compress, threads steal pages from each other
+        ParallelUtil.runWithWorkStealing(
+            cypherConfig.readConcurrency(),
+            flushTasks,
+            TerminationFlag.RUNNING_TRUE,
+            loadingContext.executor(),
+            null
+        );
 
         ObjectLongMap<RelationshipType> relationshipCounters = new ObjectLongHashMap<>(this.relationshipCounters.size());
         this.relationshipCounters.forEach((mapping, counter) -> relationshipCounters.put(
@@ -29,12 +29,21 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static org.neo4j.graphalgo.core.StringSimilarity.prettySuggestions;
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
+/**
+ * Stores the named graphs of all users.
+ *
+ * Readers that use a graph for a longer time, e.g. an algorithm, should {@link #acquire acquire}
+ * a {@link GraphStoreHandle}. Dropping a graph removes it from the catalog immediately,
+ * but the graph store is only released after the last handle to it has been closed.
+ * Neither acquiring nor releasing a handle takes a lock.
+ */
 public final class GraphStoreCatalog {
 
     private static final ConcurrentHashMap<String, UserCatalog> userCatalogs = new ConcurrentHashMap<>();
@@ -45,19 +54,31 @@ public final class GraphStoreCatalog {
         return getUserCatalog(username).get(UserCatalog.UserCatalogKey.of(databaseId, graphName));
     }
 
+    /**
+     * Returns a handle that prevents the graph store from being released until the handle is closed.
+     *
+     * @throws NoSuchElementException if the graph does not exist or has been dropped concurrently.
+     */
+    public static GraphStoreHandle acquire(String username, NamedDatabaseId databaseId, String graphName) {
+        return getUserCatalog(username).acquire(UserCatalog.UserCatalogKey.of(databaseId, graphName));
+    }
+
+    /**
+     * @return the number of open handles for the given graph, or 0 if the graph does not exist.
+     */
+    public static int activeReaders(String username, NamedDatabaseId databaseId, String graphName) {
+        return getUserCatalog(username).activeReaders(UserCatalog.UserCatalogKey.of(databaseId, graphName));
+    }
+
     public static void set(GraphCreateConfig config, GraphStore graphStore) {
         graphStore.canRelease(false);
-        userCatalogs.compute(config.username(), (user, userCatalog) -> {
-            if (userCatalog == null) {
-                userCatalog = new UserCatalog();
-            }
-            userCatalog.set(
+        userCatalogs
+            .computeIfAbsent(config.username(), ignore -> new UserCatalog())
+            .set(
                 UserCatalog.UserCatalogKey.of(graphStore.databaseId(), config.graphName()),
                 config,
                 graphStore
             );
-            return userCatalog;
-        });
     }
 
     public static boolean exists(String username, NamedDatabaseId databaseId, String graphName) {
@@ -150,7 +171,7 @@ public final class GraphStoreCatalog {
 
         private static final UserCatalog EMPTY = new UserCatalog();
 
-        private final Map<UserCatalogKey, GraphStoreWithConfig> graphsByName = new ConcurrentHashMap<>();
+        private final Map<UserCatalogKey, CatalogEntry> graphsByName = new ConcurrentHashMap<>();
 
         private final Map<UserCatalogKey, Map<String, Object>> degreeDistributionByName = new ConcurrentHashMap<>();
 
@@ -158,9 +179,9 @@ public final class GraphStoreCatalog {
             if (config.graphName() == null || graphStore == null) {
                 throw new IllegalArgumentException("Both name and graph store must be not null");
             }
-            GraphStoreWithConfig graphStoreWithConfig = GraphStoreWithConfig.of(graphStore, config);
+            var entry = new CatalogEntry(GraphStoreWithConfig.of(graphStore, config));
 
-            if (graphsByName.putIfAbsent(userCatalogKey, graphStoreWithConfig) != null) {
+            if (graphsByName.putIfAbsent(userCatalogKey, entry) != null) {
                 throw new IllegalStateException(formatWithLocale(
                     "Graph name %s already loaded",
                     config.graphName()
@@ -193,25 +214,43 @@ public final class GraphStoreCatalog {
         }
 
         private @Nullable GraphStoreWithConfig get(UserCatalogKey userCatalogKey, boolean failOnMissing) {
-            var graphStoreWithConfig = graphsByName.get(userCatalogKey);
+            var entry = graphsByName.get(userCatalogKey);
 
-            if (graphStoreWithConfig == null && failOnMissing) {
-                var graphName = userCatalogKey.graphName();
+            if (entry == null && failOnMissing) {
+                throw missingGraph(userCatalogKey);
+            }
 
-                var availableGraphNames = graphsByName
-                    .keySet()
-                    .stream()
-                    .map(UserCatalogKey::graphName)
-                    .collect(Collectors.toList());
+            return entry == null ? null : entry.graphStoreWithConfig;
+        }
 
-                throw new NoSuchElementException(prettySuggestions(
-                    formatWithLocale("Graph with name `%s` does not exist.", graphName),
-                    graphName,
-                    availableGraphNames
-                ));
+        private GraphStoreHandle acquire(UserCatalogKey userCatalogKey) {
+            var entry = graphsByName.get(userCatalogKey);
+            var handle = entry == null ? null : entry.acquire();
+            if (handle == null) {
+                throw missingGraph(userCatalogKey);
             }
+            return handle;
+        }
 
-            return graphStoreWithConfig;
+        private int activeReaders(UserCatalogKey userCatalogKey) {
+            var entry = graphsByName.get(userCatalogKey);
+            return entry == null ? 0 : entry.activeReaders();
+        }
+
+        private NoSuchElementException missingGraph(UserCatalogKey userCatalogKey) {
+            var graphName = userCatalogKey.graphName();
+
+            var availableGraphNames = graphsByName
+                .keySet()
+                .stream()
+                .map(UserCatalogKey::graphName)
+                .collect(Collectors.toList());
+
+            return new NoSuchElementException(prettySuggestions(
+                formatWithLocale("Graph with name `%s` does not exist.", graphName),
+                graphName,
+                availableGraphNames
+            ));
         }
 
         private Optional<Map<String, Object>> getDegreeDistribution(UserCatalogKey userCatalogKey) {
@@ -230,17 +269,25 @@ public final class GraphStoreCatalog {
             Consumer<GraphStoreWithConfig> removedGraphConsumer,
             boolean failOnMissing
         ) {
-            Optional.ofNullable(get(userCatalogKey, failOnMissing)).ifPresent(graphStoreWithConfig -> {
-                removedGraphConsumer.accept(graphStoreWithConfig);
-                graphStoreWithConfig.graphStore().canRelease(true);
-                graphStoreWithConfig.graphStore().release();
-                removeDegreeDistribution(userCatalogKey);
-                graphsByName.remove(userCatalogKey);
-            });
+            // removing the entry first guarantees that only one caller drops the graph
+            var entry = graphsByName.remove(userCatalogKey);
+            if (entry == null) {
+                if (failOnMissing) {
+                    throw missingGraph(userCatalogKey);
+                }
+                return;
+            }
+            removeDegreeDistribution(userCatalogKey);
+            try {
+                removedGraphConsumer.accept(entry.graphStoreWithConfig);
+            } finally {
+                entry.drop();
+            }
         }
 
         private Map<GraphCreateConfig, GraphStore> getGraphStores() {
             return graphsByName.values().stream()
+                .map(entry -> entry.graphStoreWithConfig)
                 .collect(Collectors.toMap(
                     GraphStoreWithConfig::config,
                     GraphStoreWithConfig::graphStore
@@ -252,11 +299,64 @@ public final class GraphStoreCatalog {
             return graphsByName.entrySet().stream()
                 .filter(entry -> entry.getKey().namedDatabaseId().equals(databaseId))
                 .collect(Collectors.toMap(
-                    entry -> entry.getValue().config(),
-                    entry -> entry.getValue().graphStore()
+                    entry -> entry.getValue().graphStoreWithConfig.config(),
+                    entry -> entry.getValue().graphStoreWithConfig.graphStore()
                     )
                 );
         }
     }
 
+    /**
+     * Tracks the open handles of a graph in a single int: the lower bits count the
+     * readers and the sign bit marks a dropped graph, which cannot be acquired anymore.
+     * The graph store is released by whoever observes a dropped graph without readers.
+     */
+    static final class CatalogEntry {
+
+        private static final int DROPPED = Integer.MIN_VALUE;
+
+        private final GraphStoreWithConfig graphStoreWithConfig;
+        private final AtomicInteger state;
+
+        CatalogEntry(GraphStoreWithConfig graphStoreWithConfig) {
+            this.graphStoreWithConfig = graphStoreWithConfig;
+            this.state = new AtomicInteger(0);
+        }
+
+        @Nullable GraphStoreHandle acquire() {
+            while (true) {
+                int current = state.get();
+                if ((current & DROPPED) != 0) {
+                    return null;
+                }
+                if (state.compareAndSet(current, current + 1)) {
+                    return new GraphStoreHandle(graphStoreWithConfig, this::releaseReader);
+                }
+            }
+        }
+
+        int activeReaders() {
+            return state.get() & ~DROPPED;
+        }
+
+        void drop() {
+            int previous = state.getAndUpdate(current -> current | DROPPED);
+            if (previous == 0) {
+                releaseGraphStore();
+            }
+        }
+
+        private void releaseReader() {
+            if (state.decrementAndGet() == DROPPED) {
+                releaseGraphStore();
+            }
+        }
+
+        private void releaseGraphStore() {
+            var graphStore = graphStoreWithConfig.graphStore();
+            graphStore.canRelease(true);
+            graphStore.release();
+        }
+    }
+
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A reference to a graph store that keeps the graph store alive while it is open.
+ *
+ * A graph that is dropped from the {@link GraphStoreCatalog} while handles to it are open
+ * is no longer visible in the catalog, but its memory is only released once the last handle is closed.
+ * Closing a handle more than once has no effect.
+ */
+public final class GraphStoreHandle implements AutoCloseable {
+
+    private final GraphStoreWithConfig graphStoreWithConfig;
+    private final Runnable onClose;
+    private final AtomicBoolean closed;
+
+    /**
+     * Creates a handle for a graph store that is not managed by the catalog, e.g. an implicitly loaded graph.
+     */
+    public static GraphStoreHandle unmanaged(GraphStoreWithConfig graphStoreWithConfig) {
+        return new GraphStoreHandle(graphStoreWithConfig, () -> {});
+    }
+
+    GraphStoreHandle(GraphStoreWithConfig graphStoreWithConfig, Runnable onClose) {
+        this.graphStoreWithConfig = graphStoreWithConfig;
+        this.onClose = onClose;
+        this.closed = new AtomicBoolean(false);
+    }
+
+    public GraphStoreWithConfig graphStoreWithConfig() {
+        return graphStoreWithConfig;
+    }
+
+    public GraphStore graphStore() {
+        return graphStoreWithConfig.graphStore();
+    }
+
+    public GraphCreateConfig config() {
+        return graphStoreWithConfig.config();
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            onClose.run();
+        }
+    }
+}
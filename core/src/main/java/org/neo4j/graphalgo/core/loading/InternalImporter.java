@@ -20,6 +20,7 @@
 package org.neo4j.graphalgo.core.loading;
 
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -56,7 +57,14 @@ public final class InternalImporter {
 
         long scannerStart = System.nanoTime();
         ParallelUtil.run(tasks, pool);
-        ParallelUtil.run(createScanner.flushTasks(), pool);
+        // pages containing hubs take longer to compress, threads steal pages from each other
+        ParallelUtil.runWithWorkStealing(
+            numberOfThreads,
+            new ArrayList<>(createScanner.flushTasks()),
+            TerminationFlag.RUNNING_TRUE,
+            pool,
+            null
+        );
         long took = System.nanoTime() - scannerStart;
         long importedRecords = 0L;
         long importedProperties = 0L;
@@ -24,6 +24,7 @@ import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.SecureTransaction;
 import org.neo4j.graphalgo.core.loading.InternalImporter.ImportResult;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
 import org.neo4j.logging.Log;
 
 import java.math.BigDecimal;
@@ -33,6 +34,7 @@ import java.util.concurrent.ExecutorService;
 
 import static org.neo4j.graphalgo.core.loading.StoreScanner.DEFAULT_PREFETCH_SIZE;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.humanReadable;
+import static org.neo4j.graphalgo.utils.StringFormatting.toLowerCaseWithLocale;
 
 public abstract class ScanningRecordsImporter<Record, T> {
 
@@ -78,6 +80,7 @@ public abstract class ScanningRecordsImporter<Record, T> {
             long requiredBytes = scanner.storeSize();
             long recordsImported = importResult.recordsImported;
             long propertiesImported = importResult.propertiesImported;
+            recordMetrics(importResult, requiredBytes);
             BigInteger bigNanos = BigInteger.valueOf(importResult.tookNanos);
             double tookInSeconds = new BigDecimal(bigNanos)
                     .divide(new BigDecimal(A_BILLION), 9, RoundingMode.CEILING)
@@ -108,6 +111,14 @@ public abstract class ScanningRecordsImporter<Record, T> {
         return build();
     }
 
+    private void recordMetrics(ImportResult importResult, long bytesScanned) {
+        var prefix = "loading." + toLowerCaseWithLocale(label) + ".";
+        MetricsRegistry.timer(prefix + "scan").record(importResult.tookNanos);
+        MetricsRegistry.counter(prefix + "records").add(importResult.recordsImported);
+        MetricsRegistry.counter(prefix + "properties").add(importResult.propertiesImported);
+        MetricsRegistry.counter(prefix + "bytes").add(bytesScanned);
+    }
+
     public abstract InternalImporter.CreateScanner creator(
         long nodeCount,
         ImportSizing sizing,
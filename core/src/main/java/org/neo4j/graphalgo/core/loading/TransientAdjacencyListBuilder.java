@@ -37,6 +37,8 @@ import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArrayEl
 
 public final class TransientAdjacencyListBuilder implements AdjacencyListBuilder {
 
+    private static final String TRACKED_COMPONENT = "AdjacencyList";
+
     private static final long PAGE_SIZE_IN_BYTES = sizeOfByteArray(PAGE_SIZE);
     private static final AtomicReferenceFieldUpdater<TransientAdjacencyListBuilder, byte[][]> PAGES_UPDATER =
         AtomicReferenceFieldUpdater.newUpdater(TransientAdjacencyListBuilder.class, byte[][].class, "pages");
@@ -58,7 +60,7 @@ public final class TransientAdjacencyListBuilder implements AdjacencyListBuilder
         growLock = new ReentrantLock(true);
         allocatedPages = new AtomicInteger();
         pages = new byte[0][];
-        tracker.add(sizeOfObjectArray(0));
+        tracker.add(TRACKED_COMPONENT, sizeOfObjectArray(0));
     }
 
     public Allocator newAllocator() {
@@ -92,9 +94,9 @@ public final class TransientAdjacencyListBuilder implements AdjacencyListBuilder
         // overwritten by another thread during `grow()`.
         growLock.lock();
         try {
-            tracker.add(sizeOfByteArray(page.length));
+            tracker.add(TRACKED_COMPONENT, sizeOfByteArray(page.length));
             if (PAGES_UPDATER.get(this)[pageIndex] != null) {
-                tracker.remove(PAGE_SIZE_IN_BYTES);
+                tracker.remove(TRACKED_COMPONENT, PAGE_SIZE_IN_BYTES);
             }
             PAGES_UPDATER.get(this)[pageIndex] = page;
         } finally {
@@ -132,14 +134,14 @@ public final class TransientAdjacencyListBuilder implements AdjacencyListBuilder
      */
     private void setPages(int newNumPages, int skipPage) {
         byte[][] currentPages = PAGES_UPDATER.get(this);
-        tracker.add(sizeOfObjectArrayElements(newNumPages - currentPages.length));
+        tracker.add(TRACKED_COMPONENT, sizeOfObjectArrayElements(newNumPages - currentPages.length));
 
         byte[][] newPages = Arrays.copyOf(currentPages, newNumPages);
 
         for (int i = currentPages.length; i < newNumPages; i++) {
             // Create new page for default sized pages
             if (i != skipPage) {
-                tracker.add(PAGE_SIZE_IN_BYTES);
+                tracker.add(TRACKED_COMPONENT, PAGE_SIZE_IN_BYTES);
                 newPages[i] = new byte[PAGE_SIZE];
             }
         }
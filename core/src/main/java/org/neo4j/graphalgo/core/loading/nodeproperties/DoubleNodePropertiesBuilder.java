@@ -60,9 +60,13 @@ public class DoubleNodePropertiesBuilder extends InnerNodePropertiesBuilder {
 
     @Override
     void setValue(long nodeId, Value value) {
-        double doubleValue = ValueConversion.getDoubleValue(value);
-        valuesBuilder.set(nodeId, Double.doubleToLongBits(doubleValue));
-        updateMaxValue(doubleValue);
+        setValue(nodeId, ValueConversion.getDoubleValue(value));
+    }
+
+    @Override
+    void setValue(long nodeId, double value) {
+        valuesBuilder.set(nodeId, Double.doubleToLongBits(value));
+        updateMaxValue(value);
     }
 
     @Override
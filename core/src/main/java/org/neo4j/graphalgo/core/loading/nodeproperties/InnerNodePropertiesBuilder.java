@@ -21,10 +21,19 @@ package org.neo4j.graphalgo.core.loading.nodeproperties;
 
 import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.values.storable.Value;
+import org.neo4j.values.storable.Values;
 
 public abstract class InnerNodePropertiesBuilder {
 
     abstract void setValue(long nodeId, Value value);
 
+    void setValue(long nodeId, long value) {
+        setValue(nodeId, Values.longValue(value));
+    }
+
+    void setValue(long nodeId, double value) {
+        setValue(nodeId, Values.doubleValue(value));
+    }
+
     abstract NodeProperties build(long size);
 }
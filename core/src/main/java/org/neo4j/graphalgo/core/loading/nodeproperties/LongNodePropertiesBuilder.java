@@ -61,9 +61,13 @@ public class LongNodePropertiesBuilder extends InnerNodePropertiesBuilder {
 
     @Override
     void setValue(long nodeId, Value value) {
-        var longValue = ValueConversion.getLongValue(value);
-        valuesBuilder.set(nodeId, longValue);
-        updateMaxValue(longValue);
+        setValue(nodeId, ValueConversion.getLongValue(value));
+    }
+
+    @Override
+    void setValue(long nodeId, long value) {
+        valuesBuilder.set(nodeId, value);
+        updateMaxValue(value);
     }
 
     @Override
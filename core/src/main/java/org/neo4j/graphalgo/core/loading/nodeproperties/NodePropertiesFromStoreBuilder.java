@@ -83,6 +83,28 @@ public final class NodePropertiesFromStoreBuilder {
         }
     }
 
+    /**
+     * Sets a long value without wrapping it into a {@link Value}, unless it is the first value of this builder.
+     */
+    public void set(long nodeId, long value) {
+        if (innerBuilder.get() == null) {
+            initializeWithType(Values.longValue(value));
+        }
+        innerBuilder.get().setValue(nodeId, value);
+        size.increment();
+    }
+
+    /**
+     * Sets a double value without wrapping it into a {@link Value}, unless it is the first value of this builder.
+     */
+    public void set(long nodeId, double value) {
+        if (innerBuilder.get() == null) {
+            initializeWithType(Values.doubleValue(value));
+        }
+        innerBuilder.get().setValue(nodeId, value);
+        size.increment();
+    }
+
     public NodeProperties build() {
         if (innerBuilder.get() == null) {
             if (defaultValue.getObject() != null) {
@@ -144,12 +144,17 @@ public class BatchingProgressLogger implements ProgressLogger {
 
     private void doLog(String format, String thread, String task, int nextPercentage) {
         log.info(format, thread, task, nextPercentage);
-        progressTracker.addLogEvent(task, formatWithLocale(format, thread, task, nextPercentage));
+        progressTracker.addLogEvent(task, formatWithLocale(format, thread, task, nextPercentage), nextPercentage, taskVolume);
     }
 
     private void doLog(String format, String thread, String task, int nextPercentage, String message) {
         log.info(format, thread, task, nextPercentage, message);
-        progressTracker.addLogEvent(task, formatWithLocale(format, thread, task, nextPercentage, message));
+        progressTracker.addLogEvent(
+            task,
+            formatWithLocale(format, thread, task, nextPercentage, message),
+            nextPercentage,
+            taskVolume
+        );
     }
 
     @Override
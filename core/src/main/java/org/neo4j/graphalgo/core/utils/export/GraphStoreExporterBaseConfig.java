@@ -23,9 +23,10 @@ import org.immutables.value.Value;
 import org.neo4j.graphalgo.RelationshipType;
 import org.neo4j.graphalgo.config.BaseConfig;
 import org.neo4j.graphalgo.config.ConcurrencyConfig;
+import org.neo4j.graphalgo.config.WriteExecutorConfig;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 
-public interface GraphStoreExporterBaseConfig extends BaseConfig {
+public interface GraphStoreExporterBaseConfig extends BaseConfig, WriteExecutorConfig {
 
     @Value.Default
     default String defaultRelationshipType() {
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.db;
+
+import org.neo4j.graphalgo.api.nodeproperties.LongNodeProperties;
+import org.neo4j.graphalgo.core.huge.HugeGraph;
+import org.neo4j.graphalgo.core.loading.CSRGraphStore;
+import org.neo4j.graphalgo.core.utils.export.GraphStoreExporter;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+import java.util.Optional;
+
+/**
+ * Writes algorithm result relationships, e.g. from KNN or NodeSimilarity,
+ * into a new offline database using the store-level batch importer
+ * instead of writing them through kernel transactions.
+ *
+ * The new database contains all nodes of the result graph together with their labels
+ * and the relationships of the result graph. As node ids are not preserved by the
+ * batch importer, every node carries the id of its source node in the
+ * {@value #ORIGINAL_ID_PROPERTY} property.
+ */
+public final class RelationshipsToDatabaseExporter {
+
+    public static final String ORIGINAL_ID_PROPERTY = "originalId";
+
+    private RelationshipsToDatabaseExporter() {}
+
+    public static GraphStoreExporter.ImportedProperties export(
+        GraphDatabaseAPI api,
+        HugeGraph resultGraph,
+        String relationshipType,
+        Optional<String> relationshipProperty,
+        GraphStoreToDatabaseExporterConfig config,
+        AllocationTracker tracker
+    ) {
+        var graphStore = CSRGraphStore.of(
+            api.databaseId(),
+            resultGraph,
+            relationshipType,
+            relationshipProperty,
+            config.writeConcurrency(),
+            tracker
+        );
+
+        LongNodeProperties originalIds = resultGraph::toOriginalNodeId;
+        graphStore.nodeLabels().forEach(label -> graphStore.addNodeProperty(label, ORIGINAL_ID_PROPERTY, originalIds));
+
+        return GraphStoreToDatabaseExporter
+            .newExporter(graphStore, api, config)
+            .run(tracker);
+    }
+}
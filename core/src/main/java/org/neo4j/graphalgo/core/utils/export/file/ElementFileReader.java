@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads the rows of a single exported node or relationship file, one block of rows at a time.
+ * The id columns are reported as {@link ValueType#LONG} columns.
+ */
+public interface ElementFileReader extends Closeable {
+
+    String[] columnNames();
+
+    ValueType[] columnTypes();
+
+    /**
+     * @return the next block of rows or {@code null} if there are no more rows.
+     */
+    @Nullable Block nextBlock() throws IOException;
+
+    /**
+     * A block of rows, stored column by column.
+     */
+    interface Block {
+
+        int rowCount();
+
+        /**
+         * @return the values of a {@link ValueType#LONG} column, missing values are
+         *     {@link org.neo4j.graphalgo.api.DefaultValue#LONG_DEFAULT_FALLBACK}.
+         */
+        long[] longColumn(int column);
+
+        /**
+         * @return the values of a {@link ValueType#DOUBLE} column, missing values are {@code NaN}.
+         */
+        double[] doubleColumn(int column);
+
+        /**
+         * @return the value at the given position or {@code null} if the value is missing.
+         */
+        @Nullable Object value(int column, int row);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file;
+
+import org.neo4j.graphalgo.core.utils.export.file.binary.BinaryElementFileReader;
+import org.neo4j.graphalgo.core.utils.export.file.binary.BinaryFormat;
+import org.neo4j.graphalgo.core.utils.export.file.csv.CsvElementFileReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The formats written by {@link GraphStoreToFileExporter}.
+ *
+ * Every node label combination and every relationship type is exported into one data file
+ * per writer thread, named {@code <baseName>_<writerIndex>.<extension>}.
+ */
+public enum FileFormat {
+    CSV("csv") {
+        @Override
+        ElementFileReader open(Path importPath, String baseName, Path dataFile) throws IOException {
+            var headerFile = importPath.resolve(formatWithLocale("%s_header.csv", baseName));
+            if (!Files.exists(headerFile)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Missing header file `%s` for data file `%s`.",
+                    headerFile.getFileName(),
+                    dataFile.getFileName()
+                ));
+            }
+            return CsvElementFileReader.open(headerFile, dataFile);
+        }
+    },
+    BINARY(BinaryFormat.FILE_EXTENSION) {
+        @Override
+        ElementFileReader open(Path importPath, String baseName, Path dataFile) throws IOException {
+            return BinaryElementFileReader.open(dataFile);
+        }
+    };
+
+    private final Pattern dataFilePattern;
+
+    FileFormat(String fileExtension) {
+        this.dataFilePattern = Pattern.compile("(.+)_(\\d+)\\." + Pattern.quote(fileExtension));
+    }
+
+    abstract ElementFileReader open(Path importPath, String baseName, Path dataFile) throws IOException;
+
+    /**
+     * @return the data files in the given directory grouped by their base name, e.g. {@code nodes_Person}
+     */
+    Map<String, List<Path>> dataFiles(Path importPath) throws IOException {
+        try (var files = Files.list(importPath)) {
+            return files
+                .filter(Files::isRegularFile)
+                .filter(file -> dataFilePattern.matcher(file.getFileName().toString()).matches())
+                .collect(Collectors.groupingBy(
+                    file -> baseName(file.getFileName().toString()),
+                    TreeMap::new,
+                    Collectors.toCollection(ArrayList::new)
+                ));
+        }
+    }
+
+    private String baseName(String fileName) {
+        var matcher = dataFilePattern.matcher(fileName);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException(formatWithLocale("Unexpected data file `%s`.", fileName));
+        }
+        return matcher.group(1);
+    }
+
+    public static FileFormat parse(Object object) {
+        if (object == null) {
+            return null;
+        }
+        if (object instanceof String) {
+            return FileFormat.valueOf(((String) object).toUpperCase(Locale.ENGLISH));
+        }
+        if (object instanceof FileFormat) {
+            return (FileFormat) object;
+        }
+        return null;
+    }
+}
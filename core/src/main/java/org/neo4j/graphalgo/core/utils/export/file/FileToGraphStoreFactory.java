@@ -0,0 +1,587 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.PropertyMapping;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.CSRGraphStoreFactory;
+import org.neo4j.graphalgo.api.GraphLoaderContext;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.RelationshipProperty;
+import org.neo4j.graphalgo.api.RelationshipPropertyStore;
+import org.neo4j.graphalgo.api.Relationships;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.config.GraphCreateFromFileConfig;
+import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.GraphDimensions;
+import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.loading.CSRGraphStore;
+import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
+import org.neo4j.graphalgo.core.loading.construction.NodesBuilder;
+import org.neo4j.graphalgo.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.graphalgo.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
+import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.progress.EmptyProgressEventTracker;
+import org.neo4j.kernel.database.NamedDatabaseId;
+import org.neo4j.values.storable.NumberType;
+import org.neo4j.values.storable.Values;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.api.DefaultValue.LONG_DEFAULT_FALLBACK;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Loads a graph from the files written by {@link GraphStoreToFileExporter}
+ * without going through a Neo4j database.
+ *
+ * Every data file is read by its own task. The node files are read first and buffered,
+ * as the highest node id needs to be known before the id map can be built.
+ * Relationship files are streamed directly into the relationship builders afterwards.
+ *
+ * Node labels are derived from the file names, so labels containing an underscore are not supported.
+ * Like other non-store factories, only the first property of a relationship type is loaded.
+ */
+public final class FileToGraphStoreFactory extends CSRGraphStoreFactory<GraphCreateFromFileConfig> {
+
+    private static final String NODES_BASE_NAME = "nodes";
+    private static final String NODES_PREFIX = NODES_BASE_NAME + "_";
+    private static final String RELATIONSHIPS_PREFIX = "relationships_";
+    private static final String LABEL_SEPARATOR = "_";
+
+    private final Path importPath;
+    private final NamedDatabaseId databaseId;
+    private final FileFormat format;
+    private final Map<String, List<Path>> nodeFiles;
+    private final Map<String, List<Path>> relationshipFiles;
+
+    public static FileToGraphStoreFactory of(
+        GraphCreateFromFileConfig config,
+        Path importPath,
+        NamedDatabaseId databaseId,
+        GraphLoaderContext loadingContext
+    ) {
+        var format = config.format();
+        Map<String, List<Path>> dataFiles;
+        try {
+            dataFiles = format.dataFiles(importPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        var nodeFiles = new HashMap<String, List<Path>>();
+        var relationshipFiles = new HashMap<String, List<Path>>();
+        dataFiles.forEach((baseName, files) -> {
+            if (baseName.equals(NODES_BASE_NAME) || baseName.startsWith(NODES_PREFIX)) {
+                nodeFiles.put(baseName, files);
+            } else if (baseName.startsWith(RELATIONSHIPS_PREFIX)) {
+                relationshipFiles.put(baseName, files);
+            }
+        });
+
+        if (nodeFiles.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "No %s node files found in `%s`.",
+                format.name().toLowerCase(Locale.ENGLISH),
+                importPath
+            ));
+        }
+
+        return new FileToGraphStoreFactory(
+            config,
+            loadingContext,
+            GraphDimensions.of(0),
+            importPath,
+            databaseId,
+            format,
+            nodeFiles,
+            relationshipFiles
+        );
+    }
+
+    private FileToGraphStoreFactory(
+        GraphCreateFromFileConfig graphCreateConfig,
+        GraphLoaderContext loadingContext,
+        GraphDimensions dimensions,
+        Path importPath,
+        NamedDatabaseId databaseId,
+        FileFormat format,
+        Map<String, List<Path>> nodeFiles,
+        Map<String, List<Path>> relationshipFiles
+    ) {
+        super(graphCreateConfig, loadingContext, dimensions);
+        this.importPath = importPath;
+        this.databaseId = databaseId;
+        this.format = format;
+        this.nodeFiles = nodeFiles;
+        this.relationshipFiles = relationshipFiles;
+    }
+
+    /**
+     * The data files do not record how many rows they contain, so the size of the graph is only known
+     * after all files have been read. Rather than reporting a misleading estimate, estimation is rejected.
+     */
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        throw new UnsupportedOperationException(formatWithLocale(
+            "Memory estimation is not supported for graphs imported from %s files.",
+            format.name().toLowerCase(Locale.ENGLISH)
+        ));
+    }
+
+    @Override
+    protected ProgressLogger initProgressLogger() {
+        // the volume is reset to the number of files of each phase
+        return new BatchingProgressLogger(
+            loadingContext.log(),
+            1,
+            TASK_LOADING,
+            graphCreateConfig.readConcurrency(),
+            EmptyProgressEventTracker.INSTANCE
+        );
+    }
+
+    @Override
+    public ImportResult<CSRGraphStore> build() {
+        progressLogger.logStart("File import");
+
+        var nodes = loadNodes();
+        var relationships = loadRelationships(nodes.idMap);
+
+        var topologies = new HashMap<RelationshipType, Relationships.Topology>();
+        var relationshipPropertyStores = new HashMap<RelationshipType, RelationshipPropertyStore>();
+        long relationshipCount = 0;
+        for (var entry : relationships.entrySet()) {
+            var relationshipType = entry.getKey();
+            var loaded = entry.getValue();
+            topologies.put(relationshipType, loaded.relationships.topology());
+            relationshipCount += loaded.relationships.topology().elementCount();
+            loaded.propertyKey.ifPresent(propertyKey -> relationshipPropertyStores.put(
+                relationshipType,
+                RelationshipPropertyStore.builder().putIfAbsent(
+                    propertyKey,
+                    RelationshipProperty.of(
+                        propertyKey,
+                        NumberType.FLOATING_POINT,
+                        GraphStore.PropertyState.PERSISTENT,
+                        loaded.relationships.properties().orElseThrow(),
+                        ValueType.DOUBLE.fallbackValue(),
+                        Aggregation.NONE
+                    )
+                ).build()
+            ));
+        }
+
+        var graphStore = CSRGraphStore.of(
+            databaseId,
+            nodes.idMap,
+            nodes.properties,
+            topologies,
+            relationshipPropertyStores,
+            graphCreateConfig.readConcurrency(),
+            loadingContext.tracker()
+        );
+
+        var loadedDimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(nodes.idMap.nodeCount())
+            .highestNeoId(nodes.highestId)
+            .maxRelCount(relationshipCount)
+            .build();
+
+        progressLogger.logFinish("File import");
+        logLoadingSummary(graphStore, Optional.of(loadingContext.tracker()));
+
+        return ImportResult.of(loadedDimensions, graphStore);
+    }
+
+    private LoadedNodes loadNodes() {
+        var buffered = new ConcurrentLinkedQueue<NodeFileBuffer>();
+        var highestId = new AtomicLong(-1);
+
+        progressLogger.logMessage(formatWithLocale("Reading %d node files", countFiles(nodeFiles)));
+        progressLogger.reset(countFiles(nodeFiles));
+        runPerFile(nodeFiles, (baseName, dataFile) -> {
+            var buffer = readNodeFile(baseName, dataFile);
+            highestId.accumulateAndGet(buffer.highestId, Math::max);
+            buffered.add(buffer);
+        });
+
+        var hasLabelInformation = nodeFiles.keySet().stream().anyMatch(baseName -> !baseName.equals(NODES_BASE_NAME));
+        NodesBuilder nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(Math.max(0, highestId.get()))
+            .hasLabelInformation(hasLabelInformation)
+            .concurrency(graphCreateConfig.readConcurrency())
+            .tracker(loadingContext.tracker())
+            .build();
+
+        runPerBuffer(buffered, buffer -> {
+            for (long id : buffer.ids) {
+                nodesBuilder.addNode(id, buffer.labels);
+            }
+        });
+
+        var idMap = nodesBuilder.build();
+
+        var propertyBuilders = new HashMap<String, NodePropertiesFromStoreBuilder>();
+        var propertyKeysByLabel = new HashMap<NodeLabel, List<String>>();
+        for (var buffer : buffered) {
+            var labels = buffer.labels.length == 0 ? new NodeLabel[]{NodeLabel.ALL_NODES} : buffer.labels;
+            for (int property = 0; property < buffer.propertyKeys.length; property++) {
+                var propertyKey = buffer.propertyKeys[property];
+                var propertyType = buffer.propertyTypes[property];
+                propertyBuilders.computeIfAbsent(propertyKey, ignore -> NodePropertiesFromStoreBuilder.of(
+                    idMap.nodeCount(),
+                    loadingContext.tracker(),
+                    propertyType.fallbackValue()
+                ));
+                for (var label : labels) {
+                    var keys = propertyKeysByLabel.computeIfAbsent(label, ignore -> new ArrayList<>());
+                    if (!keys.contains(propertyKey)) {
+                        keys.add(propertyKey);
+                    }
+                }
+            }
+        }
+
+        runPerBuffer(buffered, buffer -> {
+            for (int property = 0; property < buffer.propertyKeys.length; property++) {
+                var builder = propertyBuilders.get(buffer.propertyKeys[property]);
+                switch (buffer.propertyTypes[property]) {
+                    case LONG:
+                        var longValues = buffer.longValues[property].buffer;
+                        for (int row = 0; row < buffer.ids.length; row++) {
+                            if (longValues[row] != LONG_DEFAULT_FALLBACK) {
+                                builder.set(idMap.toMappedNodeId(buffer.ids[row]), longValues[row]);
+                            }
+                        }
+                        break;
+                    case DOUBLE:
+                        var doubleValues = buffer.doubleValues[property].buffer;
+                        for (int row = 0; row < buffer.ids.length; row++) {
+                            if (!Double.isNaN(doubleValues[row])) {
+                                builder.set(idMap.toMappedNodeId(buffer.ids[row]), doubleValues[row]);
+                            }
+                        }
+                        break;
+                    default:
+                        var arrayValues = buffer.arrayValues[property];
+                        for (int row = 0; row < buffer.ids.length; row++) {
+                            var value = arrayValues.get(row);
+                            if (value != null) {
+                                builder.set(idMap.toMappedNodeId(buffer.ids[row]), Values.of(value));
+                            }
+                        }
+                }
+            }
+        });
+
+        var nodeProperties = propertyBuilders.entrySet().stream().collect(Collectors.toMap(
+            Map.Entry::getKey,
+            entry -> entry.getValue().build()
+        ));
+
+        var propertiesByLabel = new HashMap<NodeLabel, Map<PropertyMapping, NodeProperties>>();
+        propertyKeysByLabel.forEach((label, keys) -> propertiesByLabel.put(
+            label,
+            keys.stream().collect(Collectors.toMap(PropertyMapping::of, nodeProperties::get))
+        ));
+
+        return new LoadedNodes(idMap, propertiesByLabel, highestId.get());
+    }
+
+    private NodeFileBuffer readNodeFile(String baseName, Path dataFile) throws IOException {
+        var labels = baseName.equals(NODES_BASE_NAME)
+            ? new NodeLabel[0]
+            : Arrays.stream(baseName.substring(NODES_PREFIX.length()).split(LABEL_SEPARATOR))
+                .map(NodeLabel::of)
+                .toArray(NodeLabel[]::new);
+
+        try (var reader = format.open(importPath, baseName, dataFile)) {
+            var columnNames = reader.columnNames();
+            var columnTypes = reader.columnTypes();
+            int propertyCount = columnNames.length - 1;
+
+            var propertyKeys = Arrays.copyOfRange(columnNames, 1, columnNames.length);
+            var propertyTypes = Arrays.copyOfRange(columnTypes, 1, columnTypes.length);
+            var longValues = new LongArrayList[propertyCount];
+            var doubleValues = new DoubleArrayList[propertyCount];
+            @SuppressWarnings("unchecked")
+            List<Object>[] arrayValues = new List[propertyCount];
+            for (int property = 0; property < propertyCount; property++) {
+                switch (propertyTypes[property]) {
+                    case LONG:
+                        longValues[property] = new LongArrayList();
+                        break;
+                    case DOUBLE:
+                        doubleValues[property] = new DoubleArrayList();
+                        break;
+                    default:
+                        arrayValues[property] = new ArrayList<>();
+                }
+            }
+
+            var ids = new LongArrayList();
+            long highestId = -1;
+            ElementFileReader.Block block;
+            while ((block = reader.nextBlock()) != null) {
+                int rowCount = block.rowCount();
+                var idColumn = block.longColumn(0);
+                for (int row = 0; row < rowCount; row++) {
+                    long id = requireId(idColumn[row], dataFile);
+                    highestId = Math.max(highestId, id);
+                }
+                ids.add(idColumn, 0, rowCount);
+                for (int property = 0; property < propertyCount; property++) {
+                    int column = property + 1;
+                    switch (propertyTypes[property]) {
+                        case LONG:
+                            longValues[property].add(block.longColumn(column), 0, rowCount);
+                            break;
+                        case DOUBLE:
+                            doubleValues[property].add(block.doubleColumn(column), 0, rowCount);
+                            break;
+                        default:
+                            for (int row = 0; row < rowCount; row++) {
+                                arrayValues[property].add(block.value(column, row));
+                            }
+                    }
+                }
+                loadingContext.terminationFlag().assertRunning();
+            }
+
+            progressLogger.logProgress();
+            return new NodeFileBuffer(
+                labels,
+                ids.toArray(),
+                highestId,
+                propertyKeys,
+                propertyTypes,
+                longValues,
+                doubleValues,
+                arrayValues
+            );
+        }
+    }
+
+    private Map<RelationshipType, LoadedRelationships> loadRelationships(NodeMapping idMap) {
+        var builders = new HashMap<String, RelationshipsBuilder>();
+        var propertyKeys = new HashMap<String, Optional<String>>();
+
+        for (var entry : relationshipFiles.entrySet()) {
+            var baseName = entry.getKey();
+            Optional<String> propertyKey;
+            try (var reader = format.open(importPath, baseName, entry.getValue().get(0))) {
+                var columnNames = reader.columnNames();
+                propertyKey = columnNames.length > 2 ? Optional.of(columnNames[2]) : Optional.empty();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            propertyKeys.put(baseName, propertyKey);
+            builders.put(baseName, newRelationshipsBuilder(idMap, propertyKey.isPresent()));
+        }
+
+        progressLogger.logMessage(formatWithLocale("Reading %d relationship files", countFiles(relationshipFiles)));
+        progressLogger.reset(countFiles(relationshipFiles));
+        runPerFile(relationshipFiles, (baseName, dataFile) -> readRelationshipFile(
+            builders.get(baseName),
+            propertyKeys.get(baseName).isPresent(),
+            baseName,
+            dataFile
+        ));
+
+        var relationships = new HashMap<RelationshipType, LoadedRelationships>();
+        builders.forEach((baseName, builder) -> relationships.put(
+            RelationshipType.of(baseName.substring(RELATIONSHIPS_PREFIX.length())),
+            new LoadedRelationships(propertyKeys.get(baseName), builder.build())
+        ));
+
+        // Add fake relationship type since we do not
+        // support GraphStores with zero relationships.
+        if (relationships.isEmpty()) {
+            relationships.put(
+                RelationshipType.ALL_RELATIONSHIPS,
+                new LoadedRelationships(Optional.empty(), newRelationshipsBuilder(idMap, false).build())
+            );
+        }
+
+        return relationships;
+    }
+
+    private void readRelationshipFile(
+        RelationshipsBuilder builder,
+        boolean hasProperty,
+        String baseName,
+        Path dataFile
+    ) throws IOException {
+        try (var reader = format.open(importPath, baseName, dataFile)) {
+            boolean longProperty = hasProperty && reader.columnTypes()[2] == ValueType.LONG;
+            ElementFileReader.Block block;
+            while ((block = reader.nextBlock()) != null) {
+                var sources = block.longColumn(0);
+                var targets = block.longColumn(1);
+                for (int row = 0; row < block.rowCount(); row++) {
+                    long source = requireId(sources[row], dataFile);
+                    long target = requireId(targets[row], dataFile);
+                    if (longProperty) {
+                        long value = block.longColumn(2)[row];
+                        builder.add(source, target, value == LONG_DEFAULT_FALLBACK ? Double.NaN : value);
+                    } else if (hasProperty) {
+                        builder.add(source, target, block.doubleColumn(2)[row]);
+                    } else {
+                        builder.add(source, target);
+                    }
+                }
+                loadingContext.terminationFlag().assertRunning();
+            }
+        }
+        progressLogger.logProgress();
+    }
+
+    private RelationshipsBuilder newRelationshipsBuilder(NodeMapping idMap, boolean loadRelationshipProperty) {
+        return GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .loadRelationshipProperty(loadRelationshipProperty)
+            .concurrency(graphCreateConfig.readConcurrency())
+            .executorService(loadingContext.executor())
+            .tracker(loadingContext.tracker())
+            .build();
+    }
+
+    private void runPerFile(Map<String, List<Path>> files, FileTask task) {
+        var tasks = new ArrayList<Runnable>();
+        files.forEach((baseName, dataFiles) -> dataFiles.forEach(dataFile -> tasks.add(() -> {
+            try {
+                task.run(baseName, dataFile);
+            } catch (IOException e) {
+                throw new UncheckedIOException(formatWithLocale("Could not read file `%s`", dataFile), e);
+            }
+        })));
+        ParallelUtil.runWithConcurrency(
+            graphCreateConfig.readConcurrency(),
+            tasks,
+            loadingContext.terminationFlag(),
+            loadingContext.executor()
+        );
+    }
+
+    private void runPerBuffer(Collection<NodeFileBuffer> buffers, Consumer<NodeFileBuffer> task) {
+        var tasks = buffers.stream()
+            .map(buffer -> (Runnable) () -> task.accept(buffer))
+            .collect(Collectors.toList());
+        ParallelUtil.runWithConcurrency(
+            graphCreateConfig.readConcurrency(),
+            tasks,
+            loadingContext.terminationFlag(),
+            loadingContext.executor()
+        );
+    }
+
+    private static long countFiles(Map<String, List<Path>> files) {
+        return files.values().stream().mapToLong(List::size).sum();
+    }
+
+    private static long requireId(long id, Path dataFile) {
+        if (id == LONG_DEFAULT_FALLBACK) {
+            throw new IllegalArgumentException(formatWithLocale("Missing node id in file `%s`.", dataFile));
+        }
+        return id;
+    }
+
+    @FunctionalInterface
+    private interface FileTask {
+        void run(String baseName, Path dataFile) throws IOException;
+    }
+
+    private static final class NodeFileBuffer {
+        final NodeLabel[] labels;
+        final long[] ids;
+        final long highestId;
+        final String[] propertyKeys;
+        final ValueType[] propertyTypes;
+        // per property, only the list matching its type is set
+        final LongArrayList[] longValues;
+        final DoubleArrayList[] doubleValues;
+        final List<Object>[] arrayValues;
+
+        NodeFileBuffer(
+            NodeLabel[] labels,
+            long[] ids,
+            long highestId,
+            String[] propertyKeys,
+            ValueType[] propertyTypes,
+            LongArrayList[] longValues,
+            DoubleArrayList[] doubleValues,
+            List<Object>[] arrayValues
+        ) {
+            this.labels = labels;
+            this.ids = ids;
+            this.highestId = highestId;
+            this.propertyKeys = propertyKeys;
+            this.propertyTypes = propertyTypes;
+            this.longValues = longValues;
+            this.doubleValues = doubleValues;
+            this.arrayValues = arrayValues;
+        }
+    }
+
+    private static final class LoadedNodes {
+        final NodeMapping idMap;
+        final Map<NodeLabel, Map<PropertyMapping, NodeProperties>> properties;
+        final long highestId;
+
+        LoadedNodes(NodeMapping idMap, Map<NodeLabel, Map<PropertyMapping, NodeProperties>> properties, long highestId) {
+            this.idMap = idMap;
+            this.properties = properties;
+            this.highestId = highestId;
+        }
+    }
+
+    private static final class LoadedRelationships {
+        final Optional<String> propertyKey;
+        final Relationships relationships;
+
+        LoadedRelationships(Optional<String> propertyKey, Relationships relationships) {
+            this.propertyKey = propertyKey;
+            this.relationships = relationships;
+        }
+    }
+}
@@ -21,9 +21,10 @@ package org.neo4j.graphalgo.core.utils.export.file;
 
 import org.neo4j.graphalgo.api.GraphStore;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
-import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.export.GraphStoreExporter;
 import org.neo4j.graphalgo.core.utils.export.GraphStoreInput;
+import org.neo4j.graphalgo.core.utils.export.file.binary.BinaryNodeVisitor;
+import org.neo4j.graphalgo.core.utils.export.file.binary.BinaryRelationshipVisitor;
 import org.neo4j.graphalgo.core.utils.export.file.csv.CsvNodeVisitor;
 import org.neo4j.graphalgo.core.utils.export.file.csv.CsvRelationshipVisitor;
 import org.neo4j.internal.batchimport.InputIterator;
@@ -55,6 +56,23 @@ public final class GraphStoreToFileExporter extends GraphStoreExporter<GraphStor
         );
     }
 
+    /**
+     * Exports into typed, chunk-wise compressed column files, one file per writer thread
+     * and label combination or relationship type. See {@link org.neo4j.graphalgo.core.utils.export.file.binary.BinaryFormat}.
+     */
+    public static GraphStoreToFileExporter binary(
+        GraphStore graphStore,
+        GraphStoreToFileExporterConfig config,
+        Path exportPath
+    ) {
+        return new GraphStoreToFileExporter(
+            graphStore,
+            config,
+            (index) -> new BinaryNodeVisitor(exportPath, graphStore.schema().nodeSchema(), index),
+            (index) -> new BinaryRelationshipVisitor(exportPath, graphStore.schema().relationshipSchema(), index)
+        );
+    }
+
     private GraphStoreToFileExporter(
         GraphStore graphStore,
         GraphStoreToFileExporterConfig config,
@@ -81,7 +99,7 @@ public final class GraphStoreToFileExporter extends GraphStoreExporter<GraphStor
             (index) -> new ImportRunner(nodeVisitorSupplier.apply(index), nodeInputIterator)
         );
 
-        ParallelUtil.runWithConcurrency(config.writeConcurrency(), tasks, Pools.DEFAULT);
+        ParallelUtil.runWithConcurrency(config.writeConcurrency(), tasks, config.writeExecutor().executor());
     }
 
     private void exportRelationships(GraphStoreInput graphStoreInput) {
@@ -93,7 +111,7 @@ public final class GraphStoreToFileExporter extends GraphStoreExporter<GraphStor
             (index) -> new ImportRunner(relationshipVisitorSupplier.apply(index), relationshipInputIterator)
         );
 
-        ParallelUtil.runWithConcurrency(config.writeConcurrency(), tasks, Pools.DEFAULT);
+        ParallelUtil.runWithConcurrency(config.writeConcurrency(), tasks, config.writeExecutor().executor());
     }
 
     private static final class ImportRunner implements Runnable {
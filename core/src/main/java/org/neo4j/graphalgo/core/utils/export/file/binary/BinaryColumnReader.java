@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file.binary;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.core.utils.export.file.ElementFileReader;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static org.neo4j.graphalgo.api.DefaultValue.LONG_DEFAULT_FALLBACK;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Reads files written by the binary node and relationship visitors chunk by chunk.
+ * Every column of a chunk is decoded into a primitive array.
+ */
+public final class BinaryColumnReader implements Closeable {
+
+    private final Path file;
+    private final DataInputStream in;
+    private final String[] columnNames;
+    private final ValueType[] columnTypes;
+    private final Inflater inflater;
+
+    private byte[] compressed;
+    private byte[] uncompressed;
+
+    public static BinaryColumnReader open(Path file) throws IOException {
+        return new BinaryColumnReader(file);
+    }
+
+    private BinaryColumnReader(Path file) throws IOException {
+        this.file = file;
+        this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BinaryFormat.BUFFER_SIZE));
+        this.inflater = new Inflater();
+        this.compressed = new byte[0];
+        this.uncompressed = new byte[0];
+
+        if (in.readInt() != BinaryFormat.MAGIC) {
+            close();
+            throw new IllegalArgumentException(formatWithLocale("File `%s` is not a binary export file.", file));
+        }
+        int version = in.readInt();
+        if (version != BinaryFormat.VERSION) {
+            close();
+            throw new IllegalArgumentException(formatWithLocale(
+                "File `%s` has unsupported format version %d, expected %d.",
+                file,
+                version,
+                BinaryFormat.VERSION
+            ));
+        }
+
+        int columnCount = in.readInt();
+        this.columnNames = new String[columnCount];
+        this.columnTypes = new ValueType[columnCount];
+        for (int column = 0; column < columnCount; column++) {
+            columnNames[column] = in.readUTF();
+            try {
+                columnTypes[column] = BinaryFormat.valueType(in.readByte());
+            } catch (IllegalArgumentException e) {
+                close();
+                throw new IllegalArgumentException(formatWithLocale("File `%s`: %s", file, e.getMessage()), e);
+            }
+        }
+    }
+
+    public String[] columnNames() {
+        return columnNames;
+    }
+
+    public ValueType[] columnTypes() {
+        return columnTypes;
+    }
+
+    /**
+     * @return the next chunk or {@code null} if the end of the file has been reached.
+     */
+    public @Nullable Chunk nextChunk() throws IOException {
+        int rowCount = in.readInt();
+        if (rowCount == BinaryFormat.END_OF_FILE) {
+            return null;
+        }
+
+        Object[] columns = new Object[columnTypes.length];
+        for (int column = 0; column < columns.length; column++) {
+            columns[column] = decode(columnTypes[column], rowCount, inflateColumn());
+        }
+        return new Chunk(rowCount, columnTypes, columns);
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        in.close();
+    }
+
+    private DataInputStream inflateColumn() throws IOException {
+        int uncompressedSize = in.readInt();
+        int compressedSize = in.readInt();
+        if (compressed.length < compressedSize) {
+            compressed = new byte[compressedSize];
+        }
+        if (uncompressed.length < uncompressedSize) {
+            uncompressed = new byte[uncompressedSize];
+        }
+        in.readFully(compressed, 0, compressedSize);
+
+        inflater.reset();
+        inflater.setInput(compressed, 0, compressedSize);
+        try {
+            int inflated = 0;
+            while (inflated < uncompressedSize) {
+                int read = inflater.inflate(uncompressed, inflated, uncompressedSize - inflated);
+                if (read == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                inflated += read;
+            }
+            if (inflated != uncompressedSize) {
+                throw new IOException(formatWithLocale(
+                    "Corrupt chunk in `%s`: expected %d bytes, but got %d.",
+                    file,
+                    uncompressedSize,
+                    inflated
+                ));
+            }
+        } catch (DataFormatException e) {
+            throw new IOException(formatWithLocale("Corrupt chunk in `%s`.", file), e);
+        }
+        return new DataInputStream(new ByteArrayInputStream(uncompressed, 0, uncompressedSize));
+    }
+
+    private static Object decode(ValueType type, int rowCount, DataInputStream columnIn) throws IOException {
+        switch (type) {
+            case LONG:
+                var longs = new long[rowCount];
+                for (int row = 0; row < rowCount; row++) {
+                    longs[row] = columnIn.readLong();
+                }
+                return longs;
+            case DOUBLE:
+                var doubles = new double[rowCount];
+                for (int row = 0; row < rowCount; row++) {
+                    doubles[row] = columnIn.readDouble();
+                }
+                return doubles;
+            case DOUBLE_ARRAY:
+                var doubleArrays = new double[rowCount][];
+                for (int row = 0; row < rowCount; row++) {
+                    int length = columnIn.readInt();
+                    if (length >= 0) {
+                        var array = new double[length];
+                        for (int i = 0; i < length; i++) {
+                            array[i] = columnIn.readDouble();
+                        }
+                        doubleArrays[row] = array;
+                    }
+                }
+                return doubleArrays;
+            case FLOAT_ARRAY:
+                var floatArrays = new float[rowCount][];
+                for (int row = 0; row < rowCount; row++) {
+                    int length = columnIn.readInt();
+                    if (length >= 0) {
+                        var array = new float[length];
+                        for (int i = 0; i < length; i++) {
+                            array[i] = columnIn.readFloat();
+                        }
+                        floatArrays[row] = array;
+                    }
+                }
+                return floatArrays;
+            case LONG_ARRAY:
+                var longArrays = new long[rowCount][];
+                for (int row = 0; row < rowCount; row++) {
+                    int length = columnIn.readInt();
+                    if (length >= 0) {
+                        var array = new long[length];
+                        for (int i = 0; i < length; i++) {
+                            array[i] = columnIn.readLong();
+                        }
+                        longArrays[row] = array;
+                    }
+                }
+                return longArrays;
+            default:
+                throw new IllegalStateException("Unexpected value type: " + type);
+        }
+    }
+
+    public static final class Chunk implements ElementFileReader.Block {
+        private final int rowCount;
+        private final ValueType[] columnTypes;
+        private final Object[] columns;
+
+        Chunk(int rowCount, ValueType[] columnTypes, Object[] columns) {
+            this.rowCount = rowCount;
+            this.columnTypes = columnTypes;
+            this.columns = columns;
+        }
+
+        @Override
+        public int rowCount() {
+            return rowCount;
+        }
+
+        @Override
+        public long[] longColumn(int column) {
+            return (long[]) columns[column];
+        }
+
+        @Override
+        public double[] doubleColumn(int column) {
+            return (double[]) columns[column];
+        }
+
+        @Override
+        public @Nullable Object value(int column, int row) {
+            switch (columnTypes[column]) {
+                case LONG:
+                    long longValue = longColumn(column)[row];
+                    return longValue == LONG_DEFAULT_FALLBACK ? null : longValue;
+                case DOUBLE:
+                    double doubleValue = doubleColumn(column)[row];
+                    return Double.isNaN(doubleValue) ? null : doubleValue;
+                default:
+                    return ((Object[]) columns[column])[row];
+            }
+        }
+    }
+}
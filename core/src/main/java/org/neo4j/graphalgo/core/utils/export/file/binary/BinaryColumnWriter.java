@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file.binary;
+
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.neo4j.graphalgo.api.DefaultValue.LONG_DEFAULT_FALLBACK;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes rows into a single binary column file.
+ *
+ * Values are buffered per column and written as a chunk of
+ * {@link BinaryFormat#CHUNK_SIZE} rows, each column deflated separately.
+ * See {@link BinaryFormat} for the layout.
+ */
+final class BinaryColumnWriter implements Closeable {
+
+    private final DataOutputStream out;
+    private final ValueType[] columnTypes;
+    private final ByteArrayOutputStream[] columnBuffers;
+    private final DataOutputStream[] columns;
+    private final ByteArrayOutputStream compressed;
+    private final Deflater deflater;
+
+    private int rowsInChunk;
+
+    BinaryColumnWriter(Path file, String[] columnNames, ValueType[] columnTypes) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BinaryFormat.BUFFER_SIZE));
+        this.columnTypes = columnTypes;
+        this.columnBuffers = new ByteArrayOutputStream[columnTypes.length];
+        this.columns = new DataOutputStream[columnTypes.length];
+        for (int column = 0; column < columnTypes.length; column++) {
+            if (columnTypes[column] == ValueType.UNKNOWN) {
+                throw new UnsupportedOperationException(formatWithLocale(
+                    "Value Type UNKNOWN of column `%s` is not supported in binary exports",
+                    columnNames[column]
+                ));
+            }
+            columnBuffers[column] = new ByteArrayOutputStream();
+            columns[column] = new DataOutputStream(columnBuffers[column]);
+        }
+        this.compressed = new ByteArrayOutputStream();
+        this.deflater = new Deflater(Deflater.BEST_SPEED);
+
+        out.writeInt(BinaryFormat.MAGIC);
+        out.writeInt(BinaryFormat.VERSION);
+        out.writeInt(columnNames.length);
+        for (int column = 0; column < columnNames.length; column++) {
+            out.writeUTF(columnNames[column]);
+            out.writeByte(BinaryFormat.typeCode(columnTypes[column]));
+        }
+    }
+
+    void writeLong(int column, long value) throws IOException {
+        columns[column].writeLong(value);
+    }
+
+    void writeValue(int column, Object value) throws IOException {
+        var columnOut = columns[column];
+        switch (columnTypes[column]) {
+            case LONG:
+                columnOut.writeLong(value == null ? LONG_DEFAULT_FALLBACK : ((Number) value).longValue());
+                break;
+            case DOUBLE:
+                columnOut.writeDouble(value == null ? Double.NaN : ((Number) value).doubleValue());
+                break;
+            case DOUBLE_ARRAY:
+                var doubles = (double[]) value;
+                columnOut.writeInt(doubles == null ? -1 : doubles.length);
+                if (doubles != null) {
+                    for (double d : doubles) {
+                        columnOut.writeDouble(d);
+                    }
+                }
+                break;
+            case FLOAT_ARRAY:
+                var floats = (float[]) value;
+                columnOut.writeInt(floats == null ? -1 : floats.length);
+                if (floats != null) {
+                    for (float f : floats) {
+                        columnOut.writeFloat(f);
+                    }
+                }
+                break;
+            case LONG_ARRAY:
+                var longs = (long[]) value;
+                columnOut.writeInt(longs == null ? -1 : longs.length);
+                if (longs != null) {
+                    for (long l : longs) {
+                        columnOut.writeLong(l);
+                    }
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unexpected value type: " + columnTypes[column]);
+        }
+    }
+
+    void endRow() throws IOException {
+        if (++rowsInChunk == BinaryFormat.CHUNK_SIZE) {
+            flushChunk();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (rowsInChunk > 0) {
+                flushChunk();
+            }
+            out.writeInt(BinaryFormat.END_OF_FILE);
+            out.close();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void flushChunk() throws IOException {
+        out.writeInt(rowsInChunk);
+        for (int column = 0; column < columns.length; column++) {
+            var columnBuffer = columnBuffers[column];
+            deflater.reset();
+            compressed.reset();
+            try (var deflaterOut = new DeflaterOutputStream(compressed, deflater, BinaryFormat.BUFFER_SIZE)) {
+                columnBuffer.writeTo(deflaterOut);
+            }
+            out.writeInt(columnBuffer.size());
+            out.writeInt(compressed.size());
+            compressed.writeTo(out);
+            columnBuffer.reset();
+        }
+        rowsInChunk = 0;
+    }
+}
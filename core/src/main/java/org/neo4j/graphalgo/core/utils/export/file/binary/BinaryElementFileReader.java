@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file.binary;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.core.utils.export.file.ElementFileReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Reads the rows of a file written by {@link BinaryNodeVisitor} or {@link BinaryRelationshipVisitor}.
+ */
+public final class BinaryElementFileReader implements ElementFileReader {
+
+    private final BinaryColumnReader reader;
+
+    public static BinaryElementFileReader open(Path dataFile) throws IOException {
+        return new BinaryElementFileReader(BinaryColumnReader.open(dataFile));
+    }
+
+    private BinaryElementFileReader(BinaryColumnReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public String[] columnNames() {
+        return reader.columnNames();
+    }
+
+    @Override
+    public ValueType[] columnTypes() {
+        return reader.columnTypes();
+    }
+
+    /**
+     * Returns the chunks of the file as they are decoded, without copying their columns.
+     */
+    @Override
+    public @Nullable Block nextBlock() throws IOException {
+        return reader.nextChunk();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
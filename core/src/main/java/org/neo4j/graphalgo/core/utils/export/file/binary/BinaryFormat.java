@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file.binary;
+
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Layout of the binary columnar export files.
+ *
+ * <pre>
+ * file   := MAGIC VERSION columnCount column* chunk* END_OF_FILE
+ * column := name(UTF) valueType(byte, see {@link #typeCode(ValueType)})
+ * chunk  := rowCount(int) (uncompressedSize(int) compressedSize(int) deflatedBytes)*   -- one per column
+ * </pre>
+ *
+ * Within a column, scalar values are stored as big-endian primitives and
+ * arrays as their length followed by their elements. Missing longs are stored as
+ * {@link org.neo4j.graphalgo.api.DefaultValue#LONG_DEFAULT_FALLBACK}, missing doubles
+ * as {@code NaN} and missing arrays with a length of {@code -1}.
+ */
+public final class BinaryFormat {
+
+    public static final String FILE_EXTENSION = "gdsb";
+
+    static final int MAGIC = 0x47445342; // "GDSB"
+    static final int VERSION = 2;
+    static final int END_OF_FILE = 0;
+
+    static final int CHUNK_SIZE = 64 * 1024;
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final byte LONG_CODE = 1;
+    private static final byte DOUBLE_CODE = 2;
+    private static final byte DOUBLE_ARRAY_CODE = 3;
+    private static final byte FLOAT_ARRAY_CODE = 4;
+    private static final byte LONG_ARRAY_CODE = 5;
+
+    private BinaryFormat() {}
+
+    /**
+     * The code of a value type in the file header. Codes are part of the format
+     * and must not change when {@link ValueType} changes.
+     */
+    static byte typeCode(ValueType valueType) {
+        switch (valueType) {
+            case LONG:
+                return LONG_CODE;
+            case DOUBLE:
+                return DOUBLE_CODE;
+            case DOUBLE_ARRAY:
+                return DOUBLE_ARRAY_CODE;
+            case FLOAT_ARRAY:
+                return FLOAT_ARRAY_CODE;
+            case LONG_ARRAY:
+                return LONG_ARRAY_CODE;
+            default:
+                throw new UnsupportedOperationException(formatWithLocale(
+                    "Value Type %s is not supported in binary exports",
+                    valueType
+                ));
+        }
+    }
+
+    static ValueType valueType(byte typeCode) {
+        switch (typeCode) {
+            case LONG_CODE:
+                return ValueType.LONG;
+            case DOUBLE_CODE:
+                return ValueType.DOUBLE;
+            case DOUBLE_ARRAY_CODE:
+                return ValueType.DOUBLE_ARRAY;
+            case FLOAT_ARRAY_CODE:
+                return ValueType.FLOAT_ARRAY;
+            case LONG_ARRAY_CODE:
+                return ValueType.LONG_ARRAY;
+            default:
+                throw new IllegalArgumentException(formatWithLocale("Unknown value type code %d", typeCode));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file.binary;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.api.schema.RelationshipSchema;
+import org.neo4j.graphalgo.core.utils.export.file.RelationshipVisitor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.neo4j.graphalgo.core.utils.export.file.csv.CsvRelationshipVisitor.END_ID_COLUMN_NAME;
+import static org.neo4j.graphalgo.core.utils.export.file.csv.CsvRelationshipVisitor.START_ID_COLUMN_NAME;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+public class BinaryRelationshipVisitor extends RelationshipVisitor {
+
+    private final Path fileLocation;
+    private final int visitorId;
+    private final Map<String, BinaryColumnWriter> writers;
+
+    public BinaryRelationshipVisitor(Path fileLocation, RelationshipSchema relationshipSchema, int visitorId) {
+        super(relationshipSchema);
+        this.fileLocation = fileLocation;
+        this.visitorId = visitorId;
+        this.writers = new HashMap<>();
+    }
+
+    @TestOnly
+    BinaryRelationshipVisitor(Path fileLocation, RelationshipSchema relationshipSchema) {
+        this(fileLocation, relationshipSchema, 0);
+    }
+
+    @Override
+    protected void exportElement() {
+        var writer = getWriter();
+        try {
+            writer.writeLong(0, startNode());
+            writer.writeLong(1, endNode());
+
+            var column = new int[]{2};
+            forEachProperty(((key, value, type) -> {
+                try {
+                    writer.writeValue(column[0]++, value);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+
+            writer.endRow();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        writers.values().forEach(writer -> {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private BinaryColumnWriter getWriter() {
+        return writers.computeIfAbsent(relationshipType(), (ignore) -> {
+            var fileName = formatWithLocale("relationships_%s", relationshipType());
+            var dataFileName = formatWithLocale("%s_%d.%s", fileName, visitorId, BinaryFormat.FILE_EXTENSION);
+
+            List<String> columnNames = new ArrayList<>();
+            List<ValueType> columnTypes = new ArrayList<>();
+            columnNames.add(START_ID_COLUMN_NAME);
+            columnTypes.add(ValueType.LONG);
+            columnNames.add(END_ID_COLUMN_NAME);
+            columnTypes.add(ValueType.LONG);
+            forEachProperty(((key, value, type) -> {
+                columnNames.add(key);
+                columnTypes.add(type);
+            }));
+
+            try {
+                return new BinaryColumnWriter(
+                    fileLocation.resolve(dataFileName),
+                    columnNames.toArray(new String[0]),
+                    columnTypes.toArray(new ValueType[0])
+                );
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
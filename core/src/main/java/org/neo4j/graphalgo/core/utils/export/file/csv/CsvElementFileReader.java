@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file.csv;
+
+import de.siegmar.fastcsv.reader.CsvParser;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRow;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.core.utils.export.file.ElementFileReader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.neo4j.graphalgo.api.DefaultValue.LONG_DEFAULT_FALLBACK;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Reads a data file written by {@link CsvNodeVisitor} or {@link CsvRelationshipVisitor}.
+ * The column types are taken from the header file that belongs to the data file.
+ */
+public final class CsvElementFileReader implements ElementFileReader {
+
+    private static final String ARRAY_DELIMITER = ";";
+    private static final int BLOCK_SIZE = 8192;
+
+    private final Path dataFile;
+    private final String[] columnNames;
+    private final ValueType[] columnTypes;
+    private final CsvParser parser;
+
+    public static CsvElementFileReader open(Path headerFile, Path dataFile) throws IOException {
+        var csvReader = new CsvReader();
+        String[] header;
+        try (var headerParser = csvReader.parse(headerFile, StandardCharsets.UTF_8)) {
+            var headerRow = headerParser.nextRow();
+            if (headerRow == null) {
+                throw new IllegalArgumentException(formatWithLocale("Header file `%s` is empty.", headerFile));
+            }
+            header = headerRow.getFields().toArray(String[]::new);
+        }
+
+        var columnNames = new String[header.length];
+        var columnTypes = new ValueType[header.length];
+        for (int column = 0; column < header.length; column++) {
+            var field = header[column];
+            if (field.startsWith(":")) {
+                // :ID, :START_ID, :END_ID
+                columnNames[column] = field;
+                columnTypes[column] = ValueType.LONG;
+            } else {
+                int typeIndex = field.lastIndexOf(':');
+                if (typeIndex < 0) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Header `%s` in file `%s` does not specify a value type.",
+                        field,
+                        headerFile
+                    ));
+                }
+                columnNames[column] = field.substring(0, typeIndex);
+                columnTypes[column] = ValueType.fromCsvName(field.substring(typeIndex + 1));
+            }
+        }
+
+        return new CsvElementFileReader(dataFile, columnNames, columnTypes, csvReader.parse(dataFile, StandardCharsets.UTF_8));
+    }
+
+    private CsvElementFileReader(Path dataFile, String[] columnNames, ValueType[] columnTypes, CsvParser parser) {
+        this.dataFile = dataFile;
+        this.columnNames = columnNames;
+        this.columnTypes = columnTypes;
+        this.parser = parser;
+    }
+
+    @Override
+    public String[] columnNames() {
+        return columnNames;
+    }
+
+    @Override
+    public ValueType[] columnTypes() {
+        return columnTypes;
+    }
+
+    @Override
+    public @Nullable Block nextBlock() throws IOException {
+        var block = new CsvBlock(columnTypes);
+        CsvRow csvRow;
+        while (block.rowCount < BLOCK_SIZE && (csvRow = parser.nextRow()) != null) {
+            if (csvRow.getFieldCount() != columnTypes.length) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Line %d in file `%s` has %d fields, expected %d.",
+                    csvRow.getOriginalLineNumber(),
+                    dataFile,
+                    csvRow.getFieldCount(),
+                    columnTypes.length
+                ));
+            }
+            for (int column = 0; column < columnTypes.length; column++) {
+                block.set(column, csvRow.getField(column));
+            }
+            block.rowCount++;
+        }
+        return block.rowCount == 0 ? null : block;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private static Object parseArray(ValueType type, String field) {
+        if (field.isEmpty()) {
+            return null;
+        }
+        switch (type) {
+            case DOUBLE_ARRAY:
+                return Arrays.stream(field.split(ARRAY_DELIMITER)).mapToDouble(Double::parseDouble).toArray();
+            case FLOAT_ARRAY:
+                var elements = field.split(ARRAY_DELIMITER);
+                var floats = new float[elements.length];
+                for (int i = 0; i < elements.length; i++) {
+                    floats[i] = Float.parseFloat(elements[i]);
+                }
+                return floats;
+            case LONG_ARRAY:
+                return Arrays.stream(field.split(ARRAY_DELIMITER)).mapToLong(Long::parseLong).toArray();
+            default:
+                throw new IllegalStateException("Unexpected value type: " + type);
+        }
+    }
+
+    private static final class CsvBlock implements Block {
+        private final ValueType[] columnTypes;
+        private final Object[] columns;
+        private int rowCount;
+
+        CsvBlock(ValueType[] columnTypes) {
+            this.columnTypes = columnTypes;
+            this.columns = new Object[columnTypes.length];
+            for (int column = 0; column < columnTypes.length; column++) {
+                switch (columnTypes[column]) {
+                    case LONG:
+                        columns[column] = new long[BLOCK_SIZE];
+                        break;
+                    case DOUBLE:
+                        columns[column] = new double[BLOCK_SIZE];
+                        break;
+                    default:
+                        columns[column] = new Object[BLOCK_SIZE];
+                }
+            }
+        }
+
+        void set(int column, String field) {
+            switch (columnTypes[column]) {
+                case LONG:
+                    longColumn(column)[rowCount] = field.isEmpty() ? LONG_DEFAULT_FALLBACK : Long.parseLong(field);
+                    break;
+                case DOUBLE:
+                    doubleColumn(column)[rowCount] = field.isEmpty() ? Double.NaN : Double.parseDouble(field);
+                    break;
+                default:
+                    ((Object[]) columns[column])[rowCount] = parseArray(columnTypes[column], field);
+            }
+        }
+
+        @Override
+        public int rowCount() {
+            return rowCount;
+        }
+
+        @Override
+        public long[] longColumn(int column) {
+            return (long[]) columns[column];
+        }
+
+        @Override
+        public double[] doubleColumn(int column) {
+            return (double[]) columns[column];
+        }
+
+        @Override
+        public @Nullable Object value(int column, int row) {
+            switch (columnTypes[column]) {
+                case LONG:
+                    long longValue = longColumn(column)[row];
+                    return longValue == LONG_DEFAULT_FALLBACK ? null : longValue;
+                case DOUBLE:
+                    double doubleValue = doubleColumn(column)[row];
+                    return Double.isNaN(doubleValue) ? null : doubleValue;
+                default:
+                    return ((Object[]) columns[column])[row];
+            }
+        }
+    }
+}
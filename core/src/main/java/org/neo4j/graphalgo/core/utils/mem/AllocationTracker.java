@@ -22,6 +22,7 @@ package org.neo4j.graphalgo.core.utils.mem;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.compat.MemoryTrackerProxy;
 
+import java.util.Map;
 import java.util.function.Supplier;
 
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.humanReadable;
@@ -60,11 +61,41 @@ public interface AllocationTracker extends Supplier<String> {
      */
     void remove(long bytes);
 
+    /**
+     * Add the given number of bytes to the total tracked amount and attribute them to the given component,
+     * usually the type of the allocated data structure.
+     */
+    default void add(String component, long bytes) {
+        add(bytes);
+    }
+
+    /**
+     * Remove the given number of bytes from the total tracked amount and from the given component.
+     */
+    default void remove(String component, long bytes) {
+        remove(bytes);
+    }
+
     /**
      * Return the current total of tracked bytes.
      */
     long trackedBytes();
 
+    /**
+     * Return the highest total of tracked bytes that has been observed so far.
+     */
+    default long peakBytes() {
+        return trackedBytes();
+    }
+
+    /**
+     * Return the highest number of tracked bytes per component that has been observed so far.
+     * Bytes that have been added without a component are only part of the total.
+     */
+    default Map<String, Long> peakBytesPerComponent() {
+        return Map.of();
+    }
+
     default String getUsageString() {
         return humanReadable(trackedBytes());
     }
@@ -21,25 +21,53 @@ package org.neo4j.graphalgo.core.utils.mem;
 
 import org.neo4j.graphalgo.compat.AllocationTrackerAdapter;
 
-import java.util.concurrent.atomic.LongAdder;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class InMemoryAllocationTracker implements AllocationTracker {
 
-    private final LongAdder count = new LongAdder();
+    private final Usage total = new Usage();
+    private final Map<String, Usage> components = new ConcurrentHashMap<>();
 
     @Override
     public void add(long bytes) {
-        count.add(bytes);
+        total.add(bytes);
     }
 
     @Override
     public void remove(long bytes) {
-        count.add(-bytes);
+        total.add(-bytes);
+    }
+
+    @Override
+    public void add(String component, long bytes) {
+        total.add(bytes);
+        components.computeIfAbsent(component, ignore -> new Usage()).add(bytes);
+    }
+
+    @Override
+    public void remove(String component, long bytes) {
+        total.add(-bytes);
+        components.computeIfAbsent(component, ignore -> new Usage()).add(-bytes);
     }
 
     @Override
     public long trackedBytes() {
-        return count.sum();
+        return total.current.get();
+    }
+
+    @Override
+    public long peakBytes() {
+        return total.peak.get();
+    }
+
+    @Override
+    public Map<String, Long> peakBytesPerComponent() {
+        var peaks = new TreeMap<String, Long>();
+        components.forEach((component, usage) -> peaks.put(component, usage.peak.get()));
+        return peaks;
     }
 
     public static AllocationTracker create() {
@@ -49,4 +77,16 @@ public class InMemoryAllocationTracker implements AllocationTracker {
     public static AllocationTracker ignoring(AllocationTrackerAdapter ignored) {
         return create();
     }
+
+    private static final class Usage {
+        private final AtomicLong current = new AtomicLong();
+        private final AtomicLong peak = new AtomicLong();
+
+        void add(long bytes) {
+            long now = current.addAndGet(bytes);
+            if (bytes > 0) {
+                peak.accumulateAndGet(now, Math::max);
+            }
+        }
+    }
 }
@@ -21,22 +21,41 @@ package org.neo4j.graphalgo.core.utils.mem;
 
 import org.neo4j.graphalgo.compat.AllocationTrackerAdapter;
 
+import java.util.Map;
+
 public final class KernelAllocationTracker implements AllocationTracker {
 
     private final AllocationTrackerAdapter tracker;
+    // the kernel only knows the current total, peaks are kept on our side
+    private final AllocationTracker peaks;
 
     private KernelAllocationTracker(AllocationTrackerAdapter tracker) {
         this.tracker = tracker;
+        this.peaks = InMemoryAllocationTracker.create();
     }
 
     @Override
     public void add(long bytes) {
         tracker.add(bytes);
+        peaks.add(bytes);
     }
 
     @Override
     public void remove(long bytes) {
         tracker.remove(bytes);
+        peaks.remove(bytes);
+    }
+
+    @Override
+    public void add(String component, long bytes) {
+        tracker.add(bytes);
+        peaks.add(component, bytes);
+    }
+
+    @Override
+    public void remove(String component, long bytes) {
+        tracker.remove(bytes);
+        peaks.remove(component, bytes);
     }
 
     @Override
@@ -44,6 +63,16 @@ public final class KernelAllocationTracker implements AllocationTracker {
         return tracker.trackedBytes();
     }
 
+    @Override
+    public long peakBytes() {
+        return peaks.peakBytes();
+    }
+
+    @Override
+    public Map<String, Long> peakBytesPerComponent() {
+        return peaks.peakBytesPerComponent();
+    }
+
     public static AllocationTracker create(AllocationTrackerAdapter tracker) {
         return new KernelAllocationTracker(tracker);
     }
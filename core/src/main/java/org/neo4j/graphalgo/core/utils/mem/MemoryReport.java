@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.mem;
+
+import org.neo4j.graphalgo.annotation.ValueClass;
+
+import java.util.Map;
+
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.humanReadable;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Compares the estimated memory of a run with the memory that has been tracked while running it.
+ * Used to calibrate estimations and to spot runs that would have needed more memory than estimated.
+ */
+@ValueClass
+public interface MemoryReport {
+
+    MemoryTree estimate();
+
+    /**
+     * The highest number of bytes tracked during the run.
+     */
+    long peakBytes();
+
+    /**
+     * Tracked bytes for the top-level components of the estimate, e.g. {@code graph} and {@code algorithm}.
+     */
+    Map<String, Long> trackedBytesPerEstimate();
+
+    /**
+     * Highest tracked bytes per type of allocated data structure.
+     */
+    Map<String, Long> peakBytesPerComponent();
+
+    default boolean exceedsEstimate() {
+        return peakBytes() > estimate().memoryUsage().max;
+    }
+
+    /**
+     * @return the peak tracked memory relative to the maximum estimate, or 0 if nothing has been estimated.
+     */
+    default double peakToEstimate() {
+        long max = estimate().memoryUsage().max;
+        return max == 0 ? 0.0 : (double) peakBytes() / max;
+    }
+
+    default String render() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(formatWithLocale(
+            "%s: estimated %s, peak tracked %s (%.0f%% of the maximum estimate)",
+            estimate().description(),
+            estimate().memoryUsage(),
+            humanReadable(peakBytes()),
+            peakToEstimate() * 100
+        ));
+        sb.append(System.lineSeparator());
+        for (MemoryTree component : estimate().components()) {
+            sb.append(formatWithLocale(
+                "|-- %s: estimated %s, tracked %s",
+                component.description(),
+                component.memoryUsage(),
+                humanReadable(trackedBytesPerEstimate().getOrDefault(component.description(), 0L))
+            ));
+            sb.append(System.lineSeparator());
+        }
+        peakBytesPerComponent().forEach((component, bytes) -> {
+            sb.append(formatWithLocale("|-- tracked %s: %s", component, humanReadable(bytes)));
+            sb.append(System.lineSeparator());
+        });
+        return sb.toString();
+    }
+
+    static MemoryReport of(MemoryTree estimate, AllocationTracker tracker, Map<String, Long> trackedBytesPerEstimate) {
+        return ImmutableMemoryReport.of(
+            estimate,
+            tracker.peakBytes(),
+            trackedBytesPerEstimate,
+            tracker.peakBytesPerComponent()
+        );
+    }
+}
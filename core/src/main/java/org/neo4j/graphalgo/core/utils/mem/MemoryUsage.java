@@ -21,6 +21,7 @@ package org.neo4j.graphalgo.core.utils.mem;
 
 import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongLongHashMap;
 import com.carrotsearch.hppc.ObjectLongIdentityHashMap;
 import com.carrotsearch.hppc.ObjectLongMap;
 import org.apache.commons.lang3.mutable.MutableLong;
@@ -254,6 +255,13 @@ public final class MemoryUsage {
         return keyArraySize + valueArraySize + sizeOfInstance(LongDoubleHashMap.class);
     }
 
+    public static long sizeOfLongLongHashMap(long length) {
+        long keyArraySize = sizeOfLongArray((int) Math.ceil(length * 1.25));
+        long valueArraySize = sizeOfLongArray((int) Math.ceil(length * 1.25));
+
+        return keyArraySize + valueArraySize + sizeOfInstance(LongLongHashMap.class);
+    }
+
     public static long sizeOfEmptyOpenHashContainer() {
         return sizeOfOpenHashContainer(DEFAULT_EXPECTED_ELEMENTS);
     }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.metrics;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Config;
+import org.neo4j.kernel.extension.ExtensionFactory;
+import org.neo4j.kernel.extension.context.ExtensionContext;
+import org.neo4j.kernel.lifecycle.Lifecycle;
+import org.neo4j.kernel.lifecycle.LifecycleAdapter;
+import org.neo4j.logging.Log;
+import org.neo4j.logging.internal.LogService;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@ServiceProvider
+public final class MetricsJmxExtension extends ExtensionFactory<MetricsJmxExtension.Dependencies> {
+
+    static final String OBJECT_NAME = "org.neo4j.gds:type=Metrics";
+
+    public MetricsJmxExtension() {
+        super("gds.metrics.jmx");
+    }
+
+    @Override
+    public Lifecycle newInstance(ExtensionContext context, Dependencies dependencies) {
+        if (!dependencies.config().get(MetricsSettings.metrics_jmx_enabled)) {
+            return new LifecycleAdapter();
+        }
+        return new MBeanInstaller(
+            ManagementFactory.getPlatformMBeanServer(),
+            dependencies.logService().getInternalLog(MetricsJmxExtension.class)
+        );
+    }
+
+    interface Dependencies {
+        Config config();
+
+        LogService logService();
+    }
+
+    private static final class MBeanInstaller extends LifecycleAdapter {
+        private final MBeanServer server;
+        private final Log log;
+        private ObjectName objectName;
+
+        MBeanInstaller(MBeanServer server, Log log) {
+            this.server = server;
+            this.log = log;
+        }
+
+        @Override
+        public void start() {
+            try {
+                var name = new ObjectName(OBJECT_NAME);
+                // several databases in the same JVM share the registry, register it only once
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(new RegistryMXBean(), name);
+                    objectName = name;
+                }
+            } catch (JMException e) {
+                log.warn("Could not register the GDS metrics MBean", e);
+            }
+        }
+
+        @Override
+        public void stop() {
+            if (objectName != null) {
+                try {
+                    server.unregisterMBean(objectName);
+                } catch (JMException e) {
+                    // ignore
+                }
+                objectName = null;
+            }
+        }
+    }
+
+    private static final class RegistryMXBean implements MetricsMXBean {
+
+        @Override
+        public Map<String, Long> getCounts() {
+            return collect(MetricSnapshot::count);
+        }
+
+        @Override
+        public Map<String, Double> getTotalMillis() {
+            return collect(MetricSnapshot::totalMillis);
+        }
+
+        @Override
+        public Map<String, Double> getMeanMillis() {
+            return collect(MetricSnapshot::meanMillis);
+        }
+
+        @Override
+        public Map<String, Double> getP99Millis() {
+            return collect(MetricSnapshot::p99Millis);
+        }
+
+        @Override
+        public void reset() {
+            MetricsRegistry.reset();
+        }
+
+        private static <T> Map<String, T> collect(Function<MetricSnapshot, T> value) {
+            return MetricsRegistry.snapshot().stream().collect(Collectors.toMap(MetricSnapshot::name, value));
+        }
+    }
+}
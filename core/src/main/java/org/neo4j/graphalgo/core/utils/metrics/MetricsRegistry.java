@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of counters and timers that describe the phases of
+ * graph loading, algorithm computation and write-back.
+ *
+ * The registry is a JVM-wide singleton: metrics are shared by all databases of the DBMS
+ * and are not tied to the lifecycle of any single database. They are created on first use
+ * and are only cleared by {@link #reset()} or when the JVM exits.
+ * Callers on hot paths should resolve a metric once and keep the reference,
+ * updating a metric itself never blocks.
+ *
+ * Metric names are dot-separated, starting with the phase, e.g.
+ * {@code loading.relationship.records} or {@code pagerank.iteration}.
+ */
+public final class MetricsRegistry {
+
+    private static final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private static final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {}
+
+    public static Counter counter(String name) {
+        return counters.computeIfAbsent(name, ignore -> new Counter());
+    }
+
+    public static Timer timer(String name) {
+        return timers.computeIfAbsent(name, ignore -> new Timer());
+    }
+
+    /**
+     * @return a snapshot of all metrics, ordered by name.
+     */
+    public static List<MetricSnapshot> snapshot() {
+        var snapshots = new ArrayList<MetricSnapshot>(counters.size() + timers.size());
+        counters.forEach((name, counter) -> snapshots.add(ImmutableMetricSnapshot.builder()
+            .name(name)
+            .type(MetricSnapshot.Type.COUNTER)
+            .count(counter.count())
+            .totalMillis(0)
+            .meanMillis(0)
+            .p50Millis(0)
+            .p99Millis(0)
+            .maxMillis(0)
+            .build()
+        ));
+        timers.forEach((name, timer) -> {
+            var histogram = timer.histogram();
+            snapshots.add(ImmutableMetricSnapshot.builder()
+                .name(name)
+                .type(MetricSnapshot.Type.TIMER)
+                .count(histogram.getTotalCount())
+                .totalMillis(timer.totalNanos() / 1_000_000.0)
+                .meanMillis(histogram.getTotalCount() == 0 ? 0 : histogram.getMean() / 1_000.0)
+                .p50Millis(histogram.getValueAtPercentile(50) / 1_000.0)
+                .p99Millis(histogram.getValueAtPercentile(99) / 1_000.0)
+                .maxMillis(histogram.getMaxValue() / 1_000.0)
+                .build()
+            );
+        });
+        snapshots.sort(Comparator.comparing(MetricSnapshot::name));
+        return snapshots;
+    }
+
+    /**
+     * Resets the values of all metrics. References held by callers stay valid.
+     */
+    public static void reset() {
+        counters.values().forEach(Counter::reset);
+        timers.values().forEach(Timer::reset);
+    }
+}
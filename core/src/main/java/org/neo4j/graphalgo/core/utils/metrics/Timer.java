@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records durations into a histogram with microsecond resolution.
+ * Recording is wait-free and can be done from many threads concurrently.
+ */
+public final class Timer {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final ConcurrentHistogram histogram;
+    private final LongAdder totalNanos;
+
+    Timer() {
+        this.histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        this.totalNanos = new LongAdder();
+    }
+
+    public void record(long nanos) {
+        long clamped = Math.max(0, nanos);
+        histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(clamped));
+        totalNanos.add(clamped);
+    }
+
+    /**
+     * Starts a measurement that is recorded when the returned sample is closed.
+     */
+    public Sample start() {
+        return new Sample(this, System.nanoTime());
+    }
+
+    long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    Histogram histogram() {
+        return histogram.copy();
+    }
+
+    void reset() {
+        histogram.reset();
+        totalNanos.reset();
+    }
+
+    public static final class Sample implements AutoCloseable {
+
+        private final Timer timer;
+        private final long startNanos;
+
+        private Sample(Timer timer, long startNanos) {
+            this.timer = timer;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            timer.record(System.nanoTime() - startNanos);
+        }
+    }
+}
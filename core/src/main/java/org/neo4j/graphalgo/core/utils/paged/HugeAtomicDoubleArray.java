@@ -40,6 +40,8 @@ import static org.neo4j.graphalgo.core.utils.paged.HugeArrays.pageIndex;
 
 public abstract class HugeAtomicDoubleArray {
 
+    private static final String TRACKED_COMPONENT = HugeAtomicDoubleArray.class.getSimpleName();
+
     /**
      * @return the double value at the given index
      * @throws ArrayIndexOutOfBoundsException if the index is not within {@link #size()}
@@ -229,7 +231,7 @@ public abstract class HugeAtomicDoubleArray {
         private static HugeAtomicDoubleArray of(long size, DoublePageCreator pageCreator, AllocationTracker tracker) {
             assert size <= ArrayUtil.MAX_ARRAY_LENGTH;
             final int intSize = (int) size;
-            tracker.add(sizeOfLongArray(intSize));
+            tracker.add(TRACKED_COMPONENT, sizeOfLongArray(intSize));
             double[] page = new double[intSize];
             pageCreator.fillPage(page, 0);
             return new HugeAtomicDoubleArray.SingleHugeAtomicDoubleArray(intSize, page);
@@ -313,7 +315,7 @@ public abstract class HugeAtomicDoubleArray {
             pageCreator.fill(pages, lastPageSize);
 
             long memoryUsed = memoryUsageOfData(size);
-            tracker.add(memoryUsed);
+            tracker.add(TRACKED_COMPONENT, memoryUsed);
             return new PagedHugeAtomicDoubleArray(size, pages, memoryUsed);
         }
 
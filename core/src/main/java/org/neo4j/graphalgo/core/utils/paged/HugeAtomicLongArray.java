@@ -67,6 +67,8 @@ import static org.neo4j.graphalgo.core.utils.paged.HugeArrays.pageIndex;
  */
 public abstract class HugeAtomicLongArray {
 
+    private static final String TRACKED_COMPONENT = HugeAtomicLongArray.class.getSimpleName();
+
     /**
      * @return the long value at the given index
      * @throws ArrayIndexOutOfBoundsException if the index is not within {@link #size()}
@@ -249,7 +251,7 @@ public abstract class HugeAtomicLongArray {
         private static HugeAtomicLongArray of(long size, LongPageCreator pageCreator, AllocationTracker tracker) {
             assert size <= ArrayUtil.MAX_ARRAY_LENGTH;
             final int intSize = (int) size;
-            tracker.add(sizeOfLongArray(intSize));
+            tracker.add(TRACKED_COMPONENT, sizeOfLongArray(intSize));
             long[] page = new long[intSize];
             pageCreator.fillPage(page, 0);
             return new SingleHugeAtomicLongArray(intSize, page);
@@ -334,7 +336,7 @@ public abstract class HugeAtomicLongArray {
             pageCreator.fill(pages, lastPageSize);
 
             long memoryUsed = memoryUsageOfData(size);
-            tracker.add(memoryUsed);
+            tracker.add(TRACKED_COMPONENT, memoryUsed);
             return new PagedHugeAtomicLongArray(size, pages, memoryUsed);
         }
 
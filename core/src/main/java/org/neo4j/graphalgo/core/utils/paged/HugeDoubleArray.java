@@ -64,6 +64,8 @@ import static org.neo4j.graphalgo.core.utils.paged.HugeArrays.pageIndex;
  */
 public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDoubleArray> {
 
+    private static final String TRACKED_COMPONENT = HugeDoubleArray.class.getSimpleName();
+
     /**
      * @return the double value at the given index
      * @throws ArrayIndexOutOfBoundsException if the index is not within {@link #size()}
@@ -245,7 +247,7 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             assert size <= ArrayUtil.MAX_ARRAY_LENGTH;
             final int intSize = (int) size;
             double[] page = new double[intSize];
-            tracker.add(sizeOfDoubleArray(intSize));
+            tracker.add(TRACKED_COMPONENT, sizeOfDoubleArray(intSize));
 
             return new SingleHugeDoubleArray(intSize, page);
         }
@@ -373,7 +375,7 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             final int lastPageSize = exclusiveIndexOfPage(size);
             pages[numPages - 1] = new double[lastPageSize];
             memoryUsed += sizeOfDoubleArray(lastPageSize);
-            tracker.add(memoryUsed);
+            tracker.add(TRACKED_COMPONENT, memoryUsed);
 
             return new PagedHugeDoubleArray(size, pages, memoryUsed);
         }
@@ -63,6 +63,8 @@ import static org.neo4j.graphalgo.core.utils.paged.HugeArrays.pageIndex;
  */
 public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArray> {
 
+    private static final String TRACKED_COMPONENT = HugeIntArray.class.getSimpleName();
+
     /**
      * @return the int value at the given index
      * @throws ArrayIndexOutOfBoundsException if the index is not within {@link #size()}
@@ -259,7 +261,7 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
             assert size <= ArrayUtil.MAX_ARRAY_LENGTH;
             final int intSize = (int) size;
             int[] page = new int[intSize];
-            tracker.add(sizeOfIntArray(intSize));
+            tracker.add(TRACKED_COMPONENT, sizeOfIntArray(intSize));
 
             return new SingleHugeIntArray(intSize, page);
         }
@@ -394,7 +396,7 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
             final int lastPageSize = exclusiveIndexOfPage(size);
             pages[numPages - 1] = new int[lastPageSize];
             memoryUsed += sizeOfIntArray(lastPageSize);
-            tracker.add(memoryUsed);
+            tracker.add(TRACKED_COMPONENT, memoryUsed);
 
             return new PagedHugeIntArray(size, pages, memoryUsed);
         }
@@ -64,6 +64,8 @@ import static org.neo4j.graphalgo.core.utils.paged.HugeArrays.pageIndex;
  */
 public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArray> {
 
+    private static final String TRACKED_COMPONENT = HugeLongArray.class.getSimpleName();
+
     /**
      * @return the long value at the given index
      * @throws ArrayIndexOutOfBoundsException if the index is not within {@link #size()}
@@ -269,7 +271,7 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
             assert size <= ArrayUtil.MAX_ARRAY_LENGTH;
             final int intSize = (int) size;
             long[] page = new long[intSize];
-            tracker.add(sizeOfLongArray(intSize));
+            tracker.add(TRACKED_COMPONENT, sizeOfLongArray(intSize));
 
             return new SingleHugeLongArray(intSize, page);
         }
@@ -409,7 +411,7 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
             final int lastPageSize = exclusiveIndexOfPage(size);
             pages[numPages - 1] = new long[lastPageSize];
             memoryUsed += sizeOfLongArray(lastPageSize);
-            tracker.add(memoryUsed);
+            tracker.add(TRACKED_COMPONENT, memoryUsed);
 
             return new PagedHugeLongArray(size, pages, memoryUsed);
         }
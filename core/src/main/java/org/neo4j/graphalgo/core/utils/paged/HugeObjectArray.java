@@ -30,6 +30,7 @@ import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfInstance;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArray;
@@ -65,6 +66,8 @@ import static org.neo4j.graphalgo.core.utils.paged.HugeArrays.pageIndex;
  */
 public abstract class HugeObjectArray<T> extends HugeArray<T[], T, HugeObjectArray<T>> {
 
+    private static final String TRACKED_COMPONENT = HugeObjectArray.class.getSimpleName();
+
     /**
      * @return the value at the given index
      * @throws ArrayIndexOutOfBoundsException if the index is not within {@link #size()}
@@ -115,6 +118,25 @@ public abstract class HugeObjectArray<T> extends HugeArray<T[], T, HugeObjectArr
     @Override
     public abstract long sizeOf();
 
+    /**
+     * Computes the memory used by the elements of this array, which is not included in {@link #sizeOf()}.
+     * Missing elements are not counted.
+     */
+    public long sizeOfElements(ToLongFunction<? super T> sizeOfElement) {
+        long bytes = 0L;
+        try (HugeCursor<T[]> cursor = initCursor(newCursor())) {
+            while (cursor.next()) {
+                T[] page = cursor.array;
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    if (page[i] != null) {
+                        bytes += sizeOfElement.applyAsLong(page[i]);
+                    }
+                }
+            }
+        }
+        return bytes;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -245,7 +267,7 @@ public abstract class HugeObjectArray<T> extends HugeArray<T[], T, HugeObjectArr
             final int intSize = (int) size;
             //noinspection unchecked
             T[] page = (T[]) Array.newInstance(componentClass, intSize);
-            tracker.add(sizeOfObjectArray(intSize));
+            tracker.add(TRACKED_COMPONENT, sizeOfObjectArray(intSize));
 
             return new SingleHugeObjectArray<>(intSize, page);
         }
@@ -380,7 +402,7 @@ public abstract class HugeObjectArray<T> extends HugeArray<T[], T, HugeObjectArr
             final int lastPageSize = exclusiveIndexOfPage(size);
             pages[numPages - 1] = (T[]) Array.newInstance(componentClass, lastPageSize);
             memoryUsed += sizeOfObjectArray(lastPageSize);
-            tracker.add(memoryUsed);
+            tracker.add(TRACKED_COMPONENT, memoryUsed);
 
             return new PagedHugeObjectArray<>(size, pages, memoryUsed);
         }
@@ -33,6 +33,8 @@ import static org.apache.lucene.util.ArrayUtil.oversize;
 
 public final class HugeSparseLongArray {
 
+    private static final String TRACKED_COMPONENT = HugeSparseLongArray.class.getSimpleName();
+
     private static final long NOT_FOUND = -1L;
 
     private static final int PAGE_SHIFT = 12;
@@ -58,7 +60,7 @@ public final class HugeSparseLongArray {
         int numPages = PageUtil.numPagesFor(size, PAGE_SHIFT, PAGE_MASK);
         long capacity = PageUtil.capacityFor(numPages, PAGE_SHIFT);
         AtomicReferenceArray<long[]> pages = new AtomicReferenceArray<>(numPages);
-        tracker.add(MemoryUsage.sizeOfObjectArray(numPages));
+        tracker.add(TRACKED_COMPONENT, MemoryUsage.sizeOfObjectArray(numPages));
         return new Builder(capacity, pages, defaultValue, tracker);
     }
 
@@ -183,7 +185,7 @@ public final class HugeSparseLongArray {
                 if (page != null) {
                     return page;
                 }
-                tracker.add(PAGE_SIZE_IN_BYTES);
+                tracker.add(TRACKED_COMPONENT, PAGE_SIZE_IN_BYTES);
                 page = new long[PAGE_SIZE];
                 if (defaultValue != 0L) {
                     Arrays.fill(page, defaultValue);
@@ -296,7 +298,7 @@ public final class HugeSparseLongArray {
                 if (page != null) {
                     return page;
                 }
-                tracker.add(PAGE_SIZE_IN_BYTES);
+                tracker.add(TRACKED_COMPONENT, PAGE_SIZE_IN_BYTES);
                 page = new long[PAGE_SIZE];
                 if (defaultValue != 0L) {
                     Arrays.fill(page, defaultValue);
@@ -30,6 +30,8 @@ import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfInstance;
 
 public abstract class PageAllocator<T> {
 
+    private static final String TRACKED_COMPONENT = PageAllocator.class.getSimpleName();
+
     public abstract T newPage();
 
     public abstract int pageSize();
@@ -71,7 +73,7 @@ public abstract class PageAllocator<T> {
 
         T[] emptyPages = (T[]) Array.newInstance(componentType, 0, 0);
         PageFactory<T> newPage = (tracker) -> {
-            tracker.add(bytesPerPage);
+            tracker.add(TRACKED_COMPONENT, bytesPerPage);
             return (T) Array.newInstance(componentType, pageSize);
         };
 
@@ -88,7 +90,7 @@ public abstract class PageAllocator<T> {
 
         T[] emptyPages = (T[]) Array.newInstance(componentType, 0, 0);
         PageFactory<T> newPage = (tracker) -> {
-            tracker.add(bytesPerPage);
+            tracker.add(TRACKED_COMPONENT, bytesPerPage);
             return (T) Array.newInstance(componentType, pageSize);
         };
 
@@ -142,7 +144,7 @@ public abstract class PageAllocator<T> {
 
     private static <T> PageFactory<T> pageFactory(Supplier<T> newPage, long bytesPerPage) {
         return tracker -> {
-            tracker.add(bytesPerPage);
+            tracker.add(TRACKED_COMPONENT, bytesPerPage);
             return newPage.get();
         };
     }
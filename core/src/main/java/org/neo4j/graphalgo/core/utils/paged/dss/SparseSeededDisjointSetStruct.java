@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged.dss;
+
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+
+/**
+ * Disjoint-set-struct that records merges between the seeded components of nodes
+ * instead of keeping a parent entry for every node.
+ *
+ * Every node starts in the component given by its seed value. A union only adds entries
+ * for the two components involved, so time and memory are proportional to the number of
+ * unions and not to the number of nodes. This is used to apply a small set of new
+ * relationships to the components of a previous run.
+ *
+ * Nodes without a seed value start in a singleton component with an id above the
+ * largest seed value.
+ *
+ * Unions must not be called concurrently. Once all unions have been applied,
+ * {@link #setIdOf(long)} can be called from multiple threads.
+ */
+public final class SparseSeededDisjointSetStruct implements DisjointSetStruct {
+
+    private static final long NO_PARENT = -1L;
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations
+            .builder(SparseSeededDisjointSetStruct.class)
+            .perGraphDimension(
+                "component parents",
+                (dimensions, concurrency) -> MemoryRange.of(
+                    MemoryUsage.sizeOfLongLongHashMap(0),
+                    MemoryUsage.sizeOfLongLongHashMap(2 * dimensions.maxRelCount())
+                )
+            )
+            .build();
+    }
+
+    private final NodeProperties seeds;
+    private final long nodeCount;
+    private final LongLongHashMap parents;
+
+    private final long maxSeed;
+
+    public SparseSeededDisjointSetStruct(long nodeCount, NodeProperties seeds) {
+        this.seeds = seeds;
+        this.nodeCount = nodeCount;
+        this.parents = new LongLongHashMap();
+        this.maxSeed = Math.max(0L, seeds.getMaxLongPropertyValue().orElse(0L));
+    }
+
+    /**
+     * @return the number of components that have been merged into another component.
+     */
+    public long mergedComponents() {
+        return parents.size();
+    }
+
+    @Override
+    public void union(long p, long q) {
+        long rootP = findAndCompress(componentOf(p));
+        long rootQ = findAndCompress(componentOf(q));
+        if (rootP == rootQ) {
+            return;
+        }
+        // union-by-min, the smaller component id is retained
+        if (rootP < rootQ) {
+            parents.put(rootQ, rootP);
+        } else {
+            parents.put(rootP, rootQ);
+        }
+    }
+
+    @Override
+    public long setIdOf(long nodeId) {
+        return findComponent(componentOf(nodeId));
+    }
+
+    @Override
+    public boolean sameSet(long p, long q) {
+        return setIdOf(p) == setIdOf(q);
+    }
+
+    @Override
+    public long size() {
+        return nodeCount;
+    }
+
+    private long componentOf(long nodeId) {
+        long seed = seeds.longValue(nodeId);
+        return seed < 0 ? maxSeed + 1 + nodeId : seed;
+    }
+
+    private long findComponent(long component) {
+        long parent;
+        while ((parent = parents.getOrDefault(component, NO_PARENT)) != NO_PARENT) {
+            component = parent;
+        }
+        return component;
+    }
+
+    private long findAndCompress(long component) {
+        long root = findComponent(component);
+        long parent;
+        while ((parent = parents.getOrDefault(component, NO_PARENT)) != NO_PARENT && parent != root) {
+            parents.put(component, root);
+            component = parent;
+        }
+        return root;
+    }
+}
@@ -22,6 +22,7 @@ package org.neo4j.graphalgo.core.utils.partition;
 import org.neo4j.graphalgo.api.Degrees;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.BitUtil;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterator;
 
 import java.util.ArrayList;
@@ -31,6 +32,11 @@ import static org.neo4j.graphalgo.core.utils.partition.Partition.MAX_NODE_COUNT;
 
 public final class PartitionUtils {
 
+    /**
+     * Number of partitions per thread for partitionings that are run with work stealing.
+     */
+    public static final int PARTITIONS_PER_THREAD = 8;
+
     private PartitionUtils() {}
 
     public static List<Partition> rangePartition(int concurrency, long nodeCount) {
@@ -66,10 +72,24 @@ public final class PartitionUtils {
         return partitions;
     }
 
+    /**
+     * Splits the nodes into about {@code partitionCount} ranges of consecutive nodes with
+     * a similar number of relationships, see {@link #degreePartition(PrimitiveLongIterator, Degrees, long)}.
+     * Intended to be run with {@link ParallelUtil#runWithWorkStealing}, using several partitions per thread.
+     */
+    public static List<Partition> degreePartition(Graph graph, int partitionCount) {
+        long batchSize = BitUtil.ceilDiv(graph.relationshipCount() + graph.nodeCount(), Math.max(1L, partitionCount));
+        return degreePartition(graph, Math.max(1L, batchSize));
+    }
+
     public static List<Partition> degreePartition(Graph graph, long batchSize) {
         return degreePartition(graph.nodeIterator(), graph, batchSize);
     }
 
+    /**
+     * Splits the given nodes into ranges of consecutive node ids with about {@code batchSize} relationships each.
+     * Every node also counts as a single relationship, so that ranges of nodes without relationships are split as well.
+     */
     public static List<Partition> degreePartition(
         PrimitiveLongIterator nodes,
         Degrees degrees,
@@ -81,9 +101,9 @@ public final class PartitionUtils {
             assert batchSize > 0L;
             long partitionSize = 0L;
             long nodeId = 0L;
-            while (nodes.hasNext() && partitionSize <= batchSize && nodeId - start < MAX_NODE_COUNT) {
+            while (nodes.hasNext() && partitionSize < batchSize && nodeId - start < MAX_NODE_COUNT) {
                 nodeId = nodes.next();
-                partitionSize += degrees.degree(nodeId);
+                partitionSize += degrees.degree(nodeId) + 1L;
             }
 
             long end = nodeId + 1;
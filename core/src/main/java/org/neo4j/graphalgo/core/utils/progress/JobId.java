@@ -22,8 +22,29 @@ package org.neo4j.graphalgo.core.utils.progress;
 import java.util.Objects;
 import java.util.UUID;
 
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
 public final class JobId {
-    private final UUID value = UUID.randomUUID();
+    private final UUID value;
+
+    public JobId() {
+        this(UUID.randomUUID());
+    }
+
+    private JobId(UUID value) {
+        this.value = value;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the given string is not a job id.
+     */
+    public static JobId parse(String jobId) {
+        try {
+            return new JobId(UUID.fromString(jobId));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(formatWithLocale("`%s` is not a valid job id.", jobId), e);
+        }
+    }
 
     public String asString() {
         return value.toString();
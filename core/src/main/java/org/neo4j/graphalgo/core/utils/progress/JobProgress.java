@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.progress;
+
+import org.neo4j.graphalgo.annotation.ValueClass;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * The progress of a single job, e.g. an algorithm invocation.
+ *
+ * A job consists of the task it started with and the sub tasks it reported progress for
+ * afterwards, e.g. {@code Louvain} and the {@code ModularityOptimization} of every level.
+ */
+@ValueClass
+public interface JobProgress {
+
+    JobId jobId();
+
+    String username();
+
+    /**
+     * The latest event of every task in the order the tasks have been started.
+     * The first task is the root task of the job.
+     */
+    List<LogEvent> tasks();
+
+    /**
+     * The latest event of the job.
+     */
+    LogEvent lastEvent();
+
+    long startTimeMillis();
+
+    /**
+     * Estimated time until the task of the {@link #lastEvent() latest event} is finished,
+     * based on its progress rate since it has been (re-)started.
+     */
+    OptionalLong remainingMillis();
+
+    /**
+     * Memory tracked for the job, if the job registered its allocation tracker.
+     */
+    OptionalLong memoryInBytes();
+
+    boolean cancelled();
+
+    default String taskName() {
+        return tasks().get(0).taskName();
+    }
+}
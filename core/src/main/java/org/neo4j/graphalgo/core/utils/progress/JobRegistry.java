@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.progress;
+
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the memory tracker and the cancellation hook of every running job.
+ * In contrast to the progress events, which are processed asynchronously,
+ * the registry is updated directly by the procedure threads.
+ */
+final class JobRegistry {
+
+    private final Map<JobId, RunningJob> jobs = new ConcurrentHashMap<>();
+
+    void register(JobId jobId, String username, AllocationTracker allocationTracker, Runnable cancellation) {
+        jobs.put(jobId, new RunningJob(username, allocationTracker, cancellation, System.currentTimeMillis()));
+    }
+
+    void unregister(JobId jobId) {
+        jobs.remove(jobId);
+    }
+
+    Optional<RunningJob> get(JobId jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * @return true if a job with the given id is running for the given user.
+     */
+    boolean cancel(String username, JobId jobId) {
+        var job = jobs.get(jobId);
+        if (job == null || !job.username.equals(username)) {
+            return false;
+        }
+        job.cancel();
+        return true;
+    }
+
+    static final class RunningJob {
+        private final String username;
+        private final AllocationTracker allocationTracker;
+        private final Runnable cancellation;
+        private final long startTimeMillis;
+        private volatile boolean cancelled;
+
+        private RunningJob(
+            String username,
+            AllocationTracker allocationTracker,
+            Runnable cancellation,
+            long startTimeMillis
+        ) {
+            this.username = username;
+            this.allocationTracker = allocationTracker;
+            this.cancellation = cancellation;
+            this.startTimeMillis = startTimeMillis;
+        }
+
+        long memoryInBytes() {
+            return allocationTracker.trackedBytes();
+        }
+
+        long startTimeMillis() {
+            return startTimeMillis;
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void cancel() {
+            cancelled = true;
+            cancellation.run();
+        }
+    }
+}
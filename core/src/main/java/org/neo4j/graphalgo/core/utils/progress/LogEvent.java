@@ -23,6 +23,7 @@ import org.immutables.value.Value;
 import org.neo4j.graphalgo.annotation.ValueClass;
 
 import java.util.OptionalDouble;
+import java.util.OptionalLong;
 
 @ValueClass
 public interface LogEvent {
@@ -38,8 +39,23 @@ public interface LogEvent {
 
     String message();
 
+    /**
+     * Progress of the task in percent.
+     */
     OptionalDouble progress();
 
+    /**
+     * The number of work units of the task, e.g. nodes or relationships.
+     */
+    @Value.Parameter(false)
+    OptionalLong volume();
+
+    @Value.Default
+    @Value.Parameter(false)
+    default long timeMillis() {
+        return System.currentTimeMillis();
+    }
+
     @Value.Default
     @Value.Parameter(false)
     default boolean isEndOfStream() {
@@ -28,14 +28,15 @@ import org.neo4j.scheduler.Group;
 import org.neo4j.scheduler.JobScheduler;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import static java.util.Collections.emptyMap;
-import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.toList;
 import static org.neo4j.graphalgo.core.utils.RenamesCurrentThread.renameThread;
 
@@ -44,16 +45,18 @@ final class ProgressEventConsumer implements Runnable, ProgressEventStore {
     private final Monitor monitor;
     private final JobRunner jobRunner;
     private final Queue<LogEvent> queue;
+    private final JobRegistry jobRegistry;
 
     private volatile @Nullable JobPromise job;
-    private final Map<String, Map<JobId, List<LogEvent>>> events;
+    private final Map<String, Map<JobId, JobEvents>> events;
 
     ProgressEventConsumer(
         Monitor monitor,
         JobScheduler jobScheduler,
-        Queue<LogEvent> queue
+        Queue<LogEvent> queue,
+        JobRegistry jobRegistry
     ) {
-        this(monitor, Neo4jProxy.runnerFromScheduler(jobScheduler, Group.DATA_COLLECTOR), queue);
+        this(monitor, Neo4jProxy.runnerFromScheduler(jobScheduler, Group.DATA_COLLECTOR), queue, jobRegistry);
     }
 
     @TestOnly
@@ -61,17 +64,28 @@ final class ProgressEventConsumer implements Runnable, ProgressEventStore {
         JobRunner jobRunner,
         Queue<LogEvent> queue
     ) {
-        this(Monitor.EMPTY, jobRunner, queue);
+        this(jobRunner, queue, new JobRegistry());
+    }
+
+    @TestOnly
+    ProgressEventConsumer(
+        JobRunner jobRunner,
+        Queue<LogEvent> queue,
+        JobRegistry jobRegistry
+    ) {
+        this(Monitor.EMPTY, jobRunner, queue, jobRegistry);
     }
 
     private ProgressEventConsumer(
         Monitor monitor,
         JobRunner jobRunner,
-        Queue<LogEvent> queue
+        Queue<LogEvent> queue,
+        JobRegistry jobRegistry
     ) {
         this.monitor = monitor;
         this.jobRunner = jobRunner;
         this.queue = queue;
+        this.jobRegistry = jobRegistry;
         events = new ConcurrentHashMap<>();
     }
 
@@ -81,11 +95,25 @@ final class ProgressEventConsumer implements Runnable, ProgressEventStore {
             .getOrDefault(username, emptyMap())
             .values()
             .stream()
-            .filter(not(List::isEmpty))
-            .map(items -> items.get(items.size() - 1))
+            .map(JobEvents::lastEvent)
             .collect(toList());
     }
 
+    @Override
+    public List<JobProgress> queryJobs(String username) {
+        return events
+            .getOrDefault(username, emptyMap())
+            .entrySet()
+            .stream()
+            .map(entry -> entry.getValue().toJobProgress(username, entry.getKey(), jobRegistry))
+            .collect(toList());
+    }
+
+    @Override
+    public boolean cancel(String username, JobId jobId) {
+        return jobRegistry.cancel(username, jobId);
+    }
+
     @Override
     public void run() {
         try (var ignored = renameThread("progress-event-consumer")) {
@@ -104,7 +132,7 @@ final class ProgressEventConsumer implements Runnable, ProgressEventStore {
         } else {
             events
                 .computeIfAbsent(event.username(), __ -> new ConcurrentHashMap<>())
-                .computeIfAbsent(event.jobId(), __ -> new ArrayList<>())
+                .computeIfAbsent(event.jobId(), __ -> new JobEvents())
                 .add(event);
         }
     }
@@ -134,6 +162,68 @@ final class ProgressEventConsumer implements Runnable, ProgressEventStore {
         return job != null;
     }
 
+    /**
+     * Retains the latest event per task of a job as well as the event
+     * at which the most recent task has been (re-)started.
+     */
+    private static final class JobEvents {
+        private final Map<String, LogEvent> latestByTask = new LinkedHashMap<>();
+        private LogEvent firstEvent;
+        private LogEvent lastEvent;
+        private LogEvent currentTaskStart;
+
+        synchronized void add(LogEvent event) {
+            var previous = latestByTask.put(event.taskName(), event);
+            if (firstEvent == null) {
+                firstEvent = event;
+            }
+            // progress going backwards means that the task has been reset, e.g. for the next iteration
+            boolean taskStarted = previous == null
+                || !lastEvent.taskName().equals(event.taskName())
+                || progress(event) < progress(previous);
+            if (taskStarted) {
+                currentTaskStart = event;
+            }
+            lastEvent = event;
+        }
+
+        synchronized LogEvent lastEvent() {
+            return lastEvent;
+        }
+
+        synchronized JobProgress toJobProgress(String username, JobId jobId, JobRegistry jobRegistry) {
+            var runningJob = jobRegistry.get(jobId);
+            return ImmutableJobProgress.builder()
+                .jobId(jobId)
+                .username(username)
+                .tasks(new ArrayList<>(latestByTask.values()))
+                .lastEvent(lastEvent)
+                .startTimeMillis(runningJob
+                    .map(JobRegistry.RunningJob::startTimeMillis)
+                    .orElse(firstEvent.timeMillis()))
+                .remainingMillis(remainingMillis())
+                .memoryInBytes(runningJob
+                    .map(job -> OptionalLong.of(job.memoryInBytes()))
+                    .orElse(OptionalLong.empty()))
+                .cancelled(runningJob.map(JobRegistry.RunningJob::isCancelled).orElse(false))
+                .build();
+        }
+
+        private OptionalLong remainingMillis() {
+            double progressMade = progress(lastEvent) - progress(currentTaskStart);
+            if (progressMade <= 0) {
+                return OptionalLong.empty();
+            }
+            long elapsed = lastEvent.timeMillis() - currentTaskStart.timeMillis();
+            double remainingProgress = Math.max(0, 100 - progress(lastEvent));
+            return OptionalLong.of((long) (elapsed / progressMade * remainingProgress));
+        }
+
+        private static double progress(LogEvent event) {
+            return event.progress().orElse(0);
+        }
+    }
+
     interface Monitor {
         void started();
 
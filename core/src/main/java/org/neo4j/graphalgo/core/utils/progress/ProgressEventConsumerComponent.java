@@ -37,6 +37,7 @@ final class ProgressEventConsumerComponent extends LifecycleAdapter implements T
     private final ProgressEventConsumer.Monitor monitor;
     private final LoggingProgressEventMonitor loggingMonitor;
     private final Queue<LogEvent> messageQueue;
+    private final JobRegistry jobRegistry;
     private volatile ProgressEventConsumer progressEventConsumer;
 
     ProgressEventConsumerComponent(
@@ -49,12 +50,13 @@ final class ProgressEventConsumerComponent extends LifecycleAdapter implements T
         this.monitor = globalMonitors.newMonitor(ProgressEventConsumer.Monitor.class);
         this.loggingMonitor = new LoggingProgressEventMonitor(log);
         this.messageQueue = new MpscLinkedQueue<>();
+        this.jobRegistry = new JobRegistry();
     }
 
     @Override
     public void start() {
         globalMonitors.addMonitorListener(loggingMonitor);
-        progressEventConsumer = new ProgressEventConsumer(monitor, jobScheduler, messageQueue);
+        progressEventConsumer = new ProgressEventConsumer(monitor, jobScheduler, messageQueue, jobRegistry);
         progressEventConsumer.start();
     }
 
@@ -76,6 +78,6 @@ final class ProgressEventConsumerComponent extends LifecycleAdapter implements T
             throw new ProcedureException(Status.Database.Unknown, "The " + getClass().getSimpleName() + " is stopped");
         }
         var username = context.securityContext().subject().username();
-        return new ProgressEventQueueTracker(messageQueue, username);
+        return new ProgressEventQueueTracker(messageQueue, username, jobRegistry);
     }
 }
@@ -19,6 +19,8 @@
  */
 package org.neo4j.graphalgo.core.utils.progress;
 
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
 import java.util.OptionalDouble;
 import java.util.Queue;
 
@@ -26,13 +28,19 @@ final class ProgressEventQueueTracker implements ProgressEventTracker {
 
     private final Queue<LogEvent> queue;
     private final String username;
+    private final JobRegistry jobRegistry;
 
     // for now a synthetic id, we can change to a more traceable one as and when
     private final JobId jobId = new JobId();
 
     ProgressEventQueueTracker(Queue<LogEvent> queue, String username) {
+        this(queue, username, new JobRegistry());
+    }
+
+    ProgressEventQueueTracker(Queue<LogEvent> queue, String username, JobRegistry jobRegistry) {
         this.queue = queue;
         this.username = username;
+        this.jobRegistry = jobRegistry;
     }
 
     @Override
@@ -41,8 +49,31 @@ final class ProgressEventQueueTracker implements ProgressEventTracker {
         this.queue.offer(logEvent);
     }
 
+    @Override
+    public void addLogEvent(String taskName, String message, double progress, long volume) {
+        var logEvent = ImmutableLogEvent.builder()
+            .username(username)
+            .jobId(jobId)
+            .taskName(taskName)
+            .message(message)
+            .progress(progress)
+            .volume(volume)
+            .build();
+        this.queue.offer(logEvent);
+    }
+
+    @Override
+    public void trackJob(AllocationTracker allocationTracker, Runnable cancellation) {
+        jobRegistry.register(jobId, username, allocationTracker, cancellation);
+    }
+
     @Override
     public void release() {
+        jobRegistry.unregister(jobId);
         queue.offer(LogEvent.endOfStreamEvent(username, jobId));
     }
+
+    JobId jobId() {
+        return jobId;
+    }
 }
@@ -23,4 +23,17 @@ import java.util.List;
 
 public interface ProgressEventStore {
     List<LogEvent> query(String username);
+
+    default List<JobProgress> queryJobs(String username) {
+        return List.of();
+    }
+
+    /**
+     * Cancels the given job of the given user.
+     *
+     * @return true if such a job was running.
+     */
+    default boolean cancel(String username, JobId jobId) {
+        return false;
+    }
 }
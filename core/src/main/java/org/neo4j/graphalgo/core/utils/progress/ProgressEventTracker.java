@@ -19,11 +19,33 @@
  */
 package org.neo4j.graphalgo.core.utils.progress;
 
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
 public interface ProgressEventTracker {
     void addLogEvent(
         String taskName,
         String message
     );
 
+    /**
+     * @param progress progress of the task in percent
+     * @param volume   the number of work units of the task
+     */
+    default void addLogEvent(
+        String taskName,
+        String message,
+        double progress,
+        long volume
+    ) {
+        addLogEvent(taskName, message);
+    }
+
+    /**
+     * Attaches the memory tracker of the running job and a way to cancel it.
+     * Both are detached again when the tracker is {@link #release() released}.
+     */
+    default void trackJob(AllocationTracker allocationTracker, Runnable cancellation) {
+    }
+
     void release();
 }
@@ -24,9 +24,9 @@ import org.neo4j.graphalgo.api.IdMapping;
 import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.core.SecureTransaction;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
-import org.neo4j.graphalgo.core.utils.LazyBatchCollection;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
 import org.neo4j.graphalgo.utils.StatementApi;
 import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.internal.kernel.api.Write;
@@ -36,7 +36,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
@@ -160,10 +159,15 @@ public class NodePropertyExporter extends StatementApi {
             .map(desc -> desc.resolveWith(getOrCreatePropertyToken(desc.propertyKey())))
             .collect(Collectors.toList());
 
-        if (ParallelUtil.canRunInParallel(executorService)) {
-            writeParallel(resolvedNodeProperties);
-        } else {
-            writeSequential(resolvedNodeProperties);
+        long writtenBefore = propertiesWritten.longValue();
+        try (var ignored = MetricsRegistry.timer("write.node_properties").start()) {
+            if (ParallelUtil.canRunInParallel(executorService)) {
+                writeParallel(resolvedNodeProperties);
+            } else {
+                writeSequential(resolvedNodeProperties);
+            }
+        } finally {
+            MetricsRegistry.counter("write.node_properties.written").add(propertiesWritten.longValue() - writtenBefore);
         }
     }
 
@@ -176,7 +180,21 @@ public class NodePropertyExporter extends StatementApi {
     }
 
     void writeParallel(List<ResolvedNodeProperty> nodeProperties) {
-        writeParallel((ops, offset) -> doWrite(nodeProperties, ops, offset));
+        var pipeline = new NodePropertyWritePipeline(
+            nodeProperties,
+            toOriginalId,
+            nodeCount,
+            concurrency,
+            MIN_BATCH_SIZE,
+            MAX_BATCH_SIZE,
+            terminationFlag,
+            progressLogger,
+            propertiesWritten,
+            this::acceptInTransaction
+        );
+        progressLogger.logStart();
+        pipeline.run(executorService);
+        progressLogger.logFinish();
     }
 
     void doWrite(Iterable<ResolvedNodeProperty> nodeProperties, Write ops, long nodeId) throws Exception {
@@ -210,43 +228,4 @@ public class NodePropertyExporter extends StatementApi {
             progressLogger.logFinish();
         });
     }
-
-    private void writeParallel(WriteConsumer writer) {
-        final long batchSize = ParallelUtil.adjustedBatchSize(
-            nodeCount,
-            concurrency,
-            MIN_BATCH_SIZE,
-            MAX_BATCH_SIZE
-        );
-        final Collection<Runnable> runnables = LazyBatchCollection.of(
-            nodeCount,
-            batchSize,
-            (start, len) -> () -> {
-                acceptInTransaction(stmt -> {
-                    terminationFlag.assertRunning();
-                    long end = start + len;
-                    Write ops = stmt.dataWrite();
-                    for (long currentNode = start; currentNode < end; currentNode++) {
-                        writer.accept(ops, currentNode);
-                        progressLogger.logProgress();
-
-                        if ((currentNode - start) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
-                            terminationFlag.assertRunning();
-                        }
-                    }
-                });
-            }
-        );
-        progressLogger.logStart();
-        ParallelUtil.runWithConcurrency(
-            concurrency,
-            runnables,
-            Integer.MAX_VALUE,
-            10L,
-            TimeUnit.MICROSECONDS,
-            terminationFlag,
-            executorService
-        );
-        progressLogger.logFinish();
-    }
 }
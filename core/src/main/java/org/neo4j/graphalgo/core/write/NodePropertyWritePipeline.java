@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.write;
+
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
+import org.neo4j.graphalgo.core.utils.metrics.Timer;
+import org.neo4j.graphalgo.utils.StatementApi;
+import org.neo4j.internal.kernel.api.Write;
+import org.neo4j.logging.Log;
+import org.neo4j.values.storable.Value;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Writes node properties in a pipelined fashion.
+ *
+ * Workers claim node ranges and materialize the values of all properties
+ * for that range into a {@link Batch} outside of any transaction.
+ * Materialized batches are handed over through a bounded queue and are
+ * committed by whichever worker is free, so value computation for the next
+ * batches overlaps with the commit of the current ones.
+ *
+ * The number of nodes per batch is adapted based on the observed commit
+ * throughput, aiming for commits of roughly {@link #TARGET_COMMIT_NANOS}.
+ */
+final class NodePropertyWritePipeline {
+
+    static final long TARGET_COMMIT_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final List<NodePropertyExporter.ResolvedNodeProperty> nodeProperties;
+    private final LongUnaryOperator toOriginalId;
+    private final long nodeCount;
+    private final int concurrency;
+    private final TerminationFlag terminationFlag;
+    private final ProgressLogger progressLogger;
+    private final LongAdder propertiesWritten;
+    private final Consumer<StatementApi.TxConsumer> inTransaction;
+
+    private final AtomicLong nextNode;
+    private final AtomicLong batchSize;
+    private final long minBatchSize;
+    private final long maxBatchSize;
+    private final BlockingQueue<Batch> pendingBatches;
+
+    private final LongAdder batchesCommitted;
+    private final LongAdder materializeNanos;
+    private final LongAdder commitNanos;
+    private final Timer commitTimer;
+
+    NodePropertyWritePipeline(
+        List<NodePropertyExporter.ResolvedNodeProperty> nodeProperties,
+        LongUnaryOperator toOriginalId,
+        long nodeCount,
+        int concurrency,
+        long minBatchSize,
+        long maxBatchSize,
+        TerminationFlag terminationFlag,
+        ProgressLogger progressLogger,
+        LongAdder propertiesWritten,
+        Consumer<StatementApi.TxConsumer> inTransaction
+    ) {
+        this.nodeProperties = nodeProperties;
+        this.toOriginalId = toOriginalId;
+        this.nodeCount = nodeCount;
+        this.concurrency = concurrency;
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.terminationFlag = terminationFlag;
+        this.progressLogger = progressLogger;
+        this.propertiesWritten = propertiesWritten;
+        this.inTransaction = inTransaction;
+
+        this.nextNode = new AtomicLong();
+        this.batchSize = new AtomicLong(ParallelUtil.adjustedBatchSize(
+            nodeCount,
+            concurrency,
+            minBatchSize,
+            maxBatchSize
+        ));
+        this.pendingBatches = new ArrayBlockingQueue<>(Math.max(1, concurrency));
+        this.batchesCommitted = new LongAdder();
+        this.materializeNanos = new LongAdder();
+        this.commitNanos = new LongAdder();
+        this.commitTimer = MetricsRegistry.timer("write.node_properties.batch_commit");
+    }
+
+    void run(ExecutorService executorService) {
+        long start = System.nanoTime();
+        ParallelUtil.runWithConcurrency(
+            concurrency,
+            ParallelUtil.tasks(concurrency, () -> this::work),
+            Integer.MAX_VALUE,
+            10L,
+            TimeUnit.MICROSECONDS,
+            terminationFlag,
+            executorService
+        );
+        // every worker drains the queue before it finishes, this is only a safety net
+        Batch leftover;
+        while ((leftover = pendingBatches.poll()) != null) {
+            commit(leftover);
+        }
+        logSummary(System.nanoTime() - start);
+    }
+
+    private void work() {
+        while (true) {
+            terminationFlag.assertRunning();
+            Batch produced = materializeNext();
+            if (produced != null && !pendingBatches.offer(produced)) {
+                // all other workers are behind on committing, commit our own batch
+                commit(produced);
+                continue;
+            }
+            Batch ready = pendingBatches.poll();
+            if (ready != null) {
+                commit(ready);
+            } else if (produced == null) {
+                return;
+            }
+        }
+    }
+
+    private Batch materializeNext() {
+        long size = batchSize.get();
+        long start = nextNode.getAndAdd(size);
+        if (start >= nodeCount) {
+            return null;
+        }
+        int length = (int) Math.min(size, nodeCount - start);
+
+        long begin = System.nanoTime();
+        long[] originalIds = new long[length];
+        Value[][] values = new Value[nodeProperties.size()][length];
+        for (int i = 0; i < length; i++) {
+            long nodeId = start + i;
+            originalIds[i] = toOriginalId.applyAsLong(nodeId);
+            for (int p = 0; p < values.length; p++) {
+                values[p][i] = nodeProperties.get(p).properties().value(nodeId);
+            }
+        }
+        long took = System.nanoTime() - begin;
+        materializeNanos.add(took);
+
+        return new Batch(start, originalIds, values, took);
+    }
+
+    private void commit(Batch batch) {
+        long begin = System.nanoTime();
+        int[] propertyTokens = new int[nodeProperties.size()];
+        for (int p = 0; p < propertyTokens.length; p++) {
+            propertyTokens[p] = nodeProperties.get(p).propertyToken();
+        }
+        long[] written = new long[1];
+        inTransaction.accept(stmt -> {
+            terminationFlag.assertRunning();
+            Write ops = stmt.dataWrite();
+            long[] originalIds = batch.originalIds;
+            Value[][] values = batch.values;
+            for (int i = 0; i < originalIds.length; i++) {
+                for (int p = 0; p < values.length; p++) {
+                    Value value = values[p][i];
+                    if (value != null) {
+                        ops.nodeSetProperty(originalIds[i], propertyTokens[p], value);
+                        written[0]++;
+                    }
+                }
+                progressLogger.logProgress();
+                if (i % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
+                    terminationFlag.assertRunning();
+                }
+            }
+        });
+        long took = System.nanoTime() - begin;
+
+        propertiesWritten.add(written[0]);
+        commitNanos.add(took);
+        commitTimer.record(took);
+        batchesCommitted.increment();
+        adaptBatchSize(batch.originalIds.length, took);
+        logBatch(batch, written[0], took);
+    }
+
+    /**
+     * Scales the batch size so that a commit takes about {@link #TARGET_COMMIT_NANOS},
+     * moving at most by a factor of two per observed commit.
+     */
+    private void adaptBatchSize(int committedNodes, long commitNanos) {
+        if (committedNodes == 0) {
+            return;
+        }
+        long current = batchSize.get();
+        double nanosPerNode = Math.max(1.0, (double) commitNanos / committedNodes);
+        long wanted = (long) (TARGET_COMMIT_NANOS / nanosPerNode);
+        long next = Math.max(current / 2, Math.min(current * 2, wanted));
+        next = Math.max(minBatchSize, Math.min(maxBatchSize, next));
+        batchSize.compareAndSet(current, next);
+    }
+
+    private void logBatch(Batch batch, long written, long commitNanos) {
+        Log log = progressLogger.getLog();
+        if (log.isDebugEnabled()) {
+            log.debug(
+                "%s batch [%d, %d): materialized in %d ms, committed %d properties in %d ms (%.0f properties/s)",
+                progressLogger.getTask(),
+                batch.startNode,
+                batch.startNode + batch.originalIds.length,
+                TimeUnit.NANOSECONDS.toMillis(batch.materializeNanos),
+                written,
+                TimeUnit.NANOSECONDS.toMillis(commitNanos),
+                perSecond(written, commitNanos)
+            );
+        }
+    }
+
+    private void logSummary(long totalNanos) {
+        Log log = progressLogger.getLog();
+        if (log.isDebugEnabled()) {
+            log.debug(
+                "%s wrote %d properties in %d batches in %d ms (%.0f properties/s), materialize time %d ms, commit time %d ms",
+                progressLogger.getTask(),
+                propertiesWritten.longValue(),
+                batchesCommitted.longValue(),
+                TimeUnit.NANOSECONDS.toMillis(totalNanos),
+                perSecond(propertiesWritten.longValue(), totalNanos),
+                TimeUnit.NANOSECONDS.toMillis(materializeNanos.longValue()),
+                TimeUnit.NANOSECONDS.toMillis(commitNanos.longValue())
+            );
+        }
+    }
+
+    private static double perSecond(long count, long nanos) {
+        return nanos == 0 ? 0.0 : count * 1e9 / nanos;
+    }
+
+    static final class Batch {
+        final long startNode;
+        final long[] originalIds;
+        final Value[][] values;
+        final long materializeNanos;
+
+        Batch(long startNode, long[] originalIds, Value[][] values, long materializeNanos) {
+            this.startNode = startNode;
+            this.originalIds = originalIds;
+            this.values = values;
+            this.materializeNanos = materializeNanos;
+        }
+    }
+}
@@ -33,6 +33,7 @@ import org.neo4j.values.storable.Value;
 import java.util.Arrays;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.LongUnaryOperator;
@@ -50,6 +51,7 @@ public final class RelationshipStreamExporter extends StatementApi {
     private final int batchSize;
     private final TerminationFlag terminationFlag;
     private final ProgressLogger progressLogger;
+    private final ExecutorService executorService;
 
     @ValueClass
     public interface Relationship {
@@ -104,7 +106,8 @@ public final class RelationshipStreamExporter extends StatementApi {
                 relationships,
                 batchSize,
                 terminationFlag,
-                progressLogger
+                progressLogger,
+                executorService == null ? Pools.IO : executorService
             );
         }
 
@@ -133,7 +136,8 @@ public final class RelationshipStreamExporter extends StatementApi {
         Stream<Relationship> relationships,
         int batchSize,
         TerminationFlag terminationFlag,
-        ProgressLogger progressLogger
+        ProgressLogger progressLogger,
+        ExecutorService executorService
     ) {
         super(tx);
         this.toOriginalId = toOriginalId;
@@ -141,6 +145,7 @@ public final class RelationshipStreamExporter extends StatementApi {
         this.batchSize = batchSize;
         this.terminationFlag = terminationFlag;
         this.progressLogger = progressLogger;
+        this.executorService = executorService;
     }
 
     public long write(String relationshipType, String... propertyKeys) {
@@ -165,7 +170,7 @@ public final class RelationshipStreamExporter extends StatementApi {
             terminationFlag,
             progressLogger
         );
-        var consumer = Pools.DEFAULT.submit(writer);
+        var consumer = executorService.submit(writer);
 
         var bufferRef = new AtomicReference<>(bufferPool.poll());
 
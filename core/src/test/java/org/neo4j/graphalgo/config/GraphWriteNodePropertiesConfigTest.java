@@ -19,16 +19,19 @@
  */
 package org.neo4j.graphalgo.config;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.concurrency.ExecutorType;
 
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class GraphWriteNodePropertiesConfigTest {
 
@@ -42,6 +45,34 @@ class GraphWriteNodePropertiesConfigTest {
         assertEquals(expectedWriteConcurrency, config.writeConcurrency());
     }
 
+    @Test
+    void writeExecutor() {
+        var defaultConfig = GraphWriteNodePropertiesConfig.of("tester", "g", List.of("a"), List.of("A"), CypherMapWrapper.empty());
+        assertEquals(ExecutorType.IO, defaultConfig.writeExecutor());
+
+        var computeConfig = GraphWriteNodePropertiesConfig.of(
+            "tester",
+            "g",
+            List.of("a"),
+            List.of("A"),
+            CypherMapWrapper.create(Map.of("writeExecutor", "compute"))
+        );
+        assertEquals(ExecutorType.COMPUTE, computeConfig.writeExecutor());
+        assertEquals("COMPUTE", computeConfig.toMap().get("writeExecutor"));
+    }
+
+    @Test
+    void invalidWriteExecutor() {
+        var ex = assertThrows(IllegalArgumentException.class, () -> GraphWriteNodePropertiesConfig.of(
+            "tester",
+            "g",
+            List.of("a"),
+            List.of("A"),
+            CypherMapWrapper.create(Map.of("writeExecutor", "virtual"))
+        ));
+        assertEquals("Executor type `virtual` is not supported. Must be one of: [COMPUTE, IO].", ex.getMessage());
+    }
+
     private static Stream<Arguments> inputs() {
         return Stream.of(
             Arguments.of(Map.of(), ConcurrencyConfig.DEFAULT_CONCURRENCY, ConcurrencyConfig.DEFAULT_CONCURRENCY),
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.concurrency;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+class AdmissionControlTest {
+
+    @Test
+    void admitsJobsThatFit() {
+        var admissionControl = new AdmissionControl(true, 4, Duration.ofSeconds(10), () -> 100);
+
+        try (var first = admissionControl.admit("alice", "a", 40, 2, TerminationFlag.RUNNING_TRUE);
+             var second = admissionControl.admit("bob", "b", 60, 2, TerminationFlag.RUNNING_TRUE)) {
+            var status = admissionControl.status();
+            assertThat(status.runningJobs()).isEqualTo(2);
+            assertThat(status.queuedJobs()).isZero();
+            assertThat(status.reservedBytes()).isEqualTo(100);
+            assertThat(status.reservedConcurrency()).isEqualTo(4);
+        }
+
+        var status = admissionControl.status();
+        assertThat(status.runningJobs()).isZero();
+        assertThat(status.reservedBytes()).isZero();
+        assertThat(status.reservedConcurrency()).isZero();
+    }
+
+    @Test
+    void alwaysAdmitsASingleJob() {
+        var admissionControl = new AdmissionControl(true, 4, Duration.ZERO, () -> 0);
+
+        try (var job = admissionControl.admit("alice", "a", 1000, 8, TerminationFlag.RUNNING_TRUE)) {
+            assertThat(admissionControl.jobs())
+                .singleElement()
+                .satisfies(info -> {
+                    assertThat(info.state()).isEqualTo(AdmissionControl.State.RUNNING);
+                    // the concurrency is capped at the budget
+                    assertThat(info.concurrency()).isEqualTo(4);
+                });
+        }
+    }
+
+    @Test
+    void queuesJobsUntilMemoryIsReleased() {
+        var admissionControl = new AdmissionControl(true, 4, Duration.ofSeconds(30), () -> 100);
+
+        var first = admissionControl.admit("alice", "a", 80, 1, TerminationFlag.RUNNING_TRUE);
+        var second = CompletableFuture.supplyAsync(
+            () -> admissionControl.admit("bob", "b", 80, 1, TerminationFlag.RUNNING_TRUE)
+        );
+
+        awaitQueuedJob(admissionControl);
+        assertThat(admissionControl.jobs())
+            .extracting(AdmissionControl.JobInfo::jobName, AdmissionControl.JobInfo::state)
+            .containsExactly(
+                tuple("a", AdmissionControl.State.RUNNING),
+                tuple("b", AdmissionControl.State.QUEUED)
+            );
+        assertThat(second).isNotDone();
+
+        first.close();
+
+        second.orTimeout(5, TimeUnit.SECONDS).join().close();
+        assertThat(admissionControl.status().runningJobs()).isZero();
+    }
+
+    @Test
+    void queuesJobsUntilConcurrencyIsReleased() {
+        var admissionControl = new AdmissionControl(true, 4, Duration.ofSeconds(30), () -> Long.MAX_VALUE);
+
+        var first = admissionControl.admit("alice", "a", 0, 3, TerminationFlag.RUNNING_TRUE);
+        var second = CompletableFuture.supplyAsync(
+            () -> admissionControl.admit("bob", "b", 0, 2, TerminationFlag.RUNNING_TRUE)
+        );
+
+        awaitQueuedJob(admissionControl);
+        first.close();
+
+        second.orTimeout(5, TimeUnit.SECONDS).join().close();
+    }
+
+    @Test
+    void failsAfterQueueTimeout() {
+        var admissionControl = new AdmissionControl(true, 1, Duration.ofMillis(200), () -> Long.MAX_VALUE);
+
+        try (var first = admissionControl.admit("alice", "a", 0, 1, TerminationFlag.RUNNING_TRUE)) {
+            assertThatThrownBy(() -> admissionControl.admit("bob", "b", 0, 1, TerminationFlag.RUNNING_TRUE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("could not be started within");
+            assertThat(admissionControl.status().queuedJobs()).isZero();
+        }
+    }
+
+    @Test
+    void doesNotQueueWhenDisabled() {
+        var admissionControl = new AdmissionControl(false, 1, Duration.ZERO, () -> 0);
+
+        try (var first = admissionControl.admit("alice", "a", 100, 1, TerminationFlag.RUNNING_TRUE);
+             var second = admissionControl.admit("bob", "b", 100, 1, TerminationFlag.RUNNING_TRUE)) {
+            assertThat(admissionControl.status().runningJobs()).isEqualTo(2);
+        }
+    }
+
+    private static void awaitQueuedJob(AdmissionControl admissionControl) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (admissionControl.status().queuedJobs() == 0) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+}
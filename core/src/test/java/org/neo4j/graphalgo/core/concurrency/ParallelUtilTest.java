@@ -29,13 +29,16 @@ import org.neo4j.graphalgo.core.loading.HugeParallelGraphImporter;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongCollections;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
 
 import java.util.AbstractCollection;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
@@ -44,6 +47,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.locks.LockSupport;
@@ -407,6 +411,66 @@ final class ParallelUtilTest {
         assertThat(counter.get()).isEqualTo(2);
     }
 
+    @Test
+    void shouldRunEveryTaskOnceWithWorkStealing() {
+        int taskCount = 1000;
+        var runs = new AtomicIntegerArray(taskCount);
+        var tasks = IntStream.range(0, taskCount)
+            .<Runnable>mapToObj(task -> () -> {
+                // skewed tasks at the beginning of the first range
+                if (task < 10) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                }
+                runs.incrementAndGet(task);
+            })
+            .collect(Collectors.toList());
+        var timer = MetricsRegistry.timer("test.work_stealing.task");
+        long recordedBefore = timer.histogram().getTotalCount();
+
+        ParallelUtil.runWithWorkStealing(4, tasks, TerminationFlag.RUNNING_TRUE, Pools.DEFAULT, timer);
+
+        for (int task = 0; task < taskCount; task++) {
+            assertEquals(1, runs.get(task), "task " + task);
+        }
+        assertEquals(taskCount, timer.histogram().getTotalCount() - recordedBefore);
+    }
+
+    @Test
+    void shouldStealTasksFromBlockedWorker() {
+        var released = new CountDownLatch(1);
+        var waited = new AtomicBoolean();
+        var tasks = IntStream.range(0, 10)
+            .<Runnable>mapToObj(task -> () -> {
+                if (task == 0) {
+                    // the first worker owns tasks 0 to 4 and is blocked until task 4 was stolen by the second worker
+                    try {
+                        waited.set(released.await(10, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                } else if (task == 4) {
+                    released.countDown();
+                }
+            })
+            .collect(Collectors.toList());
+
+        withPool(2, pool -> ParallelUtil.runWithWorkStealing(2, tasks, TerminationFlag.RUNNING_TRUE, pool, null));
+
+        assertTrue(waited.get());
+    }
+
+    @Test
+    void shouldRunWorkStealingSequentiallyWithoutExecutor() {
+        var threads = new HashSet<Thread>();
+        var tasks = IntStream.range(0, 10)
+            .<Runnable>mapToObj(task -> () -> threads.add(Thread.currentThread()))
+            .collect(Collectors.toList());
+
+        ParallelUtil.runWithWorkStealing(4, tasks, TerminationFlag.RUNNING_TRUE, null, null);
+
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
+
     private static void withPool(
             int nThreads,
             ThrowingConsumer<ExecutorService, ? extends Throwable> block) {
@@ -25,6 +25,7 @@ import org.neo4j.graphalgo.core.GdsEdition;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PoolsTest {
 
@@ -47,5 +48,17 @@ class PoolsTest {
         assertEquals(2 * availableProcessors, defaultPool.getMaximumPoolSize());
     }
 
+    @Test
+    void shouldGetElasticIoPool() {
+        GdsEdition.instance().setToEnterpriseEdition();
+        ThreadPoolExecutor ioPool = (ThreadPoolExecutor) Pools.createIoPool();
+
+        int availableProcessors = Runtime.getRuntime().availableProcessors();
+        assertEquals(4 * availableProcessors, ioPool.getCorePoolSize());
+        assertEquals(4 * availableProcessors, ioPool.getMaximumPoolSize());
+        assertTrue(ioPool.allowsCoreThreadTimeOut());
+        assertEquals(0, ioPool.getPoolSize());
+    }
+
 
 }
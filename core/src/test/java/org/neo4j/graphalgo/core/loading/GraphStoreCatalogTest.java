@@ -79,6 +79,47 @@ class GraphStoreCatalogTest {
         assertFalse(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
     }
 
+    @Test
+    void acquire() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        assertEquals(0, GraphStoreCatalog.activeReaders(USER_NAME, DATABASE_ID, GRAPH_NAME));
+
+        try (var first = GraphStoreCatalog.acquire(USER_NAME, DATABASE_ID, GRAPH_NAME)) {
+            assertEquals(graphStore, first.graphStore());
+            assertEquals(CONFIG, first.config());
+            try (var ignored = GraphStoreCatalog.acquire(USER_NAME, DATABASE_ID, GRAPH_NAME)) {
+                assertEquals(2, GraphStoreCatalog.activeReaders(USER_NAME, DATABASE_ID, GRAPH_NAME));
+            }
+            first.close();
+            // closing twice must not release another reader
+            first.close();
+            assertEquals(0, GraphStoreCatalog.activeReaders(USER_NAME, DATABASE_ID, GRAPH_NAME));
+        }
+    }
+
+    @Test
+    void removeWhileAcquired() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+
+        try (var handle = GraphStoreCatalog.acquire(USER_NAME, DATABASE_ID, GRAPH_NAME)) {
+            GraphStoreCatalog.remove(USER_NAME, DATABASE_ID, GRAPH_NAME, graphStoreWithConfig -> {}, true);
+
+            assertFalse(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
+            assertEquals(0, GraphStoreCatalog.activeReaders(USER_NAME, DATABASE_ID, GRAPH_NAME));
+            assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> GraphStoreCatalog.acquire(USER_NAME, DATABASE_ID, GRAPH_NAME));
+            // the dropped graph is still usable through the handle
+            assertEquals(graphStore.nodeCount(), handle.graphStore().getUnion().nodeCount());
+        }
+    }
+
+    @Test
+    void acquireMissingGraph() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> GraphStoreCatalog.acquire(USER_NAME, DATABASE_ID, GRAPH_NAME))
+            .withMessage("Graph with name `graph` does not exist.");
+    }
+
     @Test
     void graphStoresCount() {
         assertEquals(0, GraphStoreCatalog.graphStoresCount(DATABASE_ID));
@@ -125,12 +125,45 @@ class PartitionUtilsTest {
             "(b)-->(c)"
         );
 
+        // every node also counts as one relationship, so a and b exceed the batch size on their own
+        List<Partition> partitions = PartitionUtils.degreePartition(graph, 2L);
+        assertEquals(List.of(Partition.of(0, 1), Partition.of(1, 1), Partition.of(2, 1)), partitions);
+    }
+
+    @Test
+    void testDegreePartitioningWithPartitionCount() {
+        Graph graph = fromGdl(
+            "(a)-->(b)" +
+            "(a)-->(c)" +
+            "(b)-->(a)" +
+            "(b)-->(c)"
+        );
+
+        List<Partition> partitions = PartitionUtils.degreePartition(graph, 2);
+        assertEquals(List.of(Partition.of(0, 2), Partition.of(2, 1)), partitions);
+    }
+
+    @Test
+    void testDegreePartitioningWithHub() {
+        Graph graph = fromGdl(
+            "(a)-->(b)" +
+            "(a)-->(c)" +
+            "(a)-->(d)" +
+            "(a)-->(e)" +
+            "(a)-->(f)"
+        );
+
+        // every node counts as one relationship: a hub with 5 relationships is as expensive as all leaves together
+        List<Partition> partitions = PartitionUtils.degreePartition(graph, 2);
+        assertEquals(List.of(Partition.of(0, 1), Partition.of(1, 5)), partitions);
+    }
+
+    @Test
+    void testDegreePartitioningWithoutRelationships() {
+        Graph graph = fromGdl("(a), (b), (c), (d)");
+
         List<Partition> partitions = PartitionUtils.degreePartition(graph, 2);
-        assertEquals(2, partitions.size());
-        assertEquals(0, partitions.get(0).startNode());
-        assertEquals(2, partitions.get(0).nodeCount());
-        assertEquals(2, partitions.get(1).startNode());
-        assertEquals(1, partitions.get(1).nodeCount());
+        assertEquals(List.of(Partition.of(0, 2), Partition.of(2, 2)), partitions);
     }
 
     @Test
@@ -148,9 +181,7 @@ class PartitionUtilsTest {
         List<Partition> partitions = PartitionUtils.degreePartition(
             new SetBitsIterable(nodeFilter).primitiveLongIterator(), graph, 2
         );
-        assertEquals(1, partitions.size());
-        assertEquals(0, partitions.get(0).startNode());
-        assertEquals(3, partitions.get(0).nodeCount());
+        assertEquals(List.of(Partition.of(0, 1), Partition.of(1, 2)), partitions);
     }
 
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.GraphLoaderContext;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.config.GraphCreateFromFileConfig;
+import org.neo4j.graphalgo.config.ImmutableGraphCreateFromFileConfig;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.GdlSupportExtension;
+import org.neo4j.graphalgo.extension.Inject;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+import org.neo4j.logging.Log;
+import org.neo4j.logging.NullLog;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class FileToGraphStoreFactoryTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "CREATE" +
+        "  (a:A:B { prop1: 0, prop2: 42 })" +
+        ", (b:A:B { prop1: 1, prop2: 43 })" +
+        ", (c:A:C { prop1: 2, prop2: 44 })" +
+        ", (d:B { prop1: 3, prop2: 45 })" +
+        ", (a)-[:REL1 { weight: 0.5 }]->(a)" +
+        ", (a)-[:REL1 { weight: 1.5 }]->(b)" +
+        ", (b)-[:REL1 { weight: 2.5 }]->(a)" +
+        ", (b)-[:REL2]->(c)" +
+        ", (c)-[:REL2]->(d)" +
+        ", (d)-[:REL2]->(a)";
+
+    private static final GraphLoaderContext CONTEXT = new GraphLoaderContext() {
+        @Override
+        public GraphDatabaseAPI api() {
+            return null;
+        }
+
+        @Override
+        public Log log() {
+            return NullLog.getInstance();
+        }
+    };
+
+    @Inject
+    GraphStore graphStore;
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @EnumSource(FileFormat.class)
+    void roundTrip(FileFormat format) {
+        export(format, 2);
+
+        var importedGraphStore = FileToGraphStoreFactory
+            .of(config(format), tempDir, GdlSupportExtension.DATABASE_ID, CONTEXT)
+            .build()
+            .graphStore();
+
+        assertThat(importedGraphStore.nodeCount()).isEqualTo(graphStore.nodeCount());
+        assertThat(importedGraphStore.relationshipCount()).isEqualTo(graphStore.relationshipCount());
+        assertThat(importedGraphStore.nodeLabels()).isEqualTo(graphStore.nodeLabels());
+        assertThat(importedGraphStore.relationshipTypes()).isEqualTo(graphStore.relationshipTypes());
+        assertThat(importedGraphStore.nodePropertyKeys(NodeLabel.of("A"))).containsExactlyInAnyOrder("prop1", "prop2");
+        assertThat(importedGraphStore.relationshipPropertyKeys(RelationshipType.of("REL1"))).containsExactly("weight");
+
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+    }
+
+    @Test
+    void failsWithoutNodeFiles() {
+        var exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> FileToGraphStoreFactory.of(config(FileFormat.CSV), tempDir, GdlSupportExtension.DATABASE_ID, CONTEXT)
+        );
+
+        assertThat(exception).hasMessageContaining("No csv node files found");
+    }
+
+    @Test
+    void failsOnMemoryEstimation() {
+        export(FileFormat.CSV, 1);
+
+        var factory = FileToGraphStoreFactory.of(config(FileFormat.CSV), tempDir, GdlSupportExtension.DATABASE_ID, CONTEXT);
+        var exception = assertThrows(UnsupportedOperationException.class, factory::memoryEstimation);
+
+        assertThat(exception).hasMessage("Memory estimation is not supported for graphs imported from csv files.");
+    }
+
+    private void export(FileFormat format, int concurrency) {
+        var config = ImmutableGraphStoreToFileExporterConfig
+            .builder()
+            .exportName(tempDir.toString())
+            .writeConcurrency(concurrency)
+            .build();
+
+        var exporter = format == FileFormat.CSV
+            ? GraphStoreToFileExporter.csv(graphStore, config, tempDir)
+            : GraphStoreToFileExporter.binary(graphStore, config, tempDir);
+        exporter.run(AllocationTracker.empty());
+    }
+
+    private static GraphCreateFromFileConfig config(FileFormat format) {
+        return ImmutableGraphCreateFromFileConfig
+            .builder()
+            .graphName("imported")
+            .importName("import")
+            .format(format)
+            .readConcurrency(4)
+            .build();
+    }
+}
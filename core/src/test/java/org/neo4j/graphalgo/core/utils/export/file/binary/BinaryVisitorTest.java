@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export.file.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.api.schema.NodeSchema;
+import org.neo4j.graphalgo.api.schema.RelationshipSchema;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BinaryVisitorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void roundTripNodesWithLabelsAndProperties() throws IOException {
+        var aLabel = NodeLabel.of("A");
+        var nodeSchema = NodeSchema.builder()
+            .addProperty(aLabel, "foo", ValueType.LONG)
+            .addProperty(aLabel, "bar", ValueType.DOUBLE)
+            .addProperty(aLabel, "baz", ValueType.DOUBLE_ARRAY)
+            .build();
+        var nodeVisitor = new BinaryNodeVisitor(tempDir, nodeSchema);
+
+        nodeVisitor.id(0L);
+        nodeVisitor.labels(new String[]{"A"});
+        nodeVisitor.property("foo", 42L);
+        nodeVisitor.property("bar", 13.37);
+        nodeVisitor.property("baz", new double[]{1.0, 2.0});
+        nodeVisitor.endOfEntity();
+
+        nodeVisitor.id(1L);
+        nodeVisitor.labels(new String[]{"A"});
+        nodeVisitor.property("foo", 1337L);
+        nodeVisitor.endOfEntity();
+
+        nodeVisitor.close();
+
+        try (var reader = BinaryColumnReader.open(tempDir.resolve("nodes_A_0.gdsb"))) {
+            assertThat(reader.columnNames()).containsExactly(":ID", "bar", "baz", "foo");
+            assertThat(reader.columnTypes()).containsExactly(
+                ValueType.LONG,
+                ValueType.DOUBLE,
+                ValueType.DOUBLE_ARRAY,
+                ValueType.LONG
+            );
+
+            var chunk = reader.nextChunk();
+            assertEquals(2, chunk.rowCount());
+            assertThat(chunk.longColumn(0)).containsExactly(0L, 1L);
+            assertEquals(13.37, chunk.value(1, 0));
+            assertNull(chunk.value(1, 1));
+            assertThat((double[]) chunk.value(2, 0)).containsExactly(1.0, 2.0);
+            assertNull(chunk.value(2, 1));
+            assertThat(chunk.longColumn(3)).containsExactly(42L, 1337L);
+
+            assertNull(reader.nextChunk());
+        }
+    }
+
+    @Test
+    void roundTripRelationshipsAcrossChunks() throws IOException {
+        var relType = RelationshipType.of("REL");
+        var relationshipSchema = RelationshipSchema.builder()
+            .addProperty(relType, "weight", ValueType.DOUBLE)
+            .build();
+        var relationshipVisitor = new BinaryRelationshipVisitor(tempDir, relationshipSchema);
+
+        int relationshipCount = BinaryFormat.CHUNK_SIZE + 42;
+        for (int i = 0; i < relationshipCount; i++) {
+            relationshipVisitor.type("REL");
+            relationshipVisitor.startId(i);
+            relationshipVisitor.endId(i + 1);
+            relationshipVisitor.property("weight", i / 2.0);
+            relationshipVisitor.endOfEntity();
+        }
+        relationshipVisitor.close();
+
+        try (var reader = BinaryColumnReader.open(tempDir.resolve("relationships_REL_0.gdsb"))) {
+            assertThat(reader.columnNames()).containsExactly(":START_ID", ":END_ID", "weight");
+
+            long expectedSource = 0;
+            BinaryColumnReader.Chunk chunk;
+            while ((chunk = reader.nextChunk()) != null) {
+                for (int row = 0; row < chunk.rowCount(); row++) {
+                    assertEquals(expectedSource, chunk.longColumn(0)[row]);
+                    assertEquals(expectedSource + 1, chunk.longColumn(1)[row]);
+                    assertEquals(expectedSource / 2.0, chunk.doubleColumn(2)[row]);
+                    expectedSource++;
+                }
+            }
+            assertEquals(relationshipCount, expectedSource);
+        }
+    }
+
+    @Test
+    void typeCodesAreStable() {
+        // the codes are part of the file format, changing them breaks existing exports
+        assertEquals(1, BinaryFormat.typeCode(ValueType.LONG));
+        assertEquals(2, BinaryFormat.typeCode(ValueType.DOUBLE));
+        assertEquals(3, BinaryFormat.typeCode(ValueType.DOUBLE_ARRAY));
+        assertEquals(4, BinaryFormat.typeCode(ValueType.FLOAT_ARRAY));
+        assertEquals(5, BinaryFormat.typeCode(ValueType.LONG_ARRAY));
+
+        for (var valueType : new ValueType[]{
+            ValueType.LONG,
+            ValueType.DOUBLE,
+            ValueType.DOUBLE_ARRAY,
+            ValueType.FLOAT_ARRAY,
+            ValueType.LONG_ARRAY
+        }) {
+            assertEquals(valueType, BinaryFormat.valueType(BinaryFormat.typeCode(valueType)));
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.neo4j.graphalgo.junit.annotation.DisableForNeo4jVersion;
 import org.neo4j.graphalgo.junit.annotation.EnableForNeo4jVersion;
 import org.neo4j.io.ByteUnit;
 
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -60,6 +61,19 @@ class AllocationTrackerTest {
         assertEquals(1337 - 42, tracker.trackedBytes());
     }
 
+    @Test
+    void testPeakForInMemoryTracking() {
+        var tracker = AllocationTracker.create();
+        tracker.add("HugeLongArray", 1337);
+        tracker.add("HugeIntArray", 42);
+        tracker.remove("HugeLongArray", 1000);
+        tracker.add(100);
+
+        assertEquals(1337 + 42 - 1000 + 100, tracker.trackedBytes());
+        assertEquals(1337 + 42, tracker.peakBytes());
+        assertEquals(Map.of("HugeIntArray", 42L, "HugeLongArray", 1337L), tracker.peakBytesPerComponent());
+    }
+
     @Test
     void testStringOutputForInMemoryTracking() {
         var tracker = AllocationTracker.create();
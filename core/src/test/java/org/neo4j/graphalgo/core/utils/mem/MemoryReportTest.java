@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.mem;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.GraphDimensions;
+import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemoryReportTest {
+
+    private static final GraphDimensions DIMENSIONS = ImmutableGraphDimensions.builder().nodeCount(0).build();
+
+    @Test
+    void shouldCompareEstimateWithPeak() {
+        var estimate = MemoryEstimations.builder("Memory Estimation")
+            .fixed("graph", 1000)
+            .fixed("algorithm", 2000)
+            .build()
+            .estimate(DIMENSIONS, 1);
+
+        var tracker = AllocationTracker.create();
+        tracker.add("HugeLongArray", 1000);
+        tracker.add("HugeDoubleArray", 2500);
+
+        var report = MemoryReport.of(estimate, tracker, Map.of("graph", 1000L, "algorithm", 2500L));
+
+        assertEquals(3500, report.peakBytes());
+        assertTrue(report.exceedsEstimate());
+        assertEquals(3500.0 / 3000.0, report.peakToEstimate(), 1e-9);
+        assertThat(report.render())
+            .contains("Memory Estimation: estimated 3000 Bytes, peak tracked 3500 Bytes (117% of the maximum estimate)")
+            .contains("|-- algorithm: estimated 2000 Bytes, tracked 2500 Bytes")
+            .contains("|-- tracked HugeDoubleArray: 2500 Bytes");
+    }
+
+    @Test
+    void shouldNotExceedWithinEstimate() {
+        var estimate = MemoryEstimations.builder("Memory Estimation")
+            .rangePerNode("algorithm", nodeCount -> MemoryRange.of(100, 200))
+            .build()
+            .estimate(DIMENSIONS, 1);
+
+        var tracker = AllocationTracker.create();
+        tracker.add(150);
+
+        var report = MemoryReport.of(estimate, tracker, Map.of());
+
+        assertFalse(report.exceedsEstimate());
+        assertEquals(0.75, report.peakToEstimate(), 1e-9);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MetricsRegistryTest {
+
+    @AfterEach
+    void tearDown() {
+        MetricsRegistry.reset();
+    }
+
+    @Test
+    void shouldReturnTheSameMetricForTheSameName() {
+        assertThat(MetricsRegistry.counter("test.counter")).isSameAs(MetricsRegistry.counter("test.counter"));
+        assertThat(MetricsRegistry.timer("test.timer")).isSameAs(MetricsRegistry.timer("test.timer"));
+    }
+
+    @Test
+    void shouldCountConcurrently() {
+        var counter = MetricsRegistry.counter("test.concurrent");
+        ParallelUtil.runWithConcurrency(
+            4,
+            ParallelUtil.tasks(4, () -> () -> {
+                for (int i = 0; i < 10_000; i++) {
+                    counter.increment();
+                }
+            }),
+            Pools.DEFAULT
+        );
+        assertThat(counter.count()).isEqualTo(40_000L);
+    }
+
+    @Test
+    void shouldSummarizeTimer() {
+        var timer = MetricsRegistry.timer("test.timer.summary");
+        timer.record(TimeUnit.MILLISECONDS.toNanos(1));
+        timer.record(TimeUnit.MILLISECONDS.toNanos(3));
+
+        var snapshot = MetricsRegistry.snapshot().stream()
+            .filter(metric -> metric.name().equals("test.timer.summary"))
+            .findFirst()
+            .orElseThrow();
+
+        assertThat(snapshot.type()).isEqualTo(MetricSnapshot.Type.TIMER);
+        assertThat(snapshot.count()).isEqualTo(2L);
+        assertThat(snapshot.totalMillis()).isCloseTo(4.0, within(1e-9));
+        assertThat(snapshot.meanMillis()).isCloseTo(2.0, within(0.05));
+        assertThat(snapshot.maxMillis()).isCloseTo(3.0, within(0.05));
+    }
+
+    @Test
+    void shouldResetValuesButKeepMetrics() {
+        var counter = MetricsRegistry.counter("test.reset");
+        counter.add(42);
+        MetricsRegistry.reset();
+        assertThat(counter.count()).isZero();
+        counter.increment();
+        assertThat(MetricsRegistry.counter("test.reset").count()).isEqualTo(1L);
+    }
+}
@@ -21,12 +21,15 @@ package org.neo4j.graphalgo.core.utils.progress;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.compat.Neo4jProxy;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.internal.kernel.api.security.AuthSubject;
 import org.neo4j.scheduler.Group;
 import org.neo4j.test.FakeClockJobScheduler;
 
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -69,6 +72,75 @@ class ProgressEventConsumerTest {
         consumer.stop();
     }
 
+    @Test
+    void shouldTrackTasksOfAJob() {
+        var username = AuthSubject.ANONYMOUS.username();
+        var jobId = new JobId();
+        var queue = new ConcurrentLinkedQueue<LogEvent>();
+        var consumer = new ProgressEventConsumer((runnable, initialDelay, rate, timeUnit) -> () -> {}, queue);
+
+        queue.add(event(username, jobId, "Louvain", 10.0, 1_000L));
+        queue.add(event(username, jobId, "ModularityOptimization", 10.0, 1_000L));
+        queue.add(event(username, jobId, "ModularityOptimization", 30.0, 2_000L));
+        consumer.run();
+
+        var jobs = consumer.queryJobs(username);
+        assertThat(jobs).hasSize(1);
+        var job = jobs.get(0);
+        assertThat(job.jobId()).isEqualTo(jobId);
+        assertThat(job.taskName()).isEqualTo("Louvain");
+        assertThat(job.tasks())
+            .extracting(LogEvent::taskName)
+            .containsExactly("Louvain", "ModularityOptimization");
+        assertThat(job.lastEvent().progress()).hasValue(30.0);
+        assertThat(job.startTimeMillis()).isEqualTo(1_000L);
+        // 20% took one second, 70% are left
+        assertThat(job.remainingMillis()).hasValue(3_500L);
+        assertThat(job.memoryInBytes()).isEmpty();
+
+        // progress going backwards restarts the task
+        queue.add(event(username, jobId, "ModularityOptimization", 5.0, 3_000L));
+        consumer.run();
+        assertThat(consumer.queryJobs(username).get(0).remainingMillis()).isEmpty();
+    }
+
+    @Test
+    void shouldCancelRunningJobs() {
+        var username = AuthSubject.ANONYMOUS.username();
+        var queue = new ConcurrentLinkedQueue<LogEvent>();
+        var jobRegistry = new JobRegistry();
+        var consumer = new ProgressEventConsumer((runnable, initialDelay, rate, timeUnit) -> () -> {}, queue, jobRegistry);
+
+        var tracker = new ProgressEventQueueTracker(queue, username, jobRegistry);
+        var cancelled = new AtomicBoolean(false);
+        tracker.trackJob(AllocationTracker.empty(), () -> cancelled.set(true));
+        tracker.addLogEvent("task", "message", 50.0, 100L);
+        consumer.run();
+
+        assertThat(consumer.cancel("someone else", tracker.jobId())).isFalse();
+        assertThat(cancelled).isFalse();
+
+        assertThat(consumer.cancel(username, tracker.jobId())).isTrue();
+        assertThat(cancelled).isTrue();
+        assertThat(consumer.queryJobs(username).get(0).cancelled()).isTrue();
+
+        tracker.release();
+        consumer.run();
+        assertThat(consumer.queryJobs(username)).isEmpty();
+        assertThat(consumer.cancel(username, tracker.jobId())).isFalse();
+    }
+
+    private static LogEvent event(String username, JobId jobId, String taskName, double progress, long timeMillis) {
+        return ImmutableLogEvent.builder()
+            .username(username)
+            .jobId(jobId)
+            .taskName(taskName)
+            .message(taskName + " " + progress + "%")
+            .progress(progress)
+            .timeMillis(timeMillis)
+            .build();
+    }
+
     @Test
     void testConsumerStartStop() {
         var consumer = new ProgressEventConsumer(
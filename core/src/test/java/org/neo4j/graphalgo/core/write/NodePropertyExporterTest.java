@@ -134,6 +134,31 @@ class NodePropertyExporterTest extends BaseTest {
         );
     }
 
+    @Test
+    void exportNodePropertiesInMultipleParallelBatches() {
+        runQuery("UNWIND range(1, 25000) AS i CREATE (:A)");
+        Graph graph = new StoreLoaderBuilder().api(db).addNodeLabel("A").build().graph();
+
+        NodePropertyExporter exporter = NodePropertyExporter.builder(db, graph, TerminationFlag.RUNNING_TRUE)
+            .parallel(Pools.DEFAULT, 4)
+            .build();
+
+        exporter.write(Arrays.asList(
+            ImmutableNodeProperty.of("newProp1", (LongNodeProperties) graph::toOriginalNodeId),
+            ImmutableNodeProperty.of("newProp2", (DoubleNodeProperties) nodeId -> nodeId % 2 == 0 ? 1.0 : Double.NaN)
+        ));
+
+        assertEquals(25000 + 12500, exporter.propertiesWritten());
+        runQueryWithRowConsumer(
+            db,
+            "MATCH (n:A) RETURN sum(CASE WHEN n.newProp1 = id(n) THEN 1 ELSE 0 END) AS matching, count(n.newProp2) AS halves",
+            row -> {
+                assertEquals(25000L, row.getNumber("matching").longValue());
+                assertEquals(12500L, row.getNumber("halves").longValue());
+            }
+        );
+    }
+
     @Test
     void stopsExportingWhenTransactionHasBeenTerminated() {
         transactionTerminationTest(null);
@@ -35,6 +35,9 @@ import org.neo4j.values.storable.Values;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -224,6 +227,28 @@ class RelationshipStreamExporterTest extends BaseTest {
         assertThat(messages.get(6)).contains("WriteRelationshipStream :: Finished");
     }
 
+    @Test
+    void writeOnConfiguredExecutor() throws InterruptedException {
+        var submittedTasks = new AtomicInteger();
+        var executor = Executors.newSingleThreadExecutor(runnable -> {
+            submittedTasks.incrementAndGet();
+            return new Thread(runnable);
+        });
+
+        try {
+            var exporter = RelationshipStreamExporter
+                .builder(db, graph, Stream.of(relationship("a", "b")), TerminationFlag.RUNNING_TRUE)
+                .parallel(executor, 1)
+                .build();
+
+            assertEquals(1, exporter.write("FOOBAR"));
+            assertEquals(1, submittedTasks.get());
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     void throwsForParallelStreams() {
         var relationshipStream = IntStream
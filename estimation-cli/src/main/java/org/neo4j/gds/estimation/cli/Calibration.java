@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.estimation.cli;
+
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.Algorithm;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.generator.PropertyProducer;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
+import org.neo4j.graphalgo.config.AlgoBaseConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.config.ConcurrencyConfig.CONCURRENCY_KEY;
+
+/**
+ * Runs an algorithm procedure on generated graphs of increasing size and fits simple models
+ * for its memory and runtime, which are then used to derive capacity planning tables.
+ */
+final class Calibration {
+
+    static final String GRAPH_NAME = "calibration";
+    static final long SEED = 42L;
+
+    private Calibration() {}
+
+    /**
+     * Generates a power-law graph with a random double property in {@code [0, 1)} for each of the given node property keys.
+     */
+    static Graph generateGraph(long nodeCount, long averageDegree, Collection<String> nodeProperties) {
+        var builder = RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(SEED);
+        nodeProperties.forEach(nodeProperty -> builder.nodePropertyProducer(PropertyProducer.random(nodeProperty, 0, 1)));
+        return builder.build().generate();
+    }
+
+    /**
+     * Runs the algorithm of the given procedure once on the graph and measures its runtime and memory.
+     * The graph is expected to be retained on the heap already and its size is passed in as {@code graphBytes}.
+     */
+    static <ALGO extends Algorithm<ALGO, RESULT>, RESULT, CONFIG extends AlgoBaseConfig> Sample measure(
+        AlgoBaseProc<ALGO, RESULT, CONFIG> proc,
+        Map<String, Object> configuration,
+        Graph graph,
+        long graphBytes,
+        int concurrency
+    ) {
+        var actualConfig = new HashMap<>(configuration);
+        actualConfig.put(CONCURRENCY_KEY, concurrency);
+        CONFIG config = proc.newConfig(Optional.of(GRAPH_NAME), CypherMapWrapper.create(actualConfig));
+
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(graph.nodeCount())
+            .maxRelCount(graph.relationshipCount())
+            .relationshipCounts(Map.of(RelationshipType.ALL_RELATIONSHIPS, graph.relationshipCount()))
+            .build();
+        var estimate = proc.estimateAlgorithm(config, dimensions).memoryUsage();
+
+        var heap = HeapPeak.start();
+        var tracker = AllocationTracker.create();
+        long start = System.nanoTime();
+        ALGO algorithm = proc.newAlgorithm(graph, config, tracker);
+        algorithm.compute();
+        long nanos = System.nanoTime() - start;
+        long heapPeak = heap.peakBytes();
+        algorithm.release();
+
+        return ImmutableSample.of(
+            graph.nodeCount(),
+            graph.relationshipCount(),
+            concurrency,
+            nanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+            graphBytes,
+            heapPeak,
+            tracker.peakBytes(),
+            estimate.min,
+            estimate.max
+        );
+    }
+
+    /**
+     * @return the heap used after a full collection, an approximation of the retained heap.
+     *     {@link System#gc()} is only a request to the JVM, so garbage can remain and inflate the result.
+     */
+    @SuppressWarnings("CallToSystemGC")
+    static long retainedHeap() {
+        System.gc();
+        return heapPools().stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans()
+            .stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Measures the heap above a baseline using the peak usage of the heap pools.
+     * Summing the peaks of all pools over-approximates the peak, as pools can peak at different times.
+     */
+    private static final class HeapPeak {
+        private final List<MemoryPoolMXBean> pools;
+        private final long baseline;
+
+        private HeapPeak(List<MemoryPoolMXBean> pools, long baseline) {
+            this.pools = pools;
+            this.baseline = baseline;
+        }
+
+        static HeapPeak start() {
+            long baseline = retainedHeap();
+            var pools = heapPools();
+            pools.forEach(MemoryPoolMXBean::resetPeakUsage);
+            return new HeapPeak(pools, baseline);
+        }
+
+        long peakBytes() {
+            long peak = pools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+            return Math.max(0L, peak - baseline);
+        }
+    }
+
+    @ValueClass
+    interface Sample {
+        long nodeCount();
+
+        long relationshipCount();
+
+        int concurrency();
+
+        double millis();
+
+        long graphBytes();
+
+        long peakHeapBytes();
+
+        long peakTrackedBytes();
+
+        long estimatedMinBytes();
+
+        long estimatedMaxBytes();
+
+        /**
+         * The memory needed to hold the graph and run the algorithm, based on the measured heap.
+         */
+        default long totalBytes() {
+            return graphBytes() + peakHeapBytes();
+        }
+    }
+
+    /**
+     * {@code y = intercept + slope * x}, fitted with ordinary least squares.
+     */
+    @ValueClass
+    interface LinearModel {
+        double intercept();
+
+        double slope();
+
+        default double apply(double x) {
+            return intercept() + slope() * x;
+        }
+
+        /**
+         * @return the largest {@code x} for which the model stays within {@code y}, or -1 if the model does not grow.
+         */
+        default long inverse(double y) {
+            if (slope() <= 0) {
+                return -1L;
+            }
+            return Math.max(0L, (long) Math.floor((y - intercept()) / slope()));
+        }
+
+        static LinearModel fit(double[] x, double[] y) {
+            int n = x.length;
+            if (n == 1) {
+                return ImmutableLinearModel.of(0.0, x[0] == 0 ? 0.0 : y[0] / x[0]);
+            }
+            double meanX = 0;
+            double meanY = 0;
+            for (int i = 0; i < n; i++) {
+                meanX += x[i];
+                meanY += y[i];
+            }
+            meanX /= n;
+            meanY /= n;
+            double covariance = 0;
+            double variance = 0;
+            for (int i = 0; i < n; i++) {
+                covariance += (x[i] - meanX) * (y[i] - meanY);
+                variance += (x[i] - meanX) * (x[i] - meanX);
+            }
+            double slope = variance == 0 ? 0.0 : covariance / variance;
+            return ImmutableLinearModel.of(meanY - slope * meanX, slope);
+        }
+    }
+
+    /**
+     * {@code y = factor * x ^ exponent}, fitted with least squares in log-log space.
+     */
+    @ValueClass
+    interface PowerLawModel {
+        double factor();
+
+        double exponent();
+
+        default double apply(double x) {
+            return factor() * Math.pow(x, exponent());
+        }
+
+        static PowerLawModel fit(double[] x, double[] y) {
+            if (x.length == 1) {
+                return ImmutablePowerLawModel.of(y[0] / x[0], 1.0);
+            }
+            var logX = new double[x.length];
+            var logY = new double[y.length];
+            for (int i = 0; i < x.length; i++) {
+                logX[i] = Math.log(x[i]);
+                // runs faster than the timer resolution would break the logarithm
+                logY[i] = Math.log(Math.max(y[i], 1e-3));
+            }
+            var linear = LinearModel.fit(logX, logY);
+            return ImmutablePowerLawModel.of(Math.exp(linear.intercept()), linear.slope());
+        }
+    }
+}
@@ -26,6 +26,7 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.jetbrains.annotations.NotNull;
+import org.neo4j.graphalgo.AlgoBaseProc;
 import org.neo4j.graphalgo.ElementProjection;
 import org.neo4j.graphalgo.annotation.SuppressForbidden;
 import org.neo4j.graphalgo.annotation.ValueClass;
@@ -44,14 +45,17 @@ import picocli.CommandLine;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -138,6 +142,178 @@ public class EstimationCli implements Runnable {
         renderResults(counts, printOpts, blockSizeOpts, estimations);
     }
 
+    @CommandLine.Command(
+        name = "calibrate",
+        description = "Runs an algorithm procedure on generated graphs, fits models for its memory and runtime and prints capacity planning tables."
+    )
+    void calibrate(
+        @CommandLine.Parameters(
+            paramLabel = "procedure",
+            description = "The procedure to calibrate, e.g. gds.pagerank.stream.",
+            converter = ProcedureNameNormalizer.class
+        )
+            String procedureName,
+
+        @CommandLine.Option(
+            names = {"-n", "--nodes"},
+            description = "Node counts of the generated graphs, e.g. 100K,1M,10M.",
+            required = true,
+            split = ",",
+            converter = LongParser.class
+        )
+            List<Long> nodeCounts,
+
+        @CommandLine.Option(
+            names = {"-d", "--average-degree"},
+            description = "Average degree of the generated graphs.",
+            defaultValue = "10",
+            converter = LongParser.class
+        )
+            long averageDegree,
+
+        @CommandLine.Option(
+            names = {"--concurrency"},
+            description = "Concurrency values to measure the runtime for.",
+            defaultValue = "1,4",
+            split = ",",
+            converter = IntParser.class
+        )
+            List<Integer> concurrencies,
+
+        @CommandLine.Option(
+            names = {"--heap"},
+            description = "Heap sizes in bytes to plan the capacity for, e.g. 8G,32G.",
+            defaultValue = "8G,32G,128G",
+            split = ",",
+            converter = LongParser.class
+        )
+            List<Long> heapSizes,
+
+        @CommandLine.Option(
+            names = {"-c", "--config"},
+            description = "Numeric configuration options of the given procedure.",
+            split = ","
+        )
+            Map<String, Number> config
+    ) {
+        GdsEdition.instance().setToEnterpriseEdition();
+
+        var procedure = findProcedure(procedureName);
+        Object procInstance;
+        try {
+            procInstance = procedure.getDeclaringClass().getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+        if (!(procInstance instanceof AlgoBaseProc)) {
+            throw new CommandLine.ParameterException(
+                spec.commandLine(),
+                formatWithLocale("Procedure %s cannot be calibrated, only algorithm procedures are supported.", procedureName)
+            );
+        }
+        var proc = (AlgoBaseProc<?, ?, ?>) procInstance;
+
+        Map<String, Object> procedureConfig = withProcedureDefaults(
+            procedureName,
+            config == null ? new HashMap<>() : new HashMap<>(config)
+        );
+
+        var samples = new ArrayList<Calibration.Sample>();
+        for (long nodeCount : nodeCounts) {
+            long heapBeforeGraph = Calibration.retainedHeap();
+            var graph = Calibration.generateGraph(nodeCount, averageDegree, nodeProperties(procedureConfig));
+            long graphBytes = Math.max(0L, Calibration.retainedHeap() - heapBeforeGraph);
+            for (int concurrency : concurrencies) {
+                samples.add(Calibration.measure(proc, procedureConfig, graph, graphBytes, concurrency));
+            }
+            graph.release();
+        }
+
+        renderCalibration(procedureName.replaceFirst("\\.estimate$", ""), averageDegree, concurrencies, heapSizes, samples);
+    }
+
+    private static void renderCalibration(
+        String procedureName,
+        long averageDegree,
+        List<Integer> concurrencies,
+        List<Long> heapSizes,
+        List<Calibration.Sample> samples
+    ) {
+        System.out.println("procedure,nodes,relationships,concurrency,millis,graph_bytes,peak_heap_bytes,peak_tracked_bytes,estimated_min_bytes,estimated_max_bytes");
+        for (var sample : samples) {
+            System.out.printf(
+                Locale.ENGLISH,
+                "%s,%d,%d,%d,%.0f,%d,%d,%d,%d,%d%n",
+                procedureName,
+                sample.nodeCount(),
+                sample.relationshipCount(),
+                sample.concurrency(),
+                sample.millis(),
+                sample.graphBytes(),
+                sample.peakHeapBytes(),
+                sample.peakTrackedBytes(),
+                sample.estimatedMinBytes(),
+                sample.estimatedMaxBytes()
+            );
+        }
+
+        // memory can depend on the concurrency, plan with the most expensive run per graph size
+        var totalBytesPerNodeCount = new TreeMap<Long, Long>();
+        samples.forEach(sample -> totalBytesPerNodeCount.merge(sample.nodeCount(), sample.totalBytes(), Math::max));
+        var memoryModel = Calibration.LinearModel.fit(
+            totalBytesPerNodeCount.keySet().stream().mapToDouble(Long::doubleValue).toArray(),
+            totalBytesPerNodeCount.values().stream().mapToDouble(Long::doubleValue).toArray()
+        );
+
+        var runtimeModels = new LinkedHashMap<Integer, Calibration.PowerLawModel>();
+        for (int concurrency : concurrencies) {
+            var samplesForConcurrency = samples.stream()
+                .filter(sample -> sample.concurrency() == concurrency)
+                .collect(Collectors.toList());
+            runtimeModels.put(concurrency, Calibration.PowerLawModel.fit(
+                samplesForConcurrency.stream().mapToDouble(Calibration.Sample::nodeCount).toArray(),
+                samplesForConcurrency.stream().mapToDouble(Calibration.Sample::millis).toArray()
+            ));
+        }
+
+        System.out.println();
+        System.out.printf(
+            Locale.ENGLISH,
+            "memory model (average degree %d): bytes = %.0f + %.2f * nodes%n",
+            averageDegree,
+            memoryModel.intercept(),
+            memoryModel.slope()
+        );
+        runtimeModels.forEach((concurrency, model) -> System.out.printf(
+            Locale.ENGLISH,
+            "runtime model (concurrency %d): millis = %.3e * nodes ^ %.3f%n",
+            concurrency,
+            model.factor(),
+            model.exponent()
+        ));
+
+        System.out.println();
+        System.out.println("heap_bytes,max_nodes,max_relationships," + concurrencies
+            .stream()
+            .map(concurrency -> "millis_concurrency_" + concurrency)
+            .collect(joining(",")));
+        for (long heapSize : heapSizes) {
+            long maxNodes = memoryModel.inverse(heapSize);
+            var line = new StringBuilder(formatWithLocale("%d,", heapSize));
+            if (maxNodes < 0) {
+                line.append("n/a,n/a");
+                concurrencies.forEach(concurrency -> line.append(",n/a"));
+            } else {
+                line.append(formatWithLocale("%d,%d", maxNodes, maxNodes * averageDegree));
+                concurrencies.forEach(concurrency -> line.append(formatWithLocale(
+                    ",%.0f",
+                    runtimeModels.get(concurrency).apply(maxNodes)
+                )));
+            }
+            System.out.println(line);
+        }
+    }
+
     static final class BlockSizeOptions {
         @CommandLine.Option(
             names = {"--block-size"},
@@ -277,59 +453,7 @@ public class EstimationCli implements Runnable {
             if (relationshipPropertyCount > 0) {
                 actualConfig.put(RELATIONSHIP_PROPERTIES_KEY, createEntries(relationshipPropertyCount, "prop"));
             }
-            if (procedureName.endsWith(".write.estimate")) {
-                actualConfig.put(WRITE_PROPERTY_KEY, "ESTIMATE_FAKE_WRITE_PROPERTY");
-            }
-            if (procedureName.endsWith(".mutate.estimate")) {
-                actualConfig.put(MUTATE_PROPERTY_KEY, "ESTIMATE_FAKE_MUTATE_PROPERTY");
-            }
-            if (procedureName.startsWith("gds.fastRP")) {
-                actualConfig.put("embeddingDimension", 128);
-            }
-            if (procedureName.startsWith("gds.beta.fastRPExtended")) {
-                actualConfig.put("embeddingDimension", 128);
-                actualConfig.put("propertyDimension", 64);
-            }
-            if (procedureName.startsWith("gds.beta.knn")) {
-                actualConfig.put("nodeWeightProperty", "ESTIMATE_FAKE_NODE_WEIGHT_PROPERTY");
-            }
-            if (procedureName.equals("gds.nodeSimilarity.write.estimate") || procedureName.equals("gds.beta.knn.write.estimate")) {
-                actualConfig.put("writeRelationshipType", "ESTIMATE_FAKE_WRITE_RELATIONSHIP_PROPERTY");
-            }
-            if (procedureName.equals("gds.nodeSimilarity.mutate.estimate") || procedureName.equals("gds.beta.knn.mutate.estimate")) {
-                actualConfig.put("mutateRelationshipType", "ESTIMATE_FAKE_MUTATE_RELATIONSHIP_PROPERTY");
-            }
-            if (procedureName.startsWith("gds.beta.shortestPath.")) {
-                actualConfig.put("sourceNode", 0L);
-                actualConfig.put("targetNode", 1L);
-            }
-            if (procedureName.startsWith("gds.beta.shortestPath.yens.")) {
-                actualConfig.put("k", 3);
-            }
-            if (procedureName.startsWith("gds.beta.shortestPath.astar.")) {
-                actualConfig.put(ShortestPathAStarBaseConfig.LATITUDE_PROPERTY_KEY, "LAT");
-                actualConfig.put(ShortestPathAStarBaseConfig.LONGITUDE_PROPERTY_KEY, "LON");
-            }
-            if (procedureName.startsWith("gds.beta.shortestPath.") && procedureName.endsWith("write.estimate")) {
-                actualConfig.put(WriteRelationshipConfig.WRITE_RELATIONSHIP_TYPE_KEY, "ESTIMATE_FAKE_WRITE_RELATIONSHIP_PROPERTY");
-                actualConfig.remove(WRITE_PROPERTY_KEY);
-            }
-            if (procedureName.startsWith("gds.beta.shortestPath.") && procedureName.endsWith("mutate.estimate")) {
-                actualConfig.put(MutateRelationshipConfig.MUTATE_RELATIONSHIP_TYPE_KEY, "ESTIMATE_FAKE_WRITE_RELATIONSHIP_PROPERTY");
-                actualConfig.remove(MUTATE_PROPERTY_KEY);
-            }
-            if (procedureName.startsWith("gds.beta.allShortestPaths.")) {
-                actualConfig.put("sourceNode", 0L);
-            }
-            if (procedureName.startsWith("gds.beta.allShortestPaths.") && procedureName.endsWith("write.estimate")) {
-                actualConfig.put(WriteRelationshipConfig.WRITE_RELATIONSHIP_TYPE_KEY, "ESTIMATE_FAKE_WRITE_RELATIONSHIP_PROPERTY");
-                actualConfig.remove(WRITE_PROPERTY_KEY);
-            }
-            if (procedureName.startsWith("gds.beta.allShortestPaths.") && procedureName.endsWith("mutate.estimate")) {
-                actualConfig.put(MutateRelationshipConfig.MUTATE_RELATIONSHIP_TYPE_KEY, "ESTIMATE_FAKE_WRITE_RELATIONSHIP_PROPERTY");
-                actualConfig.remove(MUTATE_PROPERTY_KEY);
-            }
-            return actualConfig;
+            return withProcedureDefaults(procedureName, actualConfig);
         }
 
         private List<String> createEntries(int count, String prefix) {
@@ -339,6 +463,80 @@ public class EstimationCli implements Runnable {
         }
     }
 
+    /**
+     * Returns the node properties that the configuration of {@link #withProcedureDefaults} refers to
+     * and that need to be generated in order to run the procedure.
+     */
+    static List<String> nodeProperties(Map<String, Object> config) {
+        return Stream.of(
+            "nodeWeightProperty",
+            ShortestPathAStarBaseConfig.LATITUDE_PROPERTY_KEY,
+            ShortestPathAStarBaseConfig.LONGITUDE_PROPERTY_KEY
+        )
+            .filter(config::containsKey)
+            .map(key -> config.get(key).toString())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Adds the configuration that the given estimate procedure requires and that cannot be derived from the counts.
+     */
+    static Map<String, Object> withProcedureDefaults(String procedureName, Map<String, Object> actualConfig) {
+        if (procedureName.endsWith(".write.estimate")) {
+            actualConfig.put(WRITE_PROPERTY_KEY, "ESTIMATE_FAKE_WRITE_PROPERTY");
+        }
+        if (procedureName.endsWith(".mutate.estimate")) {
+            actualConfig.put(MUTATE_PROPERTY_KEY, "ESTIMATE_FAKE_MUTATE_PROPERTY");
+        }
+        if (procedureName.startsWith("gds.fastRP")) {
+            actualConfig.put("embeddingDimension", 128);
+        }
+        if (procedureName.startsWith("gds.beta.fastRPExtended")) {
+            actualConfig.put("embeddingDimension", 128);
+            actualConfig.put("propertyDimension", 64);
+        }
+        if (procedureName.startsWith("gds.beta.knn")) {
+            actualConfig.put("nodeWeightProperty", "ESTIMATE_FAKE_NODE_WEIGHT_PROPERTY");
+        }
+        if (procedureName.equals("gds.nodeSimilarity.write.estimate") || procedureName.equals("gds.beta.knn.write.estimate")) {
+            actualConfig.put("writeRelationshipType", "ESTIMATE_FAKE_WRITE_RELATIONSHIP_PROPERTY");
+        }
+        if (procedureName.equals("gds.nodeSimilarity.mutate.estimate") || procedureName.equals("gds.beta.knn.mutate.estimate")) {
+            actualConfig.put("mutateRelationshipType", "ESTIMATE_FAKE_MUTATE_RELATIONSHIP_PROPERTY");
+        }
+        if (procedureName.startsWith("gds.beta.shortestPath.")) {
+            actualConfig.put("sourceNode", 0L);
+            actualConfig.put("targetNode", 1L);
+        }
+        if (procedureName.startsWith("gds.beta.shortestPath.yens.")) {
+            actualConfig.put("k", 3);
+        }
+        if (procedureName.startsWith("gds.beta.shortestPath.astar.")) {
+            actualConfig.put(ShortestPathAStarBaseConfig.LATITUDE_PROPERTY_KEY, "LAT");
+            actualConfig.put(ShortestPathAStarBaseConfig.LONGITUDE_PROPERTY_KEY, "LON");
+        }
+        if (procedureName.startsWith("gds.beta.shortestPath.") && procedureName.endsWith("write.estimate")) {
+            actualConfig.put(WriteRelationshipConfig.WRITE_RELATIONSHIP_TYPE_KEY, "ESTIMATE_FAKE_WRITE_RELATIONSHIP_PROPERTY");
+            actualConfig.remove(WRITE_PROPERTY_KEY);
+        }
+        if (procedureName.startsWith("gds.beta.shortestPath.") && procedureName.endsWith("mutate.estimate")) {
+            actualConfig.put(MutateRelationshipConfig.MUTATE_RELATIONSHIP_TYPE_KEY, "ESTIMATE_FAKE_WRITE_RELATIONSHIP_PROPERTY");
+            actualConfig.remove(MUTATE_PROPERTY_KEY);
+        }
+        if (procedureName.startsWith("gds.beta.allShortestPaths.")) {
+            actualConfig.put("sourceNode", 0L);
+        }
+        if (procedureName.startsWith("gds.beta.allShortestPaths.") && procedureName.endsWith("write.estimate")) {
+            actualConfig.put(WriteRelationshipConfig.WRITE_RELATIONSHIP_TYPE_KEY, "ESTIMATE_FAKE_WRITE_RELATIONSHIP_PROPERTY");
+            actualConfig.remove(WRITE_PROPERTY_KEY);
+        }
+        if (procedureName.startsWith("gds.beta.allShortestPaths.") && procedureName.endsWith("mutate.estimate")) {
+            actualConfig.put(MutateRelationshipConfig.MUTATE_RELATIONSHIP_TYPE_KEY, "ESTIMATE_FAKE_WRITE_RELATIONSHIP_PROPERTY");
+            actualConfig.remove(MUTATE_PROPERTY_KEY);
+        }
+        return actualConfig;
+    }
+
     enum BlockSize {
         K(1024, 1),
         M(1024, 2),
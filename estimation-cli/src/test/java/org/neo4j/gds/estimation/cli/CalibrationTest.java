@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.estimation.cli;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CalibrationTest {
+
+    @Test
+    void fitsLinearModel() {
+        var model = Calibration.LinearModel.fit(new double[]{1, 2, 3, 4}, new double[]{12, 14, 16, 18});
+
+        assertEquals(10, model.intercept(), 1e-9);
+        assertEquals(2, model.slope(), 1e-9);
+        assertEquals(30, model.apply(10), 1e-9);
+        assertEquals(45, model.inverse(100));
+    }
+
+    @Test
+    void linearModelWithoutGrowthHasNoCapacityLimit() {
+        var model = Calibration.LinearModel.fit(new double[]{1, 2, 3}, new double[]{5, 5, 5});
+
+        assertEquals(-1, model.inverse(100));
+    }
+
+    @Test
+    void fitsPowerLawModel() {
+        var model = Calibration.PowerLawModel.fit(new double[]{10, 100, 1000}, new double[]{2, 200, 20000});
+
+        assertEquals(0.02, model.factor(), 1e-9);
+        assertEquals(2, model.exponent(), 1e-9);
+        assertEquals(2_000_000, model.apply(10_000), 1e-3);
+    }
+
+    @Test
+    void fitsSingleSample() {
+        assertEquals(3, Calibration.LinearModel.fit(new double[]{10}, new double[]{30}).slope(), 1e-9);
+        assertEquals(1, Calibration.PowerLawModel.fit(new double[]{10}, new double[]{30}).exponent(), 1e-9);
+    }
+}
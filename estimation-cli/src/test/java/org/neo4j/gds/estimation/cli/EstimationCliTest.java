@@ -105,6 +105,7 @@ import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.neo4j.graphalgo.config.GraphCreateFromCypherConfig.ALL_NODES_QUERY;
@@ -404,6 +405,37 @@ final class EstimationCliTest {
         );
     }
 
+    @Test
+    void calibratesProcedure() {
+        var actual = run("calibrate", "pagerank.stream", "-n", "1K,2K", "--concurrency", "1,2", "--heap", "1G").lines().collect(toList());
+
+        assertEquals(
+            "procedure,nodes,relationships,concurrency,millis,graph_bytes,peak_heap_bytes,peak_tracked_bytes,estimated_min_bytes,estimated_max_bytes",
+            actual.get(0)
+        );
+        assertThat(actual.subList(1, 5)).allMatch(line -> line.startsWith("gds.pagerank.stream,"));
+        assertThat(actual.get(1)).startsWith("gds.pagerank.stream,1000,");
+        assertThat(actual.get(3)).startsWith("gds.pagerank.stream,2000,");
+        assertThat(actual.get(6)).startsWith("memory model (average degree 10): bytes = ");
+        assertThat(actual.get(7)).startsWith("runtime model (concurrency 1): millis = ");
+        assertThat(actual.get(8)).startsWith("runtime model (concurrency 2): millis = ");
+        assertEquals("heap_bytes,max_nodes,max_relationships,millis_concurrency_1,millis_concurrency_2", actual.get(10));
+        assertThat(actual.get(11)).startsWith("1000000000,");
+    }
+
+    @Test
+    void calibratesProcedureWithNodeProperties() {
+        var actual = run("calibrate", "beta.knn.stream", "-n", "1K", "--concurrency", "1", "--heap", "1G").lines().collect(toList());
+
+        assertThat(actual.get(1)).startsWith("gds.beta.knn.stream,1000,");
+    }
+
+    @Test
+    void calibrationRequiresAlgorithmProcedure() {
+        var exception = assertThrows(ExecutionFailed.class, () -> run("calibrate", "graph.create", "-n", "1K"));
+        assertThat(exception.stderr).contains("only algorithm procedures are supported");
+    }
+
     @Test
     void listAllAvailableProcedures() {
         var actual = run("list-available");
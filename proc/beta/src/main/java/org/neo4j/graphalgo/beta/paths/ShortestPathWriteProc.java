@@ -74,6 +74,7 @@ public abstract class ShortestPathWriteProc<ALGO extends Algorithm<ALGO, Dijkstr
             var exporter = RelationshipStreamExporter
                 .builder(api, computationResult.graph(), relationshipStream, algorithm.getTerminationFlag())
                 .withLog(log)
+                .parallel(config.writeExecutor().executor(), config.writeConcurrency())
                 .build();
 
             try (ProgressTimer ignored = ProgressTimer.start(resultBuilder::withWriteMillis)) {
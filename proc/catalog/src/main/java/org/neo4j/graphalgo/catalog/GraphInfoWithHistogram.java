@@ -31,10 +31,12 @@ import java.util.Optional;
 public class GraphInfoWithHistogram extends GraphInfo {
 
     public final Map<String, Object> degreeDistribution;
+    public final long activeReaders;
 
     public GraphInfoWithHistogram(
         GraphInfo graphInfo,
-        Map<String, Object> degreeDistribution
+        Map<String, Object> degreeDistribution,
+        long activeReaders
     ) {
         super(
             graphInfo.graphName,
@@ -53,6 +55,7 @@ public class GraphInfoWithHistogram extends GraphInfo {
             graphInfo.schema
         );
         this.degreeDistribution = degreeDistribution;
+        this.activeReaders = activeReaders;
     }
 
     static GraphInfoWithHistogram of(GraphCreateConfig graphCreateConfig, GraphStore graphStore) {
@@ -76,6 +79,12 @@ public class GraphInfoWithHistogram extends GraphInfo {
             return newHistogram;
         });
 
-        return new GraphInfoWithHistogram(graphInfo, degreeDistribution);
+        int activeReaders = GraphStoreCatalog.activeReaders(
+            graphCreateConfig.username(),
+            graphStore.databaseId(),
+            graphCreateConfig.graphName()
+        );
+
+        return new GraphInfoWithHistogram(graphInfo, degreeDistribution, activeReaders);
     }
 }
@@ -21,6 +21,7 @@ package org.neo4j.graphalgo.catalog;
 
 import org.neo4j.configuration.Config;
 import org.neo4j.graphalgo.BaseProc;
+import org.neo4j.graphalgo.api.GraphStore;
 import org.neo4j.graphalgo.compat.GraphDatabaseApiProxy;
 import org.neo4j.graphalgo.compat.GraphStoreExportSettings;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
@@ -91,18 +92,36 @@ public class GraphStoreExportProc extends BaseProc {
     public Stream<FileExportResult> csv(
         @Name(value = "graphName") String graphName,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return exportToFiles(graphName, configuration, "CSV export failed", GraphStoreToFileExporter::csv);
+    }
+
+    @Procedure(name = "gds.alpha.graph.export.binary", mode = READ)
+    @Description("Exports a named graph to binary columnar files.")
+    public Stream<FileExportResult> binary(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return exportToFiles(graphName, configuration, "Binary export failed", GraphStoreToFileExporter::binary);
+    }
+
+    private Stream<FileExportResult> exportToFiles(
+        String graphName,
+        Map<String, Object> configuration,
+        String failureMessage,
+        FileExporterFactory exporterFactory
     ) {
         var cypherConfig = CypherMapWrapper.create(configuration);
         var exportConfig = GraphStoreToFileExporterConfig.of(username(), cypherConfig);
         validateConfig(cypherConfig, exportConfig);
 
         var result = runWithExceptionLogging(
-            "CSV export failed", () -> {
+            failureMessage, () -> {
                 var exportPath = getExportPath(exportConfig);
 
                 var graphStore = GraphStoreCatalog.get(username(), databaseId(), graphName).graphStore();
 
-                var exporter = GraphStoreToFileExporter.csv(graphStore, exportConfig, exportPath);
+                var exporter = exporterFactory.create(graphStore, exportConfig, exportPath);
 
                 var start = System.nanoTime();
                 var importedProperties = exporter.run(allocationTracker());
@@ -268,4 +287,9 @@ public class GraphStoreExportProc extends BaseProc {
             this.exportName = exportName;
         }
     }
+
+    @FunctionalInterface
+    private interface FileExporterFactory {
+        GraphStoreToFileExporter create(GraphStore graphStore, GraphStoreToFileExporterConfig config, Path exportPath);
+    }
 }
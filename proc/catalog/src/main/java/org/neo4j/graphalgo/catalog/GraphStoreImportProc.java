@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.catalog;
+
+import org.neo4j.configuration.Config;
+import org.neo4j.graphalgo.BaseProc;
+import org.neo4j.graphalgo.api.ImmutableGraphLoaderContext;
+import org.neo4j.graphalgo.compat.GraphDatabaseApiProxy;
+import org.neo4j.graphalgo.compat.GraphStoreExportSettings;
+import org.neo4j.graphalgo.config.GraphCreateFromFileConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.SecureTransaction;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.export.file.FileToGraphStoreFactory;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.procedure.Mode.READ;
+
+public class GraphStoreImportProc extends BaseProc {
+
+    @Procedure(name = "gds.alpha.graph.import", mode = READ)
+    @Description("Creates a named graph in the catalog from files written by a graph export.")
+    public Stream<FileImportResult> fromFiles(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        validateGraphName(username(), graphName);
+
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var importConfig = GraphCreateFromFileConfig.of(username(), graphName, cypherConfig);
+        validateConfig(cypherConfig, importConfig);
+
+        var result = runWithExceptionLogging(
+            "File import failed", () -> {
+                var importPath = getImportPath(importConfig);
+                var loaderContext = ImmutableGraphLoaderContext.builder()
+                    .api(api)
+                    .transaction(SecureTransaction.of(api, procedureTransaction, transaction.securityContext()))
+                    .log(log)
+                    .tracker(allocationTracker())
+                    .terminationFlag(TerminationFlag.wrap(transaction))
+                    .build();
+
+                var builder = new FileImportResult.Builder(importConfig);
+                try (ProgressTimer ignored = ProgressTimer.start(builder::withImportMillis)) {
+                    var graphStore = FileToGraphStoreFactory
+                        .of(importConfig, importPath, databaseId(), loaderContext)
+                        .build()
+                        .graphStore();
+
+                    builder
+                        .withNodeCount(graphStore.nodeCount())
+                        .withRelationshipCount(graphStore.relationshipCount());
+
+                    GraphStoreCatalog.set(importConfig, graphStore);
+                }
+                return builder.build();
+            }
+        );
+
+        return Stream.of(result);
+    }
+
+    private Path getImportPath(GraphCreateFromFileConfig config) {
+        var neo4jConfig = GraphDatabaseApiProxy.resolveDependency(api, Config.class);
+        var importLocation = neo4jConfig.get(GraphStoreExportSettings.export_location_setting);
+
+        if (importLocation == null) {
+            throw new RuntimeException(formatWithLocale(
+                "The configuration option '%s' must be set.",
+                GraphStoreExportSettings.export_location_setting.name()
+            ));
+        }
+
+        var resolvedImportPath = importLocation.resolve(config.importName()).normalize();
+
+        if (!resolvedImportPath.startsWith(importLocation)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Illegal parameter value for parameter importName=%s. It attempts to read from forbidden directory %s.",
+                config.importName(),
+                resolvedImportPath
+            ));
+        }
+
+        if (!Files.isDirectory(resolvedImportPath)) {
+            throw new IllegalArgumentException("The specified import directory does not exist.");
+        }
+
+        return resolvedImportPath;
+    }
+
+    @SuppressWarnings("unused")
+    public static class FileImportResult {
+        public final String graphName;
+        public final String importName;
+        public final long nodeCount;
+        public final long relationshipCount;
+        public final long importMillis;
+
+        FileImportResult(
+            String graphName,
+            String importName,
+            long nodeCount,
+            long relationshipCount,
+            long importMillis
+        ) {
+            this.graphName = graphName;
+            this.importName = importName;
+            this.nodeCount = nodeCount;
+            this.relationshipCount = relationshipCount;
+            this.importMillis = importMillis;
+        }
+
+        static final class Builder {
+            private final String graphName;
+            private final String importName;
+            private long nodeCount;
+            private long relationshipCount;
+            private long importMillis;
+
+            Builder(GraphCreateFromFileConfig config) {
+                this.graphName = config.graphName();
+                this.importName = config.importName();
+            }
+
+            Builder withNodeCount(long nodeCount) {
+                this.nodeCount = nodeCount;
+                return this;
+            }
+
+            Builder withRelationshipCount(long relationshipCount) {
+                this.relationshipCount = relationshipCount;
+                return this;
+            }
+
+            Builder withImportMillis(long importMillis) {
+                this.importMillis = importMillis;
+                return this;
+            }
+
+            FileImportResult build() {
+                return new FileImportResult(graphName, importName, nodeCount, relationshipCount, importMillis);
+            }
+        }
+    }
+}
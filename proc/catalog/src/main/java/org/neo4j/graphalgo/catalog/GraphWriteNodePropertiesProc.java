@@ -23,7 +23,6 @@ import org.neo4j.graphalgo.NodeLabel;
 import org.neo4j.graphalgo.api.GraphStore;
 import org.neo4j.graphalgo.config.GraphWriteNodePropertiesConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
-import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
 import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
@@ -116,7 +115,7 @@ public class GraphWriteNodePropertiesProc extends CatalogProc {
 
             var exporter = NodePropertyExporter
                 .builder(api, subGraph, TerminationFlag.wrap(transaction))
-                .parallel(Pools.DEFAULT, config.writeConcurrency())
+                .parallel(config.writeExecutor().executor(), config.writeConcurrency())
                 .withProgressLogger(progressLogger)
                 .build();
 
@@ -25,7 +25,6 @@ import org.neo4j.graphalgo.api.GraphStore;
 import org.neo4j.graphalgo.api.nodeproperties.ValueType;
 import org.neo4j.graphalgo.config.GraphWriteRelationshipConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
-import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
@@ -103,7 +102,7 @@ public class GraphWriteRelationshipProc extends CatalogProc {
 
         builder
             .withLog(log)
-            .parallel(Pools.DEFAULT, config.writeConcurrency())
+            .parallel(config.writeExecutor().executor(), config.writeConcurrency())
             .build()
             .write(config.relationshipType(), config.relationshipProperty());
 
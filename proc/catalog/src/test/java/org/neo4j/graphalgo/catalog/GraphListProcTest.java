@@ -30,6 +30,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.graphalgo.BaseProcTest;
 import org.neo4j.graphalgo.beta.generator.GraphGenerateProc;
 import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.pagerank.PageRankStreamProc;
 import org.neo4j.graphdb.Result;
 
 import java.time.ZonedDateTime;
@@ -79,6 +80,26 @@ class GraphListProcTest extends BaseProcTest {
         GraphStoreCatalog.removeAllLoadedGraphs();
     }
 
+    @Test
+    void countsProceduresAsActiveReadersUntilTheirResultsAreConsumed() throws Exception {
+        registerProcedures(PageRankStreamProc.class);
+        runQuery("CALL gds.graph.create('g', 'A', 'REL')");
+
+        // the stream is consumed before the graph is listed, but the procedure call only ends with the query
+        assertCypherResult(
+            "CALL gds.pageRank.stream('g') YIELD nodeId " +
+            "WITH count(nodeId) AS nodes " +
+            "CALL gds.graph.list('g') YIELD activeReaders " +
+            "RETURN nodes, activeReaders",
+            singletonList(map("nodes", 2L, "activeReaders", 1L))
+        );
+
+        assertCypherResult(
+            "CALL gds.graph.list('g') YIELD activeReaders",
+            singletonList(map("activeReaders", 0L))
+        );
+    }
+
     @Test
     void listASingleLabelRelationshipTypeProjection() {
         String name = "name";
@@ -125,6 +146,7 @@ class GraphListProcTest extends BaseProcTest {
                 ),
                 "creationTime", isA(ZonedDateTime.class),
                 "modificationTime", isA(ZonedDateTime.class),
+                "activeReaders", 0L,
                 "memoryUsage", instanceOf(String.class),
                 "sizeInBytes", instanceOf(Long.class),
                 "detailSizeInBytes", instanceOf(Map.class)
@@ -206,6 +228,7 @@ class GraphListProcTest extends BaseProcTest {
                 ),
                 "creationTime", isA(ZonedDateTime.class),
                 "modificationTime", isA(ZonedDateTime.class),
+                "activeReaders", 0L,
                 "memoryUsage", instanceOf(String.class),
                 "sizeInBytes", instanceOf(Long.class),
                 "detailSizeInBytes", instanceOf(Map.class),
@@ -267,6 +290,7 @@ class GraphListProcTest extends BaseProcTest {
                 ),
                 "creationTime", isA(ZonedDateTime.class),
                 "modificationTime", isA(ZonedDateTime.class),
+                "activeReaders", 0L,
                 "memoryUsage", instanceOf(String.class),
                 "sizeInBytes", instanceOf(Long.class),
                 "detailSizeInBytes", instanceOf(Map.class),
@@ -23,6 +23,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.neo4j.configuration.Config;
 import org.neo4j.graphalgo.BaseProcTest;
 import org.neo4j.graphalgo.GdsCypher;
@@ -74,7 +76,7 @@ class GraphStoreExportProcTest extends BaseProcTest {
 
     @BeforeEach
     void setup() throws Exception {
-        registerProcedures(GraphCreateProc.class, GraphStoreExportProc.class);
+        registerProcedures(GraphCreateProc.class, GraphStoreExportProc.class, GraphStoreImportProc.class);
         runQuery(DB_CYPHER);
     }
 
@@ -124,6 +126,64 @@ class GraphStoreExportProcTest extends BaseProcTest {
         });
     }
 
+    @Test
+    void exportBinary() {
+        createGraph();
+
+        var exportQuery =
+            "CALL gds.alpha.graph.export.binary('test-graph', {" +
+            "  exportName: 'export'" +
+            "})";
+
+        runQueryWithRowConsumer(exportQuery, row -> {
+            assertEquals("export", row.getString("exportName"));
+            assertEquals(4, row.getNumber("nodeCount").longValue());
+            assertEquals(6, row.getNumber("relationshipCount").longValue());
+            assertEquals(3, row.getNumber("relationshipTypeCount").longValue());
+            assertEquals(8, row.getNumber("nodePropertyCount").longValue());
+            assertEquals(18, row.getNumber("relationshipPropertyCount").longValue());
+            assertThat(row.getNumber("writeMillis").longValue()).isGreaterThan(0L);
+        });
+
+        assertThat(tempDir.resolve("export").resolve("relationships_REL1_0.gdsb")).exists();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"gds.beta.graph.export.csv, csv", "gds.alpha.graph.export.binary, binary"})
+    void importExportedGraph(String exportProcedure, String format) {
+        createGraph();
+
+        runQuery(formatWithLocale("CALL %s('test-graph', { exportName: 'export' })", exportProcedure));
+
+        var importQuery = formatWithLocale(
+            "CALL gds.alpha.graph.import('imported-graph', {" +
+            "  importName: 'export'," +
+            "  format: '%s'" +
+            "})"
+            , format);
+
+        runQueryWithRowConsumer(importQuery, row -> {
+            assertEquals("imported-graph", row.getString("graphName"));
+            assertEquals("export", row.getString("importName"));
+            assertEquals(4, row.getNumber("nodeCount").longValue());
+            assertEquals(6, row.getNumber("relationshipCount").longValue());
+        });
+
+        var original = GraphStoreCatalog.get(getUsername(), db.databaseId(), "test-graph").graphStore();
+        var imported = GraphStoreCatalog.get(getUsername(), db.databaseId(), "imported-graph").graphStore();
+        assertThat(imported.relationshipTypes()).isEqualTo(original.relationshipTypes());
+        assertThat(imported.nodePropertyKeys()).isEqualTo(original.nodePropertyKeys());
+    }
+
+    @Test
+    void failsWhenTheImportDirectoryDoesNotExist() {
+        var exception = assertThrows(
+            QueryExecutionException.class,
+            () -> runQuery("CALL gds.alpha.graph.import('imported-graph', { importName: 'missing' })")
+        );
+        assertThat(rootCause(exception)).hasMessage("The specified import directory does not exist.");
+    }
+
     @Test
     void failsWhenTheExportDirectoryAlreadyExists() throws IOException {
         var exportName = "export";
@@ -37,15 +37,23 @@ import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.GraphLoader;
 import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+import org.neo4j.graphalgo.core.concurrency.AdmissionControl;
 import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.core.loading.GraphStoreHandle;
 import org.neo4j.graphalgo.core.loading.GraphStoreWithConfig;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryReport;
 import org.neo4j.graphalgo.core.utils.mem.MemoryTree;
 import org.neo4j.graphalgo.core.utils.mem.MemoryTreeWithDimensions;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
+import org.neo4j.graphalgo.core.utils.progress.EmptyProgressEventTracker;
 import org.neo4j.graphalgo.results.MemoryEstimateResult;
+import org.neo4j.kernel.api.Statement;
+import org.neo4j.kernel.api.exceptions.Status;
+import org.neo4j.logging.NullLog;
 
 import java.util.Collection;
 import java.util.HashSet;
@@ -111,6 +119,21 @@ public abstract class AlgoBaseProc<
 
     protected abstract AlgorithmFactory<ALGO, CONFIG> algorithmFactory();
 
+    /**
+     * Builds the algorithm of this procedure for the given graph without going through the graph catalog,
+     * used to calibrate memory estimations and runtimes on generated graphs.
+     */
+    public ALGO newAlgorithm(Graph graph, CONFIG config, AllocationTracker tracker) {
+        return algorithmFactory().build(graph, config, tracker, NullLog.getInstance(), EmptyProgressEventTracker.INSTANCE);
+    }
+
+    /**
+     * Estimates the memory of the algorithm of this procedure, excluding the graph.
+     */
+    public MemoryTree estimateAlgorithm(CONFIG config, GraphDimensions dimensions) {
+        return algorithmFactory().memoryEstimation(config).estimate(dimensions, config.concurrency());
+    }
+
     public Pair<CONFIG, Optional<String>> processInput(Object graphNameOrConfig, Map<String, Object> configuration) {
         CONFIG config;
         Optional<String> graphName = Optional.empty();
@@ -167,13 +190,65 @@ public abstract class AlgoBaseProc<
         Pair<CONFIG, Optional<String>> input = processInput(graphNameOrConfig, configuration);
         CONFIG config = input.getOne();
 
-        validateMemoryUsageIfImplemented(config);
+        Optional<MemoryTree> estimate = validateMemoryUsageIfImplemented(config);
+        long estimatedBytes = estimate.map(memoryTree -> memoryTree.memoryUsage().min).orElse(0L);
+
+        // lets gds.beta.listProgress report the memory of this job and cancel it
+        progressTracker.trackJob(tracker, () -> transaction.markForTermination(Status.Transaction.Terminated));
+
+        // the job waits until its estimated memory and concurrency are available
+        try (
+            AdmissionControl.Job job = AdmissionControl.instance().admit(
+                username(),
+                algoName(),
+                estimatedBytes,
+                config.concurrency(),
+                TerminationFlag.wrap(transaction)
+            )
+        ) {
+            // the handle keeps a named graph alive if it gets dropped while the procedure is running,
+            // which includes mutating, writing and streaming the result after the computation
+            GraphStoreHandle graphStoreHandle = acquireOrCreateGraphStore(input);
+            ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult;
+            try {
+                computationResult = computeOnGraphStore(
+                    graphStoreHandle.graphStore(),
+                    config,
+                    builder,
+                    tracker,
+                    estimate,
+                    releaseAlgorithm,
+                    releaseTopology
+                );
+            } catch (RuntimeException e) {
+                graphStoreHandle.close();
+                throw e;
+            }
+            closeWhenProcedureCallFinishes(graphStoreHandle);
+            return computationResult;
+        } finally {
+            // the algorithm releases the tracker as well, unless it failed or the graph was empty
+            progressTracker.release();
+        }
+    }
+
+    private ComputationResult<ALGO, ALGO_RESULT, CONFIG> computeOnGraphStore(
+        GraphStore graphStore,
+        CONFIG config,
+        ImmutableComputationResult.Builder<ALGO, ALGO_RESULT, CONFIG> builder,
+        AllocationTracker tracker,
+        Optional<MemoryTree> estimate,
+        boolean releaseAlgorithm,
+        boolean releaseTopology
+    ) {
+        // an implicitly loaded graph has been tracked already, allocations from here on belong to the algorithm;
+        // catalog graphs are tracked by their own tracker and are not part of the estimate either
+        long graphPeakBytes = tracker.peakBytes();
+        long graphBytes = tracker.trackedBytes();
 
-        GraphStore graphStore;
         AlgorithmFactory.GraphAndAlgorithm<ALGO> graphAndAlgorithm;
 
         try (ProgressTimer timer = ProgressTimer.start(builder::createMillis)) {
-            graphStore = getOrCreateGraphStore(input);
             graphAndAlgorithm = buildGraphAndAlgo(graphStore, config, tracker);
         }
 
@@ -203,6 +278,11 @@ public abstract class AlgoBaseProc<
         );
 
         log.info(algoName() + ": overall memory usage %s", tracker.getUsageString());
+        estimate.ifPresent(memoryTree -> logMemoryReport(MemoryReport.of(
+            memoryTree,
+            tracker,
+            Map.of("graph", graphPeakBytes, "algorithm", Math.max(0L, tracker.peakBytes() - graphBytes))
+        )));
 
         algo.releaseAll(releaseAlgorithm);
 
@@ -219,6 +299,20 @@ public abstract class AlgoBaseProc<
             .build();
     }
 
+    private void logMemoryReport(MemoryReport report) {
+        if (report.peakBytes() == 0) {
+            // nothing has been tracked, e.g. because tracking is disabled
+            return;
+        }
+        MetricsRegistry.counter("memory.estimated_runs").increment();
+        if (report.exceedsEstimate()) {
+            MetricsRegistry.counter("memory.estimate_exceeded").increment();
+            log.warn(algoName() + ": tracked memory exceeded the estimate" + System.lineSeparator() + report.render());
+        } else if (log.isDebugEnabled()) {
+            log.debug(algoName() + ": " + report.render());
+        }
+    }
+
     /**
      * Returns a single node property that has been produced by the procedure.
      */
@@ -294,40 +388,70 @@ public abstract class AlgoBaseProc<
     }
 
     protected GraphStore getOrCreateGraphStore(Pair<CONFIG, Optional<String>> configAndName) {
+        GraphStoreHandle graphStoreHandle = acquireOrCreateGraphStore(configAndName);
+        closeWhenProcedureCallFinishes(graphStoreHandle);
+        return graphStoreHandle.graphStore();
+    }
+
+    /**
+     * Registers the handle with the statement of the procedure call, which closes it together with
+     * the result stream of the procedure, i.e. once all results have been consumed or the query failed.
+     */
+    private void closeWhenProcedureCallFinishes(GraphStoreHandle graphStoreHandle) {
+        if (transaction == null) {
+            // called outside of a procedure call, e.g. from a test
+            graphStoreHandle.close();
+            return;
+        }
+        try (Statement statement = transaction.acquireStatement()) {
+            statement.registerCloseableResource(graphStoreHandle);
+        }
+    }
+
+    private GraphStoreHandle acquireOrCreateGraphStore(Pair<CONFIG, Optional<String>> configAndName) {
         CONFIG config = configAndName.getOne();
         Optional<String> maybeGraphName = configAndName.getTwo();
 
-        GraphStoreWithConfig graphCandidate;
+        GraphStoreHandle graphStoreHandle;
 
         if (maybeGraphName.isPresent()) {
-            graphCandidate = GraphStoreCatalog.get(username(), databaseId(), maybeGraphName.get());
+            graphStoreHandle = GraphStoreCatalog.acquire(username(), databaseId(), maybeGraphName.get());
         } else if (config.implicitCreateConfig().isPresent()) {
             GraphCreateConfig createConfig = config.implicitCreateConfig().get();
-            GraphLoader loader = newLoader(createConfig, AllocationTracker.empty());
+            GraphLoader loader = newLoader(createConfig, allocationTracker());
             GraphStore graphStore = loader.graphStore();
 
-            graphCandidate = GraphStoreWithConfig.of(graphStore, createConfig);
+            graphStoreHandle = GraphStoreHandle.unmanaged(GraphStoreWithConfig.of(graphStore, createConfig));
         } else {
             throw new IllegalStateException("There must be either a graph name or an implicit create config");
         }
 
-        GraphStoreValidation.validate(graphCandidate, config);
-        validateConfigs(graphCandidate.config(), config);
-        var graphStore = graphCandidate.graphStore();
-        validateGraphStore(graphStore);
-        validateConfigsAndGraphStore(graphCandidate, config);
-        return graphStore;
+        try {
+            var graphCandidate = graphStoreHandle.graphStoreWithConfig();
+            GraphStoreValidation.validate(graphCandidate, config);
+            validateConfigs(graphCandidate.config(), config);
+            validateGraphStore(graphCandidate.graphStore());
+            validateConfigsAndGraphStore(graphCandidate, config);
+        } catch (RuntimeException e) {
+            graphStoreHandle.close();
+            throw e;
+        }
+        return graphStoreHandle;
     }
 
-    private void validateMemoryUsageIfImplemented(CONFIG config) {
+    /**
+     * @return the validated estimation or empty if the validation was skipped.
+     */
+    private Optional<MemoryTree> validateMemoryUsageIfImplemented(CONFIG config) {
         var sudoImplicitCreate = config.implicitCreateConfig().map(BaseConfig::sudo).orElse(false);
 
         if (sudoImplicitCreate) {
             log.debug("Sudo mode: Won't check for available memory.");
-            return;
+            return Optional.empty();
         }
 
-        tryValidateMemoryUsage(config, this::memoryEstimation);
+        return tryValidateMemoryUsage(config, this::memoryEstimation)
+            .map(memoryTreeWithDimensions -> memoryTreeWithDimensions.memoryTree);
     }
 
     @TestOnly
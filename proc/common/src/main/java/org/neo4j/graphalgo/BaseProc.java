@@ -53,6 +53,7 @@ import org.neo4j.procedure.Context;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -168,18 +169,24 @@ public abstract class BaseProc {
         }
     }
 
-    protected <C extends BaseConfig> void tryValidateMemoryUsage(C config, Function<C, MemoryTreeWithDimensions> runEstimation) {
-        tryValidateMemoryUsage(config, runEstimation, GcListenerExtension::freeMemory);
+    protected <C extends BaseConfig> Optional<MemoryTreeWithDimensions> tryValidateMemoryUsage(
+        C config,
+        Function<C, MemoryTreeWithDimensions> runEstimation
+    ) {
+        return tryValidateMemoryUsage(config, runEstimation, GcListenerExtension::freeMemory);
     }
 
-    public <C extends BaseConfig> void tryValidateMemoryUsage(
+    /**
+     * @return the validated estimation or empty if the validation was skipped or the estimation is not implemented.
+     */
+    public <C extends BaseConfig> Optional<MemoryTreeWithDimensions> tryValidateMemoryUsage(
         C config,
         Function<C, MemoryTreeWithDimensions> runEstimation,
         AlgoBaseProc.FreeMemoryInspector inspector
     ) {
         if (config.sudo()) {
             log.debug("Sudo mode: Won't check for available memory.");
-            return;
+            return Optional.empty();
         }
 
         MemoryTreeWithDimensions memoryTreeWithDimensions = null;
@@ -190,6 +197,7 @@ public abstract class BaseProc {
         if (memoryTreeWithDimensions != null) {
             validateMemoryUsage(memoryTreeWithDimensions, inspector);
         }
+        return Optional.ofNullable(memoryTreeWithDimensions);
     }
 
     private void validateMemoryUsage(
@@ -23,7 +23,6 @@ import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
-import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphalgo.core.write.ImmutableNodeProperty;
@@ -80,7 +79,7 @@ public abstract class WriteProc<
             TerminationFlag terminationFlag = computationResult.algorithm().getTerminationFlag();
             NodePropertyExporter exporter = NodePropertyExporter.builder(api, graph, terminationFlag)
                 .withLog(log)
-                .parallel(Pools.DEFAULT, writePropertyConfig.writeConcurrency())
+                .parallel(writePropertyConfig.writeExecutor().executor(), writePropertyConfig.writeConcurrency())
                 .build();
 
             exporter.write(nodePropertyList(computationResult));
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo;
+
+import org.neo4j.graphalgo.core.concurrency.AdmissionControl;
+import org.neo4j.graphalgo.core.utils.mem.GcListenerExtension;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Procedure;
+
+import java.util.stream.Stream;
+
+public class AdmissionControlProc extends BaseProc {
+
+    @Procedure("gds.alpha.scheduler.list")
+    @Description("Lists the running and queued algorithm runs of the current user.")
+    public Stream<JobResult> list() {
+        return AdmissionControl.instance()
+            .jobs()
+            .stream()
+            .filter(job -> job.username().equals(username()))
+            .map(JobResult::new);
+    }
+
+    @Procedure("gds.alpha.scheduler.status")
+    @Description("Reports the number of running and queued algorithm runs and the memory and concurrency reserved by them.")
+    public Stream<StatusResult> status() {
+        return Stream.of(new StatusResult(AdmissionControl.instance().status(), GcListenerExtension.freeMemory()));
+    }
+
+    @SuppressWarnings("unused")
+    public static class JobResult {
+
+        public final String jobName;
+        public final String state;
+        public final long queuePosition;
+        public final long estimatedMemoryInBytes;
+        public final String estimatedMemory;
+        public final long concurrency;
+        public final long elapsedMillis;
+
+        JobResult(AdmissionControl.JobInfo job) {
+            this.jobName = job.jobName();
+            this.state = job.state().name();
+            this.queuePosition = job.queuePosition();
+            this.estimatedMemoryInBytes = job.estimatedBytes();
+            this.estimatedMemory = MemoryUsage.humanReadable(job.estimatedBytes());
+            this.concurrency = job.concurrency();
+            this.elapsedMillis = job.elapsedMillis();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class StatusResult {
+
+        public final boolean enabled;
+        public final long runningJobs;
+        public final long queuedJobs;
+        public final long reservedMemoryInBytes;
+        public final long freeMemoryInBytes;
+        public final long reservedConcurrency;
+        public final long concurrencyBudget;
+
+        StatusResult(AdmissionControl.Status status, long freeMemory) {
+            this.enabled = status.enabled();
+            this.runningJobs = status.runningJobs();
+            this.queuedJobs = status.queuedJobs();
+            this.reservedMemoryInBytes = status.reservedBytes();
+            this.freeMemoryInBytes = freeMemory;
+            this.reservedConcurrency = status.reservedConcurrency();
+            this.concurrencyBudget = status.concurrencyBudget();
+        }
+    }
+}
@@ -19,13 +19,23 @@
  */
 package org.neo4j.graphalgo;
 
+import org.neo4j.graphalgo.core.utils.progress.JobId;
+import org.neo4j.graphalgo.core.utils.progress.JobProgress;
 import org.neo4j.graphalgo.core.utils.progress.LogEvent;
 import org.neo4j.graphalgo.core.utils.progress.ProgressEventStore;
 import org.neo4j.procedure.Context;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
 import org.neo4j.procedure.Procedure;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.humanReadable;
+
 public class ListProgressProc extends BaseProc {
 
     @Context
@@ -33,7 +43,15 @@ public class ListProgressProc extends BaseProc {
 
     @Procedure("gds.beta.listProgress")
     public Stream<ProgressResult> listProgress() {
-        return progress.query(username()).stream().map(ProgressResult::new);
+        long now = System.currentTimeMillis();
+        return progress.queryJobs(username()).stream().map(job -> new ProgressResult(job, now));
+    }
+
+    @Procedure("gds.alpha.listProgress.cancel")
+    @Description("Cancels a running job of the current user. The job id is the id listed by gds.beta.listProgress.")
+    public Stream<CancelResult> cancel(@Name(value = "jobId") String jobId) {
+        var cancelled = progress.cancel(username(), JobId.parse(jobId));
+        return Stream.of(new CancelResult(jobId, cancelled));
     }
 
     @SuppressWarnings("unused")
@@ -42,12 +60,49 @@ public class ListProgressProc extends BaseProc {
         public String id;
         public String taskName;
         public String message;
+        public Double progress;
+        public Long volume;
+        public List<Map<String, Object>> tasks;
+        public long elapsedMillis;
+        public Long remainingMillis;
+        public Long memoryInBytes;
+        public String memoryUsage;
+        public boolean cancelled;
 
-        ProgressResult(LogEvent logEvent) {
-            this.id = logEvent.jobId().asString();
-            this.taskName = logEvent.taskName();
-            this.message = logEvent.message();
+        ProgressResult(JobProgress job, long now) {
+            var lastEvent = job.lastEvent();
+            this.id = job.jobId().asString();
+            this.taskName = lastEvent.taskName();
+            this.message = lastEvent.message();
+            this.progress = lastEvent.progress().isPresent() ? lastEvent.progress().getAsDouble() : null;
+            this.volume = lastEvent.volume().isPresent() ? lastEvent.volume().getAsLong() : null;
+            this.tasks = job.tasks().stream().map(ProgressResult::task).collect(Collectors.toList());
+            this.elapsedMillis = Math.max(0, now - job.startTimeMillis());
+            this.remainingMillis = job.remainingMillis().isPresent() ? job.remainingMillis().getAsLong() : null;
+            this.memoryInBytes = job.memoryInBytes().isPresent() ? job.memoryInBytes().getAsLong() : null;
+            this.memoryUsage = memoryInBytes == null ? null : humanReadable(memoryInBytes);
+            this.cancelled = job.cancelled();
+        }
+
+        private static Map<String, Object> task(LogEvent event) {
+            // Map.of does not allow null values
+            var task = new HashMap<String, Object>();
+            task.put("taskName", event.taskName());
+            task.put("message", event.message());
+            task.put("progress", event.progress().isPresent() ? event.progress().getAsDouble() : null);
+            return task;
         }
     }
 
+    @SuppressWarnings("unused")
+    public static class CancelResult {
+
+        public String id;
+        public boolean cancelled;
+
+        CancelResult(String id, boolean cancelled) {
+            this.id = id;
+            this.cancelled = cancelled;
+        }
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo;
+
+import org.neo4j.graphalgo.core.utils.metrics.MetricSnapshot;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
+import org.neo4j.procedure.Admin;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Procedure;
+
+import java.util.stream.Stream;
+
+public class MetricsProc extends BaseProc {
+
+    @Procedure("gds.alpha.metrics.list")
+    @Description("Lists the timings and counters collected while loading graphs, running algorithms and writing results.")
+    public Stream<MetricResult> list() {
+        return MetricsRegistry.snapshot().stream().map(MetricResult::new);
+    }
+
+    // the metrics are shared by all users of the instance
+    @Admin
+    @Procedure("gds.alpha.metrics.reset")
+    @Description("Resets all collected timings and counters.")
+    public void reset() {
+        MetricsRegistry.reset();
+    }
+
+    @SuppressWarnings("unused")
+    public static class MetricResult {
+
+        public final String name;
+        public final String type;
+        public final long count;
+        public final double totalMillis;
+        public final double meanMillis;
+        public final double p50Millis;
+        public final double p99Millis;
+        public final double maxMillis;
+
+        MetricResult(MetricSnapshot snapshot) {
+            this.name = snapshot.name();
+            this.type = snapshot.type().name();
+            this.count = snapshot.count();
+            this.totalMillis = snapshot.totalMillis();
+            this.meanMillis = snapshot.meanMillis();
+            this.p50Millis = snapshot.p50Millis();
+            this.p99Millis = snapshot.p99Millis();
+            this.maxMillis = snapshot.maxMillis();
+        }
+    }
+}
@@ -49,11 +49,13 @@ import org.neo4j.test.extension.ExtensionCallback;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
 public class ListProgressProcTest extends BaseTest {
 
@@ -77,6 +79,7 @@ public class ListProgressProcTest extends BaseTest {
             ListProgressProc.class,
             ProgressLoggingAlgoProc.class,
             ProgressLoggingTestProc.class,
+            CancellableTestProc.class,
             GraphGenerateProc.class,
             ProgressLoggingTestFastRP.class
         );
@@ -131,6 +134,72 @@ public class ListProgressProcTest extends BaseTest {
         assertThat(bobResult).containsExactlyInAnyOrder(Map.of("taskName", "myAlgo", "message", "bar"));
     }
 
+    @Test
+    void listsNumericProgressAndTasks() {
+        runQuery("CALL gds.test.logging_algo('foo', 'pagerank')");
+        scheduler.forward(100, TimeUnit.MILLISECONDS);
+
+        runQueryWithRowConsumer(
+            "CALL gds.beta.listProgress() YIELD progress, volume, tasks, elapsedMillis",
+            row -> {
+                assertThat(row.getNumber("progress").doubleValue()).isEqualTo(100.0);
+                assertThat(row.getNumber("volume").longValue()).isEqualTo(1L);
+                assertThat(row.getNumber("elapsedMillis").longValue()).isGreaterThanOrEqualTo(0L);
+                assertThat((List<?>) row.get("tasks"))
+                    .singleElement(InstanceOfAssertFactories.map(String.class, Object.class))
+                    .containsEntry("taskName", "pagerank")
+                    .containsEntry("progress", 100.0);
+            }
+        );
+    }
+
+    @Test
+    void canCancelJob() {
+        CancellableTestProc.CANCELLED.set(false);
+        runQuery("CALL gds.test.cancellable()");
+        scheduler.forward(100, TimeUnit.MILLISECONDS);
+
+        var jobId = runQuery(
+            "CALL gds.beta.listProgress() YIELD id RETURN id",
+            r -> r.<String>columnAs("id").next()
+        );
+
+        runQueryWithRowConsumer(
+            "Bob",
+            formatWithLocale("CALL gds.alpha.listProgress.cancel('%s')", jobId),
+            row -> assertThat(row.getBoolean("cancelled")).isFalse()
+        );
+        assertThat(CancellableTestProc.CANCELLED).isFalse();
+
+        runQueryWithRowConsumer(
+            "CALL gds.alpha.listProgress.cancel($jobId)",
+            Map.of("jobId", jobId),
+            row -> assertThat(row.getBoolean("cancelled")).isTrue()
+        );
+        assertThat(CancellableTestProc.CANCELLED).isTrue();
+
+        var cancelled = runQuery(
+            "CALL gds.beta.listProgress() YIELD cancelled RETURN cancelled",
+            r -> r.<Boolean>columnAs("cancelled").next()
+        );
+        assertThat(cancelled).isTrue();
+    }
+
+    public static class CancellableTestProc extends BaseProc {
+        static final AtomicBoolean CANCELLED = new AtomicBoolean(false);
+
+        @Context
+        public ProgressEventTracker progress;
+
+        @Procedure("gds.test.cancellable")
+        public Stream<Bar> run() {
+            // simulates a job that is still running, hence no release
+            progress.trackJob(AllocationTracker.empty(), () -> CANCELLED.set(true));
+            progress.addLogEvent("cancellable", "running", 50.0, 100L);
+            return Stream.empty();
+        }
+    }
+
     public static class ProgressLoggingTestProc extends BaseProc {
         @Context
         public ProgressEventTracker progress;
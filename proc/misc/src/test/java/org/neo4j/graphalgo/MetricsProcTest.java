@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.catalog.GraphCreateProc;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.core.utils.metrics.MetricsRegistry;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsProcTest extends BaseProcTest {
+
+    private static final String DB_CYPHER = "CREATE (:A)-[:REL]->(:A)-[:REL]->(:A)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(GraphCreateProc.class, MetricsProc.class);
+        runQuery(DB_CYPHER);
+        MetricsRegistry.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+        MetricsRegistry.reset();
+    }
+
+    @Test
+    void listsLoadingMetrics() {
+        runQuery("CALL gds.graph.create('g', 'A', 'REL')");
+
+        var counts = counts();
+        assertThat(counts).containsEntry("loading.node.records", 3L);
+        assertThat(counts).containsEntry("loading.relationship.records", 2L);
+        assertThat(counts).containsEntry("loading.node.scan", 1L);
+        assertThat(counts).containsEntry("loading.relationship.scan", 1L);
+
+        runQueryWithRowConsumer(
+            "CALL gds.alpha.metrics.list() YIELD name, type, totalMillis, maxMillis " +
+            "WHERE name = 'loading.node.scan' RETURN type, totalMillis, maxMillis",
+            row -> {
+                assertThat(row.getString("type")).isEqualTo("TIMER");
+                assertThat(row.getNumber("totalMillis").doubleValue()).isGreaterThanOrEqualTo(0);
+                assertThat(row.getNumber("maxMillis").doubleValue()).isGreaterThanOrEqualTo(0);
+            }
+        );
+    }
+
+    @Test
+    void resetsMetrics() {
+        runQuery("CALL gds.graph.create('g', 'A', 'REL')");
+        runQuery("CALL gds.alpha.metrics.reset()");
+
+        assertThat(counts()).allSatisfy((name, count) -> assertThat(count).isZero());
+    }
+
+    private Map<String, Long> counts() {
+        var counts = new HashMap<String, Long>();
+        runQueryWithRowConsumer(
+            "CALL gds.alpha.metrics.list() YIELD name, count",
+            row -> counts.put(row.getString("name"), row.getNumber("count").longValue())
+        );
+        return counts;
+    }
+}
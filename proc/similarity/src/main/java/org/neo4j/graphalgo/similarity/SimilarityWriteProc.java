@@ -21,15 +21,30 @@ package org.neo4j.graphalgo.similarity;
 
 import org.HdrHistogram.DoubleHistogram;
 import org.neo4j.graphalgo.Algorithm;
+import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.WriteProc;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipIterator;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
-import org.neo4j.graphalgo.config.WriteRelationshipConfig;
+import org.neo4j.graphalgo.config.WriteRelationshipToDatabaseConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.huge.HugeGraph;
+import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
+import org.neo4j.graphalgo.core.loading.construction.RelationshipsBuilder;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.graphalgo.core.utils.export.db.GraphStoreToDatabaseExporterConfig;
+import org.neo4j.graphalgo.core.utils.export.db.RelationshipsToDatabaseExporter;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 import org.neo4j.graphalgo.core.write.RelationshipExporter;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.neo4j.graphalgo.core.ProcedureConstants.HISTOGRAM_PRECISION_DEFAULT;
@@ -38,7 +53,7 @@ import static org.neo4j.graphalgo.similarity.SimilarityProc.shouldComputeHistogr
 public abstract class SimilarityWriteProc<
     ALGO extends Algorithm<ALGO, ALGO_RESULT>,
     ALGO_RESULT,
-    CONFIG extends WritePropertyConfig & WriteRelationshipConfig & AlgoBaseConfig> extends WriteProc<ALGO, ALGO_RESULT, SimilarityWriteResult, CONFIG> {
+    CONFIG extends WritePropertyConfig & WriteRelationshipToDatabaseConfig & AlgoBaseConfig> extends WriteProc<ALGO, ALGO_RESULT, SimilarityWriteResult, CONFIG> {
 
     public abstract String procedureName();
 
@@ -69,7 +84,19 @@ public abstract class SimilarityWriteProc<
             SimilarityProc.SimilarityResultBuilder<SimilarityWriteResult> resultBuilder =
                 SimilarityProc.resultBuilder(new SimilarityWriteResult.Builder(), computationResult, (ignore) -> similarityGraphResult);
 
-            if (similarityGraph.relationshipCount() > 0) {
+            if (similarityGraph.relationshipCount() > 0 && config.writeToDatabase().isPresent()) {
+                runWithExceptionLogging(
+                    procedureName() + " batch import failed",
+                    () -> {
+                        try (ProgressTimer ignored = ProgressTimer.start(resultBuilder::withWriteMillis)) {
+                            if (shouldComputeHistogram(callContext)) {
+                                resultBuilder.withHistogram(SimilarityProc.computeHistogram(similarityGraph));
+                            }
+                            writeToDatabase(similarityGraph, config, config.writeToDatabase().get());
+                        }
+                    }
+                );
+            } else if (similarityGraph.relationshipCount() > 0) {
                 String writeRelationshipType = config.writeRelationshipType();
                 String writeProperty = config.writeProperty();
 
@@ -103,5 +130,93 @@ public abstract class SimilarityWriteProc<
         });
     }
 
+    private void writeToDatabase(Graph similarityGraph, CONFIG config, String databaseName) {
+        var exportConfig = GraphStoreToDatabaseExporterConfig.of(
+            username(),
+            CypherMapWrapper.create(Map.of(
+                GraphStoreToDatabaseExporterConfig.DB_NAME_KEY, databaseName,
+                "writeConcurrency", config.writeConcurrency(),
+                "defaultRelationshipType", config.writeRelationshipType()
+            ))
+        );
+        var importedProperties = RelationshipsToDatabaseExporter.export(
+            api,
+            toHugeGraph(similarityGraph, config.writeConcurrency()),
+            config.writeRelationshipType(),
+            Optional.of(config.writeProperty()),
+            exportConfig,
+            allocationTracker()
+        );
+        log.info(
+            "%s imported %d relationships with %d properties into database `%s`",
+            procedureName(),
+            similarityGraph.relationshipCount(),
+            importedProperties.relationshipPropertyCount(),
+            databaseName
+        );
+    }
+
+    /**
+     * The batch importer reads the compressed adjacency lists directly,
+     * so result graphs that are not backed by those (e.g. the topK graph) are materialized first.
+     * The copy runs over range partitions using the write concurrency.
+     */
+    private HugeGraph toHugeGraph(Graph similarityGraph, int concurrency) {
+        if (similarityGraph instanceof HugeGraph) {
+            return (HugeGraph) similarityGraph;
+        }
+
+        RelationshipsBuilder relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(similarityGraph)
+            .orientation(Orientation.NATURAL)
+            .loadRelationshipProperty(true)
+            .concurrency(concurrency)
+            .executorService(Pools.DEFAULT)
+            .tracker(allocationTracker())
+            .build();
+
+        var copyTasks = PartitionUtils
+            .rangePartition(concurrency, similarityGraph.nodeCount())
+            .stream()
+            .map(partition -> new RelationshipCopyTask(relationshipsBuilder, similarityGraph.concurrentCopy(), partition))
+            .collect(Collectors.toList());
+
+        ParallelUtil.runWithConcurrency(concurrency, copyTasks, Pools.DEFAULT);
+
+        return GraphFactory.create(
+            similarityGraph.nodeMapping(),
+            relationshipsBuilder.build(),
+            allocationTracker()
+        );
+    }
+
     protected abstract SimilarityGraphResult similarityGraphResult(ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult);
+
+    private static final class RelationshipCopyTask implements Runnable {
+
+        private final RelationshipsBuilder relationshipsBuilder;
+        private final RelationshipIterator relationshipIterator;
+        private final Partition partition;
+
+        private RelationshipCopyTask(
+            RelationshipsBuilder relationshipsBuilder,
+            RelationshipIterator relationshipIterator,
+            Partition partition
+        ) {
+            this.relationshipsBuilder = relationshipsBuilder;
+            this.relationshipIterator = relationshipIterator;
+            this.partition = partition;
+        }
+
+        @Override
+        public void run() {
+            long endNodeId = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < endNodeId; nodeId++) {
+                relationshipIterator.forEachRelationship(nodeId, Double.NaN, (sourceNodeId, targetNodeId, property) -> {
+                    relationshipsBuilder.addFromInternal(sourceNodeId, targetNodeId, property);
+                    return true;
+                });
+            }
+        }
+    }
 }
@@ -20,10 +20,15 @@
 package org.neo4j.graphalgo.similarity.knn;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.configuration.GraphDatabaseSettings;
 import org.neo4j.graphalgo.AlgoBaseProc;
 import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.compat.Neo4jProxy;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.io.fs.EphemeralFileSystemAbstraction;
+import org.neo4j.io.fs.FileSystemAbstraction;
+import org.neo4j.test.TestDatabaseManagementServiceBuilder;
 
 import java.util.Map;
 import java.util.Optional;
@@ -129,4 +134,67 @@ class KnnWriteProcTest extends KnnProcTest<KnnWriteConfig> {
             GraphStoreCatalog.get(getUsername(), namedDatabaseId(), resultGraphName).graphStore().getUnion()
         );
     }
+
+    @Test
+    void shouldWriteResultsIntoNewDatabase() {
+        String query = GdsCypher.call()
+            .explicitCreation(GRAPH_NAME)
+            .algo("gds", "beta", "knn")
+            .writeMode()
+            .addParameter("sudo", true)
+            .addParameter("nodeWeightProperty", "knn")
+            .addParameter("topK", 1)
+            .addParameter("writeRelationshipType", "SIMILAR")
+            .addParameter("writeProperty", "score")
+            .addParameter("writeToDatabase", "knn-db")
+            .yields("relationshipsWritten", "writeMillis");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertEquals(3, row.getNumber("relationshipsWritten").longValue());
+            assertThat("Missing writeMillis", -1L, lessThan(row.getNumber("writeMillis").longValue()));
+        });
+
+        runQueryWithRowConsumer(
+            "MATCH ()-[r:SIMILAR]->() RETURN count(r) AS count",
+            row -> assertEquals(0L, row.getNumber("count").longValue())
+        );
+
+        // the new database lives next to the test database, start it on a copy of the file system
+        var fs = (EphemeralFileSystemAbstraction) db.getDependencyResolver().resolveDependency(FileSystemAbstraction.class);
+        var targetDbms = new TestDatabaseManagementServiceBuilder(Neo4jProxy.homeDirectory(db.databaseLayout()).toFile())
+            .setFileSystem(fs.snapshot())
+            .setConfig(GraphDatabaseSettings.default_database, "knn-db")
+            .build();
+        try {
+            runQueryWithRowConsumer(
+                targetDbms.database("knn-db"),
+                "MATCH (a)-[r:SIMILAR]->(b) " +
+                "RETURN count(r) AS count, count(a.originalId) AS sources, count(r.score) AS scores",
+                Map.of(),
+                row -> {
+                    assertEquals(3L, row.getNumber("count").longValue());
+                    assertEquals(3L, row.getNumber("sources").longValue());
+                    assertEquals(3L, row.getNumber("scores").longValue());
+                }
+            );
+        } finally {
+            targetDbms.shutdown();
+        }
+    }
+
+    @Test
+    void shouldFailOnInvalidTargetDatabaseName() {
+        String query = GdsCypher.call()
+            .explicitCreation(GRAPH_NAME)
+            .algo("gds", "beta", "knn")
+            .writeMode()
+            .addParameter("sudo", true)
+            .addParameter("nodeWeightProperty", "knn")
+            .addParameter("writeRelationshipType", "SIMILAR")
+            .addParameter("writeProperty", "score")
+            .addParameter("writeToDatabase", "system")
+            .yields();
+
+        assertError(query, "invalid");
+    }
 }